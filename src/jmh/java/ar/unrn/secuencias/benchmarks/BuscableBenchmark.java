@@ -0,0 +1,126 @@
+package ar.unrn.secuencias.benchmarks;
+
+import ar.unrn.secuencias.decoradores.SecuenciaBusquedaBinaria;
+import ar.unrn.secuencias.decoradores.SecuenciaIndexada;
+import ar.unrn.secuencias.interfaces.Buscable;
+import ar.unrn.secuencias.interfaces.Ordenable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide {@link Buscable#indiceDe(Object)} para un elemento ubicado en la mitad
+ * de la secuencia y para uno ausente, que obliga a recorrerla completa. Con
+ * búsqueda binaria la secuencia se ordena antes de medir, por lo que el
+ * elemento presente cambia de posición.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuscableBenchmark {
+
+    /**
+     * Largo de la secuencia.
+     */
+    @Param({"1000", "1000000"})
+    private int tamano;
+
+    /**
+     * Tipo de elemento almacenado.
+     */
+    @Param({"int", "long", "double"})
+    private String tipo;
+
+    /**
+     * Forma de resolver la búsqueda: el recorrido lineal de la secuencia, el
+     * índice hash de {@link SecuenciaIndexada} o la búsqueda binaria de
+     * {@link SecuenciaBusquedaBinaria}.
+     */
+    @Param({"lineal", "indexada", "binaria"})
+    private String busqueda;
+
+    /**
+     * La secuencia medida.
+     */
+    private Buscable<Object> secuencia;
+
+    /**
+     * Elemento ubicado en la mitad de la secuencia.
+     */
+    private Object presente;
+
+    /**
+     * Elemento que no está en la secuencia.
+     */
+    private Object ausente;
+
+    /**
+     * Prepara la secuencia y los elementos a buscar.
+     */
+    @Setup
+    public void preparar() {
+        Object[] valores = Datos.valores(tipo, tamano + 1);
+        ausente = valores[tamano];
+        Object[] contenido = new Object[tamano];
+        System.arraycopy(valores, 0, contenido, 0, tamano);
+        Buscable<Object> arreglo = Datos.arreglo(tipo, contenido);
+        secuencia = switch (busqueda) {
+            case "indexada" -> new SecuenciaIndexada<>(arreglo);
+            case "binaria" -> binaria((Ordenable<?>) arreglo);
+            default -> arreglo;
+        };
+        presente = contenido[tamano / 2];
+        if (secuencia.contiene(ausente)) {
+            throw new IllegalStateException("El elemento ausente está presente");
+        }
+    }
+
+    /**
+     * Búsqueda que termina en la mitad de la secuencia.
+     *
+     * @return el índice encontrado.
+     */
+    @Benchmark
+    public int indiceDePresente() {
+        return secuencia.indiceDe(presente);
+    }
+
+    /**
+     * Búsqueda que recorre toda la secuencia.
+     *
+     * @return -1.
+     */
+    @Benchmark
+    public int indiceDeAusente() {
+        return secuencia.indiceDe(ausente);
+    }
+
+    /**
+     * Decora la secuencia con búsqueda binaria y la ordena a través del
+     * decorador.
+     *
+     * @param ordenable la secuencia a decorar.
+     * @param <T>       el tipo de los elementos.
+     * @return la secuencia decorada.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> Buscable<Object> binaria(
+            Ordenable<T> ordenable) {
+        SecuenciaBusquedaBinaria<T> binaria = new SecuenciaBusquedaBinaria<>(ordenable);
+        binaria.ordenar();
+        return (Buscable<Object>) (Buscable<?>) binaria;
+    }
+}
@@ -0,0 +1,137 @@
+package ar.unrn.secuencias.benchmarks;
+
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.nativos.Codificador;
+import ar.unrn.secuencias.nativos.Codificadores;
+import ar.unrn.secuencias.primitivos.ArregloDouble;
+import ar.unrn.secuencias.primitivos.ArregloInt;
+import ar.unrn.secuencias.primitivos.ArregloLong;
+
+import java.util.Random;
+
+/**
+ * Generación de datos compartida por los benchmarks.
+ * <p>
+ * Los valores se obtienen de un {@link Random} con semilla fija, por lo que
+ * todas las ejecuciones miden exactamente el mismo contenido y los resultados
+ * pueden compararse entre versiones.
+ * </p>
+ * <p>
+ * El tipo de elemento se indica con un texto ({@code "int"}, {@code "long"} o
+ * {@code "double"}) para poder usarlo como {@code @Param} de JMH. Las
+ * secuencias se retornan como {@code Object} porque el benchmark trabaja con
+ * el tipo elegido en tiempo de ejecución.
+ * </p>
+ */
+final class Datos {
+
+    /**
+     * Semilla de todos los generadores.
+     */
+    static final long SEMILLA = 20_241_017L;
+
+    /**
+     * No se instancia, solo agrupa funciones.
+     */
+    private Datos() {
+    }
+
+    /**
+     * Crea un generador con la semilla fija.
+     *
+     * @return un generador reproducible.
+     */
+    static Random generador() {
+        return new Random(SEMILLA);
+    }
+
+    /**
+     * Genera un valor aleatorio encapsulado del tipo indicado.
+     *
+     * @param tipo      {@code "int"}, {@code "long"} o {@code "double"}.
+     * @param aleatorio el generador a usar.
+     * @return el valor generado.
+     */
+    static Object valor(String tipo, Random aleatorio) {
+        return switch (tipo) {
+            case "int" -> aleatorio.nextInt();
+            case "long" -> aleatorio.nextLong();
+            case "double" -> aleatorio.nextDouble();
+            default -> throw new IllegalArgumentException("Tipo desconocido: " + tipo);
+        };
+    }
+
+    /**
+     * Genera valores aleatorios encapsulados del tipo indicado.
+     *
+     * @param tipo     {@code "int"}, {@code "long"} o {@code "double"}.
+     * @param cantidad la cantidad de valores.
+     * @return los valores generados.
+     */
+    static Object[] valores(String tipo, int cantidad) {
+        Random aleatorio = generador();
+        Object[] valores = new Object[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            valores[i] = valor(tipo, aleatorio);
+        }
+        return valores;
+    }
+
+    /**
+     * Crea un arreglo de respaldo primitivo del tipo indicado, con el
+     * contenido recibido.
+     *
+     * @param tipo    {@code "int"}, {@code "long"} o {@code "double"}.
+     * @param valores los valores iniciales, del tipo indicado.
+     * @param <S>     el tipo de secuencia esperado por el llamador.
+     * @return el arreglo, que implementa también {@code Buscable},
+     * {@code Ordenable} y {@code Visitable}.
+     */
+    @SuppressWarnings("unchecked")
+    static <S extends Indexable<Object>> S arreglo(String tipo, Object[] valores) {
+        Indexable<?> arreglo = switch (tipo) {
+            case "int" -> new ArregloInt(valores.length);
+            case "long" -> new ArregloLong(valores.length);
+            case "double" -> new ArregloDouble(valores.length);
+            default -> throw new IllegalArgumentException("Tipo desconocido: " + tipo);
+        };
+        S secuencia = (S) arreglo;
+        for (int i = 0; i < valores.length; i++) {
+            secuencia.modificar(i, valores[i]);
+        }
+        return secuencia;
+    }
+
+    /**
+     * Retorna el codificador de ancho fijo del tipo indicado.
+     *
+     * @param tipo {@code "int"}, {@code "long"} o {@code "double"}.
+     * @return el codificador correspondiente.
+     */
+    @SuppressWarnings("unchecked")
+    static Codificador<Object> codificador(String tipo) {
+        Codificador<?> codificador = switch (tipo) {
+            case "int" -> Codificadores.ENTERO;
+            case "long" -> Codificadores.LARGO;
+            case "double" -> Codificadores.DOBLE;
+            default -> throw new IllegalArgumentException("Tipo desconocido: " + tipo);
+        };
+        return (Codificador<Object>) codificador;
+    }
+
+    /**
+     * Genera posiciones aleatorias dentro de una secuencia.
+     *
+     * @param cantidad la cantidad de posiciones, potencia de dos.
+     * @param largo    el largo de la secuencia.
+     * @return las posiciones generadas, en {@code [0, largo)}.
+     */
+    static int[] indices(int cantidad, int largo) {
+        Random aleatorio = generador();
+        int[] indices = new int[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            indices[i] = aleatorio.nextInt(largo);
+        }
+        return indices;
+    }
+}
@@ -0,0 +1,102 @@
+package ar.unrn.secuencias.benchmarks;
+
+import ar.unrn.secuencias.ArregloBase;
+import ar.unrn.secuencias.decoradores.SecuenciaFusionada;
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.validadores.ValidadorLimiteInferior;
+import ar.unrn.secuencias.validadores.ValidadorNoNulo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara una pila de decoradores (dos validadas, una observable y una
+ * visitable) con la misma pila fusionada en una {@link SecuenciaFusionada},
+ * al leer y al escribir todos los elementos.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecoradoresBenchmark {
+
+    /**
+     * Cantidad de elementos.
+     */
+    @Param({"1000", "100000"})
+    private int tamano;
+
+    /**
+     * Forma de la pila: {@code apilada} o {@code fusionada}.
+     */
+    @Param({"apilada", "fusionada"})
+    private String forma;
+
+    /**
+     * Secuencia medida.
+     */
+    private Indexable<Integer> secuencia;
+
+    /**
+     * Valores a escribir.
+     */
+    private Integer[] valores;
+
+    /**
+     * Genera los valores y construye la pila.
+     */
+    @Setup
+    public void preparar() {
+        Random aleatorio = Datos.generador();
+        valores = new Integer[tamano];
+        for (int i = 0; i < tamano; i++) {
+            valores[i] = aleatorio.nextInt(tamano);
+        }
+        SecuenciaFusionada.Descripcion<Integer> descripcion =
+                SecuenciaFusionada.sobre(new ArregloBase<>(valores))
+                        .validada(new ValidadorNoNulo<>())
+                        .validada(new ValidadorLimiteInferior(0))
+                        .observable()
+                        .visitable();
+        secuencia = "fusionada".equals(forma)
+                ? descripcion.fusionar() : descripcion.apilar();
+    }
+
+    /**
+     * Suma todos los elementos leyéndolos con {@code obtener}.
+     *
+     * @return la suma, para que no sea eliminada.
+     */
+    @Benchmark
+    public long obtener() {
+        long suma = 0;
+        for (int i = 0; i < secuencia.largo(); i++) {
+            suma = suma + secuencia.obtener(i);
+        }
+        return suma;
+    }
+
+    /**
+     * Escribe todos los elementos con {@code modificar}, pasando por las
+     * validaciones.
+     */
+    @Benchmark
+    public void modificar() {
+        for (int i = 0; i < valores.length; i++) {
+            secuencia.modificar(i, valores[i]);
+        }
+    }
+}
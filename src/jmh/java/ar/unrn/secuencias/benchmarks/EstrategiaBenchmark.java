@@ -0,0 +1,150 @@
+package ar.unrn.secuencias.benchmarks;
+
+import ar.unrn.secuencias.ArregloOrdenable;
+import ar.unrn.secuencias.estrategias.Ordenador;
+import ar.unrn.secuencias.estrategias.OrdenadorAdaptativo;
+import ar.unrn.secuencias.estrategias.OrdenadorDoblePivote;
+import ar.unrn.secuencias.estrategias.OrdenadorMezclaParalelo;
+import ar.unrn.secuencias.estrategias.OrdenadorRachas;
+import ar.unrn.secuencias.estrategias.OrdenadorRadix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara las estrategias de ordenamiento de {@link ArregloOrdenable} sobre
+ * valores numéricos encapsulados, con contenido aleatorio o casi ordenado.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EstrategiaBenchmark {
+
+    /**
+     * Cada cuántos elementos se desordena uno en el contenido casi ordenado.
+     */
+    private static final int PERTURBACION = 100;
+
+    /**
+     * Largo de la secuencia.
+     */
+    @Param({"1000", "1000000"})
+    private int tamano;
+
+    /**
+     * Tipo de elemento almacenado.
+     */
+    @Param({"int", "long", "double"})
+    private String tipo;
+
+    /**
+     * Estrategia medida.
+     */
+    @Param({"mezclaParalela", "radix", "doblePivote", "rachas", "adaptativo"})
+    private String estrategia;
+
+    /**
+     * Disposición inicial del contenido.
+     */
+    @Param({"aleatorio", "casiOrdenado"})
+    private String disposicion;
+
+    /**
+     * La secuencia medida.
+     */
+    private ArregloOrdenable<?> secuencia;
+
+    /**
+     * Contenido desordenado original.
+     */
+    private Object[] originales;
+
+    /**
+     * Prepara la secuencia y el contenido original.
+     */
+    @Setup
+    public void preparar() {
+        originales = Datos.valores(tipo, tamano);
+        if ("casiOrdenado".equals(disposicion)) {
+            Arrays.sort(originales);
+            for (int i = PERTURBACION; i < originales.length; i = i + PERTURBACION) {
+                Object auxiliar = originales[i];
+                originales[i] = originales[i - PERTURBACION / 2];
+                originales[i - PERTURBACION / 2] = auxiliar;
+            }
+        }
+        secuencia = crear(originales, estrategia);
+    }
+
+    /**
+     * Restaura el contenido original antes de cada ordenamiento.
+     */
+    @Setup(Level.Invocation)
+    public void desordenar() {
+        restaurar(secuencia, originales);
+    }
+
+    /**
+     * Ordenamiento natural con la estrategia elegida.
+     */
+    @Benchmark
+    public void ordenar() {
+        secuencia.ordenar();
+    }
+
+    /**
+     * Crea el arreglo con la estrategia indicada.
+     *
+     * @param valores los valores iniciales.
+     * @param nombre  el nombre de la estrategia.
+     * @param <T>     el tipo de los elementos.
+     * @return el arreglo preparado.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> ArregloOrdenable<T> crear(Object[] valores,
+                                                                       String nombre) {
+        ArregloOrdenable<T> arreglo = new ArregloOrdenable<>(valores.length);
+        Ordenador<T> ordenador = switch (nombre) {
+            case "radix" -> new OrdenadorRadix<>();
+            case "doblePivote" -> new OrdenadorDoblePivote<>();
+            case "rachas" -> new OrdenadorRachas<>();
+            case "adaptativo" -> new OrdenadorAdaptativo<>();
+            default -> new OrdenadorMezclaParalelo<>();
+        };
+        arreglo.cambiarEstrategia(ordenador);
+        for (int i = 0; i < valores.length; i++) {
+            arreglo.modificar(i, (T) valores[i]);
+        }
+        return arreglo;
+    }
+
+    /**
+     * Vuelve a escribir los valores originales en el arreglo.
+     *
+     * @param arreglo el arreglo a restaurar.
+     * @param valores los valores originales.
+     * @param <T>     el tipo de los elementos.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> void restaurar(ArregloOrdenable<T> arreglo,
+                                                            Object[] valores) {
+        for (int i = 0; i < valores.length; i++) {
+            arreglo.modificar(i, (T) valores[i]);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package ar.unrn.secuencias.benchmarks;
+
+import ar.unrn.secuencias.interfaces.Expandable;
+import ar.unrn.secuencias.nativos.ArregloNativo;
+import ar.unrn.secuencias.nativos.Codificador;
+import ar.unrn.secuencias.persistentes.ArregloMapeado;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide {@link Expandable#agregar(Object)} y {@link Expandable#remover(int)}.
+ * <p>
+ * Cada invocación agrega un elemento y remueve otro, por lo que el largo se
+ * mantiene constante y las mediciones son comparables entre iteraciones.
+ * Remover el primero mide el costo de desplazar todos los siguientes; remover
+ * el último, el costo fijo de la operación.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpandableBenchmark {
+
+    /**
+     * Largo de la secuencia.
+     */
+    @Param({"1000", "1000000"})
+    private int tamano;
+
+    /**
+     * Tipo de elemento almacenado.
+     */
+    @Param({"int", "long", "double"})
+    private String tipo;
+
+    /**
+     * Implementación medida: {@code "nativo"} o {@code "mapeado"}.
+     */
+    @Param({"nativo", "mapeado"})
+    private String implementacion;
+
+    /**
+     * La secuencia medida.
+     */
+    private Expandable<Object> secuencia;
+
+    /**
+     * Archivo temporal de la implementación mapeada.
+     */
+    private Path archivo;
+
+    /**
+     * Valor a agregar en cada invocación.
+     */
+    private Object valor;
+
+    /**
+     * Crea la secuencia con {@code tamano} elementos.
+     *
+     * @throws IOException si no se pudo crear el archivo temporal.
+     */
+    @Setup
+    public void preparar() throws IOException {
+        Codificador<Object> codificador = Datos.codificador(tipo);
+        if ("mapeado".equals(implementacion)) {
+            archivo = Files.createTempFile("benchmark", ".sec");
+            Files.delete(archivo);
+            secuencia = ArregloMapeado.abrir(archivo, codificador);
+        } else {
+            secuencia = new ArregloNativo<>(codificador, tamano + 1);
+        }
+        for (Object inicial : Datos.valores(tipo, tamano)) {
+            secuencia.agregar(inicial);
+        }
+        valor = Datos.valor(tipo, Datos.generador());
+    }
+
+    /**
+     * Libera la memoria y borra el archivo temporal.
+     *
+     * @throws Exception si falla el cierre o el borrado.
+     */
+    @TearDown
+    public void liberar() throws Exception {
+        ((AutoCloseable) secuencia).close();
+        if (archivo != null) {
+            Files.deleteIfExists(archivo);
+        }
+    }
+
+    /**
+     * Agregado al final seguido de la remoción del último.
+     *
+     * @return el elemento removido.
+     */
+    @Benchmark
+    public Object agregarYRemoverUltimo() {
+        secuencia.agregar(valor);
+        return secuencia.remover(secuencia.largo() - 1);
+    }
+
+    /**
+     * Agregado al final seguido de la remoción del primero.
+     *
+     * @return el elemento removido.
+     */
+    @Benchmark
+    public Object agregarYRemoverPrimero() {
+        secuencia.agregar(valor);
+        return secuencia.remover(0);
+    }
+}
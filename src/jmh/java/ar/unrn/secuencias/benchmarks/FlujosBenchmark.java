@@ -0,0 +1,111 @@
+package ar.unrn.secuencias.benchmarks;
+
+import ar.unrn.secuencias.ArregloBase;
+import ar.unrn.secuencias.primitivos.ArregloInt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Compara la suma de todos los elementos con flujos secuenciales y paralelos
+ * según su origen: el iterador, envuelto con {@link Spliterators}, el
+ * spliterator por índice de {@code Indexable} y el flujo primitivo de
+ * {@link ArregloInt}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlujosBenchmark {
+
+    /**
+     * Cantidad de elementos.
+     */
+    @Param({"10000", "1000000"})
+    private int tamano;
+
+    /**
+     * Origen del flujo: {@code iterador}, {@code indice} o {@code primitivo}.
+     */
+    @Param({"iterador", "indice", "primitivo"})
+    private String origen;
+
+    /**
+     * Secuencia de objetos.
+     */
+    private ArregloBase<Integer> objetos;
+
+    /**
+     * Secuencia primitiva con los mismos valores.
+     */
+    private ArregloInt primitivos;
+
+    /**
+     * Genera los valores y construye ambas secuencias.
+     */
+    @Setup
+    public void preparar() {
+        Random aleatorio = Datos.generador();
+        int[] valores = new int[tamano];
+        Integer[] encapsulados = new Integer[tamano];
+        for (int i = 0; i < tamano; i++) {
+            valores[i] = aleatorio.nextInt(tamano);
+            encapsulados[i] = valores[i];
+        }
+        objetos = new ArregloBase<>(encapsulados);
+        primitivos = ArregloInt.de(valores);
+    }
+
+    /**
+     * Suma con un flujo secuencial.
+     *
+     * @return la suma, para que no se descarte el recorrido.
+     */
+    @Benchmark
+    public long sumar() {
+        return flujo(false).asLongStream().sum();
+    }
+
+    /**
+     * Suma con un flujo paralelo.
+     *
+     * @return la suma, para que no se descarte el recorrido.
+     */
+    @Benchmark
+    public long sumarEnParalelo() {
+        return flujo(true).asLongStream().sum();
+    }
+
+    /**
+     * Construye el flujo del origen medido.
+     *
+     * @param paralelo si el flujo es paralelo.
+     * @return el flujo de valores.
+     */
+    private IntStream flujo(boolean paralelo) {
+        return switch (origen) {
+            case "iterador" -> StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(objetos.iterator(), 0), paralelo)
+                    .mapToInt(Integer::intValue);
+            case "indice" -> (paralelo ? objetos.parallelStream() : objetos.stream())
+                    .mapToInt(Integer::intValue);
+            default -> paralelo ? primitivos.parallelStreamInt() : primitivos.streamInt();
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package ar.unrn.secuencias.benchmarks;
+
+import ar.unrn.secuencias.interfaces.Indexable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el acceso aleatorio de {@link Indexable#obtener(int)} e
+ * {@link Indexable#modificar(int, Object)} a través de la interfaz genérica.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexableBenchmark {
+
+    /**
+     * Cantidad de posiciones aleatorias precalculadas; potencia de dos.
+     */
+    private static final int POSICIONES = 1024;
+
+    /**
+     * Largo de la secuencia.
+     */
+    @Param({"1000", "1000000"})
+    private int tamano;
+
+    /**
+     * Tipo de elemento almacenado.
+     */
+    @Param({"int", "long", "double"})
+    private String tipo;
+
+    /**
+     * La secuencia medida.
+     */
+    private Indexable<Object> secuencia;
+
+    /**
+     * Posiciones a visitar, en orden aleatorio.
+     */
+    private int[] indices;
+
+    /**
+     * Valores ya encapsulados para escribir, de modo que no se mida su creación.
+     */
+    private Object[] valores;
+
+    /**
+     * Próxima posición de {@link #indices} a usar.
+     */
+    private int actual;
+
+    /**
+     * Prepara la secuencia y los datos de acceso.
+     */
+    @Setup
+    public void preparar() {
+        secuencia = Datos.arreglo(tipo, Datos.valores(tipo, tamano));
+        indices = Datos.indices(POSICIONES, tamano);
+        valores = Datos.valores(tipo, POSICIONES);
+    }
+
+    /**
+     * Avanza a la próxima posición precalculada.
+     *
+     * @return la posición a usar en esta invocación.
+     */
+    private int siguiente() {
+        actual = (actual + 1) & (POSICIONES - 1);
+        return actual;
+    }
+
+    /**
+     * Lectura de una posición aleatoria.
+     *
+     * @return el elemento leído, para que no sea descartado.
+     */
+    @Benchmark
+    public Object obtener() {
+        return secuencia.obtener(indices[siguiente()]);
+    }
+
+    /**
+     * Escritura de una posición aleatoria.
+     */
+    @Benchmark
+    public void modificar() {
+        int posicion = siguiente();
+        secuencia.modificar(indices[posicion], valores[posicion]);
+    }
+}
@@ -0,0 +1,155 @@
+package ar.unrn.secuencias.benchmarks;
+
+import ar.unrn.secuencias.dispensables.MonticuloDispensable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara {@link MonticuloDispensable}, binario y cuaternario, con
+ * {@link PriorityQueue} al agregar y remover, al construir desde una colección
+ * y al vaciar por lotes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonticuloBenchmark {
+
+    /**
+     * Cantidad de elementos removidos por cada llamada a {@code drenar}.
+     */
+    private static final int LOTE = 64;
+
+    /**
+     * Aridad del montículo cuaternario.
+     */
+    private static final int CUATERNARIO = 4;
+
+    /**
+     * Cantidad de elementos.
+     */
+    @Param({"1000", "100000"})
+    private int tamano;
+
+    /**
+     * Implementación medida: {@code binario}, {@code cuaternario} o
+     * {@code priorityQueue}.
+     */
+    @Param({"binario", "cuaternario", "priorityQueue"})
+    private String implementacion;
+
+    /**
+     * Valores a insertar, en orden aleatorio.
+     */
+    private List<Integer> valores;
+
+    /**
+     * Criterio de prioridad, igual para todas las implementaciones.
+     */
+    private final Comparator<Integer> criterio = Comparator.naturalOrder();
+
+    /**
+     * Genera los valores.
+     */
+    @Setup
+    public void preparar() {
+        Random aleatorio = Datos.generador();
+        Integer[] generados = new Integer[tamano];
+        for (int i = 0; i < tamano; i++) {
+            generados[i] = aleatorio.nextInt();
+        }
+        valores = Arrays.asList(generados);
+    }
+
+    /**
+     * Agrega todos los valores de a uno y luego los remueve todos.
+     *
+     * @param sumidero consume los elementos removidos.
+     */
+    @Benchmark
+    public void agregarYRemover(Blackhole sumidero) {
+        if ("priorityQueue".equals(implementacion)) {
+            PriorityQueue<Integer> cola = new PriorityQueue<>(criterio);
+            for (Integer valor : valores) {
+                cola.add(valor);
+            }
+            while (!cola.isEmpty()) {
+                sumidero.consume(cola.poll());
+            }
+        } else {
+            MonticuloDispensable<Integer> monticulo =
+                    new MonticuloDispensable<>(aridad(), criterio);
+            for (Integer valor : valores) {
+                monticulo.agregar(valor);
+            }
+            while (!monticulo.estaVacia()) {
+                sumidero.consume(monticulo.remover());
+            }
+        }
+    }
+
+    /**
+     * Construye el montículo desde la colección completa. {@link PriorityQueue}
+     * solo lo arma en O(n) con el orden natural, que es el criterio usado.
+     *
+     * @return el montículo construido.
+     */
+    @Benchmark
+    public Object construir() {
+        if ("priorityQueue".equals(implementacion)) {
+            return new PriorityQueue<>(valores);
+        }
+        return new MonticuloDispensable<>(valores, aridad(), criterio);
+    }
+
+    /**
+     * Construye desde la colección y vacía en lotes de {@value #LOTE}.
+     *
+     * @param sumidero consume los elementos removidos.
+     */
+    @Benchmark
+    public void construirYDrenar(Blackhole sumidero) {
+        if ("priorityQueue".equals(implementacion)) {
+            PriorityQueue<Integer> cola = new PriorityQueue<>(valores);
+            while (!cola.isEmpty()) {
+                for (int i = 0; i < LOTE && !cola.isEmpty(); i++) {
+                    sumidero.consume(cola.poll());
+                }
+            }
+        } else {
+            MonticuloDispensable<Integer> monticulo =
+                    new MonticuloDispensable<>(valores, aridad(), criterio);
+            while (monticulo.drenar(LOTE, sumidero::consume) == LOTE) {
+                sumidero.consume(monticulo.largo());
+            }
+        }
+    }
+
+    /**
+     * Retorna la aridad de la implementación medida.
+     *
+     * @return 2 o 4.
+     */
+    private int aridad() {
+        return "cuaternario".equals(implementacion) ? CUATERNARIO : 2;
+    }
+}
@@ -0,0 +1,173 @@
+package ar.unrn.secuencias.benchmarks;
+
+import ar.unrn.secuencias.interfaces.Buscable;
+import ar.unrn.secuencias.interfaces.Visitable;
+import ar.unrn.secuencias.primitivos.Nucleo;
+import ar.unrn.secuencias.primitivos.Nucleos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la suma y la búsqueda de un elemento ausente sobre secuencias
+ * primitivas: con un {@code Visitor} y {@link Buscable#indiceDe(Object)}
+ * (valores encapsulados, de a uno), y con los núcleos escalar y vectorial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NucleoBenchmark {
+
+    /**
+     * Largo de la secuencia.
+     */
+    @Param({"1000", "1000000"})
+    private int tamano;
+
+    /**
+     * Tipo de elemento almacenado.
+     */
+    @Param({"int", "long", "double"})
+    private String tipo;
+
+    /**
+     * Forma de recorrer: {@code visitor}, {@code escalar} o {@code vectorial}.
+     */
+    @Param({"visitor", "escalar", "vectorial"})
+    private String implementacion;
+
+    /**
+     * La secuencia, para la búsqueda con {@code Buscable}.
+     */
+    private Buscable<Object> secuencia;
+
+    /**
+     * Una copia de la secuencia, para el recorrido con {@code Visitor}.
+     */
+    private Visitable<Object> visitable;
+
+    /**
+     * Valores {@code int}, para los núcleos.
+     */
+    private int[] enteros;
+
+    /**
+     * Valores {@code long}, para los núcleos.
+     */
+    private long[] largos;
+
+    /**
+     * Valores {@code double}, para los núcleos.
+     */
+    private double[] dobles;
+
+    /**
+     * Núcleo medido, o {@code null} si se usa el {@code Visitor}.
+     */
+    private Nucleo nucleo;
+
+    /**
+     * Elemento que no está en la secuencia.
+     */
+    private Object ausente;
+
+    /**
+     * Prepara la secuencia, sus valores primitivos y el elemento ausente.
+     */
+    @Setup
+    public void preparar() {
+        Object[] valores = Datos.valores(tipo, tamano + 1);
+        ausente = valores[tamano];
+        Object[] contenido = new Object[tamano];
+        System.arraycopy(valores, 0, contenido, 0, tamano);
+        secuencia = Datos.arreglo(tipo, contenido);
+        visitable = Datos.arreglo(tipo, contenido);
+        enteros = new int[tamano];
+        largos = new long[tamano];
+        dobles = new double[tamano];
+        for (int i = 0; i < tamano; i++) {
+            switch (tipo) {
+                case "int" -> enteros[i] = (Integer) contenido[i];
+                case "long" -> largos[i] = (Long) contenido[i];
+                default -> dobles[i] = (Double) contenido[i];
+            }
+        }
+        nucleo = switch (implementacion) {
+            case "escalar" -> Nucleos.escalar();
+            case "vectorial" -> Nucleos.vectorial();
+            default -> null;
+        };
+        if (secuencia.contiene(ausente)) {
+            throw new IllegalStateException("El elemento ausente está presente");
+        }
+    }
+
+    /**
+     * Suma de todos los valores.
+     *
+     * @return la suma, como {@code double} para todos los tipos.
+     */
+    @Benchmark
+    public double sumar() {
+        if (nucleo == null) {
+            Acumulador acumulador = new Acumulador();
+            visitable.visitar(acumulador::sumar);
+            return acumulador.total;
+        }
+        return switch (tipo) {
+            case "int" -> nucleo.sumar(enteros, 0, tamano);
+            case "long" -> nucleo.sumar(largos, 0, tamano);
+            default -> nucleo.sumar(dobles, 0, tamano);
+        };
+    }
+
+    /**
+     * Búsqueda que recorre toda la secuencia.
+     *
+     * @return -1.
+     */
+    @Benchmark
+    public int indiceDeAusente() {
+        if (nucleo == null) {
+            return secuencia.indiceDe(ausente);
+        }
+        return switch (tipo) {
+            case "int" -> nucleo.indiceDe(enteros, 0, tamano, (Integer) ausente);
+            case "long" -> nucleo.indiceDe(largos, 0, tamano, (Long) ausente);
+            default -> nucleo.indiceDe(dobles, 0, tamano, (Double) ausente);
+        };
+    }
+
+    /**
+     * Estado del {@code Visitor} que suma, como el del enunciado.
+     */
+    private static final class Acumulador {
+
+        /**
+         * Suma parcial.
+         */
+        private double total;
+
+        /**
+         * Suma un elemento encapsulado.
+         *
+         * @param elemento el elemento visitado, un {@link Number}.
+         */
+        void sumar(Object elemento) {
+            total = total + ((Number) elemento).doubleValue();
+        }
+    }
+}
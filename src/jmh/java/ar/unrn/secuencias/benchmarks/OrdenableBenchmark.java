@@ -0,0 +1,105 @@
+package ar.unrn.secuencias.benchmarks;
+
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.interfaces.Ordenable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide {@link Ordenable#ordenar()} y {@link Ordenable#ordenar(Comparator)}
+ * sobre contenido aleatorio, restaurado antes de cada invocación.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrdenableBenchmark {
+
+    /**
+     * Largo de la secuencia.
+     */
+    @Param({"1000", "1000000"})
+    private int tamano;
+
+    /**
+     * Tipo de elemento almacenado.
+     */
+    @Param({"int", "long", "double"})
+    private String tipo;
+
+    /**
+     * La secuencia medida.
+     */
+    private Ordenable<?> secuencia;
+
+    /**
+     * La misma secuencia, vista como {@code Indexable} para restaurarla.
+     */
+    private Indexable<Object> escritura;
+
+    /**
+     * Contenido desordenado original.
+     */
+    private Object[] originales;
+
+    /**
+     * Prepara la secuencia y el contenido original.
+     */
+    @Setup
+    public void preparar() {
+        originales = Datos.valores(tipo, tamano);
+        escritura = Datos.arreglo(tipo, originales);
+        secuencia = (Ordenable<?>) escritura;
+    }
+
+    /**
+     * Restaura el contenido desordenado antes de cada ordenamiento.
+     */
+    @Setup(Level.Invocation)
+    public void desordenar() {
+        for (int i = 0; i < originales.length; i++) {
+            escritura.modificar(i, originales[i]);
+        }
+    }
+
+    /**
+     * Ordenamiento natural.
+     */
+    @Benchmark
+    public void ordenar() {
+        secuencia.ordenar();
+    }
+
+    /**
+     * Ordenamiento con comparador.
+     */
+    @Benchmark
+    public void ordenarConComparador() {
+        ordenarInverso(secuencia);
+    }
+
+    /**
+     * Ordena con el comparador inverso al natural del tipo de la secuencia.
+     *
+     * @param ordenable la secuencia a ordenar.
+     * @param <T>       el tipo de los elementos.
+     */
+    private static <T extends Comparable<T>> void ordenarInverso(Ordenable<T> ordenable) {
+        ordenable.ordenar(Comparator.reverseOrder());
+    }
+}
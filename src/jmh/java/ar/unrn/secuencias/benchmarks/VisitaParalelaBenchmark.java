@@ -0,0 +1,96 @@
+package ar.unrn.secuencias.benchmarks;
+
+import ar.unrn.secuencias.ArregloBase;
+import ar.unrn.secuencias.decoradores.SecuenciaVisitable;
+import ar.unrn.secuencias.visitantes.VisitorCadena;
+import ar.unrn.secuencias.visitantes.VisitorSuma;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el recorrido secuencial de {@code visitar} con el paralelo de
+ * {@code visitarEnParalelo}, sumando y uniendo en un texto todos los
+ * elementos de una {@link SecuenciaVisitable}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VisitaParalelaBenchmark {
+
+    /**
+     * Cantidad de elementos.
+     */
+    @Param({"10000", "1000000"})
+    private int tamano;
+
+    /**
+     * Recorrido: {@code secuencial} o {@code paralelo}.
+     */
+    @Param({"secuencial", "paralelo"})
+    private String recorrido;
+
+    /**
+     * Secuencia medida.
+     */
+    private SecuenciaVisitable<Integer> secuencia;
+
+    /**
+     * Genera los valores y construye la secuencia.
+     */
+    @Setup
+    public void preparar() {
+        Random aleatorio = Datos.generador();
+        Integer[] valores = new Integer[tamano];
+        for (int i = 0; i < tamano; i++) {
+            valores[i] = aleatorio.nextInt(tamano);
+        }
+        secuencia = new SecuenciaVisitable<>(new ArregloBase<>(valores));
+    }
+
+    /**
+     * Suma todos los elementos con un {@link VisitorSuma}.
+     *
+     * @return la suma, para que no se descarte el recorrido.
+     */
+    @Benchmark
+    public long sumar() {
+        VisitorSuma suma = new VisitorSuma();
+        if ("paralelo".equals(recorrido)) {
+            secuencia.visitarEnParalelo(suma);
+        } else {
+            secuencia.visitar(suma);
+        }
+        return suma.suma();
+    }
+
+    /**
+     * Une todos los elementos en un texto con un {@link VisitorCadena}.
+     *
+     * @return el largo del texto, para que no se descarte el recorrido.
+     */
+    @Benchmark
+    public int unir() {
+        VisitorCadena<Integer> cadena = new VisitorCadena<>(",");
+        if ("paralelo".equals(recorrido)) {
+            secuencia.visitarEnParalelo(cadena);
+        } else {
+            secuencia.visitar(cadena);
+        }
+        return cadena.resultado().length();
+    }
+}
@@ -0,0 +1,65 @@
+package ar.unrn.secuencias.benchmarks;
+
+import ar.unrn.secuencias.interfaces.Visitable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el recorrido completo de {@link Visitable#visitar} con un visitante
+ * que solo consume cada elemento.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VisitableBenchmark {
+
+    /**
+     * Largo de la secuencia.
+     */
+    @Param({"1000", "1000000"})
+    private int tamano;
+
+    /**
+     * Tipo de elemento almacenado.
+     */
+    @Param({"int", "long", "double"})
+    private String tipo;
+
+    /**
+     * La secuencia medida.
+     */
+    private Visitable<Object> secuencia;
+
+    /**
+     * Prepara la secuencia.
+     */
+    @Setup
+    public void preparar() {
+        secuencia = Datos.arreglo(tipo, Datos.valores(tipo, tamano));
+    }
+
+    /**
+     * Recorrido completo.
+     *
+     * @param sumidero el consumidor de JMH, que evita descartar el recorrido.
+     */
+    @Benchmark
+    public void visitar(Blackhole sumidero) {
+        secuencia.visitar(sumidero::consume);
+    }
+}
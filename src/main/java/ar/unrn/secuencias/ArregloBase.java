@@ -0,0 +1,205 @@
+package ar.unrn.secuencias;
+
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.interfaces.Subdivisible;
+import ar.unrn.secuencias.vistas.VistaSecuencia;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+/**
+ * Arreglo genérico de tamaño fijo, base de las demás secuencias.
+ * <p>
+ * Admite elementos {@code null}. Su representación textual indica el nombre
+ * de la clase, el contenido y el largo, por ejemplo {@code ArregloBase={1,2,3}:3}.
+ * </p>
+ * <p>
+ * Las operaciones por rango escriben directamente sobre el almacenamiento, sin
+ * pasar por {@link #modificar(int, Object)}; las subclases que lo redefinan
+ * deben redefinir también {@link #modificarRango(int, Object[])},
+ * {@link #rellenar(int, int, Object)} y
+ * {@link #copiarDesde(Indexable, int, int, int)}.
+ * </p>
+ * <p>
+ * {@link #subSecuencia(int, int)} retorna una vista, sin copiar elementos; como
+ * el largo es fijo, la vista es válida mientras exista el arreglo.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public class ArregloBase<T> implements Subdivisible<T>, Iterable<T> {
+
+    /**
+     * Almacenamiento de los elementos.
+     */
+    private final Object[] elementos;
+
+    /**
+     * Crea un arreglo del largo indicado, con todas sus posiciones en {@code null}.
+     *
+     * @param largo la cantidad de posiciones del arreglo, no negativa.
+     * @throws IndiceFueraDeRangoException si el largo es negativo.
+     */
+    public ArregloBase(int largo) {
+        if (largo < 0) {
+            throw new IndiceFueraDeRangoException(largo, 0);
+        }
+        this.elementos = new Object[largo];
+    }
+
+    /**
+     * Crea un arreglo con una copia de los valores indicados.
+     *
+     * @param valores los valores iniciales.
+     */
+    public ArregloBase(T[] valores) {
+        this.elementos = valores.clone();
+    }
+
+    /**
+     * Verifica que el índice esté dentro del rango válido.
+     *
+     * @param indice el índice a verificar.
+     * @throws IndiceFueraDeRangoException si está fuera de {@code [0, largo() - 1]}.
+     */
+    private void verificarIndice(int indice) {
+        if (indice < 0 || indice >= elementos.length) {
+            throw new IndiceFueraDeRangoException(indice, elementos.length);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        verificarIndice(indice);
+        elementos[indice] = valor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificarRango(int desde, T[] valores) {
+        Indexable.verificarRango(desde, desde + valores.length, elementos.length);
+        System.arraycopy(valores, 0, elementos, desde, valores.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rellenar(int desde, int hasta, T valor) {
+        Indexable.verificarRango(desde, hasta, elementos.length);
+        Arrays.fill(elementos, desde, hasta, valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Si el origen también es un {@code ArregloBase}, la copia es un único
+     * {@link System#arraycopy}.
+     * </p>
+     */
+    @Override
+    public void copiarDesde(Indexable<? extends T> origen, int desdeOrigen, int desde,
+                            int cantidad) {
+        if (origen instanceof ArregloBase<? extends T> arreglo) {
+            Indexable.verificarRango(desdeOrigen, desdeOrigen + cantidad,
+                    arreglo.elementos.length);
+            Indexable.verificarRango(desde, desde + cantidad, elementos.length);
+            System.arraycopy(arreglo.elementos, desdeOrigen, elementos, desde, cantidad);
+        } else {
+            Subdivisible.super.copiarDesde(origen, desdeOrigen, desde, cantidad);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T obtener(int indice) {
+        verificarIndice(indice);
+        return (T) elementos[indice];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int largo() {
+        return elementos.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Retorna una vista: los cambios en ella se reflejan en este arreglo y
+     * viceversa.
+     * </p>
+     */
+    @Override
+    public VistaSecuencia<T> subSecuencia(int indiceDesde, int indiceHasta) {
+        return new VistaSecuencia<>(this, indiceDesde, indiceHasta);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Retorna {@link #spliteratorPorIndice()}, que se divide por rangos de
+     * índices en vez de recorrer el iterador.
+     * </p>
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return spliteratorPorIndice();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            /**
+             * Posición del próximo elemento a retornar.
+             */
+            private int actual;
+
+            @Override
+            public boolean hasNext() {
+                return actual < largo();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T elemento = obtener(actual);
+                actual++;
+                return elemento;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder(getClass().getSimpleName()).append("={");
+        for (int i = 0; i < largo(); i++) {
+            if (i > 0) {
+                texto.append(',');
+            }
+            texto.append(obtener(i));
+        }
+        return texto.append("}:").append(largo()).toString();
+    }
+}
@@ -0,0 +1,324 @@
+package ar.unrn.secuencias;
+
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.interfaces.Expandable;
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.interfaces.Subdivisible;
+import ar.unrn.secuencias.interfaces.Versionable;
+import ar.unrn.secuencias.vistas.VistaSecuencia;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+/**
+ * Arreglo genérico que crece a medida que se le agregan elementos.
+ * <p>
+ * Al llenarse, la capacidad se duplica, por lo que {@link #agregar(Object)} es
+ * O(1) amortizado. {@link #remover(int)} desplaza los elementos posteriores y
+ * es O(n). Admite elementos {@code null}. Su representación textual sigue el
+ * formato de {@link ArregloBase}, por ejemplo {@code ArregloDinamico={1,2}:2}.
+ * </p>
+ * <p>
+ * Las operaciones por rango y {@link #agregarTodos(Iterable)} trabajan
+ * directamente sobre el almacenamiento y reservan el espacio una sola vez; las
+ * subclases que redefinan {@link #modificar(int, Object)} o
+ * {@link #agregar(Object)} deben redefinirlas también.
+ * </p>
+ * <p>
+ * {@link #subSecuencia(int, int)} retorna una vista, sin copiar elementos.
+ * Agregar o remover elementos cambia la {@link #version()} e invalida las
+ * vistas existentes, que a partir de entonces fallan con
+ * {@link ar.unrn.secuencias.excepciones.ModificacionConcurrenteException}.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public class ArregloDinamico<T> implements Expandable<T>, Subdivisible<T>,
+        Versionable<T>, Iterable<T> {
+
+    /**
+     * Capacidad inicial por omisión.
+     */
+    public static final int CAPACIDAD_POR_OMISION = 10;
+
+    /**
+     * Almacenamiento de los elementos; solo las primeras {@link #cantidad}
+     * posiciones están en uso.
+     */
+    private Object[] elementos;
+
+    /**
+     * Cantidad de elementos en uso.
+     */
+    private int cantidad;
+
+    /**
+     * Cantidad de modificaciones estructurales.
+     */
+    private int modificaciones;
+
+    /**
+     * Crea un arreglo vacío con la capacidad por omisión.
+     */
+    public ArregloDinamico() {
+        this(CAPACIDAD_POR_OMISION);
+    }
+
+    /**
+     * Crea un arreglo vacío con la capacidad inicial indicada.
+     *
+     * @param capacidad la cantidad de elementos que admite antes de crecer.
+     * @throws IndiceFueraDeRangoException si la capacidad es negativa.
+     */
+    public ArregloDinamico(int capacidad) {
+        if (capacidad < 0) {
+            throw new IndiceFueraDeRangoException(capacidad, 0);
+        }
+        this.elementos = new Object[capacidad];
+    }
+
+    /**
+     * Crea un arreglo con una copia de los valores indicados.
+     *
+     * @param valores los valores iniciales.
+     */
+    public ArregloDinamico(T[] valores) {
+        this.elementos = Arrays.copyOf(valores, valores.length, Object[].class);
+        this.cantidad = valores.length;
+    }
+
+    /**
+     * Verifica que el índice esté dentro del rango válido.
+     *
+     * @param indice el índice a verificar.
+     * @throws IndiceFueraDeRangoException si está fuera de {@code [0, largo() - 1]}.
+     */
+    private void verificarIndice(int indice) {
+        if (indice < 0 || indice >= cantidad) {
+            throw new IndiceFueraDeRangoException(indice, cantidad);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        verificarIndice(indice);
+        elementos[indice] = valor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T obtener(int indice) {
+        verificarIndice(indice);
+        return (T) elementos[indice];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int largo() {
+        return cantidad;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void agregar(T valor) {
+        if (cantidad == elementos.length) {
+            elementos = Arrays.copyOf(elementos, Math.max(2 * cantidad, 1));
+        }
+        elementos[cantidad] = valor;
+        cantidad++;
+        modificaciones++;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Si los valores son una {@link Collection} o un {@code ArregloDinamico},
+     * incluido este mismo, se copian con un único {@link System#arraycopy}.
+     * </p>
+     */
+    @Override
+    public void agregarTodos(Iterable<? extends T> valores) {
+        Object[] nuevos;
+        int agregados;
+        if (valores instanceof ArregloDinamico<? extends T> arreglo) {
+            nuevos = arreglo.elementos;
+            agregados = arreglo.cantidad;
+        } else if (valores instanceof Collection<? extends T> coleccion) {
+            nuevos = coleccion.toArray();
+            agregados = nuevos.length;
+        } else {
+            Expandable.super.agregarTodos(valores);
+            return;
+        }
+        asegurarCapacidad(cantidad + agregados);
+        if (valores == this) {
+            nuevos = elementos;
+        }
+        System.arraycopy(nuevos, 0, elementos, cantidad, agregados);
+        cantidad = cantidad + agregados;
+        modificaciones++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificarRango(int desde, T[] valores) {
+        Indexable.verificarRango(desde, desde + valores.length, cantidad);
+        System.arraycopy(valores, 0, elementos, desde, valores.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rellenar(int desde, int hasta, T valor) {
+        Indexable.verificarRango(desde, hasta, cantidad);
+        Arrays.fill(elementos, desde, hasta, valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Si el origen también es un {@code ArregloDinamico}, la copia es un único
+     * {@link System#arraycopy}.
+     * </p>
+     */
+    @Override
+    public void copiarDesde(Indexable<? extends T> origen, int desdeOrigen, int desde,
+                            int cantidadCopiada) {
+        if (origen instanceof ArregloDinamico<? extends T> arreglo) {
+            Indexable.verificarRango(desdeOrigen, desdeOrigen + cantidadCopiada,
+                    arreglo.cantidad);
+            Indexable.verificarRango(desde, desde + cantidadCopiada, cantidad);
+            System.arraycopy(arreglo.elementos, desdeOrigen, elementos, desde,
+                    cantidadCopiada);
+        } else {
+            Expandable.super.copiarDesde(origen, desdeOrigen, desde, cantidadCopiada);
+        }
+    }
+
+    /**
+     * Agranda el almacenamiento para que admita al menos la cantidad indicada,
+     * al menos duplicando la capacidad si necesita crecer.
+     *
+     * @param minima la cantidad de elementos que debe admitir.
+     */
+    private void asegurarCapacidad(int minima) {
+        if (minima > elementos.length) {
+            elementos = Arrays.copyOf(elementos, Math.max(minima, 2 * elementos.length));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remover(int indice) {
+        verificarIndice(indice);
+        T removido = (T) elementos[indice];
+        System.arraycopy(elementos, indice + 1, elementos, indice, cantidad - indice - 1);
+        cantidad--;
+        elementos[cantidad] = null;
+        modificaciones++;
+        return removido;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int version() {
+        return modificaciones;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Retorna una vista: los cambios en ella se reflejan en este arreglo y
+     * viceversa, hasta la siguiente modificación estructural.
+     * </p>
+     */
+    @Override
+    public VistaSecuencia<T> subSecuencia(int indiceDesde, int indiceHasta) {
+        return new VistaSecuencia<>(this, indiceDesde, indiceHasta);
+    }
+
+    /**
+     * Retorna la cantidad de elementos que admite antes de crecer.
+     *
+     * @return la capacidad actual.
+     */
+    public int capacidad() {
+        return elementos.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Retorna {@link #spliteratorPorIndice()}, que se divide por rangos de
+     * índices en vez de recorrer el iterador.
+     * </p>
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return spliteratorPorIndice();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            /**
+             * Posición del próximo elemento a retornar.
+             */
+            private int actual;
+
+            @Override
+            public boolean hasNext() {
+                return actual < largo();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T elemento = obtener(actual);
+                actual++;
+                return elemento;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder(getClass().getSimpleName()).append("={");
+        for (int i = 0; i < largo(); i++) {
+            if (i > 0) {
+                texto.append(',');
+            }
+            texto.append(obtener(i));
+        }
+        return texto.append("}:").append(largo()).toString();
+    }
+}
@@ -0,0 +1,89 @@
+package ar.unrn.secuencias;
+
+import ar.unrn.secuencias.estrategias.Ordenador;
+import ar.unrn.secuencias.estrategias.OrdenadorMezclaParalelo;
+import ar.unrn.secuencias.excepciones.ComparadorNuloException;
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.interfaces.Ordenable;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Arreglo ordenable cuyo algoritmo de ordenamiento puede cambiarse en tiempo
+ * de ejecución (patrón Estrategia).
+ * <p>
+ * Ambas variantes de {@code ordenar} delegan en el {@link Ordenador} actual,
+ * que por omisión es un {@link OrdenadorMezclaParalelo}.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public class ArregloOrdenable<T extends Comparable<T>> extends ArregloBase<T>
+        implements Ordenable<T> {
+
+    /**
+     * Algoritmo de ordenamiento actual.
+     */
+    private Ordenador<T> estrategia;
+
+    /**
+     * Crea un arreglo del largo indicado, con todas sus posiciones en {@code null}.
+     *
+     * @param largo la cantidad de posiciones del arreglo, no negativa.
+     */
+    public ArregloOrdenable(int largo) {
+        super(largo);
+        this.estrategia = new OrdenadorMezclaParalelo<>();
+    }
+
+    /**
+     * Crea un arreglo con una copia de los valores indicados.
+     *
+     * @param valores los valores iniciales.
+     */
+    public ArregloOrdenable(T[] valores) {
+        super(valores);
+        this.estrategia = new OrdenadorMezclaParalelo<>();
+    }
+
+    /**
+     * Reemplaza el algoritmo usado por las siguientes llamadas a {@code ordenar}.
+     *
+     * @param nueva la nueva estrategia de ordenamiento.
+     * @throws NullPointerException si {@code nueva} es {@code null}.
+     */
+    public void cambiarEstrategia(Ordenador<T> nueva) {
+        this.estrategia = Objects.requireNonNull(nueva,
+                "La estrategia no puede ser nula");
+    }
+
+    /**
+     * Retorna el algoritmo de ordenamiento actual.
+     *
+     * @return la estrategia en uso.
+     */
+    public Ordenador<T> estrategia() {
+        return estrategia;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoNuloException si el arreglo contiene elementos nulos.
+     */
+    @Override
+    public void ordenar() {
+        estrategia.ordenar(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ComparadorNuloException si {@code comparador} es {@code null}.
+     */
+    @Override
+    public void ordenar(Comparator<? super T> comparador) {
+        estrategia.ordenar(this, comparador);
+    }
+}
@@ -0,0 +1,588 @@
+package ar.unrn.secuencias;
+
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.excepciones.ModificacionConcurrenteException;
+import ar.unrn.secuencias.interfaces.Expandable;
+import ar.unrn.secuencias.interfaces.Subdivisible;
+import ar.unrn.secuencias.interfaces.Versionable;
+import ar.unrn.secuencias.vistas.VistaSecuencia;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Lista enlazada desenrollada: una lista doblemente enlazada de nodos, cada
+ * uno con un arreglo de hasta {@link #capacidadNodo()} elementos.
+ * <p>
+ * Frente a una lista con un nodo por elemento, guarda muchos elementos por
+ * objeto y los recorre de a bloques contiguos en memoria. Frente a un arreglo,
+ * insertar y remover en el medio solo desplazan los elementos de un nodo:
+ * </p>
+ * <ul>
+ *     <li>{@link #insertar(int, Object)} en un nodo lleno lo divide en dos
+ *     mitades antes de insertar.</li>
+ *     <li>{@link #remover(int)} que deja un nodo por debajo de la mitad lo une
+ *     con el siguiente, si entran juntos en uno.</li>
+ * </ul>
+ * <p>
+ * Ubicar una posición requiere recorrer nodos, O(n / capacidadNodo()). Para
+ * que el acceso secuencial con {@link #obtener(int)} sea O(1) amortizado, la
+ * lista recuerda el último nodo visitado y su posición, y busca desde él o
+ * desde el extremo más cercano. El iterador recorre los nodos directamente.
+ * </p>
+ * <p>
+ * No es segura para usar desde varios hilos si alguno la modifica. Las
+ * lecturas concurrentes sí lo son: el nodo recordado se guarda como un único
+ * objeto inmutable, por lo que los lectores no se pisan entre sí.
+ * </p>
+ * <p>
+ * Admite elementos {@code null}. Agregar, insertar o remover cambian la
+ * {@link #version()}, lo que invalida las vistas y los iteradores existentes.
+ * Su representación textual sigue el formato de {@link ArregloBase}, por
+ * ejemplo {@code ListaDesenrollada={1,2}:2}.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public class ListaDesenrollada<T> implements Expandable<T>, Subdivisible<T>,
+        Versionable<T>, Iterable<T> {
+
+    /**
+     * Capacidad de cada nodo por omisión.
+     */
+    public static final int CAPACIDAD_NODO_POR_OMISION = 64;
+
+    /**
+     * Menor capacidad de nodo admitida.
+     */
+    private static final int CAPACIDAD_NODO_MINIMA = 2;
+
+    /**
+     * Bytes estimados de una referencia, con punteros comprimidos.
+     */
+    private static final int REFERENCIA = 4;
+
+    /**
+     * Bytes estimados de un objeto {@code Nodo}: encabezado, tres referencias
+     * y un entero, alineados a 8.
+     */
+    private static final int BYTES_NODO = 32;
+
+    /**
+     * Bytes estimados del encabezado de un arreglo.
+     */
+    private static final int ENCABEZADO_ARREGLO = 16;
+
+    /**
+     * Alineación de los objetos en memoria.
+     */
+    private static final int ALINEACION = 8;
+
+    /**
+     * Cantidad máxima de elementos por nodo.
+     */
+    private final int capacidadNodo;
+
+    /**
+     * Primer nodo; nunca es {@code null}, aunque la lista esté vacía.
+     */
+    private Nodo cabeza;
+
+    /**
+     * Último nodo.
+     */
+    private Nodo cola;
+
+    /**
+     * Cantidad de elementos.
+     */
+    private int cantidad;
+
+    /**
+     * Cantidad de nodos.
+     */
+    private int nodos;
+
+    /**
+     * Último nodo visitado y su posición, como un único objeto inmutable.
+     */
+    private Cursor cursor;
+
+    /**
+     * Cantidad de modificaciones estructurales.
+     */
+    private int modificaciones;
+
+    /**
+     * Crea una lista vacía con la capacidad de nodo por omisión.
+     */
+    public ListaDesenrollada() {
+        this(CAPACIDAD_NODO_POR_OMISION);
+    }
+
+    /**
+     * Crea una lista vacía con la capacidad de nodo indicada.
+     *
+     * @param porNodo la cantidad máxima de elementos por nodo, al menos 2.
+     * @throws IllegalArgumentException si {@code porNodo} es menor a 2.
+     */
+    public ListaDesenrollada(int porNodo) {
+        if (porNodo < CAPACIDAD_NODO_MINIMA) {
+            throw new IllegalArgumentException(
+                    "La capacidad de nodo debe ser al menos 2: " + porNodo);
+        }
+        this.capacidadNodo = porNodo;
+        this.cabeza = new Nodo(porNodo);
+        this.cola = cabeza;
+        this.cursor = new Cursor(cabeza, 0);
+        this.nodos = 1;
+    }
+
+    /**
+     * Retorna la cantidad máxima de elementos por nodo.
+     *
+     * @return la capacidad de cada nodo.
+     */
+    public int capacidadNodo() {
+        return capacidadNodo;
+    }
+
+    /**
+     * Retorna la cantidad de nodos.
+     *
+     * @return la cantidad de nodos, al menos uno.
+     */
+    public int nodos() {
+        return nodos;
+    }
+
+    /**
+     * Estima los bytes que ocupa la estructura de la lista por cada elemento,
+     * sin contar los elementos mismos: nodos y sus arreglos, incluidas las
+     * posiciones libres.
+     * <p>
+     * Supone punteros comprimidos, como en la mayoría de las JVM de 64 bits
+     * con menos de 32 GB de memoria; es una estimación, no una medición. Como
+     * referencia, una lista con un nodo por elemento ocupa unos 24 bytes por
+     * elemento, y un arreglo unos 4 bytes por posición.
+     * </p>
+     *
+     * @return los bytes estimados por elemento, o 0 si la lista está vacía.
+     */
+    public double bytesPorElemento() {
+        if (cantidad == 0) {
+            return 0;
+        }
+        long arreglo = ENCABEZADO_ARREGLO + (long) REFERENCIA * capacidadNodo;
+        long alineado = (arreglo + ALINEACION - 1) / ALINEACION * ALINEACION;
+        return (double) nodos * (BYTES_NODO + alineado) / cantidad;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        verificarIndice(indice);
+        Cursor ubicado = ubicar(indice);
+        ubicado.nodo().elementos[indice - ubicado.inicio()] = valor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T obtener(int indice) {
+        verificarIndice(indice);
+        Cursor ubicado = ubicar(indice);
+        return (T) ubicado.nodo().elementos[indice - ubicado.inicio()];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int largo() {
+        return cantidad;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void agregar(T valor) {
+        if (cola.cantidad == capacidadNodo) {
+            enlazarDespues(cola, new Nodo(capacidadNodo));
+        }
+        cola.elementos[cola.cantidad] = valor;
+        cola.cantidad++;
+        cantidad++;
+        modificaciones++;
+    }
+
+    /**
+     * Inserta el valor en la posición indicada, desplazando los elementos
+     * siguientes. Solo se mueven elementos dentro de un nodo.
+     *
+     * @param indice la posición donde queda el valor, en {@code [0, largo()]}.
+     * @param valor  el valor a insertar.
+     * @throws IndiceFueraDeRangoException si el índice está fuera de rango.
+     */
+    public void insertar(int indice, T valor) {
+        if (indice < 0 || indice > cantidad) {
+            throw new IndiceFueraDeRangoException(indice, cantidad);
+        }
+        if (indice == cantidad) {
+            agregar(valor);
+            return;
+        }
+        Cursor ubicado = ubicar(indice);
+        Nodo nodo = ubicado.nodo();
+        int posicion = indice - ubicado.inicio();
+        if (nodo.cantidad == capacidadNodo) {
+            Nodo mitad = dividir(nodo);
+            if (posicion > nodo.cantidad) {
+                posicion = posicion - nodo.cantidad;
+                cursor = new Cursor(mitad, ubicado.inicio() + nodo.cantidad);
+                nodo = mitad;
+            }
+        }
+        System.arraycopy(nodo.elementos, posicion, nodo.elementos, posicion + 1,
+                nodo.cantidad - posicion);
+        nodo.elementos[posicion] = valor;
+        nodo.cantidad++;
+        cantidad++;
+        modificaciones++;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Solo se desplazan los elementos del nodo que lo contiene; si el nodo
+     * queda por debajo de la mitad, se une con el siguiente cuando entran
+     * juntos en uno.
+     * </p>
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remover(int indice) {
+        verificarIndice(indice);
+        Cursor ubicado = ubicar(indice);
+        Nodo nodo = ubicado.nodo();
+        int posicion = indice - ubicado.inicio();
+        T removido = (T) nodo.elementos[posicion];
+        System.arraycopy(nodo.elementos, posicion + 1, nodo.elementos, posicion,
+                nodo.cantidad - posicion - 1);
+        nodo.cantidad--;
+        nodo.elementos[nodo.cantidad] = null;
+        cantidad--;
+        modificaciones++;
+        if (nodo.cantidad == 0 && nodos > 1) {
+            desenlazar(nodo);
+            cursor = new Cursor(cabeza, 0);
+        } else if (nodo.cantidad < capacidadNodo / 2 && nodo.siguiente != null
+                && nodo.cantidad + nodo.siguiente.cantidad <= capacidadNodo) {
+            Nodo siguiente = nodo.siguiente;
+            System.arraycopy(siguiente.elementos, 0, nodo.elementos, nodo.cantidad,
+                    siguiente.cantidad);
+            nodo.cantidad = nodo.cantidad + siguiente.cantidad;
+            desenlazar(siguiente);
+        }
+        return removido;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int version() {
+        return modificaciones;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Retorna una vista, válida hasta la siguiente modificación estructural.
+     * </p>
+     */
+    @Override
+    public VistaSecuencia<T> subSecuencia(int indiceDesde, int indiceHasta) {
+        return new VistaSecuencia<>(this, indiceDesde, indiceHasta);
+    }
+
+    /**
+     * Verifica que el índice esté dentro del rango válido.
+     *
+     * @param indice el índice a verificar.
+     * @throws IndiceFueraDeRangoException si está fuera de {@code [0, largo() - 1]}.
+     */
+    private void verificarIndice(int indice) {
+        if (indice < 0 || indice >= cantidad) {
+            throw new IndiceFueraDeRangoException(indice, cantidad);
+        }
+    }
+
+    /**
+     * Ubica el nodo que contiene la posición indicada, partiendo del cursor o
+     * del extremo más cercano, y deja el cursor en él.
+     * <p>
+     * El cursor se lee una vez, se recorre con variables locales y se
+     * reemplaza por uno nuevo al final, sin modificar el anterior. Así,
+     * varios hilos que solo leen pueden compartir la lista: a lo sumo parten
+     * de un cursor desactualizado, pero siempre coherente.
+     * </p>
+     *
+     * @param indice una posición válida de la lista.
+     * @return el nodo que la contiene y la posición de su primer elemento.
+     */
+    private Cursor ubicar(int indice) {
+        Cursor pista = cursor;
+        Nodo nodo = pista.nodo();
+        int inicio = pista.inicio();
+        if (indice < inicio / 2) {
+            nodo = cabeza;
+            inicio = 0;
+        } else if (indice > inicio && cantidad - indice < indice - inicio) {
+            nodo = cola;
+            inicio = cantidad - cola.cantidad;
+        }
+        while (indice < inicio) {
+            nodo = nodo.anterior;
+            inicio = inicio - nodo.cantidad;
+        }
+        while (indice >= inicio + nodo.cantidad) {
+            inicio = inicio + nodo.cantidad;
+            nodo = nodo.siguiente;
+        }
+        if (nodo == pista.nodo() && inicio == pista.inicio()) {
+            return pista;
+        }
+        Cursor ubicado = new Cursor(nodo, inicio);
+        cursor = ubicado;
+        return ubicado;
+    }
+
+    /**
+     * Mueve la segunda mitad de un nodo lleno a un nodo nuevo, enlazado a
+     * continuación.
+     *
+     * @param nodo el nodo a dividir.
+     * @return el nodo nuevo.
+     */
+    private Nodo dividir(Nodo nodo) {
+        Nodo mitad = new Nodo(capacidadNodo);
+        int quedan = nodo.cantidad / 2;
+        mitad.cantidad = nodo.cantidad - quedan;
+        System.arraycopy(nodo.elementos, quedan, mitad.elementos, 0, mitad.cantidad);
+        for (int i = quedan; i < nodo.cantidad; i++) {
+            nodo.elementos[i] = null;
+        }
+        nodo.cantidad = quedan;
+        enlazarDespues(nodo, mitad);
+        return mitad;
+    }
+
+    /**
+     * Enlaza un nodo nuevo a continuación de otro.
+     *
+     * @param nodo  el nodo existente.
+     * @param nuevo el nodo a enlazar.
+     */
+    private void enlazarDespues(Nodo nodo, Nodo nuevo) {
+        nuevo.anterior = nodo;
+        nuevo.siguiente = nodo.siguiente;
+        if (nodo.siguiente == null) {
+            cola = nuevo;
+        } else {
+            nodo.siguiente.anterior = nuevo;
+        }
+        nodo.siguiente = nuevo;
+        nodos++;
+    }
+
+    /**
+     * Quita un nodo de la lista; no debe ser el único.
+     *
+     * @param nodo el nodo a quitar.
+     */
+    private void desenlazar(Nodo nodo) {
+        if (nodo.anterior == null) {
+            cabeza = nodo.siguiente;
+        } else {
+            nodo.anterior.siguiente = nodo.siguiente;
+        }
+        if (nodo.siguiente == null) {
+            cola = nodo.anterior;
+        } else {
+            nodo.siguiente.anterior = nodo.anterior;
+        }
+        nodos--;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Retorna {@code false}. Las lecturas concurrentes son seguras, pero
+     * dividir por índice no conviene: {@link #obtener(int)} cuesta
+     * O(n / capacidad) lejos de la última posición leída, y los hilos
+     * pisarían la pista del cursor unos a otros, de modo que cada lectura
+     * volvería a caminar los nodos desde un extremo.
+     * </p>
+     *
+     * @return {@code false}.
+     */
+    @Override
+    public boolean admiteDivisionPorIndice() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Recorre los nodos con {@link #iterator()}, sin pasar por
+     * {@link #obtener(int)}, e informa el tamaño exacto; para los flujos
+     * paralelos, se divide copiando lotes. Ver
+     * {@link #admiteDivisionPorIndice()}.
+     * </p>
+     */
+    @Override
+    public Spliterator<T> spliteratorPorIndice() {
+        return Spliterators.spliterator(iterator(), cantidad, Spliterator.ORDERED);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Igual que {@link #spliteratorPorIndice()}, informa el tamaño exacto.
+     * </p>
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return spliteratorPorIndice();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * El iterador recorre los nodos directamente, y falla con
+     * {@link ModificacionConcurrenteException} si la lista se modifica
+     * estructuralmente mientras se recorre.
+     * </p>
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            /**
+             * Nodo actual.
+             */
+            private Nodo nodo = cabeza;
+
+            /**
+             * Posición del próximo elemento dentro del nodo.
+             */
+            private int posicion;
+
+            /**
+             * Versión de la lista al crear el iterador.
+             */
+            private final int esperada = modificaciones;
+
+            @Override
+            public boolean hasNext() {
+                verificar();
+                while (posicion == nodo.cantidad && nodo.siguiente != null) {
+                    nodo = nodo.siguiente;
+                    posicion = 0;
+                }
+                return posicion < nodo.cantidad;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T elemento = (T) nodo.elementos[posicion];
+                posicion++;
+                return elemento;
+            }
+
+            /**
+             * Verifica que la lista no haya sido modificada estructuralmente.
+             */
+            private void verificar() {
+                if (modificaciones != esperada) {
+                    throw new ModificacionConcurrenteException(
+                            "La lista fue modificada durante el recorrido.");
+                }
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder(getClass().getSimpleName()).append("={");
+        boolean primero = true;
+        for (T elemento : this) {
+            if (!primero) {
+                texto.append(',');
+            }
+            texto.append(elemento);
+            primero = false;
+        }
+        return texto.append("}:").append(largo()).toString();
+    }
+
+    /**
+     * Posición recordada por {@link #ubicar(int)}: un nodo y la posición en
+     * la lista de su primer elemento.
+     *
+     * @param nodo   el nodo.
+     * @param inicio la posición de su primer elemento.
+     */
+    private record Cursor(Nodo nodo, int inicio) {
+    }
+
+    /**
+     * Bloque de elementos contiguos de la lista.
+     */
+    private static final class Nodo {
+
+        /**
+         * Elementos del nodo; solo las primeras {@link #cantidad} posiciones
+         * están en uso.
+         */
+        private final Object[] elementos;
+
+        /**
+         * Cantidad de elementos en uso.
+         */
+        private int cantidad;
+
+        /**
+         * Nodo siguiente, o {@code null} si es el último.
+         */
+        private Nodo siguiente;
+
+        /**
+         * Nodo anterior, o {@code null} si es el primero.
+         */
+        private Nodo anterior;
+
+        /**
+         * Crea un nodo vacío.
+         *
+         * @param capacidad la cantidad máxima de elementos.
+         */
+        Nodo(int capacidad) {
+            this.elementos = new Object[capacidad];
+        }
+    }
+}
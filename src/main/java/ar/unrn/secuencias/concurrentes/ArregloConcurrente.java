@@ -0,0 +1,304 @@
+package ar.unrn.secuencias.concurrentes;
+
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.interfaces.Expandable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Arreglo expandible seguro para varios hilos lectores y escritores.
+ * <p>
+ * Los elementos se leen y escriben de a uno con accesos volátiles
+ * ({@link VarHandle}), protegidos por un conjunto de cerrojos repartidos por
+ * índice (<em>lock striping</em>):
+ * </p>
+ * <ul>
+ *     <li>{@link #obtener(int)} no bloquea: lee de forma optimista y solo toma
+ *     el cerrojo de su franja si en el medio hubo un cambio estructural.</li>
+ *     <li>{@link #modificar(int, Object)} toma en modo compartido el cerrojo de
+ *     su franja, por lo que escritores sobre índices de franjas distintas no
+ *     compiten entre sí.</li>
+ *     <li>{@link #agregar(Object)} se serializa con los demás agregados, pero
+ *     mientras haya capacidad no afecta a lectores ni escritores: escribe la
+ *     posición libre y luego publica el nuevo largo. Solo al crecer toma todas
+ *     las franjas en modo exclusivo para copiar el almacenamiento.</li>
+ *     <li>{@link #remover(int)} toma todas las franjas en modo exclusivo.</li>
+ * </ul>
+ * <p>
+ * <strong>Linealizabilidad:</strong> cada operación tiene efecto en un único
+ * instante entre su invocación y su retorno: {@code obtener} en la lectura
+ * volátil del elemento, {@code modificar} en su escritura volátil,
+ * {@code agregar} en la publicación del nuevo largo, {@code remover} dentro
+ * de su sección exclusiva y {@link #largo()} en su lectura volátil. Por lo
+ * tanto, un elemento agregado es visible, con su valor completo, para todo
+ * hilo que observe el nuevo largo. En cambio, una secuencia de llamadas (como
+ * recorrer con {@code obtener}) no es atómica; {@link #comoArreglo()} da una
+ * copia consistente.
+ * </p>
+ * <p>
+ * Admite elementos {@code null}.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class ArregloConcurrente<T> implements Expandable<T> {
+
+    /**
+     * Capacidad inicial por omisión.
+     */
+    public static final int CAPACIDAD_POR_OMISION = 16;
+
+    /**
+     * Cantidad máxima de franjas.
+     */
+    private static final int FRANJAS_MAXIMAS = 64;
+
+    /**
+     * Acceso volátil a las posiciones de un {@code Object[]}.
+     */
+    private static final VarHandle ELEMENTO =
+            MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /**
+     * Almacenamiento actual; solo se reemplaza con todas las franjas tomadas.
+     */
+    private volatile Object[] elementos;
+
+    /**
+     * Cantidad de elementos publicados.
+     */
+    private volatile int cantidad;
+
+    /**
+     * Cerrojos de las franjas; el índice {@code i} pertenece a la franja
+     * {@code i & mascara}.
+     */
+    private final StampedLock[] franjas;
+
+    /**
+     * Máscara para ubicar la franja de un índice.
+     */
+    private final int mascara;
+
+    /**
+     * Serializa los cambios de largo.
+     */
+    private final ReentrantLock estructura = new ReentrantLock();
+
+    /**
+     * Crea un arreglo vacío con la capacidad por omisión.
+     */
+    public ArregloConcurrente() {
+        this(CAPACIDAD_POR_OMISION);
+    }
+
+    /**
+     * Crea un arreglo vacío con la capacidad inicial indicada y una franja por
+     * procesador disponible, redondeado a potencia de dos.
+     *
+     * @param capacidad la cantidad de elementos que admite antes de crecer.
+     * @throws IndiceFueraDeRangoException si la capacidad es negativa.
+     */
+    public ArregloConcurrente(int capacidad) {
+        if (capacidad < 0) {
+            throw new IndiceFueraDeRangoException(capacidad, 0);
+        }
+        int procesadores = Runtime.getRuntime().availableProcessors();
+        int cuantas = Math.min(FRANJAS_MAXIMAS,
+                Integer.highestOneBit(Math.max(1, 2 * procesadores - 1)));
+        this.elementos = new Object[capacidad];
+        this.franjas = new StampedLock[cuantas];
+        for (int i = 0; i < cuantas; i++) {
+            franjas[i] = new StampedLock();
+        }
+        this.mascara = cuantas - 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T obtener(int indice) {
+        StampedLock franja = franjas[indice & mascara];
+        long sello = franja.tryOptimisticRead();
+        if (sello != 0) {
+            Object[] actuales = elementos;
+            int largo = cantidad;
+            if (indice >= 0 && indice < largo) {
+                Object valor = ELEMENTO.getVolatile(actuales, indice);
+                if (franja.validate(sello)) {
+                    return (T) valor;
+                }
+            } else if (franja.validate(sello)) {
+                throw new IndiceFueraDeRangoException(indice, largo);
+            }
+        }
+        sello = franja.readLock();
+        try {
+            verificarIndice(indice);
+            return (T) ELEMENTO.getVolatile(elementos, indice);
+        } finally {
+            franja.unlockRead(sello);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        StampedLock franja = franjas[indice & mascara];
+        long sello = franja.readLock();
+        try {
+            verificarIndice(indice);
+            ELEMENTO.setVolatile(elementos, indice, valor);
+        } finally {
+            franja.unlockRead(sello);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int largo() {
+        return cantidad;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void agregar(T valor) {
+        estructura.lock();
+        try {
+            int largo = cantidad;
+            if (largo == elementos.length) {
+                long[] sellos = tomarTodas();
+                try {
+                    elementos = Arrays.copyOf(elementos, Math.max(2 * largo, 1));
+                } finally {
+                    soltarTodas(sellos);
+                }
+            }
+            ELEMENTO.setVolatile(elementos, largo, valor);
+            cantidad = largo + 1;
+        } finally {
+            estructura.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remover(int indice) {
+        estructura.lock();
+        try {
+            long[] sellos = tomarTodas();
+            try {
+                verificarIndice(indice);
+                Object[] actuales = elementos;
+                int largo = cantidad;
+                T removido = (T) actuales[indice];
+                System.arraycopy(actuales, indice + 1, actuales, indice,
+                        largo - indice - 1);
+                actuales[largo - 1] = null;
+                cantidad = largo - 1;
+                return removido;
+            } finally {
+                soltarTodas(sellos);
+            }
+        } finally {
+            estructura.unlock();
+        }
+    }
+
+    /**
+     * Retorna una copia consistente del contenido: ningún cambio concurrente
+     * queda reflejado a medias.
+     *
+     * @return los elementos, en orden.
+     */
+    public Object[] comoArreglo() {
+        estructura.lock();
+        try {
+            long[] sellos = tomarTodas();
+            try {
+                return Arrays.copyOf(elementos, cantidad);
+            } finally {
+                soltarTodas(sellos);
+            }
+        } finally {
+            estructura.unlock();
+        }
+    }
+
+    /**
+     * Retorna la cantidad de franjas en que se reparten los índices.
+     *
+     * @return la cantidad de cerrojos, potencia de dos.
+     */
+    public int franjas() {
+        return franjas.length;
+    }
+
+    /**
+     * Verifica que el índice esté dentro del rango válido.
+     *
+     * @param indice el índice a verificar.
+     * @throws IndiceFueraDeRangoException si está fuera de {@code [0, largo() - 1]}.
+     */
+    private void verificarIndice(int indice) {
+        int largo = cantidad;
+        if (indice < 0 || indice >= largo) {
+            throw new IndiceFueraDeRangoException(indice, largo);
+        }
+    }
+
+    /**
+     * Toma todas las franjas en modo exclusivo, siempre en el mismo orden.
+     *
+     * @return los sellos obtenidos, para soltarlas.
+     */
+    private long[] tomarTodas() {
+        long[] sellos = new long[franjas.length];
+        for (int i = 0; i < franjas.length; i++) {
+            sellos[i] = franjas[i].writeLock();
+        }
+        return sellos;
+    }
+
+    /**
+     * Suelta las franjas tomadas con {@link #tomarTodas()}.
+     *
+     * @param sellos los sellos obtenidos.
+     */
+    private void soltarTodas(long[] sellos) {
+        for (int i = franjas.length - 1; i >= 0; i--) {
+            franjas[i].unlockWrite(sellos[i]);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        Object[] copia = comoArreglo();
+        StringBuilder texto = new StringBuilder("ArregloConcurrente={");
+        for (int i = 0; i < copia.length; i++) {
+            if (i > 0) {
+                texto.append(',');
+            }
+            texto.append(copia[i]);
+        }
+        return texto.append("}:").append(copia.length).toString();
+    }
+}
@@ -0,0 +1,276 @@
+package ar.unrn.secuencias.concurrentes;
+
+import ar.unrn.secuencias.excepciones.CapacidadExcedidaException;
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.excepciones.SecuenciaNoModificableException;
+import ar.unrn.secuencias.interfaces.Expandable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Secuencia concurrente de solo agregado, sin bloqueos.
+ * <p>
+ * Pensada para varios hilos productores que solo llaman a
+ * {@link #agregar(Object)} y lectores que solo llaman a {@link #obtener(int)}:
+ * </p>
+ * <ul>
+ *     <li>Cada agregado reserva su posición incrementando un contador con
+ *     compare-and-set, y escribe el elemento en ella.</li>
+ *     <li>El almacenamiento se divide en segmentos de tamaño creciente (el
+ *     primero de {@value #SEGMENTO_INICIAL} posiciones, cada uno el doble que
+ *     el anterior) que se crean a medida que hacen falta. Crecer nunca copia
+ *     elementos ni bloquea a los lectores.</li>
+ *     <li>{@link #largo()} cuenta solo el prefijo de posiciones ya escritas:
+ *     un lector nunca ve una posición reservada pero todavía vacía. Cada
+ *     productor, al terminar de escribir, avanza ese prefijo sobre todas las
+ *     posiciones consecutivas ya escritas, incluidas las de otros.</li>
+ * </ul>
+ * <p>
+ * Una vez agregado, un elemento no cambia: {@link #modificar(int, Object)} y
+ * {@link #remover(int)} lanzan {@link SecuenciaNoModificableException}. No
+ * admite elementos {@code null}, ya que una posición en {@code null} es una
+ * posición todavía no escrita.
+ * </p>
+ * <p>
+ * Si un productor se detiene entre la reserva y la escritura, las posiciones
+ * posteriores no se publican hasta que termine; el resto de los productores
+ * sigue avanzando.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class ArregloSoloAgregado<T> implements Expandable<T> {
+
+    /**
+     * Tamaño del primer segmento.
+     */
+    public static final int SEGMENTO_INICIAL = 16;
+
+    /**
+     * Cantidad máxima de elementos.
+     */
+    public static final int CAPACIDAD_MAXIMA = Integer.MAX_VALUE - SEGMENTO_INICIAL + 1;
+
+    /**
+     * Logaritmo en base dos de {@link #SEGMENTO_INICIAL}.
+     */
+    private static final int BITS_INICIALES =
+            Integer.numberOfTrailingZeros(SEGMENTO_INICIAL);
+
+    /**
+     * Cantidad de segmentos necesaria para alcanzar la capacidad máxima.
+     */
+    private static final int SEGMENTOS = Integer.SIZE - 1 - BITS_INICIALES;
+
+    /**
+     * Acceso con semántica de adquisición y liberación a las posiciones.
+     */
+    private static final VarHandle ELEMENTO =
+            MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /**
+     * Acceso atómico a {@link #reservados}.
+     */
+    private static final VarHandle RESERVADOS;
+
+    /**
+     * Acceso atómico a {@link #publicados}.
+     */
+    private static final VarHandle PUBLICADOS;
+
+    static {
+        try {
+            MethodHandles.Lookup busqueda = MethodHandles.lookup();
+            RESERVADOS = busqueda.findVarHandle(ArregloSoloAgregado.class,
+                    "reservados", int.class);
+            PUBLICADOS = busqueda.findVarHandle(ArregloSoloAgregado.class,
+                    "publicados", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Segmentos de almacenamiento, creados a demanda.
+     */
+    private final AtomicReferenceArray<Object[]> segmentos =
+            new AtomicReferenceArray<>(SEGMENTOS);
+
+    /**
+     * Cantidad de posiciones reservadas por los productores.
+     */
+    private volatile int reservados;
+
+    /**
+     * Cantidad de posiciones consecutivas, desde el inicio, ya escritas.
+     */
+    private volatile int publicados;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoNuloException      si {@code valor} es {@code null}.
+     * @throws CapacidadExcedidaException si se alcanzó {@link #CAPACIDAD_MAXIMA}.
+     */
+    @Override
+    public void agregar(T valor) {
+        if (valor == null) {
+            throw new ElementoNuloException("No se admiten elementos nulos.");
+        }
+        int posicion;
+        do {
+            posicion = reservados;
+            if (posicion >= CAPACIDAD_MAXIMA) {
+                throw new CapacidadExcedidaException(
+                        "Se alcanzó la capacidad máxima de " + CAPACIDAD_MAXIMA);
+            }
+        } while (!RESERVADOS.compareAndSet(this, posicion, posicion + 1));
+        int numero = segmentoDe(posicion);
+        // Escritura volátil, no de liberación: publicar() lee después las
+        // posiciones vecinas, y entre dos productores esa secuencia escritura
+        // y lectura debe ser secuencialmente consistente. Con release/acquire
+        // la lectura puede adelantarse a la escritura (el buffer de escrituras
+        // de x86 alcanza): cada productor vería vacía la posición del otro y
+        // ninguno avanzaría el prefijo.
+        ELEMENTO.setVolatile(segmento(numero), desplazamiento(posicion, numero), valor);
+        publicar(posicion);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T obtener(int indice) {
+        int largo = publicados;
+        if (indice < 0 || indice >= largo) {
+            throw new IndiceFueraDeRangoException(indice, largo);
+        }
+        int numero = segmentoDe(indice);
+        return (T) ELEMENTO.getAcquire(segmentos.get(numero),
+                desplazamiento(indice, numero));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Solo cuenta los elementos cuya escritura terminó.
+     * </p>
+     */
+    @Override
+    public int largo() {
+        return publicados;
+    }
+
+    /**
+     * No soportado: los elementos agregados no cambian.
+     *
+     * @param indice ignorado.
+     * @param valor  ignorado.
+     * @throws SecuenciaNoModificableException siempre.
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        throw new SecuenciaNoModificableException(
+                "Los elementos de una secuencia de solo agregado no se modifican.");
+    }
+
+    /**
+     * No soportado: los elementos agregados no se quitan.
+     *
+     * @param indice ignorado.
+     * @return nunca retorna.
+     * @throws SecuenciaNoModificableException siempre.
+     */
+    @Override
+    public T remover(int indice) {
+        throw new SecuenciaNoModificableException(
+                "Los elementos de una secuencia de solo agregado no se remueven.");
+    }
+
+    /**
+     * Avanza el prefijo publicado sobre todas las posiciones consecutivas ya
+     * escritas. Si la primera posición sin publicar todavía no fue escrita, su
+     * productor se encargará de avanzar al terminar.
+     * <p>
+     * Las posiciones se leen con acceso volátil, el mismo de la escritura en
+     * {@link #agregar(Object)}: así, de dos productores que escriben y luego
+     * leen la posición del otro, al menos uno ve la escritura ajena.
+     * </p>
+     *
+     * @param propia la posición recién escrita por el llamador.
+     */
+    private void publicar(int propia) {
+        int largo = publicados;
+        while (largo <= propia || largo < reservados) {
+            int numero = segmentoDe(largo);
+            Object[] segmento = segmentos.get(numero);
+            if (segmento == null || ELEMENTO.getVolatile(segmento,
+                    desplazamiento(largo, numero)) == null) {
+                return;
+            }
+            PUBLICADOS.compareAndSet(this, largo, largo + 1);
+            largo = publicados;
+        }
+    }
+
+    /**
+     * Retorna el segmento indicado, creándolo si todavía no existe. Si varios
+     * productores lo crean a la vez, todos usan el primero en instalarse.
+     *
+     * @param numero el número de segmento.
+     * @return el segmento.
+     */
+    private Object[] segmento(int numero) {
+        Object[] segmento = segmentos.get(numero);
+        if (segmento == null) {
+            Object[] nuevo = new Object[SEGMENTO_INICIAL << numero];
+            segmento = segmentos.compareAndExchange(numero, null, nuevo);
+            if (segmento == null) {
+                segmento = nuevo;
+            }
+        }
+        return segmento;
+    }
+
+    /**
+     * Calcula el segmento que contiene una posición.
+     *
+     * @param posicion la posición, menor a {@link #CAPACIDAD_MAXIMA}.
+     * @return el número de segmento.
+     */
+    private static int segmentoDe(int posicion) {
+        int relativa = posicion + SEGMENTO_INICIAL;
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(relativa) - BITS_INICIALES;
+    }
+
+    /**
+     * Calcula la posición dentro de su segmento.
+     *
+     * @param posicion la posición global.
+     * @param numero   el segmento que la contiene.
+     * @return el desplazamiento dentro del segmento.
+     */
+    private static int desplazamiento(int posicion, int numero) {
+        return posicion + SEGMENTO_INICIAL - (SEGMENTO_INICIAL << numero);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        int largo = publicados;
+        StringBuilder texto = new StringBuilder("ArregloSoloAgregado={");
+        for (int i = 0; i < largo; i++) {
+            if (i > 0) {
+                texto.append(',');
+            }
+            texto.append(obtener(i));
+        }
+        return texto.append("}:").append(largo).toString();
+    }
+}
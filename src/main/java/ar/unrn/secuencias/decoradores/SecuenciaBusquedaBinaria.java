@@ -0,0 +1,279 @@
+package ar.unrn.secuencias.decoradores;
+
+import ar.unrn.secuencias.interfaces.Buscable;
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.interfaces.Ordenable;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Decorador que responde las búsquedas de {@link Buscable} por búsqueda
+ * binaria mientras la secuencia se sabe ordenada.
+ * <p>
+ * La secuencia se considera ordenada a partir de una llamada a
+ * {@link #ordenar()} u {@link #ordenar(Comparator)} hecha a través del
+ * decorador, que recuerda el criterio usado. Las modificaciones que respetan
+ * ese criterio (comparando con los vecinos, en O(1)) la mantienen ordenada;
+ * cualquier otra la marca como desordenada y las búsquedas vuelven a ser
+ * lineales hasta el próximo ordenamiento. Las operaciones por rango se
+ * verifican en O(k), recorriendo solo el rango escrito y sus vecinos.
+ * Remover nunca la desordena.
+ * </p>
+ * <p>
+ * Con la secuencia ordenada, las búsquedas son O(log n + r), donde r es la
+ * cantidad de elementos equivalentes al buscado según el criterio, ya que
+ * entre ellos se elige por {@code equals}. Se requiere que los elementos
+ * iguales según {@code equals} sean equivalentes según el criterio. La
+ * búsqueda de {@code null} es siempre lineal.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class SecuenciaBusquedaBinaria<T extends Comparable<T>>
+        extends SecuenciaDecorable<T> implements Buscable<T>, Ordenable<T> {
+
+    /**
+     * Secuencia decorada, vista como ordenable.
+     */
+    private final Ordenable<T> ordenable;
+
+    /**
+     * Criterio con el que la secuencia está ordenada, o {@code null} si no
+     * se sabe ordenada.
+     */
+    private Comparator<? super T> criterio;
+
+    /**
+     * Crea el decorador sobre la secuencia indicada, que se considera
+     * desordenada hasta ordenarla a través del decorador.
+     *
+     * @param secuencia la secuencia a decorar.
+     */
+    public SecuenciaBusquedaBinaria(Ordenable<T> secuencia) {
+        super(secuencia);
+        this.ordenable = secuencia;
+    }
+
+    /**
+     * Indica si las búsquedas se resuelven por búsqueda binaria.
+     *
+     * @return {@code true} si la secuencia se sabe ordenada.
+     */
+    public boolean estaOrdenada() {
+        return criterio != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void ordenar() {
+        criterio = null;
+        ordenable.ordenar();
+        criterio = Comparator.naturalOrder();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void ordenar(Comparator<? super T> comparador) {
+        criterio = null;
+        ordenable.ordenar(comparador);
+        criterio = Objects.requireNonNull(comparador);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        super.modificar(indice, valor);
+        if (criterio != null && !enOrden(indice, valor)) {
+            criterio = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void agregar(T valor) {
+        super.agregar(valor);
+        if (criterio != null && !enOrden(largo() - 1, valor)) {
+            criterio = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificarRango(int desde, T[] valores) {
+        super.modificarRango(desde, valores);
+        verificarRango(desde, desde + valores.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rellenar(int desde, int hasta, T valor) {
+        super.rellenar(desde, hasta, valor);
+        verificarRango(desde, hasta);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void copiarDesde(Indexable<? extends T> origen, int desdeOrigen, int desde,
+                            int cantidad) {
+        super.copiarDesde(origen, desdeOrigen, desde, cantidad);
+        verificarRango(desde, desde + cantidad);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void agregarTodos(Iterable<? extends T> valores) {
+        int anterior = largo();
+        super.agregarTodos(valores);
+        verificarRango(anterior, largo());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contiene(T elemento) {
+        return indiceDe(elemento) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int indiceDe(T elemento) {
+        if (criterio == null || elemento == null) {
+            for (int i = 0; i < largo(); i++) {
+                if (Objects.equals(elemento, obtener(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        for (int i = limite(elemento, false); i < largo(); i++) {
+            T actual = obtener(i);
+            if (criterio.compare(actual, elemento) != 0) {
+                return -1;
+            }
+            if (elemento.equals(actual)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int ultimoIndiceDe(T elemento) {
+        if (criterio == null || elemento == null) {
+            for (int i = largo() - 1; i >= 0; i--) {
+                if (Objects.equals(elemento, obtener(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        for (int i = limite(elemento, true) - 1; i >= 0; i--) {
+            T actual = obtener(i);
+            if (criterio.compare(actual, elemento) != 0) {
+                return -1;
+            }
+            if (elemento.equals(actual)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Busca por bisección el límite del rango de elementos equivalentes al
+     * indicado.
+     *
+     * @param elemento el elemento de referencia.
+     * @param superior {@code false} para el primer elemento no menor,
+     *                 {@code true} para el primer elemento mayor.
+     * @return la posición del límite, en {@code [0, largo()]}.
+     */
+    private int limite(T elemento, boolean superior) {
+        int bajo = 0;
+        int alto = largo();
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            int comparacion = criterio.compare(obtener(medio), elemento);
+            if (comparacion < 0 || superior && comparacion == 0) {
+                bajo = medio + 1;
+            } else {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+
+    /**
+     * Marca la secuencia como desordenada si el rango recién escrito no
+     * respeta el criterio, internamente o respecto de sus vecinos.
+     *
+     * @param desde el inicio del rango escrito, inclusivo.
+     * @param hasta el fin del rango escrito, exclusivo.
+     */
+    private void verificarRango(int desde, int hasta) {
+        if (criterio == null || desde >= hasta) {
+            return;
+        }
+        int fin = Math.min(hasta + 1, largo());
+        try {
+            T anterior = obtener(Math.max(desde - 1, 0));
+            for (int i = Math.max(desde, 1); i < fin && criterio != null; i++) {
+                T actual = obtener(i);
+                if (anterior == null || actual == null
+                        || criterio.compare(anterior, actual) > 0) {
+                    criterio = null;
+                }
+                anterior = actual;
+            }
+            if (anterior == null) {
+                criterio = null;
+            }
+        } catch (NullPointerException e) {
+            criterio = null;
+        }
+    }
+
+    /**
+     * Verifica que el valor en la posición indicada respete el criterio
+     * respecto de sus vecinos.
+     *
+     * @param indice la posición del valor.
+     * @param valor  el valor recién escrito.
+     * @return {@code true} si la secuencia sigue ordenada.
+     */
+    private boolean enOrden(int indice, T valor) {
+        if (valor == null) {
+            return false;
+        }
+        try {
+            return (indice == 0 || criterio.compare(obtener(indice - 1), valor) <= 0)
+                    && (indice == largo() - 1
+                    || criterio.compare(valor, obtener(indice + 1)) <= 0);
+        } catch (NullPointerException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,807 @@
+package ar.unrn.secuencias.decoradores;
+
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.excepciones.SecuenciaCerradaException;
+import ar.unrn.secuencias.excepciones.SecuenciaNoModificableException;
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.interfaces.Visitable;
+import ar.unrn.secuencias.interfaces.Visitor;
+import ar.unrn.secuencias.interfaces.VisitorCombinable;
+import ar.unrn.secuencias.visitantes.VisitaParalela;
+
+import java.lang.invoke.VarHandle;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Decorador que permite tomar instantáneas consistentes de la secuencia sin
+ * copiarla ni detener a los escritores (copia en escritura por bloques).
+ * <p>
+ * La secuencia se divide en bloques de {@link #porBloque()} posiciones.
+ * {@link #instantanea()} es O(1): solo registra el largo y una nueva época.
+ * Antes de la primera escritura sobre un bloque posterior a una instantánea,
+ * el decorador copia el contenido del bloque y se lo entrega a las
+ * instantáneas vivas que todavía no lo tienen; las siguientes escrituras sobre
+ * ese bloque no copian nada hasta la próxima instantánea. Cada bloque recuerda
+ * la época de su última escritura ({@link #versionBloque(int)}).
+ * </p>
+ * <p>
+ * Una instantánea lee sus bloques copiados, y el resto directamente de la
+ * secuencia decorada, que no cambió desde que fue tomada. Agregar al final no
+ * copia bloques: las posiciones agregadas quedan fuera del largo de las
+ * instantáneas existentes, y las que una remoción liberó ya fueron copiadas por
+ * ella.
+ * </p>
+ * <p>
+ * {@link #visitar(Visitor)}, {@link #iterator()} y los flujos de
+ * {@link #spliteratorPorIndice()} recorren una instantánea nueva, por lo que
+ * ven un estado estable aunque otros hilos modifiquen la secuencia mientras
+ * tanto; la instantánea se cierra sola al terminar el recorrido. Las
+ * escrituras a través del decorador se serializan entre sí; las lecturas no
+ * bloquean. Para que las lecturas
+ * concurrentes sean seguras, la secuencia decorada debe admitir lecturas y
+ * escrituras simultáneas, como {@code ArregloConcurrente}.
+ * </p>
+ * <p>
+ * Las instantáneas deben cerrarse con {@link Instantanea#close()} cuando ya no
+ * se usan, para que las escrituras dejen de copiar bloques para ellas; las que
+ * el recolector de basura descarta también dejan de recibir copias.
+ * {@link #instantaneasTomadas()} y {@link #bloquesCopiados()} miden el costo
+ * acumulado.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class SecuenciaCopiaEnEscritura<T> extends SecuenciaDecorable<T>
+        implements Visitable<T>, Iterable<T> {
+
+    /**
+     * Posiciones por bloque por omisión.
+     */
+    public static final int POR_BLOQUE_POR_OMISION = 64;
+
+    /**
+     * Mayor cantidad de posiciones por bloque admitida.
+     */
+    private static final int POR_BLOQUE_MAXIMO = 1 << 20;
+
+    /**
+     * Bits del índice que indican la posición dentro del bloque.
+     */
+    private final int bits;
+
+    /**
+     * Serializa las escrituras y la toma de instantáneas.
+     */
+    private final ReentrantLock cerrojo = new ReentrantLock();
+
+    /**
+     * Instantáneas que pueden necesitar copias; las descartadas se purgan al
+     * recorrerlas.
+     */
+    private final List<WeakReference<Instantanea<T>>> vivas = new ArrayList<>();
+
+    /**
+     * Época de la última escritura de cada bloque; crece según haga falta.
+     */
+    private int[] escrituras = new int[0];
+
+    /**
+     * Época actual; aumenta con cada instantánea.
+     */
+    private int epoca;
+
+    /**
+     * Cantidad de instantáneas tomadas.
+     */
+    private final AtomicLong tomadas = new AtomicLong();
+
+    /**
+     * Cantidad de bloques copiados.
+     */
+    private final AtomicLong copiados = new AtomicLong();
+
+    /**
+     * Crea el decorador con bloques del tamaño por omisión.
+     *
+     * @param secuencia la secuencia a decorar.
+     */
+    public SecuenciaCopiaEnEscritura(Indexable<T> secuencia) {
+        this(secuencia, POR_BLOQUE_POR_OMISION);
+    }
+
+    /**
+     * Crea el decorador con bloques de al menos el tamaño indicado, redondeado
+     * a una potencia de dos.
+     *
+     * @param secuencia la secuencia a decorar.
+     * @param tamanio   la cantidad de posiciones por bloque, entre 1 y 2^20.
+     * @throws IllegalArgumentException si el tamaño está fuera de rango.
+     */
+    public SecuenciaCopiaEnEscritura(Indexable<T> secuencia, int tamanio) {
+        super(secuencia);
+        if (tamanio < 1 || tamanio > POR_BLOQUE_MAXIMO) {
+            throw new IllegalArgumentException(
+                    "El tamaño de bloque debe estar entre 1 y 2^20: " + tamanio);
+        }
+        this.bits = Integer.SIZE - Integer.numberOfLeadingZeros(tamanio - 1);
+    }
+
+    /**
+     * Retorna la cantidad de posiciones por bloque.
+     *
+     * @return el tamaño de los bloques, una potencia de dos.
+     */
+    public int porBloque() {
+        return 1 << bits;
+    }
+
+    /**
+     * Toma una instantánea del contenido actual, en O(1).
+     *
+     * @return una instantánea que no cambia con las escrituras posteriores.
+     */
+    public Instantanea<T> instantanea() {
+        cerrojo.lock();
+        try {
+            vivas.removeIf(referencia -> {
+                Instantanea<T> viva = referencia.get();
+                return viva == null || viva.cerrada;
+            });
+            epoca++;
+            Instantanea<T> instantanea = new Instantanea<>(this, largo());
+            vivas.add(new WeakReference<>(instantanea));
+            tomadas.incrementAndGet();
+            return instantanea;
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    /**
+     * Retorna la cantidad de instantáneas tomadas desde la creación.
+     *
+     * @return las instantáneas tomadas.
+     */
+    public long instantaneasTomadas() {
+        return tomadas.get();
+    }
+
+    /**
+     * Retorna la cantidad de bloques copiados para preservar instantáneas.
+     * Una copia entregada a varias instantáneas cuenta una sola vez.
+     *
+     * @return los bloques copiados.
+     */
+    public long bloquesCopiados() {
+        return copiados.get();
+    }
+
+    /**
+     * Retorna la época de la última escritura sobre el bloque indicado, que
+     * cambia solo si hubo instantáneas desde la escritura anterior.
+     *
+     * @param bloque el número de bloque, no negativo.
+     * @return la época de su última escritura, o 0 si nunca fue escrito.
+     */
+    public int versionBloque(int bloque) {
+        cerrojo.lock();
+        try {
+            return bloque < escrituras.length ? escrituras[bloque] : 0;
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        cerrojo.lock();
+        try {
+            if (indice >= 0 && indice < largo()) {
+                preservar(indice, indice + 1);
+            }
+            super.modificar(indice, valor);
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificarRango(int desde, T[] valores) {
+        cerrojo.lock();
+        try {
+            Indexable.verificarRango(desde, desde + valores.length, largo());
+            preservar(desde, desde + valores.length);
+            super.modificarRango(desde, valores);
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rellenar(int desde, int hasta, T valor) {
+        cerrojo.lock();
+        try {
+            Indexable.verificarRango(desde, hasta, largo());
+            preservar(desde, hasta);
+            super.rellenar(desde, hasta, valor);
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void copiarDesde(Indexable<? extends T> origen, int desdeOrigen, int desde,
+                            int cantidad) {
+        cerrojo.lock();
+        try {
+            Indexable.verificarRango(desde, desde + cantidad, largo());
+            preservar(desde, desde + cantidad);
+            super.copiarDesde(origen, desdeOrigen, desde, cantidad);
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void agregar(T valor) {
+        cerrojo.lock();
+        try {
+            super.agregar(valor);
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void agregarTodos(Iterable<? extends T> valores) {
+        cerrojo.lock();
+        try {
+            super.agregarTodos(valores);
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Copia antes los bloques desde el índice hasta el final, porque todos
+     * cambian.
+     * </p>
+     */
+    @Override
+    public T remover(int indice) {
+        cerrojo.lock();
+        try {
+            int largo = largo();
+            if (indice >= 0 && indice < largo) {
+                preservar(indice, largo);
+            }
+            return super.remover(indice);
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Recorre una instantánea tomada al comenzar.
+     * </p>
+     */
+    @Override
+    public void visitar(Visitor<T> visitor) {
+        try (Instantanea<T> instantanea = instantanea()) {
+            instantanea.visitar(visitor);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Recorre en paralelo una instantánea tomada al comenzar.
+     * </p>
+     */
+    @Override
+    public <V extends VisitorCombinable<T, V>> void visitarEnParalelo(V visitor) {
+        try (Instantanea<T> instantanea = instantanea()) {
+            instantanea.visitarEnParalelo(visitor);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Recorre una instantánea tomada al crear el iterador, que se cierra al
+     * agotarlo; si el iterador se descarta antes, deja de recibir copias
+     * cuando el recolector de basura lo reclama.
+     * </p>
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return Spliterators.iterator(spliteratorPorIndice());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Recorre una instantánea tomada al crearlo, como {@link #iterator()}, y
+     * la cierra cuando todas sus partes terminan. Un flujo que corta antes,
+     * como {@code findFirst}, la deja abierta hasta que el recolector de
+     * basura la reclama.
+     * </p>
+     */
+    @Override
+    public Spliterator<T> spliteratorPorIndice() {
+        Instantanea<T> instantanea = instantanea();
+        Spliterator<T> partes = instantanea.spliteratorPorIndice();
+        long total = partes.getExactSizeIfKnown();
+        return new Recorrido<>(partes, instantanea, new AtomicLong(total), total);
+    }
+
+    /**
+     * Copia, para las instantáneas vivas que lo necesiten, los bloques que
+     * contienen las posiciones indicadas. Se llama con el cerrojo tomado,
+     * antes de escribirlas.
+     * <p>
+     * Termina con una barrera de liberación: las copias entregadas quedan
+     * ordenadas antes de la escritura que sigue, aunque la secuencia
+     * decorada la haga con un almacenamiento común. Es la mitad que
+     * corresponde a la barrera de adquisición de
+     * {@link Instantanea#obtener(int)}.
+     * </p>
+     *
+     * @param desde la primera posición a escribir.
+     * @param hasta la posición siguiente a la última a escribir.
+     */
+    private void preservar(int desde, int hasta) {
+        if (desde >= hasta) {
+            return;
+        }
+        int ultimo = (hasta - 1) >>> bits;
+        if (ultimo >= escrituras.length) {
+            escrituras = Arrays.copyOf(escrituras,
+                    Math.max(ultimo + 1, escrituras.length * 2));
+        }
+        for (int bloque = desde >>> bits; bloque <= ultimo; bloque++) {
+            if (escrituras[bloque] != epoca) {
+                preservarBloque(bloque);
+                escrituras[bloque] = epoca;
+            }
+        }
+        VarHandle.releaseFence();
+    }
+
+    /**
+     * Entrega una copia del bloque a cada instantánea viva que lo alcanza y
+     * todavía no lo tiene, y purga las instantáneas descartadas.
+     *
+     * @param bloque el número de bloque a copiar.
+     */
+    private void preservarBloque(int bloque) {
+        int inicio = bloque << bits;
+        Object[] copia = null;
+        Iterator<WeakReference<Instantanea<T>>> iterador = vivas.iterator();
+        while (iterador.hasNext()) {
+            Instantanea<T> instantanea = iterador.next().get();
+            if (instantanea == null || instantanea.cerrada) {
+                iterador.remove();
+            } else if (instantanea.largo > inicio
+                    && !instantanea.bloques.containsKey(bloque)) {
+                if (copia == null) {
+                    copia = copiarBloque(inicio);
+                }
+                instantanea.bloques.put(bloque, copia);
+            }
+        }
+    }
+
+    /**
+     * Copia el contenido actual del bloque que comienza en la posición
+     * indicada.
+     *
+     * @param inicio la primera posición del bloque.
+     * @return los elementos del bloque; las posiciones más allá del largo
+     * quedan en {@code null}.
+     */
+    private Object[] copiarBloque(int inicio) {
+        Object[] copia = new Object[porBloque()];
+        int fin = Math.min(inicio + copia.length, largo());
+        for (int i = inicio; i < fin; i++) {
+            copia[i - inicio] = obtener(i);
+        }
+        copiados.incrementAndGet();
+        return copia;
+    }
+
+    /**
+     * Quita una instantánea de las vivas.
+     *
+     * @param instantanea la instantánea cerrada.
+     */
+    private void liberar(Instantanea<T> instantanea) {
+        cerrojo.lock();
+        try {
+            vivas.removeIf(referencia -> {
+                Instantanea<T> viva = referencia.get();
+                return viva == null || viva == instantanea;
+            });
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    /**
+     * Spliterator sobre una instantánea que la cierra cuando se recorrieron
+     * todas sus partes.
+     * <p>
+     * Cada parte conoce cuántos elementos cubre; al terminar, los descuenta
+     * de un contador común, y la que lo lleva a cero cierra la instantánea.
+     * </p>
+     *
+     * @param <T> el tipo de los elementos recorridos.
+     */
+    private static final class Recorrido<T> implements Spliterator<T> {
+
+        /**
+         * Los elementos de esta parte, leídos de la instantánea.
+         */
+        private final Spliterator<T> partes;
+
+        /**
+         * La instantánea recorrida.
+         */
+        private final Instantanea<T> instantanea;
+
+        /**
+         * Elementos que todavía no terminó de recorrer ninguna parte.
+         */
+        private final AtomicLong pendientes;
+
+        /**
+         * Elementos que cubre esta parte y aún no descontó.
+         */
+        private long cubiertos;
+
+        /**
+         * Crea una parte del recorrido.
+         *
+         * @param elementos los elementos de la parte.
+         * @param recorrida la instantánea recorrida.
+         * @param comun     el contador común a todas las partes.
+         * @param cantidad  los elementos que cubre la parte.
+         */
+        Recorrido(Spliterator<T> elementos, Instantanea<T> recorrida, AtomicLong comun,
+                  long cantidad) {
+            this.partes = elementos;
+            this.instantanea = recorrida;
+            this.pendientes = comun;
+            this.cubiertos = cantidad;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> accion) {
+            if (partes.tryAdvance(accion)) {
+                return true;
+            }
+            terminar();
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> accion) {
+            partes.forEachRemaining(accion);
+            terminar();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<T> prefijo = partes.trySplit();
+            if (prefijo == null) {
+                return null;
+            }
+            long cantidad = prefijo.getExactSizeIfKnown();
+            cubiertos = cubiertos - cantidad;
+            return new Recorrido<>(prefijo, instantanea, pendientes, cantidad);
+        }
+
+        @Override
+        public long estimateSize() {
+            return partes.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return partes.characteristics();
+        }
+
+        /**
+         * Descuenta los elementos de esta parte y cierra la instantánea si
+         * era la última pendiente.
+         */
+        private void terminar() {
+            long restantes = pendientes.addAndGet(-cubiertos);
+            cubiertos = 0;
+            if (restantes == 0) {
+                instantanea.close();
+            }
+        }
+    }
+
+    /**
+     * Contenido de una {@link SecuenciaCopiaEnEscritura} en el momento en que
+     * fue tomada, de solo lectura.
+     * <p>
+     * Puede leerse desde cualquier hilo mientras otros escriben la secuencia.
+     * Sus operaciones de escritura lanzan
+     * {@link SecuenciaNoModificableException}, y después de {@link #close()}
+     * toda lectura lanza {@link SecuenciaCerradaException}.
+     * </p>
+     *
+     * @param <T> el tipo de los elementos contenidos.
+     */
+    public static final class Instantanea<T> implements Indexable<T>, Visitable<T>,
+            Iterable<T>, AutoCloseable {
+
+        /**
+         * Secuencia de la que fue tomada.
+         */
+        private final SecuenciaCopiaEnEscritura<T> origen;
+
+        /**
+         * Largo de la secuencia al tomarla.
+         */
+        private final int largo;
+
+        /**
+         * Bloques copiados antes de ser escritos, por número de bloque.
+         */
+        private final Map<Integer, Object[]> bloques = new ConcurrentHashMap<>();
+
+        /**
+         * Indica si fue cerrada.
+         */
+        private volatile boolean cerrada;
+
+        /**
+         * Crea la instantánea.
+         *
+         * @param secuencia la secuencia de origen.
+         * @param total     el largo actual de la secuencia.
+         */
+        private Instantanea(SecuenciaCopiaEnEscritura<T> secuencia, int total) {
+            this.origen = secuencia;
+            this.largo = total;
+        }
+
+        /**
+         * Retorna la cantidad de bloques que las escrituras copiaron para esta
+         * instantánea, una medida de su costo en memoria.
+         *
+         * @return los bloques copiados.
+         */
+        public int bloquesCopiados() {
+            return bloques.size();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @throws SecuenciaCerradaException si la instantánea fue cerrada.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public T obtener(int indice) {
+            if (cerrada) {
+                throw new SecuenciaCerradaException("La instantánea fue cerrada.");
+            }
+            if (indice < 0 || indice >= largo) {
+                throw new IndiceFueraDeRangoException(indice, largo);
+            }
+            int bloque = indice >>> origen.bits;
+            int posicion = indice & (origen.porBloque() - 1);
+            Object[] copia = bloques.get(bloque);
+            if (copia == null) {
+                // Como un seqlock: se lee la secuencia y se vuelve a buscar la
+                // copia. La barrera de adquisición impide que la segunda
+                // búsqueda se adelante a la lectura; si esta vio una escritura
+                // posterior a la instantánea, la búsqueda ve la copia que
+                // preservar entregó antes de su barrera de liberación.
+                try {
+                    T valor = origen.obtener(indice);
+                    VarHandle.acquireFence();
+                    copia = bloques.get(bloque);
+                    if (copia == null) {
+                        return valor;
+                    }
+                } catch (IndiceFueraDeRangoException e) {
+                    VarHandle.acquireFence();
+                    copia = bloques.get(bloque);
+                    if (copia == null) {
+                        throw e;
+                    }
+                }
+            }
+            return (T) copia[posicion];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int largo() {
+            return largo;
+        }
+
+        /**
+         * Siempre falla.
+         *
+         * @param indice no se usa.
+         * @param valor  no se usa.
+         * @throws SecuenciaNoModificableException siempre.
+         */
+        @Override
+        public void modificar(int indice, T valor) {
+            throw new SecuenciaNoModificableException();
+        }
+
+        /**
+         * Siempre falla.
+         *
+         * @param desde   no se usa.
+         * @param valores no se usa.
+         * @throws SecuenciaNoModificableException siempre.
+         */
+        @Override
+        public void modificarRango(int desde, T[] valores) {
+            throw new SecuenciaNoModificableException();
+        }
+
+        /**
+         * Siempre falla.
+         *
+         * @param desde no se usa.
+         * @param hasta no se usa.
+         * @param valor no se usa.
+         * @throws SecuenciaNoModificableException siempre.
+         */
+        @Override
+        public void rellenar(int desde, int hasta, T valor) {
+            throw new SecuenciaNoModificableException();
+        }
+
+        /**
+         * Siempre falla.
+         *
+         * @param fuente      no se usa.
+         * @param desdeOrigen no se usa.
+         * @param desde       no se usa.
+         * @param cantidad    no se usa.
+         * @throws SecuenciaNoModificableException siempre.
+         */
+        @Override
+        public void copiarDesde(Indexable<? extends T> fuente, int desdeOrigen, int desde,
+                                int cantidad) {
+            throw new SecuenciaNoModificableException();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void visitar(Visitor<T> visitor) {
+            for (T elemento : this) {
+                visitor.visita(elemento);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Divide el recorrido con {@link VisitaParalela}.
+         * </p>
+         */
+        @Override
+        public <V extends VisitorCombinable<T, V>> void visitarEnParalelo(V visitor) {
+            VisitaParalela.recorrer(this, visitor);
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Responde lo mismo que la secuencia de origen.
+         * </p>
+         */
+        @Override
+        public boolean admiteDivisionPorIndice() {
+            return origen.admiteDivisionPorIndice();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<>() {
+                /**
+                 * Posición del próximo elemento a retornar.
+                 */
+                private int actual;
+
+                @Override
+                public boolean hasNext() {
+                    return actual < largo;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    T elemento = obtener(actual);
+                    actual++;
+                    return elemento;
+                }
+            };
+        }
+
+        /**
+         * Libera la instantánea: las escrituras dejan de copiar bloques para
+         * ella. Cerrarla más de una vez no tiene efecto.
+         */
+        @Override
+        public void close() {
+            if (!cerrada) {
+                cerrada = true;
+                origen.liberar(this);
+                bloques.clear();
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            StringBuilder texto = new StringBuilder(getClass().getSimpleName())
+                    .append("={");
+            for (int i = 0; i < largo; i++) {
+                if (i > 0) {
+                    texto.append(',');
+                }
+                texto.append(obtener(i));
+            }
+            return texto.append("}:").append(largo).toString();
+        }
+    }
+}
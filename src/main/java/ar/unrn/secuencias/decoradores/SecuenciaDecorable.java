@@ -0,0 +1,196 @@
+package ar.unrn.secuencias.decoradores;
+
+import ar.unrn.secuencias.excepciones.SecuenciaNoModificableException;
+import ar.unrn.secuencias.interfaces.Expandable;
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.interfaces.Versionable;
+
+import java.util.Objects;
+
+/**
+ * Base de los decoradores de secuencias (patrón Decorador).
+ * <p>
+ * Delega todas las operaciones en la secuencia decorada; las subclases
+ * redefinen solo las que necesitan para agregar su comportamiento. Aunque
+ * implementa {@link Expandable}, {@link #agregar(Object)} y
+ * {@link #remover(int)} solo funcionan si la secuencia decorada también lo es.
+ * </p>
+ * <p>
+ * Las modificaciones hechas directamente sobre la secuencia decorada, sin
+ * pasar por el decorador, no son vistas por este; los decoradores que
+ * mantienen estado propio pueden quedar desactualizados.
+ * </p>
+ * <p>
+ * Las operaciones por rango y {@link #agregarTodos(Iterable)} también se
+ * delegan, para aprovechar la implementación de la secuencia decorada. Por
+ * eso, un decorador que redefine {@link #modificar(int, Object)} o
+ * {@link #agregar(Object)} debe redefinir también estas operaciones, para
+ * aplicar su comportamiento una vez por rango.
+ * </p>
+ * <p>
+ * La {@link #version()} es la de la secuencia decorada, si es
+ * {@link Versionable}, para que las vistas creadas sobre el decorador detecten
+ * sus modificaciones estructurales.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public abstract class SecuenciaDecorable<T> implements Expandable<T>, Versionable<T> {
+
+    /**
+     * Secuencia decorada.
+     */
+    private final Indexable<T> decorada;
+
+    /**
+     * Crea el decorador sobre la secuencia indicada.
+     *
+     * @param secuencia la secuencia a decorar.
+     * @throws NullPointerException si {@code secuencia} es {@code null}.
+     */
+    protected SecuenciaDecorable(Indexable<T> secuencia) {
+        this.decorada = Objects.requireNonNull(secuencia,
+                "La secuencia decorada no puede ser nula");
+    }
+
+    /**
+     * Retorna la secuencia decorada.
+     *
+     * @return la secuencia sobre la que opera este decorador.
+     */
+    protected Indexable<T> decorada() {
+        return decorada;
+    }
+
+    /**
+     * Retorna la secuencia decorada como {@link Expandable}.
+     *
+     * @return la secuencia decorada.
+     * @throws SecuenciaNoModificableException si la secuencia decorada no es
+     *                                         expandible.
+     */
+    private Expandable<T> expandible() {
+        if (decorada instanceof Expandable<T> expandible) {
+            return expandible;
+        }
+        throw new SecuenciaNoModificableException(
+                "La secuencia decorada no admite agregar ni remover elementos.");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        decorada.modificar(indice, valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T obtener(int indice) {
+        return decorada.obtener(indice);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int largo() {
+        return decorada.largo();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws SecuenciaNoModificableException si la secuencia decorada no es
+     *                                         expandible.
+     */
+    @Override
+    public void agregar(T valor) {
+        expandible().agregar(valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws SecuenciaNoModificableException si la secuencia decorada no es
+     *                                         expandible.
+     */
+    @Override
+    public T remover(int indice) {
+        return expandible().remover(indice);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificarRango(int desde, T[] valores) {
+        decorada.modificarRango(desde, valores);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rellenar(int desde, int hasta, T valor) {
+        decorada.rellenar(desde, hasta, valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Si el origen es este decorador, la secuencia decorada copia desde sí
+     * misma.
+     * </p>
+     */
+    @Override
+    public void copiarDesde(Indexable<? extends T> origen, int desdeOrigen, int desde,
+                            int cantidad) {
+        Indexable<? extends T> fuente = origen == this ? decorada : origen;
+        decorada.copiarDesde(fuente, desdeOrigen, desde, cantidad);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws SecuenciaNoModificableException si la secuencia decorada no es
+     *                                         expandible.
+     */
+    @Override
+    public void agregarTodos(Iterable<? extends T> valores) {
+        expandible().agregarTodos(valores);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Responde lo mismo que la secuencia decorada.
+     * </p>
+     */
+    @Override
+    public boolean admiteDivisionPorIndice() {
+        return decorada.admiteDivisionPorIndice();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return la versión de la secuencia decorada, o 0 si no es
+     * {@link Versionable}.
+     */
+    @Override
+    public int version() {
+        return decorada instanceof Versionable<T> versionable ? versionable.version() : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + decorada + "]";
+    }
+}
@@ -0,0 +1,634 @@
+package ar.unrn.secuencias.decoradores;
+
+import ar.unrn.secuencias.excepciones.ElementoInvalidoException;
+import ar.unrn.secuencias.excepciones.SecuenciaNoModificableException;
+import ar.unrn.secuencias.interfaces.Expandable;
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.interfaces.Observable;
+import ar.unrn.secuencias.interfaces.Observador;
+import ar.unrn.secuencias.interfaces.Validador;
+import ar.unrn.secuencias.interfaces.Versionable;
+import ar.unrn.secuencias.interfaces.Visitable;
+import ar.unrn.secuencias.interfaces.Visitor;
+import ar.unrn.secuencias.interfaces.VisitorCombinable;
+import ar.unrn.secuencias.observadores.SecuenciaObservable;
+import ar.unrn.secuencias.validadores.CadenaValidadores;
+import ar.unrn.secuencias.visitantes.VisitaParalela;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.UnaryOperator;
+
+/**
+ * Pila de decoradores fusionada en un único objeto.
+ * <p>
+ * Apilar decoradores ({@link SecuenciaRegistrada}, {@link SecuenciaSoloLectura},
+ * {@link SecuenciaValidada}, {@link SecuenciaObservable},
+ * {@link SecuenciaVisitable}) hace que cada {@code obtener} o {@code modificar}
+ * atraviese una llamada por capa, y como todas pasan por el mismo código de
+ * {@link SecuenciaDecorable}, esas llamadas ven muchos tipos distintos y la
+ * JVM no puede resolverlas ni expandirlas en línea. Esta clase aplica el
+ * comportamiento de toda la pila en el mismo método y llama una sola vez a la
+ * secuencia base, desde sitios de llamada propios.
+ * </p>
+ * <p>
+ * Se construye con {@link #sobre(Indexable)}, describiendo las capas en el
+ * mismo orden en que se apilarían, desde la más cercana a la base. Los
+ * valores se validan con una {@link CadenaValidadores} de los validadores en
+ * orden (con los mismos mensajes que {@link SecuenciaValidada}), se registran
+ * con el formato de {@link SecuenciaRegistrada} y se notifican como en
+ * {@link SecuenciaObservable}, respetando el orden de las capas como en la
+ * pila: las validadas descritas después de una de solo lectura rechazan un
+ * valor inválido antes de que esta rechace la escritura, y las descritas antes
+ * nunca llegan a ejecutarse; las registradas descritas antes de la observable
+ * escriben antes de notificar, y las descritas después, al final.
+ * {@link Descripcion#apilar()} construye la pila equivalente con los
+ * decoradores reales.
+ * </p>
+ * <p>
+ * La secuencia fusionada tiene una sola lista de observadores, que equivale a
+ * la de la capa observable más externa, la que se alcanza desde fuera de la
+ * pila. Si se describen varias capas observables, las interiores no tienen
+ * equivalente: en la pila solo notifican a quien se suscriba recorriendo las
+ * capas con {@link SecuenciaDecorable#decorada()}.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class SecuenciaFusionada<T> implements Expandable<T>, Versionable<T>,
+        Observable<T>, Visitable<T>, Iterable<T> {
+
+    /**
+     * Secuencia base.
+     */
+    private final Indexable<T> base;
+
+    /**
+     * Indica si las escrituras se rechazan.
+     */
+    private final boolean soloLectura;
+
+    /**
+     * Validadores de las capas validadas por encima de toda capa de solo
+     * lectura, en orden, o {@code null} si no hay.
+     */
+    private final CadenaValidadores<T> validadores;
+
+    /**
+     * Salidas del registro, una por capa registrada.
+     */
+    private final PrintStream[] salidas;
+
+    /**
+     * Observadores suscritos a la capa observable más externa, o {@code null}
+     * si no hay capa observable.
+     */
+    private final CopyOnWriteArrayList<Observador<T>> observadores;
+
+    /**
+     * Cantidad de salidas del registro cuyas capas están por debajo de la
+     * observable más externa; las demás escriben después de notificar.
+     */
+    private final int previas;
+
+    /**
+     * Crea la secuencia fusionada a partir de su descripción.
+     *
+     * @param descripcion las capas a fusionar.
+     */
+    private SecuenciaFusionada(Descripcion<T> descripcion) {
+        this.base = descripcion.base;
+        this.soloLectura = descripcion.soloLectura;
+        this.validadores = descripcion.validadores.isEmpty()
+                ? null : new CadenaValidadores<>(descripcion.validadores);
+        this.salidas = descripcion.salidas.toArray(new PrintStream[0]);
+        this.observadores = descripcion.observable ? new CopyOnWriteArrayList<>() : null;
+        this.previas = descripcion.observable ? descripcion.registradasAntes : 0;
+    }
+
+    /**
+     * Comienza la descripción de una pila de decoradores sobre la secuencia
+     * indicada.
+     *
+     * @param secuencia la secuencia base.
+     * @param <T>       el tipo de los elementos.
+     * @return una descripción sin capas.
+     * @throws NullPointerException si {@code secuencia} es {@code null}.
+     */
+    public static <T> Descripcion<T> sobre(Indexable<T> secuencia) {
+        return new Descripcion<>(secuencia);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T obtener(int indice) {
+        return base.obtener(indice);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int largo() {
+        return base.largo();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        validar(valor, indice);
+        verificarEscritura();
+        T anterior = salidas.length > 0 ? base.obtener(indice) : null;
+        base.modificar(indice, valor);
+        String linea = "modificar[" + indice + "]: " + anterior + " -> " + valor;
+        registrarAntes(linea);
+        notificarObservadores(indice);
+        registrarDespues(linea);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void agregar(T valor) {
+        validar(valor, base.largo());
+        verificarEscritura();
+        expandible().agregar(valor);
+        String linea = "agregar[" + (base.largo() - 1) + "]: " + valor;
+        registrarAntes(linea);
+        notificarObservadores(base.largo() - 1);
+        registrarDespues(linea);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T remover(int indice) {
+        verificarEscritura();
+        T removido = expandible().remover(indice);
+        String linea = "remover[" + indice + "]: " + removido;
+        registrarAntes(linea);
+        notificarRango(indice, base.largo());
+        registrarDespues(linea);
+        return removido;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificarRango(int desde, T[] valores) {
+        if (validadores != null) {
+            Indexable.verificarRango(desde, desde + valores.length, base.largo());
+            validadores.validarLote(Arrays.asList(valores), desde);
+        }
+        verificarEscritura();
+        base.modificarRango(desde, valores);
+        String linea = "modificarRango[" + desde + ", " + (desde + valores.length) + ")";
+        registrarAntes(linea);
+        notificarRango(desde, desde + valores.length);
+        registrarDespues(linea);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rellenar(int desde, int hasta, T valor) {
+        if (validadores != null) {
+            Indexable.verificarRango(desde, hasta, base.largo());
+            if (desde < hasta) {
+                validar(valor, desde);
+            }
+        }
+        verificarEscritura();
+        base.rellenar(desde, hasta, valor);
+        String linea = "rellenar[" + desde + ", " + hasta + "): " + valor;
+        registrarAntes(linea);
+        notificarRango(desde, hasta);
+        registrarDespues(linea);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void copiarDesde(Indexable<? extends T> origen, int desdeOrigen, int desde,
+                            int cantidad) {
+        Indexable<? extends T> fuente = origen == this ? base : origen;
+        if (validadores != null) {
+            Indexable.verificarRango(desdeOrigen, desdeOrigen + cantidad, fuente.largo());
+            Indexable.verificarRango(desde, desde + cantidad, base.largo());
+            List<T> copiados = new ArrayList<>(cantidad);
+            for (int i = 0; i < cantidad; i++) {
+                copiados.add(fuente.obtener(desdeOrigen + i));
+            }
+            validadores.validarLote(copiados, desde);
+        }
+        verificarEscritura();
+        base.copiarDesde(fuente, desdeOrigen, desde, cantidad);
+        String linea = "copiarDesde[" + desde + ", " + (desde + cantidad) + ")";
+        registrarAntes(linea);
+        notificarRango(desde, desde + cantidad);
+        registrarDespues(linea);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void agregarTodos(Iterable<? extends T> valores) {
+        int anterior = base.largo();
+        Iterable<? extends T> aceptados = valores;
+        if (validadores != null) {
+            List<T> copia = new ArrayList<>();
+            for (T valor : valores) {
+                copia.add(valor);
+            }
+            validadores.validarLote(copia, anterior);
+            aceptados = copia;
+        }
+        verificarEscritura();
+        expandible().agregarTodos(aceptados);
+        String linea = "agregarTodos[" + anterior + ", " + base.largo() + ")";
+        registrarAntes(linea);
+        notificarRango(anterior, base.largo());
+        registrarDespues(linea);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return la versión de la secuencia base, o 0 si no es {@link Versionable}.
+     */
+    @Override
+    public int version() {
+        return base instanceof Versionable<T> versionable ? versionable.version() : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException si la pila no tiene una capa observable.
+     */
+    @Override
+    public void addObserver(Observador<T> observador) {
+        suscriptos().addIfAbsent(Objects.requireNonNull(observador,
+                "El observador no puede ser nulo"));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException si la pila no tiene una capa observable.
+     */
+    @Override
+    public void removeObserver(Observador<T> observador) {
+        suscriptos().remove(observador);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notificarObservadores(int indice) {
+        if (observadores != null) {
+            for (Observador<T> observador : observadores) {
+                observador.actualizar(this, indice);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void visitar(Visitor<T> visitor) {
+        int largo = base.largo();
+        for (int i = 0; i < largo; i++) {
+            visitor.visita(base.obtener(i));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Divide el recorrido con {@link VisitaParalela}.
+     * </p>
+     */
+    @Override
+    public <V extends VisitorCombinable<T, V>> void visitarEnParalelo(V visitor) {
+        VisitaParalela.recorrer(base, visitor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Responde lo mismo que la secuencia base.
+     * </p>
+     */
+    @Override
+    public boolean admiteDivisionPorIndice() {
+        return base.admiteDivisionPorIndice();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            /**
+             * Posición del próximo elemento a retornar.
+             */
+            private int actual;
+
+            @Override
+            public boolean hasNext() {
+                return actual < base.largo();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T elemento = base.obtener(actual);
+                actual++;
+                return elemento;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + base + "]";
+    }
+
+    /**
+     * Rechaza la escritura si la pila tiene una capa de solo lectura.
+     *
+     * @throws SecuenciaNoModificableException si es de solo lectura.
+     */
+    private void verificarEscritura() {
+        if (soloLectura) {
+            throw new SecuenciaNoModificableException();
+        }
+    }
+
+    /**
+     * Aplica todos los validadores al valor.
+     *
+     * @param valor  el valor a validar.
+     * @param indice la posición que ocuparía, para el mensaje.
+     * @throws ElementoInvalidoException si algún validador lo rechaza.
+     */
+    private void validar(T valor, int indice) {
+        if (validadores != null && !validadores.esValido(valor)) {
+            throw new ElementoInvalidoException(String.format(
+                    "El elemento %s en la posición %d no es válido.", valor, indice));
+        }
+    }
+
+    /**
+     * Escribe la línea en las salidas de las capas registradas que están por
+     * debajo de la observable, que en la pila escriben antes de notificar.
+     *
+     * @param linea la descripción de la operación.
+     */
+    private void registrarAntes(String linea) {
+        for (int i = 0; i < previas; i++) {
+            salidas[i].println(linea);
+        }
+    }
+
+    /**
+     * Escribe la línea en las salidas de las capas registradas que están por
+     * encima de la observable, o en todas si no hay capa observable.
+     *
+     * @param linea la descripción de la operación.
+     */
+    private void registrarDespues(String linea) {
+        for (int i = previas; i < salidas.length; i++) {
+            salidas[i].println(linea);
+        }
+    }
+
+    /**
+     * Notifica a los observadores un cambio en el rango {@code [desde, hasta)}.
+     *
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     */
+    private void notificarRango(int desde, int hasta) {
+        if (observadores != null && desde < hasta) {
+            for (Observador<T> observador : observadores) {
+                observador.actualizarRango(this, desde, hasta);
+            }
+        }
+    }
+
+    /**
+     * Retorna la lista de observadores.
+     *
+     * @return los observadores suscritos.
+     * @throws IllegalStateException si la pila no tiene una capa observable.
+     */
+    private CopyOnWriteArrayList<Observador<T>> suscriptos() {
+        if (observadores == null) {
+            throw new IllegalStateException("La pila descrita no es observable.");
+        }
+        return observadores;
+    }
+
+    /**
+     * Retorna la secuencia base como {@link Expandable}.
+     *
+     * @return la secuencia base.
+     * @throws SecuenciaNoModificableException si no es expandible.
+     */
+    private Expandable<T> expandible() {
+        if (base instanceof Expandable<T> expandible) {
+            return expandible;
+        }
+        throw new SecuenciaNoModificableException(
+                "La secuencia decorada no admite agregar ni remover elementos.");
+    }
+
+    /**
+     * Descripción de una pila de decoradores, de la capa más cercana a la base
+     * a la más externa.
+     *
+     * @param <T> el tipo de los elementos.
+     */
+    public static final class Descripcion<T> {
+
+        /**
+         * Secuencia base.
+         */
+        private final Indexable<T> base;
+
+        /**
+         * Constructores de cada capa, para {@link #apilar()}.
+         */
+        private final List<UnaryOperator<Indexable<T>>> capas = new ArrayList<>();
+
+        /**
+         * Validadores de las capas validadas que están por encima de toda capa
+         * de solo lectura, en orden; los de abajo nunca llegan a ejecutarse.
+         */
+        private final List<Validador<? super T>> validadores = new ArrayList<>();
+
+        /**
+         * Salidas de las capas registradas.
+         */
+        private final List<PrintStream> salidas = new ArrayList<>();
+
+        /**
+         * Indica si hay una capa de solo lectura.
+         */
+        private boolean soloLectura;
+
+        /**
+         * Indica si hay una capa observable.
+         */
+        private boolean observable;
+
+        /**
+         * Cantidad de capas registradas agregadas antes de la última capa
+         * observable.
+         */
+        private int registradasAntes;
+
+        /**
+         * Crea una descripción sin capas.
+         *
+         * @param secuencia la secuencia base.
+         */
+        private Descripcion(Indexable<T> secuencia) {
+            this.base = Objects.requireNonNull(secuencia,
+                    "La secuencia decorada no puede ser nula");
+        }
+
+        /**
+         * Agrega una capa que registra las operaciones en la salida estándar.
+         *
+         * @return esta descripción.
+         */
+        public Descripcion<T> registrada() {
+            return registrada(System.out);
+        }
+
+        /**
+         * Agrega una capa que registra las operaciones en la salida indicada.
+         *
+         * @param destino la salida del registro.
+         * @return esta descripción.
+         */
+        public Descripcion<T> registrada(PrintStream destino) {
+            Objects.requireNonNull(destino, "La salida no puede ser nula");
+            salidas.add(destino);
+            capas.add(secuencia -> new SecuenciaRegistrada<>(secuencia, destino));
+            return this;
+        }
+
+        /**
+         * Agrega una capa que rechaza todas las escrituras.
+         *
+         * @return esta descripción.
+         */
+        public Descripcion<T> soloLectura() {
+            soloLectura = true;
+            validadores.clear();
+            capas.add(SecuenciaSoloLectura::new);
+            return this;
+        }
+
+        /**
+         * Agrega una capa que valida los valores escritos.
+         *
+         * @param regla el validador.
+         * @return esta descripción.
+         */
+        public Descripcion<T> validada(Validador<? super T> regla) {
+            Objects.requireNonNull(regla, "El validador no puede ser nulo");
+            validadores.add(regla);
+            capas.add(secuencia -> new SecuenciaValidada<>(secuencia, regla));
+            return this;
+        }
+
+        /**
+         * Agrega una capa que notifica las escrituras a observadores.
+         *
+         * @return esta descripción.
+         */
+        public Descripcion<T> observable() {
+            registradasAntes = salidas.size();
+            observable = true;
+            capas.add(SecuenciaObservable::new);
+            return this;
+        }
+
+        /**
+         * Agrega una capa visitable. La secuencia fusionada siempre lo es, por
+         * lo que solo afecta a {@link #apilar()}.
+         *
+         * @return esta descripción.
+         */
+        public Descripcion<T> visitable() {
+            capas.add(SecuenciaVisitable::new);
+            return this;
+        }
+
+        /**
+         * Construye la secuencia fusionada equivalente a la pila descrita.
+         * <p>
+         * Los validadores con estado, como
+         * {@link ar.unrn.secuencias.validadores.ValidadorUnicidad}, necesitan
+         * que se les informe cada valor que entra o sale; eso lo hace
+         * {@link SecuenciaValidada}, por lo que con ellos debe usarse
+         * {@link #apilar()}.
+         * </p>
+         *
+         * @return la secuencia fusionada.
+         * @throws IllegalStateException si algún validador tiene estado.
+         */
+        public SecuenciaFusionada<T> fusionar() {
+            for (Validador<? super T> validador : validadores) {
+                if (validador.conEstado()) {
+                    throw new IllegalStateException(
+                            "Los validadores con estado requieren apilar().");
+                }
+            }
+            return new SecuenciaFusionada<>(this);
+        }
+
+        /**
+         * Construye la pila descrita con los decoradores reales, uno sobre
+         * otro.
+         *
+         * @return la capa más externa, o la base si no hay capas.
+         */
+        public Indexable<T> apilar() {
+            Indexable<T> secuencia = base;
+            for (UnaryOperator<Indexable<T>> capa : capas) {
+                secuencia = capa.apply(secuencia);
+            }
+            return secuencia;
+        }
+    }
+}
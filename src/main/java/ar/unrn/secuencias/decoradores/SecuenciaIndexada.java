@@ -0,0 +1,388 @@
+package ar.unrn.secuencias.decoradores;
+
+import ar.unrn.secuencias.interfaces.Buscable;
+import ar.unrn.secuencias.interfaces.Indexable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Decorador que responde las búsquedas de {@link Buscable} con un índice hash.
+ * <p>
+ * Cada posición recibe, al indexarse, un número de ranura que no cambia
+ * mientras el elemento siga en la secuencia; como los elementos solo se
+ * agregan al final, el orden de las ranuras es el de las posiciones. Para
+ * cada elemento distinto se guardan sus ranuras en un arreglo de enteros
+ * ordenado, y un árbol de Fenwick sobre las ranuras cuenta las que siguen
+ * ocupadas, de modo que la posición actual de una ranura es la cantidad de
+ * ranuras ocupadas que la preceden.
+ * </p>
+ * <p>
+ * {@link #contiene(Object)} es O(1) en promedio; {@link #indiceDe(Object)} y
+ * {@link #ultimoIndiceDe(Object)} son O(1) mientras no se haya removido nada
+ * antes del final, y O(log n) en otro caso. {@link #modificar(int, Object)},
+ * {@link #agregar(Object)} y {@link #remover(int)} actualizan el índice en
+ * O(log n + k), siendo k la cantidad de apariciones del elemento afectado;
+ * las operaciones por rango lo actualizan posición por posición. Cuando las
+ * ranuras se agotan se renumeran todas y se reservan el doble de las
+ * ocupadas, en O(n) amortizado sobre las altas que lo provocaron.
+ * </p>
+ * <p>
+ * Se admiten elementos {@code null}. La igualdad es la de {@code equals} y
+ * {@code hashCode}: los elementos no deben cambiar su {@code hashCode} mientras
+ * estén en la secuencia, y las modificaciones deben hacerse a través del
+ * decorador.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class SecuenciaIndexada<T> extends SecuenciaDecorable<T>
+        implements Buscable<T> {
+
+    /**
+     * Cantidad mínima de ranuras que se reservan al renumerar.
+     */
+    private static final int RANURAS_MINIMAS = 16;
+
+    /**
+     * Ranuras de cada elemento, en orden ascendente.
+     */
+    private final Map<T, Ranuras> posiciones = new HashMap<>();
+
+    /**
+     * Árbol de Fenwick, con base uno, que marca las ranuras ocupadas.
+     */
+    private int[] ocupadas;
+
+    /**
+     * Próxima ranura a asignar; las anteriores fueron asignadas alguna vez.
+     */
+    private int siguiente;
+
+    /**
+     * Crea el decorador e indexa el contenido actual de la secuencia.
+     *
+     * @param secuencia la secuencia a decorar.
+     */
+    public SecuenciaIndexada(Indexable<T> secuencia) {
+        super(secuencia);
+        renumerar();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        T anterior = obtener(indice);
+        super.modificar(indice, valor);
+        int ranura = ranuraDe(indice);
+        quitar(anterior, ranura);
+        poner(valor, ranura);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void agregar(T valor) {
+        super.agregar(valor);
+        indexarAgregados(largo() - 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T remover(int indice) {
+        T removido = super.remover(indice);
+        int ranura = ranuraDe(indice);
+        marcar(ranura, -1);
+        quitar(removido, ranura);
+        return removido;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificarRango(int desde, T[] valores) {
+        Indexable.verificarRango(desde, desde + valores.length, largo());
+        Object[] anteriores = copiarRango(desde, valores.length);
+        super.modificarRango(desde, valores);
+        reindexar(desde, anteriores);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rellenar(int desde, int hasta, T valor) {
+        Indexable.verificarRango(desde, hasta, largo());
+        Object[] anteriores = copiarRango(desde, hasta - desde);
+        super.rellenar(desde, hasta, valor);
+        reindexar(desde, anteriores);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void copiarDesde(Indexable<? extends T> origen, int desdeOrigen, int desde,
+                            int cantidad) {
+        Indexable.verificarRango(desde, desde + cantidad, largo());
+        Object[] anteriores = copiarRango(desde, cantidad);
+        super.copiarDesde(origen, desdeOrigen, desde, cantidad);
+        reindexar(desde, anteriores);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void agregarTodos(Iterable<? extends T> valores) {
+        int anterior = largo();
+        super.agregarTodos(valores);
+        indexarAgregados(anterior);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contiene(T elemento) {
+        return posiciones.containsKey(elemento);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int indiceDe(T elemento) {
+        Ranuras encontradas = posiciones.get(elemento);
+        return encontradas == null ? -1 : posicionDe(encontradas.primera());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int ultimoIndiceDe(T elemento) {
+        Ranuras encontradas = posiciones.get(elemento);
+        return encontradas == null ? -1 : posicionDe(encontradas.ultima());
+    }
+
+    /**
+     * Indexa los elementos recién agregados al final, a partir de la posición
+     * dada, renumerando todo si no quedan ranuras para ellos.
+     *
+     * @param desde la posición del primer elemento agregado.
+     */
+    private void indexarAgregados(int desde) {
+        if (siguiente + largo() - desde > ocupadas.length - 1) {
+            renumerar();
+            return;
+        }
+        for (int i = desde; i < largo(); i++) {
+            marcar(siguiente, 1);
+            poner(obtener(i), siguiente);
+            siguiente = siguiente + 1;
+        }
+    }
+
+    /**
+     * Copia los elementos de un rango antes de que se reemplacen.
+     *
+     * @param desde    el inicio del rango.
+     * @param cantidad la cantidad de elementos.
+     * @return los elementos del rango.
+     */
+    private Object[] copiarRango(int desde, int cantidad) {
+        Object[] copia = new Object[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            copia[i] = obtener(desde + i);
+        }
+        return copia;
+    }
+
+    /**
+     * Actualiza el índice de un rango cuyos elementos acaban de reemplazarse.
+     *
+     * @param desde      el inicio del rango.
+     * @param anteriores los elementos que tenía el rango antes del reemplazo.
+     */
+    @SuppressWarnings("unchecked")
+    private void reindexar(int desde, Object[] anteriores) {
+        for (int i = 0; i < anteriores.length; i++) {
+            T actual = obtener(desde + i);
+            if (!Objects.equals(actual, anteriores[i])) {
+                int ranura = ranuraDe(desde + i);
+                quitar((T) anteriores[i], ranura);
+                poner(actual, ranura);
+            }
+        }
+    }
+
+    /**
+     * Asigna a cada posición la ranura de igual número y vuelve a indexar todo
+     * el contenido, dejando libre al menos otra tanta cantidad de ranuras.
+     */
+    private void renumerar() {
+        int largo = largo();
+        int capacidad = Math.max(RANURAS_MINIMAS, largo * 2);
+        ocupadas = new int[capacidad + 1];
+        for (int i = 1; i <= largo; i++) {
+            ocupadas[i] = 1;
+        }
+        for (int i = 1; i <= capacidad; i++) {
+            int padre = i + (i & -i);
+            if (padre <= capacidad) {
+                ocupadas[padre] = ocupadas[padre] + ocupadas[i];
+            }
+        }
+        siguiente = largo;
+        posiciones.clear();
+        for (int i = 0; i < largo; i++) {
+            poner(obtener(i), i);
+        }
+    }
+
+    /**
+     * Marca una ranura como ocupada o libre.
+     *
+     * @param ranura la ranura.
+     * @param delta  {@code 1} al ocuparla, {@code -1} al liberarla.
+     */
+    private void marcar(int ranura, int delta) {
+        for (int i = ranura + 1; i < ocupadas.length; i = i + (i & -i)) {
+            ocupadas[i] = ocupadas[i] + delta;
+        }
+    }
+
+    /**
+     * Retorna la posición actual de una ranura ocupada.
+     *
+     * @param ranura la ranura.
+     * @return la cantidad de ranuras ocupadas que la preceden.
+     */
+    private int posicionDe(int ranura) {
+        if (siguiente == largo()) {
+            return ranura;
+        }
+        int posicion = 0;
+        for (int i = ranura; i > 0; i = i - (i & -i)) {
+            posicion = posicion + ocupadas[i];
+        }
+        return posicion;
+    }
+
+    /**
+     * Retorna la ranura que ocupa una posición.
+     *
+     * @param indice la posición, que debe ser válida.
+     * @return la ranura ocupada número {@code indice}, contando desde cero.
+     */
+    private int ranuraDe(int indice) {
+        if (siguiente == largo()) {
+            return indice;
+        }
+        int ranura = 0;
+        int restantes = indice + 1;
+        for (int paso = Integer.highestOneBit(ocupadas.length - 1); paso > 0;
+             paso = paso >>> 1) {
+            int siguienteNodo = ranura + paso;
+            if (siguienteNodo < ocupadas.length && ocupadas[siguienteNodo] < restantes) {
+                ranura = siguienteNodo;
+                restantes = restantes - ocupadas[siguienteNodo];
+            }
+        }
+        return ranura;
+    }
+
+    /**
+     * Registra una aparición del elemento.
+     *
+     * @param elemento el elemento.
+     * @param ranura   la ranura de su posición.
+     */
+    private void poner(T elemento, int ranura) {
+        posiciones.computeIfAbsent(elemento, clave -> new Ranuras()).agregar(ranura);
+    }
+
+    /**
+     * Quita una aparición del elemento, y al elemento si era la única.
+     *
+     * @param elemento el elemento.
+     * @param ranura   la ranura de la posición a quitar.
+     */
+    private void quitar(T elemento, int ranura) {
+        Ranuras encontradas = posiciones.get(elemento);
+        encontradas.quitar(ranura);
+        if (encontradas.cantidad == 0) {
+            posiciones.remove(elemento);
+        }
+    }
+
+    /**
+     * Conjunto ordenado de ranuras guardado en un arreglo de enteros.
+     */
+    private static final class Ranuras {
+
+        /**
+         * Las ranuras, en orden ascendente en {@code [0, cantidad)}.
+         */
+        private int[] valores = new int[1];
+
+        /**
+         * Cantidad de ranuras guardadas.
+         */
+        private int cantidad;
+
+        /**
+         * Retorna la menor ranura.
+         *
+         * @return la primera ranura.
+         */
+        int primera() {
+            return valores[0];
+        }
+
+        /**
+         * Retorna la mayor ranura.
+         *
+         * @return la última ranura.
+         */
+        int ultima() {
+            return valores[cantidad - 1];
+        }
+
+        /**
+         * Agrega una ranura que no estaba; agregar al final es O(1) amortizado.
+         *
+         * @param ranura la ranura.
+         */
+        void agregar(int ranura) {
+            if (cantidad == valores.length) {
+                valores = Arrays.copyOf(valores, cantidad * 2);
+            }
+            int lugar = cantidad == 0 || valores[cantidad - 1] < ranura ? cantidad
+                    : -Arrays.binarySearch(valores, 0, cantidad, ranura) - 1;
+            System.arraycopy(valores, lugar, valores, lugar + 1, cantidad - lugar);
+            valores[lugar] = ranura;
+            cantidad = cantidad + 1;
+        }
+
+        /**
+         * Quita una ranura guardada.
+         *
+         * @param ranura la ranura.
+         */
+        void quitar(int ranura) {
+            int lugar = Arrays.binarySearch(valores, 0, cantidad, ranura);
+            cantidad = cantidad - 1;
+            System.arraycopy(valores, lugar + 1, valores, lugar, cantidad - lugar);
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package ar.unrn.secuencias.decoradores;
+
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.interfaces.Buscable;
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.interfaces.Invertible;
+import ar.unrn.secuencias.interfaces.Subdivisible;
+import ar.unrn.secuencias.vistas.VistaSecuencia;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Decorador que invierte la secuencia en O(1), sin mover sus elementos.
+ * <p>
+ * {@link #invertir()} solo cambia el sentido de recorrido: mientras la
+ * secuencia está invertida, la posición lógica {@code i} corresponde a la
+ * posición {@code largo() - 1 - i} de la secuencia decorada. Todas las
+ * operaciones, incluidas las búsquedas, la iteración y las sub-secuencias,
+ * usan las posiciones lógicas. La inversión solo se aplica a la secuencia
+ * decorada al llamar a {@link #materializar()}.
+ * </p>
+ * <p>
+ * Remover funciona en cualquier sentido. Agregar al final lógico de una
+ * secuencia invertida equivale a insertar al principio de la decorada, por lo
+ * que primero se materializa la inversión, en O(n).
+ * </p>
+ * <p>
+ * Cambiar el sentido cambia la {@link #version()}, ya que reordena los
+ * elementos: las vistas creadas antes de invertir dejan de ser válidas.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class SecuenciaInvertible<T> extends SecuenciaDecorable<T>
+        implements Invertible<T>, Buscable<T>, Subdivisible<T>, Iterable<T> {
+
+    /**
+     * Indica si el sentido lógico es el inverso al de la secuencia decorada.
+     */
+    private boolean invertida;
+
+    /**
+     * Cantidad de cambios de sentido.
+     */
+    private int inversiones;
+
+    /**
+     * Crea el decorador sobre la secuencia indicada, sin invertir.
+     *
+     * @param secuencia la secuencia a decorar.
+     */
+    public SecuenciaInvertible(Indexable<T> secuencia) {
+        super(secuencia);
+    }
+
+    /**
+     * Invierte el orden lógico de los elementos, en O(1).
+     */
+    @Override
+    public void invertir() {
+        invertida = !invertida;
+        inversiones++;
+    }
+
+    /**
+     * Indica si el orden lógico es el inverso al de la secuencia decorada.
+     *
+     * @return {@code true} si hay una inversión sin materializar.
+     */
+    public boolean estaInvertida() {
+        return invertida;
+    }
+
+    /**
+     * Aplica la inversión pendiente a la secuencia decorada, en O(n). El orden
+     * lógico no cambia.
+     * <p>
+     * Escribe los elementos invertidos con un único
+     * {@link Indexable#modificarRango(int, Object[])}: la secuencia decorada
+     * nunca pasa por un estado intermedio con valores repetidos, que una
+     * validación de unicidad rechazaría.
+     * </p>
+     */
+    @SuppressWarnings("unchecked")
+    public void materializar() {
+        if (!invertida) {
+            return;
+        }
+        Indexable<T> decorada = decorada();
+        int cantidad = decorada.largo();
+        Object[] invertidos = new Object[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            invertidos[cantidad - 1 - i] = decorada.obtener(i);
+        }
+        decorada.modificarRango(0, (T[]) invertidos);
+        invertida = false;
+    }
+
+    /**
+     * Traduce una posición lógica a la de la secuencia decorada.
+     *
+     * @param indice la posición lógica.
+     * @return la posición en la secuencia decorada.
+     * @throws IndiceFueraDeRangoException si la secuencia está invertida y el
+     *                                     índice está fuera de rango.
+     */
+    private int fisico(int indice) {
+        if (!invertida) {
+            return indice;
+        }
+        if (indice < 0 || indice >= largo()) {
+            throw new IndiceFueraDeRangoException(indice, largo());
+        }
+        return largo() - 1 - indice;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T obtener(int indice) {
+        return super.obtener(fisico(indice));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        super.modificar(fisico(indice), valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Si la secuencia está invertida, primero se materializa la inversión.
+     * </p>
+     */
+    @Override
+    public void agregar(T valor) {
+        materializar();
+        super.agregar(valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T remover(int indice) {
+        return super.remover(fisico(indice));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Invertida, los valores se escriben en orden inverso sobre el rango
+     * correspondiente de la secuencia decorada, con una única operación.
+     * </p>
+     */
+    @Override
+    public void modificarRango(int desde, T[] valores) {
+        if (!invertida) {
+            super.modificarRango(desde, valores);
+            return;
+        }
+        Indexable.verificarRango(desde, desde + valores.length, largo());
+        T[] invertidos = Arrays.copyOf(valores, valores.length);
+        int ultimo = invertidos.length - 1;
+        for (int i = 0; i < ultimo - i; i++) {
+            int j = ultimo - i;
+            T temporal = invertidos[i];
+            invertidos[i] = invertidos[j];
+            invertidos[j] = temporal;
+        }
+        super.modificarRango(largo() - desde - valores.length, invertidos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rellenar(int desde, int hasta, T valor) {
+        if (!invertida) {
+            super.rellenar(desde, hasta, valor);
+            return;
+        }
+        Indexable.verificarRango(desde, hasta, largo());
+        super.rellenar(largo() - hasta, largo() - desde, valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Invertida, los elementos se leen primero a un espacio auxiliar, y luego
+     * se escriben con {@link #modificarRango(int, Object[])}.
+     * </p>
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void copiarDesde(Indexable<? extends T> origen, int desdeOrigen, int desde,
+                            int cantidad) {
+        if (!invertida) {
+            super.copiarDesde(origen, desdeOrigen, desde, cantidad);
+            return;
+        }
+        Indexable.verificarRango(desdeOrigen, desdeOrigen + cantidad, origen.largo());
+        Indexable.verificarRango(desde, desde + cantidad, largo());
+        T[] copia = (T[]) new Object[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            copia[i] = origen.obtener(desdeOrigen + i);
+        }
+        modificarRango(desde, copia);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Si la secuencia está invertida, primero se materializa la inversión.
+     * </p>
+     */
+    @Override
+    public void agregarTodos(Iterable<? extends T> valores) {
+        materializar();
+        super.agregarTodos(valores);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contiene(T elemento) {
+        return indiceDe(elemento) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Si la secuencia decorada es {@link Buscable}, se delega en ella; estando
+     * invertida, la primera aparición lógica es su última aparición.
+     * </p>
+     */
+    @Override
+    public int indiceDe(T elemento) {
+        if (decorada() instanceof Buscable<T> buscable) {
+            return logico(invertida ? buscable.ultimoIndiceDe(elemento)
+                    : buscable.indiceDe(elemento));
+        }
+        for (int i = 0; i < largo(); i++) {
+            if (Objects.equals(elemento, obtener(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Si la secuencia decorada es {@link Buscable}, se delega en ella; estando
+     * invertida, la última aparición lógica es su primera aparición.
+     * </p>
+     */
+    @Override
+    public int ultimoIndiceDe(T elemento) {
+        if (decorada() instanceof Buscable<T> buscable) {
+            return logico(invertida ? buscable.indiceDe(elemento)
+                    : buscable.ultimoIndiceDe(elemento));
+        }
+        for (int i = largo() - 1; i >= 0; i--) {
+            if (Objects.equals(elemento, obtener(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Traduce una posición de la secuencia decorada a la posición lógica,
+     * conservando -1 como "no encontrado".
+     *
+     * @param indice la posición en la secuencia decorada, o -1.
+     * @return la posición lógica, o -1.
+     */
+    private int logico(int indice) {
+        return indice < 0 ? -1 : fisico(indice);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Retorna una vista en posiciones lógicas, válida hasta el siguiente
+     * cambio de sentido o modificación estructural.
+     * </p>
+     */
+    @Override
+    public VistaSecuencia<T> subSecuencia(int indiceDesde, int indiceHasta) {
+        return new VistaSecuencia<>(this, indiceDesde, indiceHasta);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return una versión que cambia también con cada cambio de sentido.
+     */
+    @Override
+    public int version() {
+        return super.version() + inversiones;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Recorre los elementos en el orden lógico.
+     * </p>
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            /**
+             * Posición lógica del próximo elemento a retornar.
+             */
+            private int actual;
+
+            @Override
+            public boolean hasNext() {
+                return actual < largo();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T elemento = obtener(actual);
+                actual++;
+                return elemento;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Muestra los elementos en el orden lógico, con el formato de
+     * {@code ArregloBase}, por ejemplo {@code SecuenciaInvertible={3,2,1}:3}.
+     * </p>
+     */
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder(getClass().getSimpleName()).append("={");
+        for (int i = 0; i < largo(); i++) {
+            if (i > 0) {
+                texto.append(',');
+            }
+            texto.append(obtener(i));
+        }
+        return texto.append("}:").append(largo()).toString();
+    }
+}
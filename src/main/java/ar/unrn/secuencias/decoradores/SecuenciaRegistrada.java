@@ -0,0 +1,126 @@
+package ar.unrn.secuencias.decoradores;
+
+import ar.unrn.secuencias.interfaces.Indexable;
+
+import java.io.PrintStream;
+import java.util.Objects;
+
+/**
+ * Decorador que registra en un flujo de salida cada cambio hecho a la
+ * secuencia.
+ * <p>
+ * Cada operación exitosa imprime una línea, por ejemplo
+ * {@code modificar[3]: a -> b}, {@code agregar[4]: c} o
+ * {@code remover[0]: a}. Las operaciones por rango imprimen una sola línea
+ * con el rango afectado, por ejemplo {@code rellenar[0, 8): x}, en lugar de
+ * una por elemento. Las operaciones que fallan no se registran.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class SecuenciaRegistrada<T> extends SecuenciaDecorable<T> {
+
+    /**
+     * Flujo donde se registran los cambios.
+     */
+    private final PrintStream salida;
+
+    /**
+     * Crea el decorador que registra sobre la salida estándar.
+     *
+     * @param secuencia la secuencia a decorar.
+     */
+    public SecuenciaRegistrada(Indexable<T> secuencia) {
+        this(secuencia, System.out);
+    }
+
+    /**
+     * Crea el decorador que registra sobre el flujo indicado.
+     *
+     * @param secuencia la secuencia a decorar.
+     * @param destino   el flujo donde registrar.
+     * @throws NullPointerException si {@code destino} es {@code null}.
+     */
+    public SecuenciaRegistrada(Indexable<T> secuencia, PrintStream destino) {
+        super(secuencia);
+        this.salida = Objects.requireNonNull(destino, "La salida no puede ser nula");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        T anterior = obtener(indice);
+        super.modificar(indice, valor);
+        salida.println("modificar[" + indice + "]: " + anterior + " -> " + valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void agregar(T valor) {
+        super.agregar(valor);
+        salida.println("agregar[" + (largo() - 1) + "]: " + valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T remover(int indice) {
+        T removido = super.remover(indice);
+        salida.println("remover[" + indice + "]: " + removido);
+        return removido;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificarRango(int desde, T[] valores) {
+        super.modificarRango(desde, valores);
+        registrarRango("modificarRango", desde, desde + valores.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rellenar(int desde, int hasta, T valor) {
+        super.rellenar(desde, hasta, valor);
+        salida.println("rellenar[" + desde + ", " + hasta + "): " + valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void copiarDesde(Indexable<? extends T> origen, int desdeOrigen, int desde,
+                            int cantidad) {
+        super.copiarDesde(origen, desdeOrigen, desde, cantidad);
+        registrarRango("copiarDesde", desde, desde + cantidad);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void agregarTodos(Iterable<? extends T> valores) {
+        int anterior = largo();
+        super.agregarTodos(valores);
+        registrarRango("agregarTodos", anterior, largo());
+    }
+
+    /**
+     * Registra una operación sobre el rango {@code [desde, hasta)}.
+     *
+     * @param operacion el nombre de la operación.
+     * @param desde     el inicio del rango, inclusivo.
+     * @param hasta     el fin del rango, exclusivo.
+     */
+    private void registrarRango(String operacion, int desde, int hasta) {
+        salida.println(operacion + "[" + desde + ", " + hasta + ")");
+    }
+}
@@ -0,0 +1,113 @@
+package ar.unrn.secuencias.decoradores;
+
+import ar.unrn.secuencias.excepciones.SecuenciaNoModificableException;
+import ar.unrn.secuencias.interfaces.Indexable;
+
+/**
+ * Decorador que impide cualquier cambio en la secuencia decorada.
+ * <p>
+ * Las lecturas se delegan; toda operación que modifica, agrega o remueve
+ * elementos, incluidas las operaciones por rango, lanza
+ * {@link SecuenciaNoModificableException} sin tocar la secuencia. Los cambios
+ * hechos directamente sobre la secuencia decorada sí son visibles.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class SecuenciaSoloLectura<T> extends SecuenciaDecorable<T> {
+
+    /**
+     * Crea la vista de solo lectura sobre la secuencia indicada.
+     *
+     * @param secuencia la secuencia a decorar.
+     */
+    public SecuenciaSoloLectura(Indexable<T> secuencia) {
+        super(secuencia);
+    }
+
+    /**
+     * Siempre falla.
+     *
+     * @param indice no se usa.
+     * @param valor  no se usa.
+     * @throws SecuenciaNoModificableException siempre.
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        throw new SecuenciaNoModificableException();
+    }
+
+    /**
+     * Siempre falla.
+     *
+     * @param valor no se usa.
+     * @throws SecuenciaNoModificableException siempre.
+     */
+    @Override
+    public void agregar(T valor) {
+        throw new SecuenciaNoModificableException();
+    }
+
+    /**
+     * Siempre falla.
+     *
+     * @param indice no se usa.
+     * @return nunca retorna.
+     * @throws SecuenciaNoModificableException siempre.
+     */
+    @Override
+    public T remover(int indice) {
+        throw new SecuenciaNoModificableException();
+    }
+
+    /**
+     * Siempre falla.
+     *
+     * @param desde   no se usa.
+     * @param valores no se usa.
+     * @throws SecuenciaNoModificableException siempre.
+     */
+    @Override
+    public void modificarRango(int desde, T[] valores) {
+        throw new SecuenciaNoModificableException();
+    }
+
+    /**
+     * Siempre falla.
+     *
+     * @param desde no se usa.
+     * @param hasta no se usa.
+     * @param valor no se usa.
+     * @throws SecuenciaNoModificableException siempre.
+     */
+    @Override
+    public void rellenar(int desde, int hasta, T valor) {
+        throw new SecuenciaNoModificableException();
+    }
+
+    /**
+     * Siempre falla.
+     *
+     * @param origen      no se usa.
+     * @param desdeOrigen no se usa.
+     * @param desde       no se usa.
+     * @param cantidad    no se usa.
+     * @throws SecuenciaNoModificableException siempre.
+     */
+    @Override
+    public void copiarDesde(Indexable<? extends T> origen, int desdeOrigen, int desde,
+                            int cantidad) {
+        throw new SecuenciaNoModificableException();
+    }
+
+    /**
+     * Siempre falla.
+     *
+     * @param valores no se usa.
+     * @throws SecuenciaNoModificableException siempre.
+     */
+    @Override
+    public void agregarTodos(Iterable<? extends T> valores) {
+        throw new SecuenciaNoModificableException();
+    }
+}
@@ -0,0 +1,216 @@
+package ar.unrn.secuencias.decoradores;
+
+import ar.unrn.secuencias.excepciones.ElementoInvalidoException;
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.interfaces.Validador;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Decorador que solo admite valores aceptados por un {@link Validador}.
+ * <p>
+ * Antes de escribir, cada valor se evalúa con el validador; si es rechazado,
+ * se lanza {@link ElementoInvalidoException} indicando el valor y su posición,
+ * y la secuencia no se modifica. Las operaciones por rango validan el lote
+ * completo con {@link Validador#validarLote(List, int)} antes de escribir
+ * cualquier valor: no quedan aplicadas a medias, y la excepción informa todas
+ * las posiciones rechazadas en {@link ElementoInvalidoException#indicesInvalidos()}.
+ * </p>
+ * <p>
+ * Los valores que ya estaban en la secuencia decorada no se validan. Si el
+ * validador {@linkplain Validador#conEstado() tiene estado}, se le registran
+ * al decorar, y luego se le informa cada valor que entra o sale por este
+ * decorador; antes de validar una escritura se olvidan los valores que
+ * sobrescribiría, y se vuelven a registrar si es rechazada.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class SecuenciaValidada<T> extends SecuenciaDecorable<T> {
+
+    /**
+     * Regla que deben cumplir los valores escritos.
+     */
+    private final Validador<? super T> validador;
+
+    /**
+     * Crea el decorador con la regla indicada.
+     *
+     * @param secuencia la secuencia a decorar.
+     * @param regla     el validador de los valores a escribir.
+     * @throws NullPointerException si {@code regla} es {@code null}.
+     */
+    public SecuenciaValidada(Indexable<T> secuencia, Validador<? super T> regla) {
+        super(secuencia);
+        this.validador = Objects.requireNonNull(regla, "El validador no puede ser nulo");
+        if (regla.conEstado()) {
+            for (int i = 0; i < secuencia.largo(); i++) {
+                regla.registrar(secuencia.obtener(i));
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoInvalidoException si el validador rechaza el valor.
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        if (validador.conEstado()) {
+            reemplazar(indice, Collections.singletonList(valor),
+                    () -> super.modificar(indice, valor));
+            return;
+        }
+        validar(valor, indice);
+        super.modificar(indice, valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoInvalidoException si el validador rechaza el valor.
+     */
+    @Override
+    public void agregar(T valor) {
+        if (validador.conEstado()) {
+            reemplazar(largo(), Collections.singletonList(valor),
+                    () -> super.agregar(valor));
+            return;
+        }
+        validar(valor, largo());
+        super.agregar(valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T remover(int indice) {
+        T removido = super.remover(indice);
+        validador.olvidar(removido);
+        return removido;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoInvalidoException si el validador rechaza algún valor.
+     */
+    @Override
+    public void modificarRango(int desde, T[] valores) {
+        Indexable.verificarRango(desde, desde + valores.length, largo());
+        reemplazar(desde, Arrays.asList(valores),
+                () -> super.modificarRango(desde, valores));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoInvalidoException si el validador rechaza el valor.
+     */
+    @Override
+    public void rellenar(int desde, int hasta, T valor) {
+        Indexable.verificarRango(desde, hasta, largo());
+        if (validador.conEstado()) {
+            reemplazar(desde, Collections.nCopies(hasta - desde, valor),
+                    () -> super.rellenar(desde, hasta, valor));
+            return;
+        }
+        if (desde < hasta) {
+            validar(valor, desde);
+        }
+        super.rellenar(desde, hasta, valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoInvalidoException si el validador rechaza algún valor.
+     */
+    @Override
+    public void copiarDesde(Indexable<? extends T> origen, int desdeOrigen, int desde,
+                            int cantidad) {
+        Indexable.verificarRango(desdeOrigen, desdeOrigen + cantidad, origen.largo());
+        Indexable.verificarRango(desde, desde + cantidad, largo());
+        List<T> copiados = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            copiados.add(origen.obtener(desdeOrigen + i));
+        }
+        reemplazar(desde, copiados,
+                () -> super.copiarDesde(origen, desdeOrigen, desde, cantidad));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Los valores se recorren una sola vez: se copian a una lista auxiliar,
+     * que se valida como lote y luego se agrega completa.
+     * </p>
+     *
+     * @throws ElementoInvalidoException si el validador rechaza algún valor.
+     */
+    @Override
+    public void agregarTodos(Iterable<? extends T> valores) {
+        List<T> aceptados = new ArrayList<>();
+        for (T valor : valores) {
+            aceptados.add(valor);
+        }
+        reemplazar(largo(), aceptados, () -> super.agregarTodos(aceptados));
+    }
+
+    /**
+     * Valida un lote que se escribirá a partir de {@code desde} y, si es
+     * aceptado, aplica la escritura.
+     * <p>
+     * Con un validador con estado, los valores que el lote sobrescribiría se
+     * olvidan antes de validar y se vuelven a registrar si la escritura
+     * falla; si tiene éxito, se registran los valores del lote.
+     * </p>
+     *
+     * @param desde     la posición del primer valor; si es el largo, el lote
+     *                  se agrega al final.
+     * @param lote      los valores a escribir.
+     * @param escritura la escritura sobre la secuencia decorada.
+     * @throws ElementoInvalidoException si el validador rechaza algún valor.
+     */
+    private void reemplazar(int desde, List<? extends T> lote, Runnable escritura) {
+        if (!validador.conEstado()) {
+            validador.validarLote(lote, desde);
+            escritura.run();
+            return;
+        }
+        int hasta = Math.min(desde + lote.size(), largo());
+        List<T> sobrescritos = new ArrayList<>(Math.max(0, hasta - desde));
+        for (int i = desde; i < hasta; i++) {
+            sobrescritos.add(obtener(i));
+        }
+        sobrescritos.forEach(validador::olvidar);
+        try {
+            validador.validarLote(lote, desde);
+            escritura.run();
+        } catch (RuntimeException e) {
+            sobrescritos.forEach(validador::registrar);
+            throw e;
+        }
+        lote.forEach(validador::registrar);
+    }
+
+    /**
+     * Verifica que el valor sea aceptado por el validador.
+     *
+     * @param valor  el valor a verificar.
+     * @param indice la posición donde se escribiría.
+     * @throws ElementoInvalidoException si el validador lo rechaza.
+     */
+    private void validar(T valor, int indice) {
+        if (!validador.esValido(valor)) {
+            throw new ElementoInvalidoException(String.format(
+                    "El elemento %s en la posición %d no es válido.", valor, indice));
+        }
+    }
+}
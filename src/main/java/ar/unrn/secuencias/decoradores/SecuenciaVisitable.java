@@ -0,0 +1,50 @@
+package ar.unrn.secuencias.decoradores;
+
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.interfaces.Visitable;
+import ar.unrn.secuencias.interfaces.Visitor;
+import ar.unrn.secuencias.interfaces.VisitorCombinable;
+import ar.unrn.secuencias.visitantes.VisitaParalela;
+
+/**
+ * Decorador que permite recorrer cualquier secuencia con un {@link Visitor}.
+ * <p>
+ * {@link #visitar(Visitor)} entrega los elementos en orden, leyéndolos con
+ * {@link #obtener(int)}; las demás operaciones se delegan sin cambios.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class SecuenciaVisitable<T> extends SecuenciaDecorable<T>
+        implements Visitable<T> {
+
+    /**
+     * Crea el decorador sobre la secuencia indicada.
+     *
+     * @param secuencia la secuencia a decorar.
+     */
+    public SecuenciaVisitable(Indexable<T> secuencia) {
+        super(secuencia);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void visitar(Visitor<T> visitor) {
+        for (int i = 0; i < largo(); i++) {
+            visitor.visita(obtener(i));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Divide el recorrido con {@link VisitaParalela}.
+     * </p>
+     */
+    @Override
+    public <V extends VisitorCombinable<T, V>> void visitarEnParalelo(V visitor) {
+        VisitaParalela.recorrer(this, visitor);
+    }
+}
@@ -0,0 +1,224 @@
+package ar.unrn.secuencias.dispensables;
+
+import ar.unrn.secuencias.excepciones.CapacidadExcedidaException;
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.excepciones.EstructuraVaciaException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.interfaces.Dispensable;
+
+/**
+ * Cola (FIFO) sobre un búfer circular de capacidad potencia de dos.
+ * <p>
+ * El frente avanza sobre el arreglo y vuelve al principio al llegar al final;
+ * como la capacidad es potencia de dos, la vuelta se resuelve con una máscara
+ * de bits en lugar de una división. Agregar, remover y consultar el próximo son
+ * O(1) y no crean objetos.
+ * </p>
+ * <p>
+ * La cola puede crecer o tener capacidad fija. Si crece, al llenarse duplica
+ * su capacidad, copiando los elementos en a lo sumo dos movimientos; si no,
+ * agregar a una cola llena lanza {@link CapacidadExcedidaException}. No admite
+ * elementos {@code null}. No es segura para el uso desde varios hilos; para un
+ * productor y un consumidor concurrentes, ver {@link ColaSpsc}.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class ColaCircular<T> implements Dispensable<T> {
+
+    /**
+     * Capacidad inicial por omisión.
+     */
+    public static final int CAPACIDAD_POR_OMISION = 16;
+
+    /**
+     * Mayor capacidad posible, la mayor potencia de dos representable.
+     */
+    public static final int CAPACIDAD_MAXIMA = 1 << (Integer.SIZE - 2);
+
+    /**
+     * Almacenamiento de los elementos, de largo potencia de dos.
+     */
+    private Object[] elementos;
+
+    /**
+     * Largo del almacenamiento menos uno, para reducir posiciones.
+     */
+    private int mascara;
+
+    /**
+     * Posición del frente de la cola.
+     */
+    private int frente;
+
+    /**
+     * Cantidad de elementos en la cola.
+     */
+    private int cantidad;
+
+    /**
+     * Indica si la cola duplica su capacidad al llenarse.
+     */
+    private final boolean crece;
+
+    /**
+     * Crea una cola vacía que crece, con la capacidad inicial por omisión.
+     */
+    public ColaCircular() {
+        this(CAPACIDAD_POR_OMISION, true);
+    }
+
+    /**
+     * Crea una cola vacía con la capacidad indicada, redondeada a la siguiente
+     * potencia de dos.
+     *
+     * @param capacidad la cantidad mínima de elementos que admite.
+     * @param creciente si la cola duplica su capacidad al llenarse, o lanza
+     *                  {@link CapacidadExcedidaException}.
+     * @throws IndiceFueraDeRangoException si la capacidad no es positiva o
+     *                                     supera {@link #CAPACIDAD_MAXIMA}.
+     */
+    public ColaCircular(int capacidad, boolean creciente) {
+        this.elementos = new Object[potenciaDeDos(capacidad)];
+        this.mascara = elementos.length - 1;
+        this.crece = creciente;
+    }
+
+    /**
+     * Redondea la capacidad a la siguiente potencia de dos.
+     *
+     * @param capacidad la capacidad pedida.
+     * @return la menor potencia de dos mayor o igual a {@code capacidad}.
+     * @throws IndiceFueraDeRangoException si la capacidad no es positiva o
+     *                                     supera {@link #CAPACIDAD_MAXIMA}.
+     */
+    static int potenciaDeDos(int capacidad) {
+        if (capacidad < 1 || capacidad > CAPACIDAD_MAXIMA) {
+            throw new IndiceFueraDeRangoException(String.format(
+                    "Capacidad %d fuera de rango [1, %d]", capacidad, CAPACIDAD_MAXIMA));
+        }
+        return capacidad == 1 ? 1 : Integer.highestOneBit(capacidad - 1) << 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoNuloException      si {@code elemento} es {@code null}.
+     * @throws CapacidadExcedidaException si la cola está llena y no crece, o ya
+     *                                    alcanzó {@link #CAPACIDAD_MAXIMA}.
+     */
+    @Override
+    public void agregar(T elemento) {
+        if (elemento == null) {
+            throw new ElementoNuloException();
+        }
+        if (cantidad == elementos.length) {
+            crecer();
+        }
+        elementos[(frente + cantidad) & mascara] = elemento;
+        cantidad++;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return el elemento del frente, el más antiguo.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remover() {
+        verificarNoVacia();
+        T elemento = (T) elementos[frente];
+        elementos[frente] = null;
+        frente = (frente + 1) & mascara;
+        cantidad--;
+        return elemento;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return el elemento del frente, el más antiguo.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T proximo() {
+        verificarNoVacia();
+        return (T) elementos[frente];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int largo() {
+        return cantidad;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean estaVacia() {
+        return cantidad == 0;
+    }
+
+    /**
+     * Retorna la cantidad de elementos que admite antes de crecer o llenarse.
+     *
+     * @return la capacidad actual, potencia de dos.
+     */
+    public int capacidad() {
+        return elementos.length;
+    }
+
+    /**
+     * Verifica que la cola tenga elementos.
+     *
+     * @throws EstructuraVaciaException si está vacía.
+     */
+    private void verificarNoVacia() {
+        if (cantidad == 0) {
+            throw new EstructuraVaciaException("La cola está vacía.");
+        }
+    }
+
+    /**
+     * Duplica la capacidad, dejando el frente en la posición cero.
+     *
+     * @throws CapacidadExcedidaException si la cola no crece o no puede crecer
+     *                                    más.
+     */
+    private void crecer() {
+        if (!crece || elementos.length == CAPACIDAD_MAXIMA) {
+            throw new CapacidadExcedidaException(
+                    "La cola está llena, con capacidad " + elementos.length + ".");
+        }
+        Object[] nuevos = new Object[elementos.length << 1];
+        int hastaElFinal = elementos.length - frente;
+        System.arraycopy(elementos, frente, nuevos, 0, hastaElFinal);
+        System.arraycopy(elementos, 0, nuevos, hastaElFinal, frente);
+        elementos = nuevos;
+        mascara = nuevos.length - 1;
+        frente = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Muestra los elementos del frente al final, con el formato de
+     * {@code ArregloBase}, por ejemplo {@code ColaCircular={1,2,3}:3}.
+     * </p>
+     */
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder(getClass().getSimpleName()).append("={");
+        for (int i = 0; i < cantidad; i++) {
+            if (i > 0) {
+                texto.append(',');
+            }
+            texto.append(elementos[(frente + i) & mascara]);
+        }
+        return texto.append("}:").append(cantidad).toString();
+    }
+}
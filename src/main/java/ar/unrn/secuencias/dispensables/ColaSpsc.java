@@ -0,0 +1,230 @@
+package ar.unrn.secuencias.dispensables;
+
+import ar.unrn.secuencias.excepciones.CapacidadExcedidaException;
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.excepciones.EstructuraVaciaException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.interfaces.Dispensable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Cola (FIFO) de capacidad fija, sin bloqueos, para exactamente un hilo
+ * productor y un hilo consumidor.
+ * <p>
+ * Es un búfer circular de capacidad potencia de dos indexado por dos
+ * contadores que solo crecen: el fondo, que solo escribe el productor, y el
+ * frente, que solo escribe el consumidor. Cada uno publica su contador con
+ * semántica de liberación y lee el del otro con semántica de adquisición, por
+ * lo que no hacen falta compare-and-set ni cerrojos.
+ * </p>
+ * <p>
+ * Para evitar el falso compartir, cada contador vive en el medio de su propio
+ * arreglo de relleno, de modo que ninguna línea de caché contiene datos de
+ * ambos hilos. Junto a cada contador, su dueño guarda la última copia leída
+ * del contador del otro, y solo vuelve a leerlo cuando la copia indica que la
+ * cola está llena (el productor) o vacía (el consumidor).
+ * </p>
+ * <p>
+ * {@link #agregar(Object)} y {@link #ofrecer(Object)} solo pueden llamarse
+ * desde el hilo productor; {@link #remover()}, {@link #sondear()} y
+ * {@link #proximo()}, solo desde el consumidor. {@link #largo()} y
+ * {@link #estaVacia()} pueden llamarse desde cualquier hilo, y son una
+ * aproximación si la cola se usa concurrentemente. No admite elementos
+ * {@code null}.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class ColaSpsc<T> implements Dispensable<T> {
+
+    /**
+     * Posición del contador dentro de su arreglo de relleno; deja 56 bytes
+     * de relleno antes, además del encabezado del arreglo.
+     */
+    private static final int CONTADOR = 7;
+
+    /**
+     * Posición de la copia del contador del otro hilo.
+     */
+    private static final int COPIA = CONTADOR + 1;
+
+    /**
+     * Largo de los arreglos de relleno; deja 56 bytes de relleno después de
+     * la copia.
+     */
+    private static final int RELLENO = 16;
+
+    /**
+     * Acceso con semántica de adquisición y liberación a los contadores.
+     */
+    private static final VarHandle CONTADORES =
+            MethodHandles.arrayElementVarHandle(long[].class);
+
+    /**
+     * Almacenamiento de los elementos, de largo potencia de dos.
+     */
+    private final Object[] elementos;
+
+    /**
+     * Largo del almacenamiento menos uno, para reducir posiciones.
+     */
+    private final int mascara;
+
+    /**
+     * Contador del fondo, escrito por el productor, y su copia del frente.
+     */
+    private final long[] fondo = new long[RELLENO];
+
+    /**
+     * Contador del frente, escrito por el consumidor, y su copia del fondo.
+     */
+    private final long[] frente = new long[RELLENO];
+
+    /**
+     * Crea una cola vacía con la capacidad indicada, redondeada a la siguiente
+     * potencia de dos.
+     *
+     * @param capacidad la cantidad mínima de elementos que admite.
+     * @throws IndiceFueraDeRangoException si la capacidad no es positiva o
+     *                                     supera
+     *                                     {@link ColaCircular#CAPACIDAD_MAXIMA}.
+     */
+    public ColaSpsc(int capacidad) {
+        this.elementos = new Object[ColaCircular.potenciaDeDos(capacidad)];
+        this.mascara = elementos.length - 1;
+    }
+
+    /**
+     * Agrega el elemento al final si hay lugar. Solo desde el productor.
+     *
+     * @param elemento el elemento a agregar.
+     * @return {@code true} si se agregó, {@code false} si la cola estaba llena.
+     * @throws ElementoNuloException si {@code elemento} es {@code null}.
+     */
+    public boolean ofrecer(T elemento) {
+        if (elemento == null) {
+            throw new ElementoNuloException();
+        }
+        long posicion = fondo[CONTADOR];
+        long limite = fondo[COPIA] + elementos.length;
+        if (posicion >= limite) {
+            fondo[COPIA] = (long) CONTADORES.getAcquire(frente, CONTADOR);
+            if (posicion >= fondo[COPIA] + elementos.length) {
+                return false;
+            }
+        }
+        elementos[(int) posicion & mascara] = elemento;
+        CONTADORES.setRelease(fondo, CONTADOR, posicion + 1);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Solo desde el productor.
+     * </p>
+     *
+     * @throws ElementoNuloException      si {@code elemento} es {@code null}.
+     * @throws CapacidadExcedidaException si la cola está llena.
+     */
+    @Override
+    public void agregar(T elemento) {
+        if (!ofrecer(elemento)) {
+            throw new CapacidadExcedidaException(
+                    "La cola está llena, con capacidad " + elementos.length + ".");
+        }
+    }
+
+    /**
+     * Extrae el elemento del frente, si hay alguno. Solo desde el consumidor.
+     *
+     * @return el elemento del frente, o {@code null} si la cola está vacía.
+     */
+    @SuppressWarnings("unchecked")
+    public T sondear() {
+        long posicion = frente[CONTADOR];
+        if (!hayElementos(posicion)) {
+            return null;
+        }
+        int indice = (int) posicion & mascara;
+        T elemento = (T) elementos[indice];
+        elementos[indice] = null;
+        CONTADORES.setRelease(frente, CONTADOR, posicion + 1);
+        return elemento;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Solo desde el consumidor.
+     * </p>
+     */
+    @Override
+    public T remover() {
+        T elemento = sondear();
+        if (elemento == null) {
+            throw new EstructuraVaciaException("La cola está vacía.");
+        }
+        return elemento;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Solo desde el consumidor.
+     * </p>
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T proximo() {
+        long posicion = frente[CONTADOR];
+        if (!hayElementos(posicion)) {
+            throw new EstructuraVaciaException("La cola está vacía.");
+        }
+        return (T) elementos[(int) posicion & mascara];
+    }
+
+    /**
+     * Indica, desde el consumidor, si hay un elemento publicado en la posición
+     * indicada, releyendo el fondo solo si la copia no alcanza.
+     *
+     * @param posicion el contador del frente.
+     * @return {@code true} si la posición tiene un elemento.
+     */
+    private boolean hayElementos(long posicion) {
+        if (posicion < frente[COPIA]) {
+            return true;
+        }
+        frente[COPIA] = (long) CONTADORES.getAcquire(fondo, CONTADOR);
+        return posicion < frente[COPIA];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int largo() {
+        long inicio = (long) CONTADORES.getAcquire(frente, CONTADOR);
+        long fin = (long) CONTADORES.getAcquire(fondo, CONTADOR);
+        return (int) Math.max(0, Math.min(fin - inicio, elementos.length));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean estaVacia() {
+        return largo() == 0;
+    }
+
+    /**
+     * Retorna la cantidad máxima de elementos.
+     *
+     * @return la capacidad, potencia de dos.
+     */
+    public int capacidad() {
+        return elementos.length;
+    }
+}
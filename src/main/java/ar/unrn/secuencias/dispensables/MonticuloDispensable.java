@@ -0,0 +1,372 @@
+package ar.unrn.secuencias.dispensables;
+
+import ar.unrn.secuencias.excepciones.CapacidadExcedidaException;
+import ar.unrn.secuencias.excepciones.ComparadorNuloException;
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.excepciones.EstructuraVaciaException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.interfaces.Dispensable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.function.Consumer;
+
+/**
+ * Cola de prioridad sobre un montículo d-ario (por omisión, binario).
+ * <p>
+ * {@link #remover()} y {@link #proximo()} retornan el <strong>menor</strong>
+ * elemento según el comparador; para extraer primero al mayor, se usa el
+ * comparador invertido. Agregar y remover son O(log<sub>d</sub> n). Entre
+ * elementos equivalentes no se garantiza ningún orden.
+ * </p>
+ * <p>
+ * Con aridad mayor a dos, el montículo es más bajo: agregar recorre menos
+ * niveles, y cada nivel que recorre remover compara más hijos, pero contiguos
+ * en memoria. Para cargas con muchos agregados por cada remoción, una aridad
+ * de cuatro suele rendir mejor que la binaria.
+ * </p>
+ * <p>
+ * Crear el montículo a partir de una colección lo arma en O(n), en lugar de
+ * los O(n log n) de agregar uno por uno. {@link #drenar(int, Consumer)}
+ * extrae varios elementos con una sola llamada, para que un consumidor que
+ * sincroniza el acceso pague la sincronización una vez por lote. No admite
+ * elementos {@code null} y no es seguro para el uso desde varios hilos.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class MonticuloDispensable<T> implements Dispensable<T> {
+
+    /**
+     * Aridad por omisión, la del montículo binario.
+     */
+    public static final int ARIDAD_POR_OMISION = 2;
+
+    /**
+     * Capacidad inicial del almacenamiento.
+     */
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /**
+     * Mayor cantidad de elementos que admite el almacenamiento.
+     */
+    private static final int CAPACIDAD_MAXIMA = Integer.MAX_VALUE - 8;
+
+    /**
+     * Cantidad de hijos de cada nodo.
+     */
+    private final int aridad;
+
+    /**
+     * Criterio de prioridad: el menor sale primero.
+     */
+    private final Comparator<? super T> comparador;
+
+    /**
+     * Nodos del montículo, por niveles; los hijos del nodo {@code i} están en
+     * {@code [aridad * i + 1, aridad * i + aridad]}.
+     */
+    private Object[] elementos;
+
+    /**
+     * Cantidad de elementos.
+     */
+    private int cantidad;
+
+    /**
+     * Crea un montículo binario vacío.
+     *
+     * @param criterio el comparador de prioridad.
+     * @throws ComparadorNuloException si {@code criterio} es {@code null}.
+     */
+    public MonticuloDispensable(Comparator<? super T> criterio) {
+        this(ARIDAD_POR_OMISION, criterio);
+    }
+
+    /**
+     * Crea un montículo vacío con la aridad indicada.
+     *
+     * @param hijos    la cantidad de hijos por nodo, al menos 2.
+     * @param criterio el comparador de prioridad.
+     * @throws IllegalArgumentException si {@code hijos} es menor a 2.
+     * @throws ComparadorNuloException  si {@code criterio} es {@code null}.
+     */
+    public MonticuloDispensable(int hijos, Comparator<? super T> criterio) {
+        this(hijos, criterio, new Object[CAPACIDAD_INICIAL], 0);
+    }
+
+    /**
+     * Crea un montículo binario con los elementos de la colección, en O(n).
+     *
+     * @param valores  los elementos iniciales.
+     * @param criterio el comparador de prioridad.
+     * @throws ElementoNuloException   si algún elemento es {@code null}.
+     * @throws ComparadorNuloException si {@code criterio} es {@code null}.
+     */
+    public MonticuloDispensable(Collection<? extends T> valores,
+                                Comparator<? super T> criterio) {
+        this(valores, ARIDAD_POR_OMISION, criterio);
+    }
+
+    /**
+     * Crea un montículo con la aridad y los elementos indicados, en O(n).
+     *
+     * @param valores  los elementos iniciales.
+     * @param hijos    la cantidad de hijos por nodo, al menos 2.
+     * @param criterio el comparador de prioridad.
+     * @throws IllegalArgumentException si {@code hijos} es menor a 2.
+     * @throws ElementoNuloException    si algún elemento es {@code null}.
+     * @throws ComparadorNuloException  si {@code criterio} es {@code null}.
+     */
+    public MonticuloDispensable(Collection<? extends T> valores, int hijos,
+                                Comparator<? super T> criterio) {
+        this(hijos, criterio, copiarSinNulos(valores), valores.size());
+        if (cantidad > 1) {
+            for (int i = padre(cantidad - 1); i >= 0; i--) {
+                hundir(i, elemento(i));
+            }
+        }
+    }
+
+    /**
+     * Crea el montículo sobre el almacenamiento indicado, sin reordenarlo.
+     *
+     * @param hijos    la cantidad de hijos por nodo.
+     * @param criterio el comparador de prioridad.
+     * @param almacen  el almacenamiento inicial.
+     * @param ocupados la cantidad de posiciones ocupadas.
+     */
+    private MonticuloDispensable(int hijos, Comparator<? super T> criterio,
+                                 Object[] almacen, int ocupados) {
+        if (hijos < 2) {
+            throw new IllegalArgumentException("La aridad debe ser al menos 2: " + hijos);
+        }
+        if (criterio == null) {
+            throw new ComparadorNuloException("El comparador no puede ser nulo.");
+        }
+        this.aridad = hijos;
+        this.comparador = criterio;
+        this.elementos = almacen;
+        this.cantidad = ocupados;
+    }
+
+    /**
+     * Copia la colección a un arreglo, verificando que no tenga nulos.
+     *
+     * @param valores la colección a copiar.
+     * @return un arreglo nuevo con al menos una posición libre.
+     * @throws ElementoNuloException si algún elemento es {@code null}.
+     */
+    private static Object[] copiarSinNulos(Collection<?> valores) {
+        Object[] copia = valores.toArray();
+        for (Object valor : copia) {
+            if (valor == null) {
+                throw new ElementoNuloException();
+            }
+        }
+        return Arrays.copyOf(copia, Math.max(copia.length + 1, CAPACIDAD_INICIAL));
+    }
+
+    /**
+     * Retorna la cantidad de hijos de cada nodo.
+     *
+     * @return la aridad del montículo.
+     */
+    public int aridad() {
+        return aridad;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoNuloException      si {@code elemento} es {@code null}.
+     * @throws CapacidadExcedidaException si el montículo no puede crecer más.
+     */
+    @Override
+    public void agregar(T elemento) {
+        if (elemento == null) {
+            throw new ElementoNuloException();
+        }
+        if (cantidad == elementos.length) {
+            crecer();
+        }
+        cantidad++;
+        flotar(cantidad - 1, elemento);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return el menor elemento según el comparador.
+     */
+    @Override
+    public T remover() {
+        verificarNoVacio();
+        return extraer();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return el menor elemento según el comparador.
+     */
+    @Override
+    public T proximo() {
+        verificarNoVacio();
+        return elemento(0);
+    }
+
+    /**
+     * Remueve hasta {@code maximo} elementos, en orden de prioridad, y los
+     * entrega al consumidor.
+     *
+     * @param maximo     la mayor cantidad de elementos a remover.
+     * @param consumidor quien recibe cada elemento removido.
+     * @return la cantidad de elementos removidos, que es menor a
+     * {@code maximo} solo si el montículo quedó vacío.
+     * @throws IndiceFueraDeRangoException si {@code maximo} es negativo.
+     */
+    public int drenar(int maximo, Consumer<? super T> consumidor) {
+        if (maximo < 0) {
+            throw new IndiceFueraDeRangoException(maximo, 0);
+        }
+        int removidos = Math.min(maximo, cantidad);
+        for (int i = 0; i < removidos; i++) {
+            consumidor.accept(extraer());
+        }
+        return removidos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int largo() {
+        return cantidad;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean estaVacia() {
+        return cantidad == 0;
+    }
+
+    /**
+     * Remueve la raíz, que debe existir, y reubica el último elemento.
+     *
+     * @return la raíz removida.
+     */
+    private T extraer() {
+        T raiz = elemento(0);
+        cantidad--;
+        T ultimo = elemento(cantidad);
+        elementos[cantidad] = null;
+        if (cantidad > 0) {
+            hundir(0, ultimo);
+        }
+        return raiz;
+    }
+
+    /**
+     * Sube el elemento desde la posición indicada hasta que su padre no sea
+     * mayor, desplazando los padres hacia abajo en lugar de intercambiarlos.
+     *
+     * @param posicion la posición libre donde comienza.
+     * @param elemento el elemento a ubicar.
+     */
+    private void flotar(int posicion, T elemento) {
+        int actual = posicion;
+        while (actual > 0) {
+            int arriba = padre(actual);
+            T superior = elemento(arriba);
+            if (comparador.compare(elemento, superior) >= 0) {
+                break;
+            }
+            elementos[actual] = superior;
+            actual = arriba;
+        }
+        elementos[actual] = elemento;
+    }
+
+    /**
+     * Baja el elemento desde la posición indicada hasta que ningún hijo sea
+     * menor, desplazando el menor hijo hacia arriba en cada nivel.
+     *
+     * @param posicion la posición libre donde comienza.
+     * @param elemento el elemento a ubicar.
+     */
+    private void hundir(int posicion, T elemento) {
+        int actual = posicion;
+        while (true) {
+            int primero = aridad * actual + 1;
+            if (primero >= cantidad || primero < 0) {
+                break;
+            }
+            int ultimo = Math.min(primero + aridad, cantidad);
+            int menor = primero;
+            T menorHijo = elemento(primero);
+            for (int hijo = primero + 1; hijo < ultimo; hijo++) {
+                T candidato = elemento(hijo);
+                if (comparador.compare(candidato, menorHijo) < 0) {
+                    menor = hijo;
+                    menorHijo = candidato;
+                }
+            }
+            if (comparador.compare(menorHijo, elemento) >= 0) {
+                break;
+            }
+            elementos[actual] = menorHijo;
+            actual = menor;
+        }
+        elementos[actual] = elemento;
+    }
+
+    /**
+     * Retorna la posición del padre de un nodo.
+     *
+     * @param posicion la posición del nodo, mayor a cero.
+     * @return la posición de su padre.
+     */
+    private int padre(int posicion) {
+        return (posicion - 1) / aridad;
+    }
+
+    /**
+     * Retorna el elemento en la posición indicada.
+     *
+     * @param posicion la posición, dentro de las ocupadas.
+     * @return el elemento.
+     */
+    @SuppressWarnings("unchecked")
+    private T elemento(int posicion) {
+        return (T) elementos[posicion];
+    }
+
+    /**
+     * Verifica que el montículo tenga elementos.
+     *
+     * @throws EstructuraVaciaException si está vacío.
+     */
+    private void verificarNoVacio() {
+        if (cantidad == 0) {
+            throw new EstructuraVaciaException("El montículo está vacío.");
+        }
+    }
+
+    /**
+     * Duplica la capacidad del almacenamiento, hasta el máximo.
+     *
+     * @throws CapacidadExcedidaException si ya alcanzó el máximo.
+     */
+    private void crecer() {
+        if (elementos.length >= CAPACIDAD_MAXIMA) {
+            throw new CapacidadExcedidaException(
+                    "El montículo alcanzó su capacidad máxima.");
+        }
+        int nueva = (int) Math.min((long) elementos.length * 2, CAPACIDAD_MAXIMA);
+        elementos = Arrays.copyOf(elementos, Math.max(nueva, CAPACIDAD_INICIAL));
+    }
+}
@@ -0,0 +1,42 @@
+package ar.unrn.secuencias.estrategias;
+
+import ar.unrn.secuencias.excepciones.ComparadorNuloException;
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.interfaces.Ordenable;
+
+import java.util.Comparator;
+
+/**
+ * Estrategia de ordenamiento intercambiable para secuencias {@link Ordenable}.
+ * <p>
+ * Cada implementación encapsula un algoritmo; la secuencia delega en ella su
+ * {@code ordenar}, lo que permite cambiar el algoritmo en tiempo de ejecución
+ * sin modificar la secuencia. Las implementaciones deben respetar las
+ * excepciones documentadas en {@link Ordenable}.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos a ordenar.
+ * @see Ordenable
+ */
+public interface Ordenador<T extends Comparable<T>> {
+
+    /**
+     * Ordena la secuencia según el orden natural de sus elementos.
+     *
+     * @param arreglo la secuencia a ordenar.
+     * @throws ElementoNuloException si la secuencia contiene elementos nulos.
+     */
+    void ordenar(Indexable<T> arreglo);
+
+    /**
+     * Ordena la secuencia según el orden inducido por el comparador.
+     *
+     * @param arreglo    la secuencia a ordenar.
+     * @param comparador el criterio de ordenamiento.
+     * @throws ComparadorNuloException si {@code comparador} es {@code null}.
+     * @throws ElementoNuloException   si la secuencia contiene elementos nulos
+     *                                 y el comparador no puede manejarlos.
+     */
+    void ordenar(Indexable<T> arreglo, Comparator<? super T> comparador);
+}
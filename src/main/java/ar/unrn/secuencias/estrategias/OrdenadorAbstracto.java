@@ -0,0 +1,106 @@
+package ar.unrn.secuencias.estrategias;
+
+import ar.unrn.secuencias.excepciones.ComparadorNuloException;
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.interfaces.Indexable;
+
+import java.util.Comparator;
+
+/**
+ * Plantilla para estrategias que ordenan una copia de los elementos.
+ * <p>
+ * Se encarga de las verificaciones comunes a todas las estrategias, de copiar
+ * los elementos de la secuencia a un arreglo y de escribirlos de vuelta una vez
+ * ordenados. Las subclases solo implementan
+ * {@link #ordenarElementos(Object[], Comparator)}. Si el ordenamiento falla,
+ * la secuencia no es modificada.
+ * </p>
+ * <p>
+ * Elementos {@code null}: el orden natural los rechaza siempre con
+ * {@link ElementoNuloException}. Con un comparador, se admiten si este los
+ * maneja; si el comparador lanza {@link NullPointerException} y la secuencia
+ * contiene nulos, se traduce a {@link ElementoNuloException}.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos a ordenar.
+ */
+public abstract class OrdenadorAbstracto<T extends Comparable<T>>
+        implements Ordenador<T> {
+
+    /**
+     * Ordena el arreglo de elementos, que ya es una copia de la secuencia.
+     *
+     * @param elementos  los elementos a ordenar.
+     * @param comparador el criterio de ordenamiento, nunca {@code null}.
+     */
+    protected abstract void ordenarElementos(T[] elementos,
+                                             Comparator<? super T> comparador);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void ordenar(Indexable<T> arreglo) {
+        T[] elementos = copiar(arreglo);
+        for (T elemento : elementos) {
+            if (elemento == null) {
+                throw new ElementoNuloException(
+                        "No se puede ordenar naturalmente una secuencia con nulos.");
+            }
+        }
+        ordenarElementos(elementos, Comparator.naturalOrder());
+        escribir(arreglo, elementos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void ordenar(Indexable<T> arreglo, Comparator<? super T> comparador) {
+        if (comparador == null) {
+            throw new ComparadorNuloException("El comparador no puede ser nulo.");
+        }
+        T[] elementos = copiar(arreglo);
+        try {
+            ordenarElementos(elementos, comparador);
+        } catch (NullPointerException e) {
+            for (T elemento : elementos) {
+                if (elemento == null) {
+                    throw new ElementoNuloException(
+                            "El comparador no admite los nulos de la secuencia.");
+                }
+            }
+            throw e;
+        }
+        escribir(arreglo, elementos);
+    }
+
+    /**
+     * Copia los elementos de la secuencia a un arreglo nuevo.
+     *
+     * @param arreglo la secuencia de origen.
+     * @param <T>     el tipo de los elementos.
+     * @return un arreglo con los elementos en el mismo orden.
+     */
+    @SuppressWarnings("unchecked")
+    protected static <T extends Comparable<T>> T[] copiar(Indexable<T> arreglo) {
+        Comparable<?>[] elementos = new Comparable<?>[arreglo.largo()];
+        for (int i = 0; i < elementos.length; i++) {
+            elementos[i] = arreglo.obtener(i);
+        }
+        return (T[]) elementos;
+    }
+
+    /**
+     * Escribe los elementos en la secuencia, en el mismo orden.
+     *
+     * @param arreglo   la secuencia de destino.
+     * @param elementos los elementos a escribir, tantos como el largo.
+     * @param <T>       el tipo de los elementos.
+     */
+    protected static <T> void escribir(Indexable<T> arreglo, T[] elementos) {
+        for (int i = 0; i < elementos.length; i++) {
+            arreglo.modificar(i, elementos[i]);
+        }
+    }
+}
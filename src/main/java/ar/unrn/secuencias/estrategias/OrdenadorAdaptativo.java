@@ -0,0 +1,133 @@
+package ar.unrn.secuencias.estrategias;
+
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.interfaces.IndexableDouble;
+import ar.unrn.secuencias.interfaces.IndexableInt;
+import ar.unrn.secuencias.interfaces.IndexableLong;
+
+import java.util.Comparator;
+
+/**
+ * Estrategia que elige, en cada llamada, el algoritmo más conveniente según el
+ * tamaño, el grado de orden previo y el tipo de los elementos.
+ * <p>
+ * Criterios, en orden:
+ * </p>
+ * <ol>
+ *     <li>Secuencias primitivas de {@code int} o {@code long}: radix a partir de
+ *     {@value #MINIMO_RADIX} elementos, doble pivote por debajo.</li>
+ *     <li>Secuencias primitivas de {@code double}: doble pivote.</li>
+ *     <li>Orden natural con todos los elementos {@link Integer} o todos
+ *     {@link Long}: radix a partir de {@value #MINIMO_RADIX} elementos.</li>
+ *     <li>Entradas con pocas rachas (en promedio, de al menos
+ *     {@value #RACHA_PROMEDIO} elementos): mezcla natural.</li>
+ *     <li>A partir de {@value #MINIMO_PARALELO} elementos: mezcla paralela.</li>
+ *     <li>En otro caso: mezcla natural.</li>
+ * </ol>
+ * <p>
+ * Todas las opciones producen el mismo resultado que un ordenamiento estable,
+ * por lo que la elección solo afecta al tiempo de ejecución. La última elección
+ * se expone en {@link #ultimaEleccion()} con fines de diagnóstico; no es
+ * confiable si la misma instancia se usa desde varios hilos a la vez.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos a ordenar.
+ */
+public final class OrdenadorAdaptativo<T extends Comparable<T>>
+        extends OrdenadorAbstracto<T> {
+
+    /**
+     * Tamaño a partir del cual conviene el ordenamiento por raíz.
+     */
+    public static final int MINIMO_RADIX = 256;
+
+    /**
+     * Tamaño a partir del cual conviene el ordenamiento paralelo.
+     */
+    public static final int MINIMO_PARALELO = 1 << 16;
+
+    /**
+     * Largo promedio de racha a partir del cual se considera que la entrada
+     * está casi ordenada.
+     */
+    public static final int RACHA_PROMEDIO = 16;
+
+    /**
+     * Ordenamiento por raíz.
+     */
+    private final OrdenadorRadix<T> radix = new OrdenadorRadix<>();
+
+    /**
+     * Quicksort de doble pivote.
+     */
+    private final OrdenadorDoblePivote<T> doblePivote = new OrdenadorDoblePivote<>();
+
+    /**
+     * Mezcla natural.
+     */
+    private final OrdenadorRachas<T> rachas = new OrdenadorRachas<>();
+
+    /**
+     * Mezcla paralela.
+     */
+    private final OrdenadorMezclaParalelo<T> paralelo = new OrdenadorMezclaParalelo<>();
+
+    /**
+     * Estrategia usada en la última llamada.
+     */
+    private volatile OrdenadorAbstracto<T> ultima;
+
+    /**
+     * Retorna la estrategia elegida en la última llamada a {@code ordenar}.
+     *
+     * @return la última estrategia usada, o {@code null} si aún no se ordenó.
+     */
+    public Ordenador<T> ultimaEleccion() {
+        return ultima;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void ordenar(Indexable<T> arreglo) {
+        if (arreglo instanceof IndexableInt || arreglo instanceof IndexableLong) {
+            ultima = arreglo.largo() >= MINIMO_RADIX ? radix : doblePivote;
+            ultima.ordenar(arreglo);
+        } else if (arreglo instanceof IndexableDouble) {
+            ultima = doblePivote;
+            ultima.ordenar(arreglo);
+        } else {
+            super.ordenar(arreglo);
+        }
+    }
+
+    @Override
+    protected void ordenarElementos(T[] elementos, Comparator<? super T> comparador) {
+        ultima = elegir(elementos, comparador);
+        ultima.ordenarElementos(elementos, comparador);
+    }
+
+    /**
+     * Elige la estrategia para una copia de los elementos.
+     *
+     * @param elementos  los elementos a ordenar.
+     * @param comparador el criterio de ordenamiento.
+     * @return la estrategia a usar.
+     */
+    private OrdenadorAbstracto<T> elegir(T[] elementos,
+                                         Comparator<? super T> comparador) {
+        int largo = elementos.length;
+        if (largo >= MINIMO_RADIX && comparador == Comparator.naturalOrder()) {
+            Primitivos.Tipo tipo = Primitivos.tipoComun(elementos);
+            if (tipo == Primitivos.Tipo.ENTERO || tipo == Primitivos.Tipo.LARGO) {
+                return radix;
+            }
+        }
+        int maximo = largo / RACHA_PROMEDIO + 1;
+        if (OrdenadorRachas.contarRachas(elementos, comparador, maximo) < maximo) {
+            return rachas;
+        }
+        return largo >= MINIMO_PARALELO ? paralelo : rachas;
+    }
+}
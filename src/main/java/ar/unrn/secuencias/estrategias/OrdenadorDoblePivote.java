@@ -0,0 +1,49 @@
+package ar.unrn.secuencias.estrategias;
+
+import ar.unrn.secuencias.interfaces.Indexable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Quicksort de doble pivote sobre claves primitivas.
+ * <p>
+ * Las secuencias primitivas de {@code int}, {@code long} o {@code double} se
+ * ordenan sin encapsular sus valores. Para el resto, se usa el quicksort solo
+ * si se pide el orden natural y todos los elementos son del mismo tipo
+ * numérico encapsulado ({@link Integer}, {@link Long} o {@link Double}); los
+ * elementos equivalentes de esos tipos son iguales según {@code equals}, por
+ * lo que la falta de estabilidad no se observa. En cualquier otro caso se
+ * recurre a un ordenamiento por mezcla estable.
+ * </p>
+ * <p>
+ * Los {@code double} siguen el orden de {@link Double#compareTo}: {@code -0.0}
+ * antes que {@code 0.0} y {@code NaN} al final.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos a ordenar.
+ */
+public final class OrdenadorDoblePivote<T extends Comparable<T>>
+        extends OrdenadorAbstracto<T> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void ordenar(Indexable<T> arreglo) {
+        if (!Primitivos.ordenarDoblePivote(arreglo)) {
+            super.ordenar(arreglo);
+        }
+    }
+
+    @Override
+    protected void ordenarElementos(T[] elementos, Comparator<? super T> comparador) {
+        Primitivos.Tipo tipo = comparador == Comparator.naturalOrder()
+                ? Primitivos.tipoComun(elementos) : null;
+        if (tipo != null) {
+            Primitivos.ordenarDoblePivote(elementos, tipo);
+        } else {
+            Arrays.sort(elementos, comparador);
+        }
+    }
+}
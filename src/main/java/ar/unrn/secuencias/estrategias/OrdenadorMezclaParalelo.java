@@ -0,0 +1,316 @@
+package ar.unrn.secuencias.estrategias;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Ordenamiento por mezcla (merge sort) paralelo, sobre un {@link ForkJoinPool}.
+ * <p>
+ * El rango se divide a la mitad recursivamente y cada mitad se ordena como una
+ * tarea independiente. Las mezclas también se dividen: se toma el elemento
+ * central de la mitad más larga, se ubica su posición en la otra mitad por
+ * búsqueda binaria y ambos lados se mezclan en paralelo.
+ * </p>
+ * <p>
+ * Los rangos de hasta {@link #umbral()} elementos se resuelven de forma
+ * secuencial, ya que por debajo de cierto tamaño el costo de crear tareas
+ * supera la ganancia. El ordenamiento es <strong>estable</strong>: los
+ * elementos equivalentes conservan su orden relativo.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos a ordenar.
+ */
+public final class OrdenadorMezclaParalelo<T extends Comparable<T>>
+        extends OrdenadorAbstracto<T> {
+
+    /**
+     * Umbral secuencial por omisión.
+     */
+    public static final int UMBRAL_POR_OMISION = 8192;
+
+    /**
+     * Cantidad de elementos a partir de la cual un rango se sigue dividiendo.
+     */
+    private final int umbral;
+
+    /**
+     * Grupo de hilos donde se ejecutan las tareas.
+     */
+    private final ForkJoinPool grupo;
+
+    /**
+     * Crea la estrategia con el umbral por omisión, sobre el grupo común.
+     */
+    public OrdenadorMezclaParalelo() {
+        this(UMBRAL_POR_OMISION);
+    }
+
+    /**
+     * Crea la estrategia con el umbral indicado, sobre el grupo común.
+     *
+     * @param corte la cantidad de elementos hasta la cual se ordena de forma
+     *              secuencial; al menos 1.
+     * @throws IllegalArgumentException si {@code corte} es menor a 1.
+     */
+    public OrdenadorMezclaParalelo(int corte) {
+        this(corte, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crea la estrategia con el umbral y el grupo de hilos indicados.
+     *
+     * @param corte la cantidad de elementos hasta la cual se ordena de forma
+     *              secuencial; al menos 1.
+     * @param hilos el grupo donde ejecutar las tareas.
+     * @throws IllegalArgumentException si {@code corte} es menor a 1.
+     */
+    public OrdenadorMezclaParalelo(int corte, ForkJoinPool hilos) {
+        if (corte < 1) {
+            throw new IllegalArgumentException("El umbral debe ser al menos 1: " + corte);
+        }
+        this.umbral = corte;
+        this.grupo = hilos;
+    }
+
+    /**
+     * Retorna el umbral por debajo del cual se ordena de forma secuencial.
+     *
+     * @return el umbral configurado.
+     */
+    public int umbral() {
+        return umbral;
+    }
+
+    @Override
+    protected void ordenarElementos(T[] elementos, Comparator<? super T> comparador) {
+        if (elementos.length <= umbral) {
+            Arrays.sort(elementos, comparador);
+            return;
+        }
+        T[] auxiliar = elementos.clone();
+        Trabajo<T> trabajo = new Trabajo<>(elementos, auxiliar, comparador, umbral);
+        grupo.invoke(new Ordenamiento<>(trabajo, 0, elementos.length));
+    }
+
+    /**
+     * Datos compartidos por todas las tareas de un mismo ordenamiento.
+     *
+     * @param elementos  el arreglo a ordenar, donde queda el resultado.
+     * @param auxiliar   el espacio de trabajo, del mismo largo.
+     * @param comparador el criterio de ordenamiento.
+     * @param corte      el tamaño hasta el cual se resuelve de forma secuencial.
+     * @param <T>        el tipo de los elementos.
+     */
+    private record Trabajo<T>(T[] elementos, T[] auxiliar,
+                              Comparator<? super T> comparador, int corte) {
+    }
+
+    /**
+     * Ordena un rango de los elementos, usando el espacio de trabajo.
+     *
+     * @param <T> el tipo de los elementos.
+     */
+    private static final class Ordenamiento<T> extends RecursiveAction {
+
+        /**
+         * Datos del ordenamiento.
+         */
+        private final Trabajo<T> trabajo;
+
+        /**
+         * Inicio del rango, inclusivo.
+         */
+        private final int desde;
+
+        /**
+         * Fin del rango, exclusivo.
+         */
+        private final int hasta;
+
+        /**
+         * Crea la tarea para el rango indicado.
+         *
+         * @param datos  los datos del ordenamiento.
+         * @param inicio el inicio del rango, inclusivo.
+         * @param fin    el fin del rango, exclusivo.
+         */
+        Ordenamiento(Trabajo<T> datos, int inicio, int fin) {
+            this.trabajo = datos;
+            this.desde = inicio;
+            this.hasta = fin;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde <= trabajo.corte()) {
+                Arrays.sort(trabajo.elementos(), desde, hasta, trabajo.comparador());
+                return;
+            }
+            int medio = (desde + hasta) >>> 1;
+            invokeAll(new Ordenamiento<>(trabajo, desde, medio),
+                    new Ordenamiento<>(trabajo, medio, hasta));
+            System.arraycopy(trabajo.elementos(), desde, trabajo.auxiliar(), desde,
+                    hasta - desde);
+            new Mezcla<>(trabajo, desde, medio, medio, hasta, desde).compute();
+        }
+    }
+
+    /**
+     * Mezcla dos rangos ordenados del espacio de trabajo en el arreglo de
+     * elementos.
+     * <p>
+     * Ante elementos equivalentes, los del rango izquierdo van primero, lo que
+     * mantiene la estabilidad.
+     * </p>
+     *
+     * @param <T> el tipo de los elementos.
+     */
+    private static final class Mezcla<T> extends RecursiveAction {
+
+        /**
+         * Datos del ordenamiento.
+         */
+        private final Trabajo<T> trabajo;
+
+        /**
+         * Inicio del rango izquierdo, inclusivo.
+         */
+        private final int izquierdaDesde;
+
+        /**
+         * Fin del rango izquierdo, exclusivo.
+         */
+        private final int izquierdaHasta;
+
+        /**
+         * Inicio del rango derecho, inclusivo.
+         */
+        private final int derechaDesde;
+
+        /**
+         * Fin del rango derecho, exclusivo.
+         */
+        private final int derechaHasta;
+
+        /**
+         * Posición de los elementos donde comienza el resultado.
+         */
+        private final int posicion;
+
+        /**
+         * Crea la tarea de mezcla.
+         *
+         * @param datos    los datos del ordenamiento.
+         * @param izqDesde el inicio del rango izquierdo.
+         * @param izqHasta el fin del rango izquierdo.
+         * @param derDesde el inicio del rango derecho.
+         * @param derHasta el fin del rango derecho.
+         * @param inicio   la posición donde comienza el resultado.
+         */
+        Mezcla(Trabajo<T> datos, int izqDesde, int izqHasta, int derDesde,
+               int derHasta, int inicio) {
+            this.trabajo = datos;
+            this.izquierdaDesde = izqDesde;
+            this.izquierdaHasta = izqHasta;
+            this.derechaDesde = derDesde;
+            this.derechaHasta = derHasta;
+            this.posicion = inicio;
+        }
+
+        @Override
+        protected void compute() {
+            int largoIzquierda = izquierdaHasta - izquierdaDesde;
+            int largoDerecha = derechaHasta - derechaDesde;
+            int total = largoIzquierda + largoDerecha;
+            if (total <= trabajo.corte() || total <= 2) {
+                mezclarSecuencial();
+                return;
+            }
+            T[] origen = trabajo.auxiliar();
+            int pivoteIzquierda;
+            int pivoteDerecha;
+            if (largoIzquierda >= largoDerecha) {
+                pivoteIzquierda = (izquierdaDesde + izquierdaHasta) >>> 1;
+                pivoteDerecha = primeroNoMenor(origen[pivoteIzquierda]);
+            } else {
+                pivoteDerecha = (derechaDesde + derechaHasta) >>> 1;
+                pivoteIzquierda = primeroMayor(origen[pivoteDerecha]);
+            }
+            int corteDestino = posicion + (pivoteIzquierda - izquierdaDesde)
+                    + (pivoteDerecha - derechaDesde);
+            invokeAll(new Mezcla<>(trabajo, izquierdaDesde, pivoteIzquierda,
+                            derechaDesde, pivoteDerecha, posicion),
+                    new Mezcla<>(trabajo, pivoteIzquierda, izquierdaHasta,
+                            pivoteDerecha, derechaHasta, corteDestino));
+        }
+
+        /**
+         * Busca en el rango derecho el primer elemento que no es menor al pivote.
+         *
+         * @param pivote el elemento de referencia, tomado del rango izquierdo.
+         * @return la posición encontrada, o {@link #derechaHasta} si no hay.
+         */
+        private int primeroNoMenor(T pivote) {
+            T[] origen = trabajo.auxiliar();
+            int bajo = derechaDesde;
+            int alto = derechaHasta;
+            while (bajo < alto) {
+                int medio = (bajo + alto) >>> 1;
+                if (trabajo.comparador().compare(origen[medio], pivote) < 0) {
+                    bajo = medio + 1;
+                } else {
+                    alto = medio;
+                }
+            }
+            return bajo;
+        }
+
+        /**
+         * Busca en el rango izquierdo el primer elemento mayor al pivote.
+         *
+         * @param pivote el elemento de referencia, tomado del rango derecho.
+         * @return la posición encontrada, o {@link #izquierdaHasta} si no hay.
+         */
+        private int primeroMayor(T pivote) {
+            T[] origen = trabajo.auxiliar();
+            int bajo = izquierdaDesde;
+            int alto = izquierdaHasta;
+            while (bajo < alto) {
+                int medio = (bajo + alto) >>> 1;
+                if (trabajo.comparador().compare(origen[medio], pivote) <= 0) {
+                    bajo = medio + 1;
+                } else {
+                    alto = medio;
+                }
+            }
+            return bajo;
+        }
+
+        /**
+         * Mezcla ambos rangos en un único recorrido.
+         */
+        private void mezclarSecuencial() {
+            T[] origen = trabajo.auxiliar();
+            T[] destino = trabajo.elementos();
+            Comparator<? super T> comparador = trabajo.comparador();
+            int i = izquierdaDesde;
+            int j = derechaDesde;
+            int k = posicion;
+            while (i < izquierdaHasta && j < derechaHasta) {
+                if (comparador.compare(origen[j], origen[i]) < 0) {
+                    destino[k] = origen[j];
+                    j++;
+                } else {
+                    destino[k] = origen[i];
+                    i++;
+                }
+                k++;
+            }
+            System.arraycopy(origen, i, destino, k, izquierdaHasta - i);
+            System.arraycopy(origen, j, destino, k + izquierdaHasta - i,
+                    derechaHasta - j);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package ar.unrn.secuencias.estrategias;
+
+import java.util.Comparator;
+
+/**
+ * Ordenamiento por mezcla natural, que aprovecha las rachas ya ordenadas.
+ * <p>
+ * Al estilo de TimSort, recorre los elementos una vez detectando rachas
+ * ascendentes, o estrictamente descendentes que invierte en el lugar. Las
+ * rachas de menos de {@value #RACHA_MINIMA} elementos se extienden por
+ * inserción binaria, y luego las rachas vecinas se mezclan de a pares hasta
+ * que queda una sola. Una secuencia ya ordenada (o invertida) se resuelve en
+ * tiempo lineal.
+ * </p>
+ * <p>
+ * El ordenamiento es <strong>estable</strong> y admite cualquier comparador.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos a ordenar.
+ */
+public final class OrdenadorRachas<T extends Comparable<T>>
+        extends OrdenadorAbstracto<T> {
+
+    /**
+     * Largo mínimo de una racha; las más cortas se extienden por inserción.
+     */
+    public static final int RACHA_MINIMA = 32;
+
+    @Override
+    protected void ordenarElementos(T[] elementos, Comparator<? super T> comparador) {
+        int largo = elementos.length;
+        if (largo < 2) {
+            return;
+        }
+        int[] limites = new int[largo / RACHA_MINIMA + 2];
+        int cantidad = 0;
+        int inicio = 0;
+        while (inicio < largo) {
+            limites[cantidad] = inicio;
+            cantidad++;
+            int fin = finDeRacha(elementos, inicio, comparador);
+            int minimo = Math.min(largo, inicio + RACHA_MINIMA);
+            if (fin < minimo) {
+                insercionBinaria(elementos, inicio, fin, minimo, comparador);
+                fin = minimo;
+            }
+            inicio = fin;
+        }
+        limites[cantidad] = largo;
+        T[] auxiliar = elementos.clone();
+        while (cantidad > 1) {
+            int restantes = 0;
+            for (int racha = 0; racha < cantidad; racha = racha + 2) {
+                if (racha + 1 < cantidad) {
+                    mezclar(elementos, auxiliar, limites[racha], limites[racha + 1],
+                            limites[racha + 2], comparador);
+                }
+                limites[restantes] = limites[racha];
+                restantes++;
+            }
+            limites[restantes] = largo;
+            cantidad = restantes;
+        }
+    }
+
+    /**
+     * Cuenta las rachas de los elementos, hasta un máximo. Lo usa
+     * {@link OrdenadorAdaptativo} para estimar cuán ordenada está la entrada.
+     *
+     * @param elementos  los elementos a inspeccionar.
+     * @param comparador el criterio de ordenamiento.
+     * @param maximo     la cantidad a partir de la cual se deja de contar.
+     * @param <T>        el tipo de los elementos.
+     * @return la cantidad de rachas, o {@code maximo} si hay al menos esa cantidad.
+     */
+    static <T> int contarRachas(T[] elementos, Comparator<? super T> comparador,
+                                int maximo) {
+        int rachas = 0;
+        int inicio = 0;
+        while (inicio < elementos.length && rachas < maximo) {
+            rachas++;
+            inicio = largoDeRacha(elementos, inicio, comparador);
+        }
+        return rachas;
+    }
+
+    /**
+     * Ubica el fin de la racha que comienza en {@code inicio}, sin modificar
+     * los elementos.
+     *
+     * @param elementos  los elementos.
+     * @param inicio     el comienzo de la racha.
+     * @param comparador el criterio de ordenamiento.
+     * @param <T>        el tipo de los elementos.
+     * @return la posición siguiente al último elemento de la racha.
+     */
+    private static <T> int largoDeRacha(T[] elementos, int inicio,
+                                        Comparator<? super T> comparador) {
+        int fin = inicio + 1;
+        if (fin == elementos.length) {
+            return fin;
+        }
+        if (comparador.compare(elementos[fin], elementos[inicio]) < 0) {
+            while (fin < elementos.length
+                    && comparador.compare(elementos[fin], elementos[fin - 1]) < 0) {
+                fin++;
+            }
+        } else {
+            while (fin < elementos.length
+                    && comparador.compare(elementos[fin], elementos[fin - 1]) >= 0) {
+                fin++;
+            }
+        }
+        return fin;
+    }
+
+    /**
+     * Ubica el fin de la racha que comienza en {@code inicio}; si es
+     * descendente, la invierte para dejarla ascendente. Solo se invierten las
+     * rachas estrictamente descendentes, lo que preserva la estabilidad.
+     *
+     * @param elementos  los elementos.
+     * @param inicio     el comienzo de la racha.
+     * @param comparador el criterio de ordenamiento.
+     * @return la posición siguiente al último elemento de la racha.
+     */
+    private int finDeRacha(T[] elementos, int inicio, Comparator<? super T> comparador) {
+        int fin = largoDeRacha(elementos, inicio, comparador);
+        if (fin - inicio > 1
+                && comparador.compare(elementos[inicio + 1], elementos[inicio]) < 0) {
+            int izquierda = inicio;
+            int derecha = fin - 1;
+            while (izquierda < derecha) {
+                T auxiliar = elementos[izquierda];
+                elementos[izquierda] = elementos[derecha];
+                elementos[derecha] = auxiliar;
+                izquierda++;
+                derecha--;
+            }
+        }
+        return fin;
+    }
+
+    /**
+     * Extiende el rango ordenado {@code [inicio, ordenado)} hasta {@code fin},
+     * insertando cada elemento después de sus equivalentes.
+     *
+     * @param elementos  los elementos.
+     * @param inicio     el comienzo del rango.
+     * @param ordenado   el fin de la parte ya ordenada.
+     * @param fin        el fin del rango a ordenar.
+     * @param comparador el criterio de ordenamiento.
+     */
+    private void insercionBinaria(T[] elementos, int inicio, int ordenado, int fin,
+                                  Comparator<? super T> comparador) {
+        for (int i = ordenado; i < fin; i++) {
+            T elemento = elementos[i];
+            int bajo = inicio;
+            int alto = i;
+            while (bajo < alto) {
+                int medio = (bajo + alto) >>> 1;
+                if (comparador.compare(elemento, elementos[medio]) < 0) {
+                    alto = medio;
+                } else {
+                    bajo = medio + 1;
+                }
+            }
+            System.arraycopy(elementos, bajo, elementos, bajo + 1, i - bajo);
+            elementos[bajo] = elemento;
+        }
+    }
+
+    /**
+     * Mezcla las rachas vecinas {@code [inicio, medio)} y {@code [medio, fin)}.
+     * Ante elementos equivalentes, los de la racha izquierda van primero.
+     *
+     * @param elementos  los elementos, donde queda el resultado.
+     * @param auxiliar   el espacio de trabajo, del mismo largo.
+     * @param inicio     el comienzo de la racha izquierda.
+     * @param medio      el comienzo de la racha derecha.
+     * @param fin        el fin de la racha derecha.
+     * @param comparador el criterio de ordenamiento.
+     */
+    private void mezclar(T[] elementos, T[] auxiliar, int inicio, int medio, int fin,
+                         Comparator<? super T> comparador) {
+        if (comparador.compare(elementos[medio], elementos[medio - 1]) >= 0) {
+            return;
+        }
+        System.arraycopy(elementos, inicio, auxiliar, inicio, medio - inicio);
+        int i = inicio;
+        int j = medio;
+        int k = inicio;
+        while (i < medio && j < fin) {
+            if (comparador.compare(elementos[j], auxiliar[i]) < 0) {
+                elementos[k] = elementos[j];
+                j++;
+            } else {
+                elementos[k] = auxiliar[i];
+                i++;
+            }
+            k++;
+        }
+        System.arraycopy(auxiliar, i, elementos, k, medio - i);
+    }
+}
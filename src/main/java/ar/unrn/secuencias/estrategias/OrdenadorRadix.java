@@ -0,0 +1,49 @@
+package ar.unrn.secuencias.estrategias;
+
+import ar.unrn.secuencias.interfaces.Indexable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Ordenamiento por raíz (radix sort LSD) para claves {@code int} y {@code long}.
+ * <p>
+ * Las secuencias primitivas de {@code int} o {@code long} se ordenan sin
+ * encapsular sus valores. Para el resto, se usa el ordenamiento por raíz solo
+ * si se pide el orden natural y todos los elementos son {@link Integer} o todos
+ * {@link Long}; en cualquier otro caso se recurre a un ordenamiento por mezcla.
+ * Ambos caminos son <strong>estables</strong>, por lo que el resultado es el
+ * mismo que el de cualquier otra estrategia.
+ * </p>
+ * <p>
+ * Cada pasada procesa un byte de la clave, en tiempo lineal; las pasadas en
+ * las que todas las claves comparten el byte se omiten, de modo que valores
+ * acotados requieren menos pasadas.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos a ordenar.
+ */
+public final class OrdenadorRadix<T extends Comparable<T>>
+        extends OrdenadorAbstracto<T> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void ordenar(Indexable<T> arreglo) {
+        if (!Primitivos.ordenarPorRaiz(arreglo)) {
+            super.ordenar(arreglo);
+        }
+    }
+
+    @Override
+    protected void ordenarElementos(T[] elementos, Comparator<? super T> comparador) {
+        Primitivos.Tipo tipo = comparador == Comparator.naturalOrder()
+                ? Primitivos.tipoComun(elementos) : null;
+        if (tipo == Primitivos.Tipo.ENTERO || tipo == Primitivos.Tipo.LARGO) {
+            Primitivos.ordenarPorRaiz(elementos, tipo);
+        } else {
+            Arrays.sort(elementos, comparador);
+        }
+    }
+}
@@ -0,0 +1,491 @@
+package ar.unrn.secuencias.estrategias;
+
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.interfaces.IndexableDouble;
+import ar.unrn.secuencias.interfaces.IndexableInt;
+import ar.unrn.secuencias.interfaces.IndexableLong;
+
+import java.util.Arrays;
+
+/**
+ * Algoritmos de ordenamiento sobre claves {@code long}, compartidos por las
+ * estrategias que aprovechan el tipo primitivo de los elementos.
+ * <p>
+ * Los {@code int}, {@code long} y {@code double} se traducen a claves
+ * {@code long} que conservan el orden natural del tipo original (el de
+ * {@link Integer#compareTo}, {@link Long#compareTo} y {@link Double#compareTo},
+ * respectivamente), se ordenan y se traducen de vuelta.
+ * </p>
+ */
+final class Primitivos {
+
+    /**
+     * Bits que procesa cada pasada del ordenamiento por raíz.
+     */
+    private static final int BITS_POR_PASADA = 8;
+
+    /**
+     * Cantidad de valores distintos de un dígito de {@link #BITS_POR_PASADA} bits.
+     */
+    private static final int BALDES = 1 << BITS_POR_PASADA;
+
+    /**
+     * Máscara que aísla un dígito.
+     */
+    private static final int MASCARA = BALDES - 1;
+
+    /**
+     * Rangos de hasta este largo se ordenan por inserción.
+     */
+    private static final int INSERCION = 27;
+
+    /**
+     * Divisor usado para ubicar los pivotes en los tercios del rango.
+     */
+    private static final int TERCIOS = 3;
+
+    /**
+     * Posición del bit de signo de un {@code long}.
+     */
+    private static final int SIGNO = Long.SIZE - 1;
+
+    /**
+     * No se instancia, solo agrupa funciones.
+     */
+    private Primitivos() {
+    }
+
+    /**
+     * Tipos numéricos encapsulados que admiten un ordenamiento primitivo.
+     */
+    enum Tipo {
+        /**
+         * Todos los elementos son {@link Integer}.
+         */
+        ENTERO,
+        /**
+         * Todos los elementos son {@link Long}.
+         */
+        LARGO,
+        /**
+         * Todos los elementos son {@link Double}.
+         */
+        DOBLE
+    }
+
+    /**
+     * Determina si todos los elementos son del mismo tipo numérico encapsulado.
+     *
+     * @param elementos los elementos a inspeccionar, sin nulos.
+     * @return el tipo común, o {@code null} si no hay uno o el arreglo está vacío.
+     */
+    static Tipo tipoComun(Object[] elementos) {
+        if (elementos.length == 0) {
+            return null;
+        }
+        Class<?> clase = elementos[0].getClass();
+        for (Object elemento : elementos) {
+            if (elemento.getClass() != clase) {
+                return null;
+            }
+        }
+        if (clase == Integer.class) {
+            return Tipo.ENTERO;
+        }
+        if (clase == Long.class) {
+            return Tipo.LARGO;
+        }
+        if (clase == Double.class) {
+            return Tipo.DOBLE;
+        }
+        return null;
+    }
+
+    /**
+     * Traduce un {@code double} a un {@code long} con signo que respeta el
+     * orden de {@link Double#compare(double, double)}. La traducción es su
+     * propia inversa, ver {@link #desdeOrdenable(long)}.
+     *
+     * @param valor el valor a traducir.
+     * @return la clave ordenable.
+     */
+    static long aOrdenable(double valor) {
+        long bits = Double.doubleToLongBits(valor);
+        return bits ^ ((bits >> SIGNO) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Recupera el {@code double} de una clave de {@link #aOrdenable(double)}.
+     *
+     * @param clave la clave ordenable.
+     * @return el valor original.
+     */
+    static double desdeOrdenable(long clave) {
+        return Double.longBitsToDouble(clave ^ ((clave >> SIGNO) & Long.MAX_VALUE));
+    }
+
+    /**
+     * Traduce un {@code int} a una clave sin signo que respeta su orden.
+     *
+     * @param valor el valor a traducir.
+     * @return la clave, en {@code [0, 2^32)}.
+     */
+    private static long claveSinSigno(int valor) {
+        return Integer.toUnsignedLong(valor ^ Integer.MIN_VALUE);
+    }
+
+    /**
+     * Ordena por raíz las claves de una secuencia primitiva entera.
+     *
+     * @param arreglo la secuencia a ordenar.
+     * @return {@code true} si la secuencia es de {@code int} o {@code long} y
+     * fue ordenada; {@code false} si no es una secuencia primitiva entera.
+     */
+    static boolean ordenarPorRaiz(Indexable<?> arreglo) {
+        if (arreglo instanceof IndexableInt enteros) {
+            long[] claves = new long[enteros.largo()];
+            for (int i = 0; i < claves.length; i++) {
+                claves[i] = claveSinSigno(enteros.obtenerInt(i));
+            }
+            raiz(claves, null);
+            for (int i = 0; i < claves.length; i++) {
+                enteros.modificarInt(i, (int) claves[i] ^ Integer.MIN_VALUE);
+            }
+            return true;
+        }
+        if (arreglo instanceof IndexableLong largos) {
+            long[] claves = new long[largos.largo()];
+            for (int i = 0; i < claves.length; i++) {
+                claves[i] = largos.obtenerLong(i) ^ Long.MIN_VALUE;
+            }
+            raiz(claves, null);
+            for (int i = 0; i < claves.length; i++) {
+                largos.modificarLong(i, claves[i] ^ Long.MIN_VALUE);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Ordena por raíz elementos {@link Integer} o {@link Long}, moviendo las
+     * mismas instancias. Al ser estable, los elementos iguales conservan su
+     * orden relativo.
+     *
+     * @param elementos los elementos a ordenar.
+     * @param tipo      el tipo común de los elementos, entero o largo.
+     */
+    static void ordenarPorRaiz(Object[] elementos, Tipo tipo) {
+        long[] claves = new long[elementos.length];
+        for (int i = 0; i < claves.length; i++) {
+            if (tipo == Tipo.ENTERO) {
+                claves[i] = claveSinSigno((Integer) elementos[i]);
+            } else {
+                claves[i] = (Long) elementos[i] ^ Long.MIN_VALUE;
+            }
+        }
+        raiz(claves, elementos);
+    }
+
+    /**
+     * Ordena con quicksort de doble pivote las claves de una secuencia primitiva.
+     *
+     * @param arreglo la secuencia a ordenar.
+     * @return {@code true} si la secuencia es de {@code int}, {@code long} o
+     * {@code double} y fue ordenada; {@code false} en otro caso.
+     */
+    static boolean ordenarDoblePivote(Indexable<?> arreglo) {
+        if (arreglo instanceof IndexableInt enteros) {
+            long[] claves = new long[enteros.largo()];
+            for (int i = 0; i < claves.length; i++) {
+                claves[i] = enteros.obtenerInt(i);
+            }
+            doblePivote(claves);
+            for (int i = 0; i < claves.length; i++) {
+                enteros.modificarInt(i, (int) claves[i]);
+            }
+            return true;
+        }
+        if (arreglo instanceof IndexableLong largos) {
+            long[] claves = new long[largos.largo()];
+            for (int i = 0; i < claves.length; i++) {
+                claves[i] = largos.obtenerLong(i);
+            }
+            doblePivote(claves);
+            for (int i = 0; i < claves.length; i++) {
+                largos.modificarLong(i, claves[i]);
+            }
+            return true;
+        }
+        if (arreglo instanceof IndexableDouble dobles) {
+            long[] claves = new long[dobles.largo()];
+            for (int i = 0; i < claves.length; i++) {
+                claves[i] = aOrdenable(dobles.obtenerDouble(i));
+            }
+            doblePivote(claves);
+            for (int i = 0; i < claves.length; i++) {
+                dobles.modificarDouble(i, desdeOrdenable(claves[i]));
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Ordena con quicksort de doble pivote elementos numéricos encapsulados.
+     * <p>
+     * Solo se ordenan las claves; después cada elemento original se ubica,
+     * en su orden de aparición, en la primera posición libre de su clave.
+     * Así se conservan las mismas instancias y los equivalentes mantienen su
+     * orden relativo, como en un ordenamiento estable.
+     * </p>
+     *
+     * @param elementos los elementos a ordenar.
+     * @param tipo      el tipo común de los elementos.
+     */
+    static void ordenarDoblePivote(Object[] elementos, Tipo tipo) {
+        long[] claves = new long[elementos.length];
+        for (int i = 0; i < claves.length; i++) {
+            claves[i] = switch (tipo) {
+                case ENTERO -> (Integer) elementos[i];
+                case LARGO -> (Long) elementos[i];
+                case DOBLE -> aOrdenable((Double) elementos[i]);
+            };
+        }
+        long[] ordenadas = claves.clone();
+        doblePivote(ordenadas);
+        Object[] originales = elementos.clone();
+        int[] ocupadas = new int[claves.length];
+        for (int i = 0; i < claves.length; i++) {
+            int primera = primeraPosicion(ordenadas, claves[i]);
+            elementos[primera + ocupadas[primera]] = originales[i];
+            ocupadas[primera]++;
+        }
+    }
+
+    /**
+     * Busca la primera aparición de una clave en claves ordenadas.
+     *
+     * @param ordenadas las claves, en orden ascendente.
+     * @param clave     una clave presente en el arreglo.
+     * @return la menor posición que contiene la clave.
+     */
+    private static int primeraPosicion(long[] ordenadas, long clave) {
+        int desde = 0;
+        int hasta = ordenadas.length;
+        while (desde < hasta) {
+            int medio = (desde + hasta) >>> 1;
+            if (ordenadas[medio] < clave) {
+                desde = medio + 1;
+            } else {
+                hasta = medio;
+            }
+        }
+        return desde;
+    }
+
+    /**
+     * Ordenamiento por raíz LSD de claves sin signo, de a
+     * {@value #BITS_POR_PASADA} bits por pasada. Las pasadas en las que todas
+     * las claves tienen el mismo dígito se omiten.
+     *
+     * @param claves       las claves, interpretadas sin signo.
+     * @param acompanantes elementos que se mueven junto a su clave, o
+     *                     {@code null} si no los hay.
+     */
+    private static void raiz(long[] claves, Object[] acompanantes) {
+        int largo = claves.length;
+        long[] origen = claves;
+        long[] destino = new long[largo];
+        Object[] origenAcompanantes = acompanantes;
+        Object[] destinoAcompanantes = acompanantes == null ? null : new Object[largo];
+        int[] cuenta = new int[BALDES + 1];
+        for (int corrimiento = 0; corrimiento < Long.SIZE;
+             corrimiento = corrimiento + BITS_POR_PASADA) {
+            Arrays.fill(cuenta, 0);
+            for (long clave : origen) {
+                cuenta[digito(clave, corrimiento) + 1]++;
+            }
+            if (largo == 0 || cuenta[digito(origen[0], corrimiento) + 1] == largo) {
+                continue;
+            }
+            for (int i = 0; i < BALDES; i++) {
+                cuenta[i + 1] = cuenta[i + 1] + cuenta[i];
+            }
+            for (int i = 0; i < largo; i++) {
+                int balde = digito(origen[i], corrimiento);
+                int posicion = cuenta[balde];
+                destino[posicion] = origen[i];
+                if (origenAcompanantes != null) {
+                    destinoAcompanantes[posicion] = origenAcompanantes[i];
+                }
+                cuenta[balde] = posicion + 1;
+            }
+            long[] intercambio = origen;
+            origen = destino;
+            destino = intercambio;
+            Object[] intercambioAcompanantes = origenAcompanantes;
+            origenAcompanantes = destinoAcompanantes;
+            destinoAcompanantes = intercambioAcompanantes;
+        }
+        if (origen != claves) {
+            System.arraycopy(origen, 0, claves, 0, largo);
+            if (acompanantes != null) {
+                System.arraycopy(origenAcompanantes, 0, acompanantes, 0, largo);
+            }
+        }
+    }
+
+    /**
+     * Extrae un dígito de la clave.
+     *
+     * @param clave       la clave.
+     * @param corrimiento la posición del dígito, en bits.
+     * @return el dígito, en {@code [0, BALDES)}.
+     */
+    private static int digito(long clave, int corrimiento) {
+        return (int) (clave >>> corrimiento) & MASCARA;
+    }
+
+    /**
+     * Quicksort de doble pivote sobre claves con signo. Los pivotes se toman
+     * de los tercios del rango; si la recursión se profundiza más de lo
+     * esperado, el rango se resuelve por montículo para acotar el peor caso.
+     *
+     * @param claves las claves a ordenar.
+     */
+    private static void doblePivote(long[] claves) {
+        int niveles = 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(claves.length));
+        doblePivote(claves, 0, claves.length - 1, niveles);
+    }
+
+    /**
+     * Ordena el rango {@code [izquierda, derecha]}.
+     *
+     * @param claves    las claves.
+     * @param izquierda el inicio del rango, inclusivo.
+     * @param derecha   el fin del rango, inclusivo.
+     * @param niveles   la profundidad restante antes de recurrir al montículo.
+     */
+    private static void doblePivote(long[] claves, int izquierda, int derecha,
+                                    int niveles) {
+        if (derecha - izquierda < INSERCION) {
+            insercion(claves, izquierda, derecha);
+            return;
+        }
+        if (niveles == 0) {
+            monticulo(claves, izquierda, derecha);
+            return;
+        }
+        int tercio = (derecha - izquierda) / TERCIOS;
+        intercambiar(claves, izquierda, izquierda + tercio);
+        intercambiar(claves, derecha, derecha - tercio);
+        if (claves[izquierda] > claves[derecha]) {
+            intercambiar(claves, izquierda, derecha);
+        }
+        long menor = claves[izquierda];
+        long mayor = claves[derecha];
+        int bajo = izquierda + 1;
+        int alto = derecha - 1;
+        int actual = bajo;
+        while (actual <= alto) {
+            if (claves[actual] < menor) {
+                intercambiar(claves, actual, bajo);
+                bajo++;
+            } else if (claves[actual] > mayor) {
+                while (claves[alto] > mayor && actual < alto) {
+                    alto--;
+                }
+                intercambiar(claves, actual, alto);
+                alto--;
+                if (claves[actual] < menor) {
+                    intercambiar(claves, actual, bajo);
+                    bajo++;
+                }
+            }
+            actual++;
+        }
+        bajo--;
+        alto++;
+        intercambiar(claves, izquierda, bajo);
+        intercambiar(claves, derecha, alto);
+        doblePivote(claves, izquierda, bajo - 1, niveles - 1);
+        if (menor < mayor) {
+            doblePivote(claves, bajo + 1, alto - 1, niveles - 1);
+        }
+        doblePivote(claves, alto + 1, derecha, niveles - 1);
+    }
+
+    /**
+     * Ordenamiento por inserción del rango {@code [izquierda, derecha]}.
+     *
+     * @param claves    las claves.
+     * @param izquierda el inicio del rango, inclusivo.
+     * @param derecha   el fin del rango, inclusivo.
+     */
+    private static void insercion(long[] claves, int izquierda, int derecha) {
+        for (int i = izquierda + 1; i <= derecha; i++) {
+            long clave = claves[i];
+            int j = i - 1;
+            while (j >= izquierda && claves[j] > clave) {
+                claves[j + 1] = claves[j];
+                j--;
+            }
+            claves[j + 1] = clave;
+        }
+    }
+
+    /**
+     * Ordenamiento por montículo del rango {@code [izquierda, derecha]}.
+     *
+     * @param claves    las claves.
+     * @param izquierda el inicio del rango, inclusivo.
+     * @param derecha   el fin del rango, inclusivo.
+     */
+    private static void monticulo(long[] claves, int izquierda, int derecha) {
+        int largo = derecha - izquierda + 1;
+        for (int i = largo / 2 - 1; i >= 0; i--) {
+            hundir(claves, izquierda, i, largo);
+        }
+        for (int fin = largo - 1; fin > 0; fin--) {
+            intercambiar(claves, izquierda, izquierda + fin);
+            hundir(claves, izquierda, 0, fin);
+        }
+    }
+
+    /**
+     * Restablece la propiedad de montículo de máximo desde un nodo hacia abajo.
+     *
+     * @param claves las claves.
+     * @param base   la posición donde comienza el montículo.
+     * @param nodo   el nodo a hundir, relativo a {@code base}.
+     * @param largo  la cantidad de elementos del montículo.
+     */
+    private static void hundir(long[] claves, int base, int nodo, int largo) {
+        int actual = nodo;
+        while (2 * actual + 1 < largo) {
+            int hijo = 2 * actual + 1;
+            if (hijo + 1 < largo && claves[base + hijo + 1] > claves[base + hijo]) {
+                hijo++;
+            }
+            if (claves[base + actual] >= claves[base + hijo]) {
+                return;
+            }
+            intercambiar(claves, base + actual, base + hijo);
+            actual = hijo;
+        }
+    }
+
+    /**
+     * Intercambia dos posiciones.
+     *
+     * @param claves las claves.
+     * @param una    la primera posición.
+     * @param otra   la segunda posición.
+     */
+    private static void intercambiar(long[] claves, int una, int otra) {
+        long auxiliar = claves[una];
+        claves[una] = claves[otra];
+        claves[otra] = auxiliar;
+    }
+}
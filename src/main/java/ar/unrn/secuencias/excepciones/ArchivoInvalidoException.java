@@ -0,0 +1,7 @@
+package ar.unrn.secuencias.excepciones;
+
+public class ArchivoInvalidoException extends SecuenciaException {
+    public ArchivoInvalidoException(String mensaje) {
+        super(mensaje);
+    }
+}
@@ -1,8 +1,18 @@
 package ar.unrn.secuencias.excepciones;
 
 public class ElementoInvalidoException extends SecuenciaException {
+    private final int[] indices;
+
     public ElementoInvalidoException(String mensaje) {
+        this(mensaje, new int[0]);
+    }
+
+    public ElementoInvalidoException(String mensaje, int[] invalidos) {
         super(mensaje);
+        this.indices = invalidos.clone();
     }
 
+    public int[] indicesInvalidos() {
+        return indices.clone();
+    }
 }
@@ -9,4 +9,8 @@ public class ElementoNuloException extends ElementoInvalidoException {
     public ElementoNuloException(String mensaje) {
         super(mensaje);
     }
+
+    public ElementoNuloException(String mensaje, int[] invalidos) {
+        super(mensaje, invalidos);
+    }
 }
@@ -10,5 +10,10 @@ public class IndiceFueraDeRangoException extends SecuenciaException {
     public IndiceFueraDeRangoException(int indice, int largo) {
         super(String.format("Índice %d fuera de rango para largo %d", indice, largo));
     }
+
+    public IndiceFueraDeRangoException(int desde, int hasta, int largo) {
+        super(String.format("Rango [%d, %d) fuera de rango para largo %d",
+                desde, hasta, largo));
+    }
 }
 
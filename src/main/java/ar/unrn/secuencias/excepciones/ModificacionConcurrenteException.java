@@ -0,0 +1,11 @@
+package ar.unrn.secuencias.excepciones;
+
+public class ModificacionConcurrenteException extends SecuenciaException {
+    public ModificacionConcurrenteException(String mensaje) {
+        super(mensaje);
+    }
+
+    public ModificacionConcurrenteException() {
+        super("La secuencia de origen fue modificada estructuralmente.");
+    }
+}
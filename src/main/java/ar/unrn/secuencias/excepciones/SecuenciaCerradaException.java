@@ -0,0 +1,11 @@
+package ar.unrn.secuencias.excepciones;
+
+public class SecuenciaCerradaException extends SecuenciaException {
+    public SecuenciaCerradaException(String mensaje) {
+        super(mensaje);
+    }
+
+    public SecuenciaCerradaException() {
+        super("La secuencia fue cerrada y su memoria ya fue liberada.");
+    }
+}
@@ -0,0 +1,716 @@
+package ar.unrn.secuencias.historial;
+
+import ar.unrn.secuencias.decoradores.SecuenciaDecorable;
+import ar.unrn.secuencias.excepciones.EstructuraVaciaException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.interfaces.Indexable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Decorador que registra las operaciones sobre la secuencia para deshacerlas,
+ * rehacerlas o volver a cualquier revisión anterior (patrones Memento y
+ * Comando).
+ * <p>
+ * Cada operación que modifica la secuencia agrega al historial un delta con
+ * lo necesario para repetirla y revertirla (posición, valores anteriores y
+ * nuevos), no una copia de toda la secuencia. Cuando las unidades de los
+ * deltas registrados desde la última copia completa (instantánea) alcanzan
+ * {@link #fraccion()} veces el largo de la secuencia, se guarda otra; así
+ * las instantáneas nunca ocupan más que los deltas que las separan dividido
+ * esa fracción, sin importar el largo, y repetir los deltas desde una
+ * instantánea cuesta a lo sumo lo mismo que cargarla. Para ir a
+ * una revisión, {@link #irA(int)} elige el camino más barato: revertir los
+ * deltas desde la revisión actual, o cargar la instantánea más cercana
+ * anterior y repetir los deltas desde ella.
+ * </p>
+ * <p>
+ * La memoria del historial se mide en unidades, una por cada valor guardado
+ * en deltas e instantáneas. Al superar {@link #limite()} se descartan las
+ * revisiones más antiguas, de a una instantánea por vez; la última instantánea
+ * anterior a la revisión actual y los deltas que le siguen se conservan
+ * siempre, aunque superen el límite. Una operación nueva después de deshacer
+ * descarta las revisiones que podían rehacerse.
+ * </p>
+ * <p>
+ * {@link #guardar()} retorna un {@link Memento} opaco con la revisión actual,
+ * y {@link #restaurar(Memento)} vuelve a ella mientras siga en el historial.
+ * Agregar y remover solo funcionan si la secuencia decorada es expandible.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class SecuenciaConHistorial<T> extends SecuenciaDecorable<T> {
+
+    /**
+     * Fracción del largo, en unidades de deltas, entre instantáneas por
+     * omisión.
+     */
+    public static final double FRACCION_POR_OMISION = 1.0;
+
+    /**
+     * Unidades de memoria del historial por omisión.
+     */
+    public static final int LIMITE_POR_OMISION = 1 << 20;
+
+    /**
+     * Fracción del largo, en unidades de deltas, entre instantáneas.
+     */
+    private final double fraccion;
+
+    /**
+     * Unidades de memoria máximas del historial.
+     */
+    private final int limite;
+
+    /**
+     * Deltas retenidos; el primero lleva de la revisión {@link #inicio} a la
+     * siguiente.
+     */
+    private final List<Delta> deltas = new ArrayList<>();
+
+    /**
+     * Copias completas de la secuencia, por revisión; siempre hay una en
+     * {@link #inicio}.
+     */
+    private final TreeMap<Integer, Object[]> instantaneas = new TreeMap<>();
+
+    /**
+     * Revisión más antigua retenida.
+     */
+    private int inicio;
+
+    /**
+     * Revisión en la que está la secuencia.
+     */
+    private int actual;
+
+    /**
+     * Unidades de memoria ocupadas por deltas e instantáneas.
+     */
+    private int ocupacion;
+
+    /**
+     * Unidades de los deltas que llevan de la última instantánea a la
+     * revisión actual.
+     */
+    private int acumulado;
+
+    /**
+     * Último delta descartado por antigüedad, que llevaba a la revisión
+     * {@link #inicio}; {@code null} si no se descartó ninguno.
+     */
+    private Delta anteriorAlInicio;
+
+    /**
+     * Crea el decorador con la fracción y el límite por omisión.
+     *
+     * @param secuencia la secuencia a decorar.
+     */
+    public SecuenciaConHistorial(Indexable<T> secuencia) {
+        this(secuencia, FRACCION_POR_OMISION, LIMITE_POR_OMISION);
+    }
+
+    /**
+     * Crea el decorador con la fracción y el límite indicados. La revisión 0
+     * es el contenido actual de la secuencia.
+     *
+     * @param secuencia  la secuencia a decorar.
+     * @param proporcion la fracción del largo que deben sumar los deltas para
+     *                   guardar otra instantánea, mayor a 0.
+     * @param maximo     las unidades de memoria del historial, al menos 1.
+     * @throws IllegalArgumentException si la fracción no es mayor a 0 o el
+     *                                  límite es menor a 1.
+     */
+    public SecuenciaConHistorial(Indexable<T> secuencia, double proporcion, int maximo) {
+        super(secuencia);
+        if (!(proporcion > 0) || maximo < 1) {
+            throw new IllegalArgumentException(
+                    "La fracción debe ser mayor a 0 y el límite al menos 1.");
+        }
+        this.fraccion = proporcion;
+        this.limite = maximo;
+        tomarInstantanea();
+    }
+
+    /**
+     * Retorna la fracción del largo que deben sumar los deltas, en unidades,
+     * para guardar otra instantánea.
+     *
+     * @return la fracción configurada.
+     */
+    public double fraccion() {
+        return fraccion;
+    }
+
+    /**
+     * Retorna las unidades de memoria máximas del historial.
+     *
+     * @return el límite configurado.
+     */
+    public int limite() {
+        return limite;
+    }
+
+    /**
+     * Retorna las unidades de memoria que ocupa el historial: una por cada
+     * valor guardado en deltas e instantáneas.
+     *
+     * @return la ocupación actual.
+     */
+    public int ocupacion() {
+        return ocupacion;
+    }
+
+    /**
+     * Retorna la revisión actual: la cantidad de operaciones aplicadas desde
+     * la creación, sin contar las deshechas.
+     *
+     * @return la revisión actual.
+     */
+    public int revision() {
+        return actual;
+    }
+
+    /**
+     * Retorna la revisión más antigua a la que todavía se puede volver.
+     *
+     * @return la revisión mínima.
+     */
+    public int revisionMinima() {
+        return inicio;
+    }
+
+    /**
+     * Retorna la revisión más reciente a la que se puede ir rehaciendo.
+     *
+     * @return la revisión máxima.
+     */
+    public int revisionMaxima() {
+        return inicio + deltas.size();
+    }
+
+    /**
+     * Indica si hay operaciones para deshacer.
+     *
+     * @return {@code true} si la revisión actual no es la mínima.
+     */
+    public boolean puedeDeshacer() {
+        return actual > inicio;
+    }
+
+    /**
+     * Indica si hay operaciones deshechas para rehacer.
+     *
+     * @return {@code true} si la revisión actual no es la máxima.
+     */
+    public boolean puedeRehacer() {
+        return actual < revisionMaxima();
+    }
+
+    /**
+     * Deshace la última operación aplicada.
+     *
+     * @throws EstructuraVaciaException si no hay operaciones para deshacer.
+     */
+    public void deshacer() {
+        if (!puedeDeshacer()) {
+            throw new EstructuraVaciaException("No hay operaciones para deshacer.");
+        }
+        irA(actual - 1);
+    }
+
+    /**
+     * Rehace la última operación deshecha.
+     *
+     * @throws EstructuraVaciaException si no hay operaciones para rehacer.
+     */
+    public void rehacer() {
+        if (!puedeRehacer()) {
+            throw new EstructuraVaciaException("No hay operaciones para rehacer.");
+        }
+        irA(actual + 1);
+    }
+
+    /**
+     * Lleva la secuencia a la revisión indicada, hacia atrás o hacia adelante.
+     *
+     * @param revision la revisión de destino.
+     * @throws IndiceFueraDeRangoException si la revisión no está en
+     *                                     {@code [revisionMinima(), revisionMaxima()]}.
+     */
+    public void irA(int revision) {
+        if (revision < inicio || revision > revisionMaxima()) {
+            throw new IndiceFueraDeRangoException("La revisión " + revision
+                    + " no está en el historial: [" + inicio + ", "
+                    + revisionMaxima() + "].");
+        }
+        if (revision < actual && conviene(revision)) {
+            Map.Entry<Integer, Object[]> base = instantaneas.floorEntry(revision);
+            cargar(base.getValue());
+            actual = base.getKey();
+        }
+        while (actual > revision) {
+            revertir(deltas.get(actual - 1 - inicio));
+            actual--;
+        }
+        while (actual < revision) {
+            aplicar(deltas.get(actual - inicio));
+            actual++;
+        }
+    }
+
+    /**
+     * Guarda la revisión actual.
+     *
+     * @return un memento que permite volver a ella.
+     */
+    public Memento guardar() {
+        return new Memento(this, actual, ultimoAntesDe(actual));
+    }
+
+    /**
+     * Vuelve a la revisión guardada en el memento.
+     *
+     * @param memento un memento de esta secuencia.
+     * @throws IllegalArgumentException    si el memento es de otra secuencia.
+     * @throws IndiceFueraDeRangoException si la revisión ya fue descartada por
+     *                                     antigüedad o por una operación hecha
+     *                                     después de deshacer.
+     */
+    public void restaurar(Memento memento) {
+        if (memento.origen != this) {
+            throw new IllegalArgumentException("El memento pertenece a otra secuencia.");
+        }
+        int revision = memento.revision;
+        if (revision < inicio || revision > revisionMaxima()
+                || ultimoAntesDe(revision) != memento.ultimo) {
+            throw new IndiceFueraDeRangoException(
+                    "La revisión " + revision + " ya no está en el historial.");
+        }
+        irA(revision);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        T anterior = obtener(indice);
+        super.modificar(indice, valor);
+        registrar(new Modificacion(indice, anterior, valor));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificarRango(int desde, T[] valores) {
+        Indexable.verificarRango(desde, desde + valores.length, largo());
+        Object[] anteriores = copiar(desde, desde + valores.length);
+        super.modificarRango(desde, valores);
+        registrar(new Rango(desde, anteriores, valores.clone()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rellenar(int desde, int hasta, T valor) {
+        Indexable.verificarRango(desde, hasta, largo());
+        Object[] anteriores = copiar(desde, hasta);
+        super.rellenar(desde, hasta, valor);
+        Object[] nuevos = new Object[hasta - desde];
+        Arrays.fill(nuevos, valor);
+        registrar(new Rango(desde, anteriores, nuevos));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void copiarDesde(Indexable<? extends T> origen, int desdeOrigen, int desde,
+                            int cantidad) {
+        Indexable.verificarRango(desde, desde + cantidad, largo());
+        Object[] anteriores = copiar(desde, desde + cantidad);
+        super.copiarDesde(origen, desdeOrigen, desde, cantidad);
+        registrar(new Rango(desde, anteriores, copiar(desde, desde + cantidad)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void agregar(T valor) {
+        super.agregar(valor);
+        registrar(new Agregado(valor));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Todos los valores agregados forman una única revisión.
+     * </p>
+     */
+    @Override
+    public void agregarTodos(Iterable<? extends T> valores) {
+        int antes = largo();
+        super.agregarTodos(valores);
+        if (largo() > antes) {
+            registrar(new Agregados(copiar(antes, largo())));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T remover(int indice) {
+        T removido = super.remover(indice);
+        registrar(new Remocion(indice, removido));
+        return removido;
+    }
+
+    /**
+     * Agrega un delta después de la revisión actual, descartando las
+     * revisiones que podían rehacerse, y guarda una instantánea o descarta
+     * revisiones antiguas si corresponde.
+     *
+     * @param delta la operación recién aplicada.
+     */
+    private void registrar(Delta delta) {
+        boolean descartadas = deltas.size() > actual - inicio;
+        while (deltas.size() > actual - inicio) {
+            ocupacion = ocupacion - deltas.remove(deltas.size() - 1).tamanio();
+        }
+        Map<Integer, Object[]> posteriores = instantaneas.tailMap(actual, false);
+        for (Object[] copia : posteriores.values()) {
+            ocupacion = ocupacion - copia.length - 1;
+        }
+        posteriores.clear();
+        if (descartadas) {
+            acumulado = 0;
+            for (int r = instantaneas.lastKey(); r < actual; r++) {
+                acumulado = acumulado + deltas.get(r - inicio).tamanio();
+            }
+        }
+        deltas.add(delta);
+        ocupacion = ocupacion + delta.tamanio();
+        acumulado = acumulado + delta.tamanio();
+        actual++;
+        if (acumulado >= fraccion * largo()) {
+            tomarInstantanea();
+        }
+        purgar();
+    }
+
+    /**
+     * Guarda una copia completa de la secuencia para la revisión actual.
+     */
+    private void tomarInstantanea() {
+        Object[] copia = copiar(0, largo());
+        instantaneas.put(actual, copia);
+        ocupacion = ocupacion + copia.length + 1;
+        acumulado = 0;
+    }
+
+    /**
+     * Descarta las revisiones más antiguas, hasta la siguiente instantánea,
+     * mientras se supere el límite y la revisión actual siga alcanzable.
+     */
+    private void purgar() {
+        while (ocupacion > limite) {
+            Integer siguiente = instantaneas.higherKey(inicio);
+            if (siguiente == null || siguiente > actual) {
+                return;
+            }
+            ocupacion = ocupacion - instantaneas.remove(inicio).length - 1;
+            List<Delta> descartados = deltas.subList(0, siguiente - inicio);
+            for (Delta delta : descartados) {
+                ocupacion = ocupacion - delta.tamanio();
+            }
+            anteriorAlInicio = descartados.get(descartados.size() - 1);
+            descartados.clear();
+            inicio = siguiente;
+        }
+    }
+
+    /**
+     * Indica si para volver a la revisión indicada conviene cargar una
+     * instantánea en vez de revertir deltas, estimando el costo de cada camino
+     * en valores escritos.
+     *
+     * @param revision una revisión anterior a la actual.
+     * @return {@code true} si conviene cargar una instantánea.
+     */
+    private boolean conviene(int revision) {
+        int base = instantaneas.floorKey(revision);
+        long repetir = instantaneas.get(base).length;
+        for (int r = base; r < revision; r++) {
+            repetir = repetir + deltas.get(r - inicio).tamanio();
+        }
+        long revertir = 0;
+        for (int r = revision; r < actual; r++) {
+            Delta delta = deltas.get(r - inicio);
+            revertir = revertir + (delta instanceof Remocion ? largo() : delta.tamanio());
+        }
+        return repetir < revertir;
+    }
+
+    /**
+     * Retorna el delta que llevó a la revisión indicada.
+     *
+     * @param revision una revisión retenida.
+     * @return el delta anterior, o el último descartado si es la mínima.
+     */
+    private Delta ultimoAntesDe(int revision) {
+        return revision == inicio ? anteriorAlInicio : deltas.get(revision - 1 - inicio);
+    }
+
+    /**
+     * Copia los elementos de un rango de la secuencia.
+     *
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @return los elementos del rango.
+     */
+    private Object[] copiar(int desde, int hasta) {
+        Object[] copia = new Object[hasta - desde];
+        for (int i = desde; i < hasta; i++) {
+            copia[i - desde] = obtener(i);
+        }
+        return copia;
+    }
+
+    /**
+     * Reemplaza el contenido de la secuencia por el de una instantánea.
+     * <p>
+     * Primero sobrescribe las posiciones existentes y recién después agrega
+     * los valores que faltan, sin escribir nunca un {@code null} de relleno
+     * que la secuencia decorada podría rechazar.
+     * </p>
+     *
+     * @param copia los elementos de la instantánea.
+     */
+    @SuppressWarnings("unchecked")
+    private void cargar(Object[] copia) {
+        while (largo() > copia.length) {
+            super.remover(largo() - 1);
+        }
+        int existentes = largo();
+        super.modificarRango(0, (T[]) Arrays.copyOf(copia, existentes));
+        for (int i = existentes; i < copia.length; i++) {
+            super.agregar((T) copia[i]);
+        }
+    }
+
+    /**
+     * Repite una operación registrada, sin registrarla de nuevo.
+     *
+     * @param delta la operación a repetir.
+     */
+    @SuppressWarnings("unchecked")
+    private void aplicar(Delta delta) {
+        switch (delta) {
+            case Modificacion m -> super.modificar(m.indice(), (T) m.nuevo());
+            case Rango r -> super.modificarRango(r.desde(), (T[]) r.nuevos());
+            case Agregado a -> super.agregar((T) a.valor());
+            case Agregados a -> super.agregarTodos(Arrays.asList((T[]) a.valores()));
+            case Remocion r -> super.remover(r.indice());
+        }
+    }
+
+    /**
+     * Revierte una operación registrada, sin registrar la reversión.
+     *
+     * @param delta la operación a revertir, la última aplicada.
+     */
+    @SuppressWarnings("unchecked")
+    private void revertir(Delta delta) {
+        switch (delta) {
+            case Modificacion m -> super.modificar(m.indice(), (T) m.anterior());
+            case Rango r -> super.modificarRango(r.desde(), (T[]) r.anteriores());
+            case Agregado a -> super.remover(largo() - 1);
+            case Agregados a -> {
+                for (int i = 0; i < a.valores().length; i++) {
+                    super.remover(largo() - 1);
+                }
+            }
+            case Remocion r -> reinsertar(r.indice(), (T) r.valor());
+        }
+    }
+
+    /**
+     * Vuelve a insertar un valor removido en su posición.
+     * <p>
+     * Reescribe la cola desde la posición, corrida un lugar, con una sola
+     * escritura de rango y agrega al final el último valor real. Así ningún
+     * valor queda repetido a mitad de camino y nunca se escribe un
+     * {@code null} de relleno.
+     * </p>
+     *
+     * @param indice la posición que ocupaba el valor.
+     * @param valor  el valor removido.
+     */
+    @SuppressWarnings("unchecked")
+    private void reinsertar(int indice, T valor) {
+        int cantidad = largo();
+        if (indice == cantidad) {
+            super.agregar(valor);
+            return;
+        }
+        T ultimo = obtener(cantidad - 1);
+        Object[] cola = new Object[cantidad - indice];
+        cola[0] = valor;
+        for (int i = 1; i < cola.length; i++) {
+            cola[i] = obtener(indice + i - 1);
+        }
+        super.modificarRango(indice, (T[]) cola);
+        super.agregar(ultimo);
+    }
+
+    /**
+     * Estado guardado de una {@link SecuenciaConHistorial}, opaco para quien
+     * lo guarda.
+     */
+    public static final class Memento {
+
+        /**
+         * Secuencia que lo creó.
+         */
+        private final SecuenciaConHistorial<?> origen;
+
+        /**
+         * Revisión guardada.
+         */
+        private final int revision;
+
+        /**
+         * Delta que llevó a la revisión, para detectar si fue descartada.
+         */
+        private final Delta ultimo;
+
+        /**
+         * Crea el memento.
+         *
+         * @param secuencia la secuencia que lo crea.
+         * @param guardada  la revisión guardada.
+         * @param anterior  el delta que llevó a ella, o {@code null}.
+         */
+        private Memento(SecuenciaConHistorial<?> secuencia, int guardada,
+                        Delta anterior) {
+            this.origen = secuencia;
+            this.revision = guardada;
+            this.ultimo = anterior;
+        }
+
+        /**
+         * Retorna la revisión guardada.
+         *
+         * @return el número de revisión.
+         */
+        public int revision() {
+            return revision;
+        }
+    }
+
+    /**
+     * Operación registrada en el historial.
+     */
+    private sealed interface Delta permits Modificacion, Rango, Agregado, Agregados,
+            Remocion {
+
+        /**
+         * Retorna las unidades de memoria que ocupa.
+         *
+         * @return la cantidad de valores guardados, al menos 1.
+         */
+        int tamanio();
+    }
+
+    /**
+     * Reemplazo de un elemento.
+     *
+     * @param indice   la posición modificada.
+     * @param anterior el valor anterior.
+     * @param nuevo    el valor nuevo.
+     */
+    private record Modificacion(int indice, Object anterior, Object nuevo)
+            implements Delta {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int tamanio() {
+            return 2;
+        }
+    }
+
+    /**
+     * Reemplazo de un rango de elementos.
+     *
+     * @param desde      el inicio del rango.
+     * @param anteriores los valores anteriores.
+     * @param nuevos     los valores nuevos, tantos como los anteriores.
+     */
+    private record Rango(int desde, Object[] anteriores, Object[] nuevos)
+            implements Delta {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int tamanio() {
+            return 1 + anteriores.length + nuevos.length;
+        }
+    }
+
+    /**
+     * Agregado de un elemento al final.
+     *
+     * @param valor el valor agregado.
+     */
+    private record Agregado(Object valor) implements Delta {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int tamanio() {
+            return 1;
+        }
+    }
+
+    /**
+     * Agregado de varios elementos al final.
+     *
+     * @param valores los valores agregados, en orden.
+     */
+    private record Agregados(Object[] valores) implements Delta {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int tamanio() {
+            return 1 + valores.length;
+        }
+    }
+
+    /**
+     * Remoción de un elemento.
+     *
+     * @param indice la posición removida.
+     * @param valor  el valor removido.
+     */
+    private record Remocion(int indice, Object valor) implements Delta {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int tamanio() {
+            return 2;
+        }
+    }
+}
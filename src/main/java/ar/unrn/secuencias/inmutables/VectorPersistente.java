@@ -0,0 +1,764 @@
+package ar.unrn.secuencias.inmutables;
+
+import ar.unrn.secuencias.excepciones.EstructuraVaciaException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.excepciones.SecuenciaCerradaException;
+import ar.unrn.secuencias.excepciones.SecuenciaNoModificableException;
+import ar.unrn.secuencias.interfaces.Expandable;
+import ar.unrn.secuencias.interfaces.Indexable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+/**
+ * Vector persistente: una secuencia inmutable cuyas versiones modificadas
+ * comparten la mayor parte de su estructura con la original.
+ * <p>
+ * Los elementos se guardan en un árbol de 32 hijos por nodo, más un bloque
+ * final (la cola) fuera del árbol. {@link #obtener(int)}, {@link #con(int, Object)}
+ * y {@link #sinUltimo()} cuestan O(log32 n), y {@link #agregado(Object)} es
+ * O(1) amortizado: solo copian el camino desde la raíz hasta la hoja afectada,
+ * y el resto de los nodos se comparte. Por eso un vector puede entregarse a
+ * otros hilos sin copiarlo ni sincronizarlo.
+ * </p>
+ * <p>
+ * Como es inmutable, las operaciones de {@link Indexable} que modifican la
+ * secuencia lanzan {@link SecuenciaNoModificableException}. Para construir o
+ * cambiar muchos elementos de una vez, {@link #transitorio()} retorna un
+ * {@link Transitorio} que modifica sus propios nodos en el lugar y se
+ * convierte de nuevo en vector persistente con {@link Transitorio#persistente()}.
+ * </p>
+ * <p>
+ * Admite elementos {@code null}. Su representación textual sigue el formato de
+ * las demás secuencias, por ejemplo {@code VectorPersistente={1,2}:2}.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class VectorPersistente<T> implements Indexable<T>, Iterable<T> {
+
+    /**
+     * Bits del índice que consume cada nivel del árbol.
+     */
+    private static final int BITS = 5;
+
+    /**
+     * Cantidad de hijos por nodo.
+     */
+    private static final int ANCHO = 1 << BITS;
+
+    /**
+     * Máscara para obtener la posición dentro de un nodo.
+     */
+    private static final int MASCARA = ANCHO - 1;
+
+    /**
+     * Raíz de los vectores sin elementos en el árbol; nunca se modifica.
+     */
+    private static final Nodo RAIZ_VACIA = new Nodo(null, new Object[ANCHO]);
+
+    /**
+     * Vector vacío, compartido por todos los tipos.
+     */
+    private static final VectorPersistente<?> VACIO =
+            new VectorPersistente<>(0, BITS, RAIZ_VACIA, new Object[0]);
+
+    /**
+     * Cantidad de elementos.
+     */
+    private final int cantidad;
+
+    /**
+     * Desplazamiento del índice en la raíz; crece de a {@link #BITS} por nivel.
+     */
+    private final int desplazamiento;
+
+    /**
+     * Raíz del árbol, con los elementos anteriores a la cola.
+     */
+    private final Nodo raiz;
+
+    /**
+     * Últimos elementos, entre 1 y 32 salvo en el vector vacío.
+     */
+    private final Object[] cola;
+
+    /**
+     * Crea un vector con la estructura indicada.
+     *
+     * @param total     la cantidad de elementos.
+     * @param nivel     el desplazamiento de la raíz.
+     * @param nodoRaiz  la raíz del árbol.
+     * @param ultimos   la cola, con exactamente los elementos fuera del árbol.
+     */
+    private VectorPersistente(int total, int nivel, Nodo nodoRaiz, Object[] ultimos) {
+        this.cantidad = total;
+        this.desplazamiento = nivel;
+        this.raiz = nodoRaiz;
+        this.cola = ultimos;
+    }
+
+    /**
+     * Retorna el vector vacío.
+     *
+     * @param <T> el tipo de los elementos.
+     * @return un vector sin elementos.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> VectorPersistente<T> vacio() {
+        return (VectorPersistente<T>) VACIO;
+    }
+
+    /**
+     * Crea un vector con los valores indicados, en el mismo orden.
+     *
+     * @param valores los valores iniciales.
+     * @param <T>     el tipo de los elementos.
+     * @return el vector nuevo.
+     */
+    @SafeVarargs
+    public static <T> VectorPersistente<T> de(T... valores) {
+        Transitorio<T> transitorio = VectorPersistente.<T>vacio().transitorio();
+        for (T valor : valores) {
+            transitorio.agregar(valor);
+        }
+        return transitorio.persistente();
+    }
+
+    /**
+     * Crea un vector con los valores recorridos, en el mismo orden.
+     *
+     * @param valores los valores iniciales.
+     * @param <T>     el tipo de los elementos.
+     * @return el vector nuevo.
+     */
+    public static <T> VectorPersistente<T> desde(Iterable<? extends T> valores) {
+        Transitorio<T> transitorio = VectorPersistente.<T>vacio().transitorio();
+        transitorio.agregarTodos(valores);
+        return transitorio.persistente();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T obtener(int indice) {
+        verificarIndice(indice, cantidad);
+        return (T) bloque(indice, cantidad, desplazamiento, raiz, cola)[indice & MASCARA];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int largo() {
+        return cantidad;
+    }
+
+    /**
+     * Retorna una versión del vector con el valor indicado en la posición
+     * indicada. Este vector no cambia.
+     *
+     * @param indice la posición a reemplazar.
+     * @param valor  el valor nuevo.
+     * @return el vector modificado.
+     * @throws IndiceFueraDeRangoException si el índice está fuera de rango.
+     */
+    public VectorPersistente<T> con(int indice, T valor) {
+        verificarIndice(indice, cantidad);
+        if (indice >= inicioCola(cantidad)) {
+            Object[] nueva = cola.clone();
+            nueva[indice & MASCARA] = valor;
+            return new VectorPersistente<>(cantidad, desplazamiento, raiz, nueva);
+        }
+        return new VectorPersistente<>(cantidad, desplazamiento,
+                asignar(null, desplazamiento, raiz, indice, valor), cola);
+    }
+
+    /**
+     * Retorna una versión del vector con el valor indicado agregado al final.
+     * Este vector no cambia.
+     *
+     * @param valor el valor a agregar.
+     * @return el vector con un elemento más.
+     */
+    public VectorPersistente<T> agregado(T valor) {
+        int enCola = cantidad - inicioCola(cantidad);
+        if (enCola < ANCHO) {
+            Object[] nueva = Arrays.copyOf(cola, enCola + 1);
+            nueva[enCola] = valor;
+            return new VectorPersistente<>(cantidad + 1, desplazamiento, raiz, nueva);
+        }
+        Nodo hoja = new Nodo(null, cola);
+        Nodo nuevaRaiz;
+        int nivel = desplazamiento;
+        if ((cantidad >>> BITS) > (1 << desplazamiento)) {
+            nuevaRaiz = new Nodo(null, new Object[ANCHO]);
+            nuevaRaiz.arreglo[0] = raiz;
+            nuevaRaiz.arreglo[1] = nuevoCamino(null, desplazamiento, hoja);
+            nivel = desplazamiento + BITS;
+        } else {
+            nuevaRaiz = empujarCola(null, cantidad, desplazamiento, raiz, hoja);
+        }
+        return new VectorPersistente<>(cantidad + 1, nivel, nuevaRaiz,
+                new Object[]{valor});
+    }
+
+    /**
+     * Retorna una versión del vector sin su último elemento. Este vector no
+     * cambia.
+     *
+     * @return el vector con un elemento menos.
+     * @throws EstructuraVaciaException si el vector está vacío.
+     */
+    public VectorPersistente<T> sinUltimo() {
+        if (cantidad == 0) {
+            throw new EstructuraVaciaException("El vector está vacío.");
+        }
+        if (cantidad == 1) {
+            return vacio();
+        }
+        int enCola = cantidad - inicioCola(cantidad);
+        if (enCola > 1) {
+            return new VectorPersistente<>(cantidad - 1, desplazamiento, raiz,
+                    Arrays.copyOf(cola, enCola - 1));
+        }
+        Object[] nuevaCola = hoja(raiz, desplazamiento, cantidad - 2);
+        Nodo nuevaRaiz = quitarCola(null, cantidad, desplazamiento, raiz);
+        int nivel = desplazamiento;
+        if (nuevaRaiz == null) {
+            nuevaRaiz = RAIZ_VACIA;
+        } else if (nivel > BITS && nuevaRaiz.arreglo[1] == null) {
+            nuevaRaiz = (Nodo) nuevaRaiz.arreglo[0];
+            nivel = nivel - BITS;
+        }
+        return new VectorPersistente<>(cantidad - 1, nivel, nuevaRaiz, nuevaCola);
+    }
+
+    /**
+     * Retorna un vector transitorio con los mismos elementos, para hacer
+     * muchas modificaciones sin crear una versión por cada una. Este vector
+     * no cambia.
+     *
+     * @return un vector transitorio nuevo.
+     */
+    public Transitorio<T> transitorio() {
+        return new Transitorio<>(this);
+    }
+
+    /**
+     * Siempre falla; usar {@link #con(int, Object)}.
+     *
+     * @param indice no se usa.
+     * @param valor  no se usa.
+     * @throws SecuenciaNoModificableException siempre.
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        throw new SecuenciaNoModificableException("El vector persistente es inmutable.");
+    }
+
+    /**
+     * Siempre falla.
+     *
+     * @param desde   no se usa.
+     * @param valores no se usa.
+     * @throws SecuenciaNoModificableException siempre.
+     */
+    @Override
+    public void modificarRango(int desde, T[] valores) {
+        throw new SecuenciaNoModificableException("El vector persistente es inmutable.");
+    }
+
+    /**
+     * Siempre falla.
+     *
+     * @param desde no se usa.
+     * @param hasta no se usa.
+     * @param valor no se usa.
+     * @throws SecuenciaNoModificableException siempre.
+     */
+    @Override
+    public void rellenar(int desde, int hasta, T valor) {
+        throw new SecuenciaNoModificableException("El vector persistente es inmutable.");
+    }
+
+    /**
+     * Siempre falla.
+     *
+     * @param origen      no se usa.
+     * @param desdeOrigen no se usa.
+     * @param desde       no se usa.
+     * @param total       no se usa.
+     * @throws SecuenciaNoModificableException siempre.
+     */
+    @Override
+    public void copiarDesde(Indexable<? extends T> origen, int desdeOrigen, int desde,
+                            int total) {
+        throw new SecuenciaNoModificableException("El vector persistente es inmutable.");
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Retorna {@link #spliteratorPorIndice()}, que se divide por rangos de
+     * índices en vez de recorrer el iterador.
+     * </p>
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return spliteratorPorIndice();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Recorre las hojas del árbol directamente, en O(1) amortizado por elemento.
+     * </p>
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            /**
+             * Posición del próximo elemento a retornar.
+             */
+            private int actual;
+
+            /**
+             * Bloque de 32 elementos que contiene la posición actual.
+             */
+            private Object[] actuales;
+
+            @Override
+            public boolean hasNext() {
+                return actual < cantidad;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if ((actual & MASCARA) == 0) {
+                    actuales = bloque(actual, cantidad, desplazamiento, raiz, cola);
+                }
+                T elemento = (T) actuales[actual & MASCARA];
+                actual++;
+                return elemento;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder(getClass().getSimpleName()).append("={");
+        boolean primero = true;
+        for (T elemento : this) {
+            if (!primero) {
+                texto.append(',');
+            }
+            texto.append(elemento);
+            primero = false;
+        }
+        return texto.append("}:").append(cantidad).toString();
+    }
+
+    /**
+     * Verifica que el índice esté dentro del rango válido.
+     *
+     * @param indice el índice a verificar.
+     * @param total  la cantidad de elementos.
+     * @throws IndiceFueraDeRangoException si está fuera de {@code [0, total - 1]}.
+     */
+    private static void verificarIndice(int indice, int total) {
+        if (indice < 0 || indice >= total) {
+            throw new IndiceFueraDeRangoException(indice, total);
+        }
+    }
+
+    /**
+     * Retorna la posición del primer elemento de la cola.
+     *
+     * @param total la cantidad de elementos.
+     * @return la cantidad de elementos en el árbol.
+     */
+    private static int inicioCola(int total) {
+        if (total < ANCHO) {
+            return 0;
+        }
+        return ((total - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Retorna el bloque de 32 elementos que contiene la posición indicada,
+     * sea la cola o una hoja del árbol.
+     *
+     * @param indice   una posición válida.
+     * @param total    la cantidad de elementos.
+     * @param nivel    el desplazamiento de la raíz.
+     * @param nodoRaiz la raíz del árbol.
+     * @param ultimos  la cola.
+     * @return el bloque; la posición está en {@code indice & 31}.
+     */
+    private static Object[] bloque(int indice, int total, int nivel, Nodo nodoRaiz,
+                                   Object[] ultimos) {
+        if (indice >= inicioCola(total)) {
+            return ultimos;
+        }
+        return hoja(nodoRaiz, nivel, indice);
+    }
+
+    /**
+     * Desciende por el árbol hasta la hoja que contiene la posición indicada.
+     *
+     * @param nodoRaiz la raíz del árbol.
+     * @param nivel    el desplazamiento de la raíz.
+     * @param indice   una posición guardada en el árbol.
+     * @return los elementos de la hoja.
+     */
+    private static Object[] hoja(Nodo nodoRaiz, int nivel, int indice) {
+        Nodo nodo = nodoRaiz;
+        for (int actual = nivel; actual > 0; actual = actual - BITS) {
+            nodo = (Nodo) nodo.arreglo[(indice >>> actual) & MASCARA];
+        }
+        return nodo.arreglo;
+    }
+
+    /**
+     * Retorna el nodo, si pertenece al dueño indicado, o una copia suya que le
+     * pertenece.
+     *
+     * @param nodo      el nodo original.
+     * @param propietario el dueño de la operación, o {@code null} si el nodo
+     *                  resultante debe ser nuevo siempre.
+     * @return un nodo que puede modificarse en el lugar.
+     */
+    private static Nodo editable(Nodo nodo, Object propietario) {
+        if (propietario != null && nodo.duenio == propietario) {
+            return nodo;
+        }
+        return new Nodo(propietario, nodo.arreglo.clone());
+    }
+
+    /**
+     * Reemplaza un elemento del árbol, copiando los nodos del camino que no
+     * pertenecen al dueño.
+     *
+     * @param propietario el dueño de la operación, o {@code null}.
+     * @param nivel       el desplazamiento del nodo.
+     * @param nodo        el nodo desde donde descender.
+     * @param indice      la posición a reemplazar.
+     * @param valor       el valor nuevo.
+     * @return el nodo, o su copia, con el elemento reemplazado.
+     */
+    private static Nodo asignar(Object propietario, int nivel, Nodo nodo, int indice,
+                                Object valor) {
+        Nodo copia = editable(nodo, propietario);
+        if (nivel == 0) {
+            copia.arreglo[indice & MASCARA] = valor;
+        } else {
+            int hijo = (indice >>> nivel) & MASCARA;
+            copia.arreglo[hijo] = asignar(propietario, nivel - BITS,
+                    (Nodo) nodo.arreglo[hijo], indice, valor);
+        }
+        return copia;
+    }
+
+    /**
+     * Crea una rama que solo contiene el nodo indicado, a la profundidad
+     * indicada.
+     *
+     * @param propietario el dueño de los nodos nuevos, o {@code null}.
+     * @param nivel       el desplazamiento de la rama.
+     * @param nodo        el nodo a colgar al final de la rama.
+     * @return la raíz de la rama.
+     */
+    private static Nodo nuevoCamino(Object propietario, int nivel, Nodo nodo) {
+        if (nivel == 0) {
+            return nodo;
+        }
+        Nodo camino = new Nodo(propietario, new Object[ANCHO]);
+        camino.arreglo[0] = nuevoCamino(propietario, nivel - BITS, nodo);
+        return camino;
+    }
+
+    /**
+     * Agrega una hoja llena al final del árbol, que tiene lugar para ella.
+     *
+     * @param propietario el dueño de la operación, o {@code null}.
+     * @param total       la cantidad de elementos, incluidos los de la hoja.
+     * @param nivel       el desplazamiento del nodo.
+     * @param padre       el nodo donde insertar.
+     * @param hoja        la hoja a agregar.
+     * @return el nodo, o su copia, con la hoja agregada.
+     */
+    private static Nodo empujarCola(Object propietario, int total, int nivel, Nodo padre,
+                                    Nodo hoja) {
+        int hijo = ((total - 1) >>> nivel) & MASCARA;
+        Nodo copia = editable(padre, propietario);
+        if (nivel == BITS) {
+            copia.arreglo[hijo] = hoja;
+        } else {
+            Nodo siguiente = (Nodo) padre.arreglo[hijo];
+            copia.arreglo[hijo] = siguiente == null
+                    ? nuevoCamino(propietario, nivel - BITS, hoja)
+                    : empujarCola(propietario, total, nivel - BITS, siguiente, hoja);
+        }
+        return copia;
+    }
+
+    /**
+     * Quita la última hoja del árbol, que pasa a ser la cola.
+     *
+     * @param propietario el dueño de la operación, o {@code null}.
+     * @param total       la cantidad de elementos, con uno solo en la cola.
+     * @param nivel       el desplazamiento del nodo.
+     * @param nodo        el nodo desde donde descender.
+     * @return el nodo, o su copia, sin la hoja; {@code null} si queda vacío.
+     */
+    private static Nodo quitarCola(Object propietario, int total, int nivel, Nodo nodo) {
+        int hijo = ((total - 2) >>> nivel) & MASCARA;
+        if (nivel > BITS) {
+            Nodo nuevo = quitarCola(propietario, total, nivel - BITS,
+                    (Nodo) nodo.arreglo[hijo]);
+            if (nuevo == null && hijo == 0) {
+                return null;
+            }
+            Nodo copia = editable(nodo, propietario);
+            copia.arreglo[hijo] = nuevo;
+            return copia;
+        }
+        if (hijo == 0) {
+            return null;
+        }
+        Nodo copia = editable(nodo, propietario);
+        copia.arreglo[hijo] = null;
+        return copia;
+    }
+
+    /**
+     * Nodo del árbol: 32 hijos en los niveles internos, o 32 elementos en las
+     * hojas.
+     */
+    private static final class Nodo {
+
+        /**
+         * Vector transitorio que puede modificar este nodo en el lugar, o
+         * {@code null} si ninguno puede.
+         */
+        private final Object duenio;
+
+        /**
+         * Hijos o elementos del nodo.
+         */
+        private final Object[] arreglo;
+
+        /**
+         * Crea un nodo.
+         *
+         * @param propietario el dueño del nodo, o {@code null}.
+         * @param contenido   los hijos o elementos, de largo 32.
+         */
+        Nodo(Object propietario, Object[] contenido) {
+            this.duenio = propietario;
+            this.arreglo = contenido;
+        }
+    }
+
+    /**
+     * Versión mutable de un {@link VectorPersistente}, para construirlo o
+     * modificarlo en lote.
+     * <p>
+     * Los nodos que crea le pertenecen y los modifica en el lugar; los que
+     * comparte con el vector de origen los copia la primera vez que los
+     * modifica. Agregar es O(1) amortizado sin copias, y modificar es
+     * O(log32 n). {@link #remover(int)} es O(log32 n) para el último elemento
+     * y O(n) para los demás, porque desplaza los siguientes.
+     * </p>
+     * <p>
+     * {@link #persistente()} retorna el resultado en O(1) y deja al transitorio
+     * inutilizable: cualquier operación posterior lanza
+     * {@link SecuenciaCerradaException}. No es seguro para varios hilos.
+     * </p>
+     *
+     * @param <T> el tipo de los elementos contenidos.
+     */
+    public static final class Transitorio<T> implements Expandable<T> {
+
+        /**
+         * Identidad de este transitorio en los nodos que le pertenecen, o
+         * {@code null} una vez convertido en persistente.
+         */
+        private Object duenio;
+
+        /**
+         * Cantidad de elementos.
+         */
+        private int cantidad;
+
+        /**
+         * Desplazamiento del índice en la raíz.
+         */
+        private int desplazamiento;
+
+        /**
+         * Raíz del árbol; siempre le pertenece.
+         */
+        private Nodo raiz;
+
+        /**
+         * Cola, de largo 32 aunque tenga menos elementos.
+         */
+        private Object[] cola;
+
+        /**
+         * Crea el transitorio con los elementos del vector indicado.
+         *
+         * @param origen el vector de origen, que no cambia.
+         */
+        private Transitorio(VectorPersistente<T> origen) {
+            this.duenio = new Object();
+            this.cantidad = origen.cantidad;
+            this.desplazamiento = origen.desplazamiento;
+            this.raiz = editable(origen.raiz, duenio);
+            this.cola = Arrays.copyOf(origen.cola, ANCHO);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public T obtener(int indice) {
+            verificarActivo();
+            verificarIndice(indice, cantidad);
+            Object[] actuales = bloque(indice, cantidad, desplazamiento, raiz, cola);
+            return (T) actuales[indice & MASCARA];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void modificar(int indice, T valor) {
+            verificarActivo();
+            verificarIndice(indice, cantidad);
+            if (indice >= inicioCola(cantidad)) {
+                cola[indice & MASCARA] = valor;
+            } else {
+                raiz = asignar(duenio, desplazamiento, raiz, indice, valor);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int largo() {
+            verificarActivo();
+            return cantidad;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void agregar(T valor) {
+            verificarActivo();
+            int enCola = cantidad - inicioCola(cantidad);
+            if (enCola < ANCHO) {
+                cola[enCola] = valor;
+                cantidad++;
+                return;
+            }
+            Nodo hoja = new Nodo(duenio, cola);
+            cola = new Object[ANCHO];
+            cola[0] = valor;
+            if ((cantidad >>> BITS) > (1 << desplazamiento)) {
+                Nodo nuevaRaiz = new Nodo(duenio, new Object[ANCHO]);
+                nuevaRaiz.arreglo[0] = raiz;
+                nuevaRaiz.arreglo[1] = nuevoCamino(duenio, desplazamiento, hoja);
+                raiz = nuevaRaiz;
+                desplazamiento = desplazamiento + BITS;
+            } else {
+                raiz = empujarCola(duenio, cantidad, desplazamiento, raiz, hoja);
+            }
+            cantidad++;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Desplaza una posición los elementos siguientes; es O(log32 n) solo si
+         * se remueve el último.
+         * </p>
+         */
+        @Override
+        public T remover(int indice) {
+            T removido = obtener(indice);
+            for (int i = indice; i < cantidad - 1; i++) {
+                modificar(i, obtener(i + 1));
+            }
+            quitarUltimo();
+            return removido;
+        }
+
+        /**
+         * Retorna un vector persistente con los elementos actuales e inutiliza
+         * este transitorio.
+         *
+         * @return el vector persistente.
+         * @throws SecuenciaCerradaException si ya fue convertido.
+         */
+        public VectorPersistente<T> persistente() {
+            verificarActivo();
+            duenio = null;
+            int enCola = cantidad - inicioCola(cantidad);
+            return new VectorPersistente<>(cantidad, desplazamiento, raiz,
+                    Arrays.copyOf(cola, enCola));
+        }
+
+        /**
+         * Quita el último elemento, que existe.
+         */
+        private void quitarUltimo() {
+            int enCola = cantidad - inicioCola(cantidad);
+            if (enCola > 1 || cantidad == 1) {
+                cantidad--;
+                cola[enCola - 1] = null;
+                return;
+            }
+            Object[] nuevaCola = Arrays.copyOf(hoja(raiz, desplazamiento, cantidad - 2),
+                    ANCHO);
+            Nodo nuevaRaiz = quitarCola(duenio, cantidad, desplazamiento, raiz);
+            if (nuevaRaiz == null) {
+                nuevaRaiz = new Nodo(duenio, new Object[ANCHO]);
+            } else if (desplazamiento > BITS && nuevaRaiz.arreglo[1] == null) {
+                nuevaRaiz = editable((Nodo) nuevaRaiz.arreglo[0], duenio);
+                desplazamiento = desplazamiento - BITS;
+            }
+            raiz = nuevaRaiz;
+            cola = nuevaCola;
+            cantidad--;
+        }
+
+        /**
+         * Verifica que el transitorio no haya sido convertido en persistente.
+         *
+         * @throws SecuenciaCerradaException si ya fue convertido.
+         */
+        private void verificarActivo() {
+            if (duenio == null) {
+                throw new SecuenciaCerradaException(
+                        "El vector transitorio ya fue convertido en persistente.");
+            }
+        }
+    }
+}
@@ -83,4 +83,25 @@ public interface Expandable<T> extends Indexable<T> {
      *                                     de la secuencia.
      */
     T remover(int indice);
-}
\ No newline at end of file
+
+    /**
+     * Agrega al final de esta secuencia todos los valores indicados, en el
+     * orden en que se recorren.
+     * <p>
+     * Equivale a llamar a {@link #agregar(Object)} para cada valor, pero las
+     * implementaciones pueden reservar el espacio una sola vez, y los
+     * decoradores validar, registrar o notificar todos los valores juntos.
+     * </p>
+     *
+     * @param valores los valores a agregar.
+     * @throws ElementoNuloException      si algún valor es {@code null} y la
+     *                                    implementación no lo permite.
+     * @throws CapacidadExcedidaException si la secuencia no puede crecer lo
+     *                                    suficiente.
+     */
+    default void agregarTodos(Iterable<? extends T> valores) {
+        for (T valor : valores) {
+            agregar(valor);
+        }
+    }
+}
@@ -3,6 +3,10 @@ package ar.unrn.secuencias.interfaces;
 import ar.unrn.secuencias.excepciones.ElementoInvalidoException;
 import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
 
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Define un contrato para estructuras de datos que representan una secuencia
  * ordenada y genérica de elementos, los cuales son accesibles y modificables
@@ -88,4 +92,152 @@ public interface Indexable<T> {
      * @return el número de elementos en la secuencia (su tamaño lógico).
      */
     int largo();
+
+    /**
+     * Reemplaza los elementos desde la posición indicada con los valores dados,
+     * en el mismo orden.
+     * <p>
+     * Equivale a llamar a {@link #modificar(int, Object)} para cada valor, pero
+     * las implementaciones pueden hacerlo en un único movimiento, y los
+     * decoradores validar, registrar o notificar el rango completo de una vez.
+     * El rango se verifica antes de modificar nada.
+     * </p>
+     *
+     * @param desde   la posición donde se escribe el primer valor.
+     * @param valores los valores a escribir.
+     * @throws IndiceFueraDeRangoException si el rango
+     *                                     {@code [desde, desde + valores.length)}
+     *                                     excede la secuencia.
+     * @throws ElementoInvalidoException   si algún valor no es válido para
+     *                                     esta secuencia.
+     */
+    default void modificarRango(int desde, T[] valores) {
+        verificarRango(desde, desde + valores.length, largo());
+        for (int i = 0; i < valores.length; i++) {
+            modificar(desde + i, valores[i]);
+        }
+    }
+
+    /**
+     * Reemplaza con el mismo valor todos los elementos del rango
+     * {@code [desde, hasta)}.
+     *
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @param valor el valor a escribir en cada posición.
+     * @throws IndiceFueraDeRangoException si el rango excede la secuencia.
+     * @throws ElementoInvalidoException   si el valor no es válido para esta
+     *                                     secuencia.
+     */
+    default void rellenar(int desde, int hasta, T valor) {
+        verificarRango(desde, hasta, largo());
+        for (int i = desde; i < hasta; i++) {
+            modificar(i, valor);
+        }
+    }
+
+    /**
+     * Copia {@code cantidad} elementos de otra secuencia, desde la posición
+     * {@code desdeOrigen}, sobre esta, a partir de la posición {@code desde}.
+     * <p>
+     * Si el origen es esta misma secuencia, el resultado es el mismo que si
+     * los elementos se copiaran primero a un espacio auxiliar, como con
+     * {@link System#arraycopy}.
+     * </p>
+     *
+     * @param origen      la secuencia de donde leer los elementos.
+     * @param desdeOrigen la posición del primer elemento a leer.
+     * @param desde       la posición donde se escribe el primer elemento.
+     * @param cantidad    la cantidad de elementos a copiar.
+     * @throws IndiceFueraDeRangoException si alguno de los dos rangos excede
+     *                                     su secuencia.
+     * @throws ElementoInvalidoException   si algún elemento no es válido para
+     *                                     esta secuencia.
+     */
+    default void copiarDesde(Indexable<? extends T> origen, int desdeOrigen, int desde,
+                             int cantidad) {
+        verificarRango(desdeOrigen, desdeOrigen + cantidad, origen.largo());
+        verificarRango(desde, desde + cantidad, largo());
+        if (origen == this && desdeOrigen < desde) {
+            for (int i = cantidad - 1; i >= 0; i--) {
+                modificar(desde + i, origen.obtener(desdeOrigen + i));
+            }
+        } else {
+            for (int i = 0; i < cantidad; i++) {
+                modificar(desde + i, origen.obtener(desdeOrigen + i));
+            }
+        }
+    }
+
+    /**
+     * Indica si la secuencia puede recorrerse en paralelo dividiéndola por
+     * rangos de índices: {@link #obtener(int)} es O(1) y admite lecturas
+     * desde varios hilos mientras nadie escribe.
+     * <p>
+     * Por omisión retorna {@code true}. Las vistas y los decoradores
+     * responden lo mismo que la secuencia de la que leen.
+     * </p>
+     *
+     * @return {@code true} si conviene dividir por índice.
+     */
+    default boolean admiteDivisionPorIndice() {
+        return true;
+    }
+
+    /**
+     * Crea un {@link Spliterator} que recorre la secuencia por índice.
+     * <p>
+     * Si {@link #admiteDivisionPorIndice()}, es un
+     * {@link SpliteratorIndexable}, que se divide por rangos de índices e
+     * informa el tamaño exacto de cada parte; si no, lee los elementos en
+     * orden desde un único hilo, con
+     * {@link SpliteratorIndexable#enOrden(Indexable)}.
+     * </p>
+     *
+     * @return el spliterator sobre todos los elementos, en orden.
+     */
+    default Spliterator<T> spliteratorPorIndice() {
+        return admiteDivisionPorIndice()
+                ? new SpliteratorIndexable<>(this) : SpliteratorIndexable.enOrden(this);
+    }
+
+    /**
+     * Crea un flujo secuencial con los elementos, en orden.
+     *
+     * @return el flujo, construido sobre {@link #spliteratorPorIndice()}.
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliteratorPorIndice(), false);
+    }
+
+    /**
+     * Crea un flujo paralelo con los elementos, en orden.
+     * <p>
+     * Con el {@link #spliteratorPorIndice()} por omisión, si
+     * {@link #admiteDivisionPorIndice()} los hilos del flujo llaman a
+     * {@link #obtener(int)} a la vez: solo es correcto si admite lecturas
+     * concurrentes mientras nadie escribe. Las implementaciones que no lo
+     * admitan deben retornar {@code false} allí.
+     * </p>
+     *
+     * @return el flujo, construido sobre {@link #spliteratorPorIndice()}.
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliteratorPorIndice(), true);
+    }
+
+    /**
+     * Verifica que el rango {@code [desde, hasta)} esté dentro de
+     * {@code [0, largo]}.
+     *
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @param largo el largo de la secuencia.
+     * @throws IndiceFueraDeRangoException si el rango es inválido.
+     */
+    static void verificarRango(int desde, int hasta, int largo) {
+        if (desde < 0 || hasta < desde || hasta > largo) {
+            throw new IndiceFueraDeRangoException(desde, hasta, largo);
+        }
+    }
 }
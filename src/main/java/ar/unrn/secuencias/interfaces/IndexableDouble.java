@@ -0,0 +1,106 @@
+package ar.unrn.secuencias.interfaces;
+
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Especialización de {@link Indexable} para secuencias de valores {@code double}.
+ * <p>
+ * Las operaciones {@link #obtenerDouble(int)} y {@link #modificarDouble(int, double)}
+ * trabajan directamente con el tipo primitivo, evitando la creación de
+ * instancias de {@link Double} en cada acceso. Las operaciones genéricas
+ * heredadas de {@code Indexable} quedan implementadas en función de estas,
+ * de modo que cualquier código escrito contra {@code Indexable<Double>}
+ * sigue funcionando sin cambios.
+ * </p>
+ * <p>
+ * Como un {@code double} no puede ser {@code null}, las implementaciones no
+ * admiten elementos nulos: {@link #modificar(int, Double)} lanza
+ * {@link ElementoNuloException} si recibe {@code null}.
+ * </p>
+ *
+ * @see Indexable
+ */
+public interface IndexableDouble extends Indexable<Double> {
+
+    /**
+     * Obtiene el valor en la posición especificada, sin encapsularlo.
+     *
+     * @param indice el índice base cero del valor a obtener.
+     *               Debe estar en el rango {@code [0, largo() - 1]}.
+     * @return el valor almacenado en la posición indicada.
+     * @throws IndiceFueraDeRangoException si el {@code indice} es negativo o si es
+     *                                     mayor o igual al {@link #largo()}.
+     */
+    double obtenerDouble(int indice);
+
+    /**
+     * Reemplaza el valor en la posición especificada, sin encapsularlo.
+     *
+     * @param indice el índice base cero de la ubicación a modificar.
+     *               Debe estar en el rango {@code [0, largo() - 1]}.
+     * @param valor  el nuevo valor a almacenar.
+     * @throws IndiceFueraDeRangoException si el {@code indice} es negativo o si es
+     *                                     mayor o igual al {@link #largo()}.
+     */
+    void modificarDouble(int indice, double valor);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Encapsula el resultado de {@link #obtenerDouble(int)}.
+     * </p>
+     */
+    @Override
+    default Double obtener(int indice) {
+        return obtenerDouble(indice);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Delega en {@link #modificarDouble(int, double)}.
+     * </p>
+     *
+     * @throws ElementoNuloException si {@code valor} es {@code null}.
+     */
+    @Override
+    default void modificar(int indice, Double valor) {
+        if (valor == null) {
+            throw new ElementoNuloException();
+        }
+        modificarDouble(indice, valor);
+    }
+
+    /**
+     * Crea un {@link Spliterator} que recorre los valores {@code double} por
+     * índice, sin encapsularlos.
+     *
+     * @return el spliterator sobre todos los valores, en orden.
+     */
+    default Spliterator.OfDouble spliteratorDouble() {
+        return new SpliteratorIndexable.DeDouble(this);
+    }
+
+    /**
+     * Crea un flujo secuencial de valores {@code double}, en orden.
+     *
+     * @return el flujo, construido sobre {@link #spliteratorDouble()}.
+     */
+    default DoubleStream streamDouble() {
+        return StreamSupport.doubleStream(spliteratorDouble(), false);
+    }
+
+    /**
+     * Crea un flujo paralelo de valores {@code double}, en orden.
+     *
+     * @return el flujo, construido sobre {@link #spliteratorDouble()}.
+     */
+    default DoubleStream parallelStreamDouble() {
+        return StreamSupport.doubleStream(spliteratorDouble(), true);
+    }
+}
@@ -0,0 +1,106 @@
+package ar.unrn.secuencias.interfaces;
+
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Especialización de {@link Indexable} para secuencias de valores {@code int}.
+ * <p>
+ * Las operaciones {@link #obtenerInt(int)} y {@link #modificarInt(int, int)}
+ * trabajan directamente con el tipo primitivo, evitando la creación de
+ * instancias de {@link Integer} en cada acceso. Las operaciones genéricas
+ * heredadas de {@code Indexable} quedan implementadas en función de estas,
+ * de modo que cualquier código escrito contra {@code Indexable<Integer>}
+ * sigue funcionando sin cambios.
+ * </p>
+ * <p>
+ * Como un {@code int} no puede ser {@code null}, las implementaciones no
+ * admiten elementos nulos: {@link #modificar(int, Integer)} lanza
+ * {@link ElementoNuloException} si recibe {@code null}.
+ * </p>
+ *
+ * @see Indexable
+ */
+public interface IndexableInt extends Indexable<Integer> {
+
+    /**
+     * Obtiene el valor en la posición especificada, sin encapsularlo.
+     *
+     * @param indice el índice base cero del valor a obtener.
+     *               Debe estar en el rango {@code [0, largo() - 1]}.
+     * @return el valor almacenado en la posición indicada.
+     * @throws IndiceFueraDeRangoException si el {@code indice} es negativo o si es
+     *                                     mayor o igual al {@link #largo()}.
+     */
+    int obtenerInt(int indice);
+
+    /**
+     * Reemplaza el valor en la posición especificada, sin encapsularlo.
+     *
+     * @param indice el índice base cero de la ubicación a modificar.
+     *               Debe estar en el rango {@code [0, largo() - 1]}.
+     * @param valor  el nuevo valor a almacenar.
+     * @throws IndiceFueraDeRangoException si el {@code indice} es negativo o si es
+     *                                     mayor o igual al {@link #largo()}.
+     */
+    void modificarInt(int indice, int valor);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Encapsula el resultado de {@link #obtenerInt(int)}.
+     * </p>
+     */
+    @Override
+    default Integer obtener(int indice) {
+        return obtenerInt(indice);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Delega en {@link #modificarInt(int, int)}.
+     * </p>
+     *
+     * @throws ElementoNuloException si {@code valor} es {@code null}.
+     */
+    @Override
+    default void modificar(int indice, Integer valor) {
+        if (valor == null) {
+            throw new ElementoNuloException();
+        }
+        modificarInt(indice, valor);
+    }
+
+    /**
+     * Crea un {@link Spliterator} que recorre los valores {@code int} por
+     * índice, sin encapsularlos.
+     *
+     * @return el spliterator sobre todos los valores, en orden.
+     */
+    default Spliterator.OfInt spliteratorInt() {
+        return new SpliteratorIndexable.DeInt(this);
+    }
+
+    /**
+     * Crea un flujo secuencial de valores {@code int}, en orden.
+     *
+     * @return el flujo, construido sobre {@link #spliteratorInt()}.
+     */
+    default IntStream streamInt() {
+        return StreamSupport.intStream(spliteratorInt(), false);
+    }
+
+    /**
+     * Crea un flujo paralelo de valores {@code int}, en orden.
+     *
+     * @return el flujo, construido sobre {@link #spliteratorInt()}.
+     */
+    default IntStream parallelStreamInt() {
+        return StreamSupport.intStream(spliteratorInt(), true);
+    }
+}
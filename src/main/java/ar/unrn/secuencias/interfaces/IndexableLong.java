@@ -0,0 +1,106 @@
+package ar.unrn.secuencias.interfaces;
+
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Especialización de {@link Indexable} para secuencias de valores {@code long}.
+ * <p>
+ * Las operaciones {@link #obtenerLong(int)} y {@link #modificarLong(int, long)}
+ * trabajan directamente con el tipo primitivo, evitando la creación de
+ * instancias de {@link Long} en cada acceso. Las operaciones genéricas
+ * heredadas de {@code Indexable} quedan implementadas en función de estas,
+ * de modo que cualquier código escrito contra {@code Indexable<Long>}
+ * sigue funcionando sin cambios.
+ * </p>
+ * <p>
+ * Como un {@code long} no puede ser {@code null}, las implementaciones no
+ * admiten elementos nulos: {@link #modificar(int, Long)} lanza
+ * {@link ElementoNuloException} si recibe {@code null}.
+ * </p>
+ *
+ * @see Indexable
+ */
+public interface IndexableLong extends Indexable<Long> {
+
+    /**
+     * Obtiene el valor en la posición especificada, sin encapsularlo.
+     *
+     * @param indice el índice base cero del valor a obtener.
+     *               Debe estar en el rango {@code [0, largo() - 1]}.
+     * @return el valor almacenado en la posición indicada.
+     * @throws IndiceFueraDeRangoException si el {@code indice} es negativo o si es
+     *                                     mayor o igual al {@link #largo()}.
+     */
+    long obtenerLong(int indice);
+
+    /**
+     * Reemplaza el valor en la posición especificada, sin encapsularlo.
+     *
+     * @param indice el índice base cero de la ubicación a modificar.
+     *               Debe estar en el rango {@code [0, largo() - 1]}.
+     * @param valor  el nuevo valor a almacenar.
+     * @throws IndiceFueraDeRangoException si el {@code indice} es negativo o si es
+     *                                     mayor o igual al {@link #largo()}.
+     */
+    void modificarLong(int indice, long valor);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Encapsula el resultado de {@link #obtenerLong(int)}.
+     * </p>
+     */
+    @Override
+    default Long obtener(int indice) {
+        return obtenerLong(indice);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Delega en {@link #modificarLong(int, long)}.
+     * </p>
+     *
+     * @throws ElementoNuloException si {@code valor} es {@code null}.
+     */
+    @Override
+    default void modificar(int indice, Long valor) {
+        if (valor == null) {
+            throw new ElementoNuloException();
+        }
+        modificarLong(indice, valor);
+    }
+
+    /**
+     * Crea un {@link Spliterator} que recorre los valores {@code long} por
+     * índice, sin encapsularlos.
+     *
+     * @return el spliterator sobre todos los valores, en orden.
+     */
+    default Spliterator.OfLong spliteratorLong() {
+        return new SpliteratorIndexable.DeLong(this);
+    }
+
+    /**
+     * Crea un flujo secuencial de valores {@code long}, en orden.
+     *
+     * @return el flujo, construido sobre {@link #spliteratorLong()}.
+     */
+    default LongStream streamLong() {
+        return StreamSupport.longStream(spliteratorLong(), false);
+    }
+
+    /**
+     * Crea un flujo paralelo de valores {@code long}, en orden.
+     *
+     * @return el flujo, construido sobre {@link #spliteratorLong()}.
+     */
+    default LongStream parallelStreamLong() {
+        return StreamSupport.longStream(spliteratorLong(), true);
+    }
+}
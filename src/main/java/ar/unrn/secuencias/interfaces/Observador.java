@@ -34,4 +34,23 @@ public interface Observador<T> {
      * @param indice     El índice del elemento que ha cambiado.
      */
     void actualizar(Observable<T> observable, int indice);
+
+    /**
+     * Método llamado para notificar al observador de un cambio en un rango
+     * contiguo de índices, por ejemplo cuando varias notificaciones se agrupan.
+     * <p>
+     * Por omisión invoca {@link #actualizar(Observable, int)} para cada índice
+     * del rango; los observadores que pueden procesar el rango de una vez
+     * deberían redefinirlo.
+     * </p>
+     *
+     * @param observable El sujeto observable que notifica el cambio.
+     * @param desde      El primer índice que ha cambiado, inclusivo.
+     * @param hasta      El fin del rango, exclusivo.
+     */
+    default void actualizarRango(Observable<T> observable, int desde, int hasta) {
+        for (int indice = desde; indice < hasta; indice++) {
+            actualizar(observable, indice);
+        }
+    }
 }
\ No newline at end of file
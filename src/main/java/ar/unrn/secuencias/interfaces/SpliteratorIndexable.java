@@ -0,0 +1,399 @@
+package ar.unrn.secuencias.interfaces;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * {@link Spliterator} sobre un rango de índices de un {@link Indexable}.
+ * <p>
+ * Lee los elementos con {@link Indexable#obtener(int)}, sin pasar por un
+ * iterador, y se divide partiendo el rango a la mitad: cada parte conoce su
+ * tamaño exacto, por lo que informa {@link #SIZED}, {@link #SUBSIZED} y
+ * {@link #ORDERED}, y los flujos paralelos reparten el trabajo en partes
+ * parejas. Las variantes {@link DeInt}, {@link DeLong} y {@link DeDouble}
+ * leen los valores primitivos sin encapsularlos.
+ * </p>
+ * <p>
+ * El rango se fija al crearlo: la secuencia no debería cambiar de largo
+ * durante el recorrido. Para recorrer en paralelo,
+ * {@link Indexable#obtener(int)} debe poder usarse desde varios hilos.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos recorridos.
+ */
+public final class SpliteratorIndexable<T> implements Spliterator<T> {
+
+    /**
+     * Características de los recorridos por índice.
+     */
+    private static final int CARACTERISTICAS = ORDERED | SIZED | SUBSIZED;
+
+    /**
+     * La secuencia recorrida.
+     */
+    private final Indexable<? extends T> secuencia;
+
+    /**
+     * Fin del rango, exclusivo.
+     */
+    private final int fin;
+
+    /**
+     * Posición del próximo elemento.
+     */
+    private int actual;
+
+    /**
+     * Crea el spliterator sobre toda la secuencia.
+     *
+     * @param recorrida la secuencia a recorrer.
+     */
+    public SpliteratorIndexable(Indexable<? extends T> recorrida) {
+        this(recorrida, 0, recorrida.largo());
+    }
+
+    /**
+     * Crea el spliterator sobre un rango de la secuencia.
+     *
+     * @param recorrida la secuencia a recorrer.
+     * @param desde     el inicio del rango, inclusivo.
+     * @param hasta     el fin del rango, exclusivo.
+     */
+    private SpliteratorIndexable(Indexable<? extends T> recorrida, int desde, int hasta) {
+        this.secuencia = recorrida;
+        this.actual = desde;
+        this.fin = hasta;
+    }
+
+    /**
+     * Crea un spliterator que lee los elementos en orden desde un único hilo.
+     * <p>
+     * Al dividirse copia un lote de elementos a un arreglo, de modo que en un
+     * flujo paralelo {@link Indexable#obtener(int)} nunca se llama desde dos
+     * hilos a la vez. Informa el tamaño exacto.
+     * </p>
+     *
+     * @param recorrida la secuencia a recorrer.
+     * @param <T>       el tipo de los elementos.
+     * @return el spliterator sobre todos los elementos, en orden.
+     */
+    public static <T> Spliterator<T> enOrden(Indexable<? extends T> recorrida) {
+        Spliterator<T> porIndice = new SpliteratorIndexable<>(recorrida);
+        return Spliterators.spliterator(Spliterators.iterator(porIndice),
+                porIndice.estimateSize(), ORDERED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean tryAdvance(Consumer<? super T> accion) {
+        if (actual >= fin) {
+            return false;
+        }
+        accion.accept(secuencia.obtener(actual));
+        actual++;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachRemaining(Consumer<? super T> accion) {
+        int desde = actual;
+        actual = fin;
+        for (int i = desde; i < fin; i++) {
+            accion.accept(secuencia.obtener(i));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Retorna la primera mitad del rango restante y se queda con la segunda.
+     * </p>
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        int medio = (actual + fin) >>> 1;
+        if (medio <= actual) {
+            return null;
+        }
+        Spliterator<T> prefijo = new SpliteratorIndexable<>(secuencia, actual, medio);
+        actual = medio;
+        return prefijo;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long estimateSize() {
+        return fin - actual;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int characteristics() {
+        return CARACTERISTICAS;
+    }
+
+    /**
+     * Spliterator por índice sobre los valores {@code int} de un
+     * {@link IndexableInt}.
+     */
+    public static final class DeInt implements Spliterator.OfInt {
+
+        /**
+         * La secuencia recorrida.
+         */
+        private final IndexableInt secuencia;
+
+        /**
+         * Fin del rango, exclusivo.
+         */
+        private final int fin;
+
+        /**
+         * Posición del próximo valor.
+         */
+        private int actual;
+
+        /**
+         * Crea el spliterator sobre toda la secuencia.
+         *
+         * @param recorrida la secuencia a recorrer.
+         */
+        public DeInt(IndexableInt recorrida) {
+            this(recorrida, 0, recorrida.largo());
+        }
+
+        /**
+         * Crea el spliterator sobre un rango de la secuencia.
+         *
+         * @param recorrida la secuencia a recorrer.
+         * @param desde     el inicio del rango, inclusivo.
+         * @param hasta     el fin del rango, exclusivo.
+         */
+        private DeInt(IndexableInt recorrida, int desde, int hasta) {
+            this.secuencia = recorrida;
+            this.actual = desde;
+            this.fin = hasta;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer accion) {
+            if (actual >= fin) {
+                return false;
+            }
+            accion.accept(secuencia.obtenerInt(actual));
+            actual++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer accion) {
+            int desde = actual;
+            actual = fin;
+            for (int i = desde; i < fin; i++) {
+                accion.accept(secuencia.obtenerInt(i));
+            }
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int medio = (actual + fin) >>> 1;
+            if (medio <= actual) {
+                return null;
+            }
+            Spliterator.OfInt prefijo = new DeInt(secuencia, actual, medio);
+            actual = medio;
+            return prefijo;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fin - actual;
+        }
+
+        @Override
+        public int characteristics() {
+            return CARACTERISTICAS | NONNULL;
+        }
+    }
+
+    /**
+     * Spliterator por índice sobre los valores {@code long} de un
+     * {@link IndexableLong}.
+     */
+    public static final class DeLong implements Spliterator.OfLong {
+
+        /**
+         * La secuencia recorrida.
+         */
+        private final IndexableLong secuencia;
+
+        /**
+         * Fin del rango, exclusivo.
+         */
+        private final int fin;
+
+        /**
+         * Posición del próximo valor.
+         */
+        private int actual;
+
+        /**
+         * Crea el spliterator sobre toda la secuencia.
+         *
+         * @param recorrida la secuencia a recorrer.
+         */
+        public DeLong(IndexableLong recorrida) {
+            this(recorrida, 0, recorrida.largo());
+        }
+
+        /**
+         * Crea el spliterator sobre un rango de la secuencia.
+         *
+         * @param recorrida la secuencia a recorrer.
+         * @param desde     el inicio del rango, inclusivo.
+         * @param hasta     el fin del rango, exclusivo.
+         */
+        private DeLong(IndexableLong recorrida, int desde, int hasta) {
+            this.secuencia = recorrida;
+            this.actual = desde;
+            this.fin = hasta;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer accion) {
+            if (actual >= fin) {
+                return false;
+            }
+            accion.accept(secuencia.obtenerLong(actual));
+            actual++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer accion) {
+            int desde = actual;
+            actual = fin;
+            for (int i = desde; i < fin; i++) {
+                accion.accept(secuencia.obtenerLong(i));
+            }
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            int medio = (actual + fin) >>> 1;
+            if (medio <= actual) {
+                return null;
+            }
+            Spliterator.OfLong prefijo = new DeLong(secuencia, actual, medio);
+            actual = medio;
+            return prefijo;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fin - actual;
+        }
+
+        @Override
+        public int characteristics() {
+            return CARACTERISTICAS | NONNULL;
+        }
+    }
+
+    /**
+     * Spliterator por índice sobre los valores {@code double} de un
+     * {@link IndexableDouble}.
+     */
+    public static final class DeDouble implements Spliterator.OfDouble {
+
+        /**
+         * La secuencia recorrida.
+         */
+        private final IndexableDouble secuencia;
+
+        /**
+         * Fin del rango, exclusivo.
+         */
+        private final int fin;
+
+        /**
+         * Posición del próximo valor.
+         */
+        private int actual;
+
+        /**
+         * Crea el spliterator sobre toda la secuencia.
+         *
+         * @param recorrida la secuencia a recorrer.
+         */
+        public DeDouble(IndexableDouble recorrida) {
+            this(recorrida, 0, recorrida.largo());
+        }
+
+        /**
+         * Crea el spliterator sobre un rango de la secuencia.
+         *
+         * @param recorrida la secuencia a recorrer.
+         * @param desde     el inicio del rango, inclusivo.
+         * @param hasta     el fin del rango, exclusivo.
+         */
+        private DeDouble(IndexableDouble recorrida, int desde, int hasta) {
+            this.secuencia = recorrida;
+            this.actual = desde;
+            this.fin = hasta;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer accion) {
+            if (actual >= fin) {
+                return false;
+            }
+            accion.accept(secuencia.obtenerDouble(actual));
+            actual++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer accion) {
+            int desde = actual;
+            actual = fin;
+            for (int i = desde; i < fin; i++) {
+                accion.accept(secuencia.obtenerDouble(i));
+            }
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            int medio = (actual + fin) >>> 1;
+            if (medio <= actual) {
+                return null;
+            }
+            Spliterator.OfDouble prefijo = new DeDouble(secuencia, actual, medio);
+            actual = medio;
+            return prefijo;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fin - actual;
+        }
+
+        @Override
+        public int characteristics() {
+            return CARACTERISTICAS | NONNULL;
+        }
+    }
+}
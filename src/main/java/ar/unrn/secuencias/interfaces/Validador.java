@@ -1,5 +1,12 @@
 package ar.unrn.secuencias.interfaces;
 
+import ar.unrn.secuencias.excepciones.ElementoInvalidoException;
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Define un contrato para objetos que pueden validar si un elemento de tipo {@code T}
  * cumple con ciertos criterios o reglas predefinidas.
@@ -54,4 +61,113 @@ public interface Validador<T> {
      * según las reglas de esta implementación; {@code false} en caso contrario.
      */
     boolean esValido(T aValidar);
+
+    /**
+     * Indica si el resultado de {@link #esValido(Object)} depende de los
+     * valores ya escritos en la secuencia validada, como en una regla de
+     * unicidad.
+     * <p>
+     * Los decoradores que usan un validador con estado le informan cada valor
+     * que entra a la secuencia con {@link #registrar(Object)} y cada valor que
+     * sale con {@link #olvidar(Object)}.
+     * </p>
+     *
+     * @return {@code true} si el validador tiene estado; por omisión
+     * {@code false}.
+     */
+    default boolean conEstado() {
+        return false;
+    }
+
+    /**
+     * Informa que el valor fue escrito en la secuencia validada. Por omisión
+     * no hace nada.
+     *
+     * @param valor el valor escrito.
+     */
+    default void registrar(T valor) {
+    }
+
+    /**
+     * Informa que el valor dejó la secuencia validada, porque fue removido o
+     * sobrescrito. Por omisión no hace nada.
+     *
+     * @param valor el valor que salió.
+     */
+    default void olvidar(T valor) {
+    }
+
+    /**
+     * Evalúa todos los valores de un lote en un único recorrido.
+     * <p>
+     * Si el validador {@linkplain #conEstado() tiene estado}, cada valor
+     * aceptado se registra mientras dura el recorrido, de modo que los valores
+     * siguientes del lote se evalúan como si ya estuviera escrito; al terminar
+     * se olvidan todos.
+     * </p>
+     *
+     * @param valores los valores a evaluar.
+     * @return las posiciones, dentro del lote, de los valores rechazados, en
+     * orden creciente; vacío si todos son válidos.
+     */
+    default int[] invalidos(List<? extends T> valores) {
+        int[] posiciones = new int[valores.size()];
+        List<T> aceptados = conEstado() ? new ArrayList<>() : null;
+        int cantidad = 0;
+        int posicion = 0;
+        try {
+            for (T valor : valores) {
+                if (!esValido(valor)) {
+                    posiciones[cantidad] = posicion;
+                    cantidad++;
+                } else if (aceptados != null) {
+                    registrar(valor);
+                    aceptados.add(valor);
+                }
+                posicion++;
+            }
+        } finally {
+            if (aceptados != null) {
+                aceptados.forEach(this::olvidar);
+            }
+        }
+        return Arrays.copyOf(posiciones, cantidad);
+    }
+
+    /**
+     * Valida un lote completo e informa todos los valores rechazados en una
+     * única excepción, en vez de detenerse en el primero.
+     * <p>
+     * Las posiciones informadas por
+     * {@link ElementoInvalidoException#indicesInvalidos()} son las que
+     * ocuparían los valores en la secuencia, a partir de {@code desde}.
+     * </p>
+     *
+     * @param valores los valores a validar.
+     * @param desde   la posición que ocuparía el primer valor.
+     * @throws ElementoNuloException     si todos los valores rechazados son
+     *                                   {@code null}.
+     * @throws ElementoInvalidoException si algún valor es rechazado.
+     */
+    default void validarLote(List<? extends T> valores, int desde) {
+        int[] posiciones = invalidos(valores);
+        if (posiciones.length == 0) {
+            return;
+        }
+        T primero = valores.get(posiciones[0]);
+        boolean nulos = true;
+        for (int i = 0; i < posiciones.length; i++) {
+            nulos = nulos && valores.get(posiciones[i]) == null;
+            posiciones[i] = posiciones[i] + desde;
+        }
+        String mensaje = posiciones.length == 1
+                ? String.format("El elemento %s en la posición %d no es válido.",
+                        primero, posiciones[0])
+                : String.format("Los elementos en las posiciones %s no son válidos.",
+                        Arrays.toString(posiciones));
+        if (nulos) {
+            throw new ElementoNuloException(mensaje, posiciones);
+        }
+        throw new ElementoInvalidoException(mensaje, posiciones);
+    }
 }
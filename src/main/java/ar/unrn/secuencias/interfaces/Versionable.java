@@ -0,0 +1,32 @@
+package ar.unrn.secuencias.interfaces;
+
+/**
+ * Define un contrato para secuencias que llevan la cuenta de sus
+ * modificaciones estructurales, es decir, las que cambian su
+ * {@link Indexable#largo()} o desplazan elementos.
+ * <p>
+ * Permite que las vistas e iteradores construidos sobre la secuencia detecten,
+ * al compararla con la versión que vieron al crearse, que la estructura cambió
+ * y fallen de inmediato en lugar de leer posiciones incorrectas.
+ * </p>
+ * <p>
+ * Reemplazar un elemento con {@link Indexable#modificar(int, Object)} no es
+ * una modificación estructural y no cambia la versión.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ * @see Subdivisible
+ */
+public interface Versionable<T> extends Indexable<T> {
+
+    /**
+     * Retorna un número que cambia con cada modificación estructural.
+     * <p>
+     * Solo es significativa la igualdad entre dos valores: si difieren, hubo al
+     * menos una modificación estructural entre ambas llamadas.
+     * </p>
+     *
+     * @return la versión estructural actual.
+     */
+    int version();
+}
@@ -62,4 +62,22 @@ public interface Visitable<T> {
      * @param visitor El visitante que realizará la operación.
      */
     void visitar(Visitor<T> visitor);
+
+    /**
+     * Recorre los elementos con un {@link VisitorCombinable}, dividiendo el
+     * recorrido en partes que pueden visitarse en paralelo.
+     * <p>
+     * Al terminar, {@code visitor} contiene el resultado de todo el recorrido,
+     * como si hubiera visitado cada elemento en orden. Por omisión el recorrido
+     * es secuencial, con {@link #visitar(Visitor)}; las implementaciones con
+     * acceso por índice lo dividen con
+     * {@link ar.unrn.secuencias.visitantes.VisitaParalela}.
+     * </p>
+     *
+     * @param visitor el visitante que acumula el resultado.
+     * @param <V>     el tipo concreto del visitante.
+     */
+    default <V extends VisitorCombinable<T, V>> void visitarEnParalelo(V visitor) {
+        visitar(visitor);
+    }
 }
\ No newline at end of file
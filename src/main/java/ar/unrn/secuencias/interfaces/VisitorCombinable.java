@@ -0,0 +1,47 @@
+package ar.unrn.secuencias.interfaces;
+
+/**
+ * {@link Visitor} cuyo recorrido puede dividirse en partes que se visitan por
+ * separado, incluso en paralelo, y cuyos resultados parciales se combinan.
+ * <p>
+ * El contrato tiene tres pasos:
+ * </p>
+ * <ol>
+ *   <li>{@link #crear()}: un visitante nuevo, sin elementos visitados, para
+ *       una parte del recorrido.</li>
+ *   <li>{@link #visita(Object)}: cada parte se visita con su propio
+ *       visitante, en orden.</li>
+ *   <li>{@link #combinar(VisitorCombinable)}: el visitante de una parte
+ *       absorbe al de la parte siguiente. Siempre se combina el de la
+ *       izquierda con el de la derecha, por lo que el resultado puede depender
+ *       del orden, como al concatenar textos.</li>
+ * </ol>
+ * <p>
+ * Visitar todos los elementos con un único visitante debe dar el mismo
+ * resultado que visitar las partes por separado y combinarlas. Cada visitante
+ * es usado por un solo hilo a la vez, así que no necesita sincronización.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos visitados.
+ * @param <V> el tipo concreto del visitante, para combinar sin conversiones.
+ * @see Visitable#visitarEnParalelo(VisitorCombinable)
+ */
+public interface VisitorCombinable<T, V extends VisitorCombinable<T, V>>
+        extends Visitor<T> {
+
+    /**
+     * Crea un visitante del mismo tipo y configuración, sin elementos
+     * visitados.
+     *
+     * @return el visitante para una parte nueva del recorrido.
+     */
+    V crear();
+
+    /**
+     * Incorpora el resultado de un visitante que recorrió los elementos
+     * inmediatamente posteriores a los de este.
+     *
+     * @param siguiente el visitante de la parte siguiente; no se vuelve a usar.
+     */
+    void combinar(V siguiente);
+}
@@ -0,0 +1,231 @@
+package ar.unrn.secuencias.nativos;
+
+import ar.unrn.secuencias.excepciones.CapacidadExcedidaException;
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.excepciones.SecuenciaCerradaException;
+import ar.unrn.secuencias.interfaces.Expandable;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Secuencia expandible de capacidad fija cuyos elementos viven fuera del heap,
+ * en un {@link MemorySegment} reservado con un {@link Arena} compartido.
+ * <p>
+ * Cada elemento se guarda codificado por un {@link Codificador} de ancho fijo,
+ * por lo que el recolector de basura no recorre ni copia el contenido, sin
+ * importar su tamaño. A cambio, la memoria debe liberarse explícitamente con
+ * {@link #close()}; cualquier operación posterior lanza
+ * {@link SecuenciaCerradaException}.
+ * </p>
+ * <p>
+ * La capacidad se reserva completa al construir. Una vez alcanzada,
+ * {@link #agregar(Object)} lanza {@link CapacidadExcedidaException}. No se
+ * admiten elementos {@code null}.
+ * </p>
+ * <p>
+ * Esta clase no es segura para modificaciones concurrentes, aunque el segmento
+ * puede ser leído desde varios hilos.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class ArregloNativo<T> implements Expandable<T>, AutoCloseable {
+
+    /**
+     * Dueño de la memoria reservada; al cerrarlo se libera el segmento.
+     */
+    private final Arena arena;
+
+    /**
+     * Memoria donde se guardan los elementos codificados.
+     */
+    private final MemorySegment segmento;
+
+    /**
+     * Traduce entre elementos y bytes.
+     */
+    private final Codificador<T> codificador;
+
+    /**
+     * Ancho en bytes de cada elemento, tomado del codificador.
+     */
+    private final long ancho;
+
+    /**
+     * Cantidad máxima de elementos que admite la secuencia.
+     */
+    private final int capacidad;
+
+    /**
+     * Cantidad de elementos actualmente almacenados.
+     */
+    private int cantidad;
+
+    /**
+     * Indica si la memoria ya fue liberada.
+     */
+    private boolean cerrado;
+
+    /**
+     * Reserva memoria fuera del heap para la cantidad de elementos indicada.
+     *
+     * @param tipo   el codificador de los elementos.
+     * @param maximo la capacidad de la secuencia, no negativa.
+     * @throws IndiceFueraDeRangoException si la capacidad es negativa.
+     */
+    public ArregloNativo(Codificador<T> tipo, int maximo) {
+        if (maximo < 0) {
+            throw new IndiceFueraDeRangoException(maximo, 0);
+        }
+        this.codificador = tipo;
+        this.ancho = tipo.ancho();
+        this.capacidad = maximo;
+        this.arena = Arena.ofShared();
+        this.segmento = arena.allocate(ancho * maximo, ancho);
+    }
+
+    /**
+     * Verifica que la memoria no haya sido liberada.
+     *
+     * @throws SecuenciaCerradaException si ya se invocó {@link #close()}.
+     */
+    private void verificarAbierto() {
+        if (cerrado) {
+            throw new SecuenciaCerradaException();
+        }
+    }
+
+    /**
+     * Verifica que el índice corresponda a un elemento almacenado.
+     *
+     * @param indice el índice a verificar.
+     * @throws IndiceFueraDeRangoException si está fuera de {@code [0, largo() - 1]}.
+     */
+    private void verificarIndice(int indice) {
+        if (indice < 0 || indice >= cantidad) {
+            throw new IndiceFueraDeRangoException(indice, cantidad);
+        }
+    }
+
+    /**
+     * Verifica que el valor pueda ser codificado.
+     *
+     * @param valor el valor a verificar.
+     * @throws ElementoNuloException si es {@code null}.
+     */
+    private static void verificarNoNulo(Object valor) {
+        if (valor == null) {
+            throw new ElementoNuloException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoNuloException     si {@code valor} es {@code null}.
+     * @throws SecuenciaCerradaException si la secuencia fue cerrada.
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        verificarAbierto();
+        verificarIndice(indice);
+        verificarNoNulo(valor);
+        codificador.escribir(segmento, indice * ancho, valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws SecuenciaCerradaException si la secuencia fue cerrada.
+     */
+    @Override
+    public T obtener(int indice) {
+        verificarAbierto();
+        verificarIndice(indice);
+        return codificador.leer(segmento, indice * ancho);
+    }
+
+    @Override
+    public int largo() {
+        return cantidad;
+    }
+
+    /**
+     * Retorna la cantidad máxima de elementos que admite la secuencia.
+     *
+     * @return la capacidad reservada al construir.
+     */
+    public int capacidad() {
+        return capacidad;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoNuloException      si {@code valor} es {@code null}.
+     * @throws CapacidadExcedidaException si ya se almacenaron {@link #capacidad()}
+     *                                    elementos.
+     * @throws SecuenciaCerradaException  si la secuencia fue cerrada.
+     */
+    @Override
+    public void agregar(T valor) {
+        verificarAbierto();
+        verificarNoNulo(valor);
+        if (cantidad == capacidad) {
+            throw new CapacidadExcedidaException(String.format(
+                    "La secuencia nativa admite hasta %d elementos", capacidad));
+        }
+        codificador.escribir(segmento, cantidad * ancho, valor);
+        cantidad++;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * El desplazamiento de los elementos siguientes se hace con una única
+     * copia de memoria.
+     * </p>
+     *
+     * @throws SecuenciaCerradaException si la secuencia fue cerrada.
+     */
+    @Override
+    public T remover(int indice) {
+        verificarAbierto();
+        verificarIndice(indice);
+        T removido = codificador.leer(segmento, indice * ancho);
+        long siguientes = cantidad - indice - 1L;
+        MemorySegment.copy(segmento, (indice + 1L) * ancho,
+                segmento, indice * ancho, siguientes * ancho);
+        cantidad--;
+        return removido;
+    }
+
+    /**
+     * Libera la memoria de la secuencia. Invocarlo más de una vez no tiene
+     * efecto adicional.
+     */
+    @Override
+    public void close() {
+        if (!cerrado) {
+            cerrado = true;
+            arena.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (cerrado) {
+            return "ArregloNativo=(cerrado)";
+        }
+        StringBuilder texto = new StringBuilder("ArregloNativo={");
+        for (int i = 0; i < cantidad; i++) {
+            if (i > 0) {
+                texto.append(',');
+            }
+            texto.append(obtener(i));
+        }
+        return texto.append("}:").append(cantidad).toString();
+    }
+}
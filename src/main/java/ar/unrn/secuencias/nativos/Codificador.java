@@ -0,0 +1,49 @@
+package ar.unrn.secuencias.nativos;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Define cómo se representa un elemento de tipo {@code T} como un bloque de
+ * bytes de ancho fijo dentro de un {@link MemorySegment}.
+ * <p>
+ * Las secuencias que guardan sus elementos fuera del heap no almacenan
+ * referencias, sino la codificación de cada valor. El ancho debe ser el mismo
+ * para todos los valores, lo que permite ubicar el elemento {@code i} en el
+ * desplazamiento {@code i * ancho()} sin recorrer los anteriores.
+ * </p>
+ * <p>
+ * Las implementaciones no necesitan admitir {@code null}; las secuencias que
+ * las usan rechazan los elementos nulos antes de codificarlos.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos que se codifican.
+ * @see Codificadores
+ */
+public interface Codificador<T> {
+
+    /**
+     * Retorna la cantidad de bytes que ocupa cada elemento codificado.
+     *
+     * @return el ancho en bytes, siempre positivo.
+     */
+    long ancho();
+
+    /**
+     * Decodifica el elemento que comienza en el desplazamiento indicado.
+     *
+     * @param segmento       el segmento del que se lee.
+     * @param desplazamiento la posición, en bytes, del inicio del elemento.
+     * @return el elemento decodificado.
+     */
+    T leer(MemorySegment segmento, long desplazamiento);
+
+    /**
+     * Codifica el elemento a partir del desplazamiento indicado, ocupando
+     * exactamente {@link #ancho()} bytes.
+     *
+     * @param segmento       el segmento en el que se escribe.
+     * @param desplazamiento la posición, en bytes, del inicio del elemento.
+     * @param valor          el elemento a codificar, nunca {@code null}.
+     */
+    void escribir(MemorySegment segmento, long desplazamiento, T valor);
+}
@@ -0,0 +1,85 @@
+package ar.unrn.secuencias.nativos;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Codificadores de ancho fijo para los tipos numéricos de uso habitual.
+ * <p>
+ * Todos usan el orden de bytes nativo de la plataforma y la alineación
+ * natural del tipo, por lo que el segmento debe estar alineado al ancho del
+ * elemento (lo que se cumple para los segmentos reservados con
+ * {@link java.lang.foreign.Arena}).
+ * </p>
+ */
+public final class Codificadores {
+
+    /**
+     * Codifica {@code Integer} en 4 bytes.
+     */
+    public static final Codificador<Integer> ENTERO = new Codificador<>() {
+        @Override
+        public long ancho() {
+            return ValueLayout.JAVA_INT.byteSize();
+        }
+
+        @Override
+        public Integer leer(MemorySegment segmento, long desplazamiento) {
+            return segmento.get(ValueLayout.JAVA_INT, desplazamiento);
+        }
+
+        @Override
+        public void escribir(MemorySegment segmento, long desplazamiento,
+                             Integer valor) {
+            segmento.set(ValueLayout.JAVA_INT, desplazamiento, valor);
+        }
+    };
+
+    /**
+     * Codifica {@code Long} en 8 bytes.
+     */
+    public static final Codificador<Long> LARGO = new Codificador<>() {
+        @Override
+        public long ancho() {
+            return ValueLayout.JAVA_LONG.byteSize();
+        }
+
+        @Override
+        public Long leer(MemorySegment segmento, long desplazamiento) {
+            return segmento.get(ValueLayout.JAVA_LONG, desplazamiento);
+        }
+
+        @Override
+        public void escribir(MemorySegment segmento, long desplazamiento,
+                             Long valor) {
+            segmento.set(ValueLayout.JAVA_LONG, desplazamiento, valor);
+        }
+    };
+
+    /**
+     * Codifica {@code Double} en 8 bytes.
+     */
+    public static final Codificador<Double> DOBLE = new Codificador<>() {
+        @Override
+        public long ancho() {
+            return ValueLayout.JAVA_DOUBLE.byteSize();
+        }
+
+        @Override
+        public Double leer(MemorySegment segmento, long desplazamiento) {
+            return segmento.get(ValueLayout.JAVA_DOUBLE, desplazamiento);
+        }
+
+        @Override
+        public void escribir(MemorySegment segmento, long desplazamiento,
+                             Double valor) {
+            segmento.set(ValueLayout.JAVA_DOUBLE, desplazamiento, valor);
+        }
+    };
+
+    /**
+     * No se instancia, solo agrupa constantes.
+     */
+    private Codificadores() {
+    }
+}
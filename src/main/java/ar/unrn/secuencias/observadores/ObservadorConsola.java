@@ -0,0 +1,67 @@
+package ar.unrn.secuencias.observadores;
+
+import ar.unrn.secuencias.interfaces.Observable;
+import ar.unrn.secuencias.interfaces.Observador;
+
+import java.io.PrintStream;
+import java.util.Objects;
+
+/**
+ * Observador que imprime cada cambio, con el formato {@code indice: valor}.
+ * <p>
+ * Un rango se imprime de una vez, con una línea por índice, para que las
+ * líneas de distintas notificaciones no se intercalen.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos observados.
+ */
+public final class ObservadorConsola<T> implements Observador<T> {
+
+    /**
+     * Flujo donde se imprimen los cambios.
+     */
+    private final PrintStream salida;
+
+    /**
+     * Crea el observador sobre la salida estándar.
+     */
+    public ObservadorConsola() {
+        this(System.out);
+    }
+
+    /**
+     * Crea el observador sobre el flujo indicado.
+     *
+     * @param destino el flujo donde imprimir.
+     * @throws NullPointerException si {@code destino} es {@code null}.
+     */
+    public ObservadorConsola(PrintStream destino) {
+        this.salida = Objects.requireNonNull(destino, "La salida no puede ser nula");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void actualizar(Observable<T> observable, int indice) {
+        actualizarRango(observable, indice, indice + 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void actualizarRango(Observable<T> observable, int desde, int hasta) {
+        int fin = Math.min(hasta, observable.largo());
+        if (desde >= fin) {
+            return;
+        }
+        StringBuilder texto = new StringBuilder();
+        for (int indice = desde; indice < fin; indice++) {
+            texto.append(indice).append(": ").append(observable.obtener(indice))
+                    .append(System.lineSeparator());
+        }
+        salida.print(texto);
+        salida.flush();
+    }
+}
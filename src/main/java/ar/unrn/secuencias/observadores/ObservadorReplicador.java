@@ -0,0 +1,54 @@
+package ar.unrn.secuencias.observadores;
+
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.interfaces.Observable;
+import ar.unrn.secuencias.interfaces.Observador;
+
+import java.util.Objects;
+
+/**
+ * Observador que mantiene una réplica de la secuencia observada.
+ * <p>
+ * Cada índice notificado se copia desde la secuencia observada a la réplica.
+ * Los índices que exceden el largo de alguna de las dos se ignoran, por lo
+ * que conviene que la réplica tenga el mismo largo que la observada.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos observados.
+ */
+public final class ObservadorReplicador<T> implements Observador<T> {
+
+    /**
+     * Secuencia donde se copian los cambios.
+     */
+    private final Indexable<T> replica;
+
+    /**
+     * Crea el observador que copia sobre la secuencia indicada.
+     *
+     * @param destino la réplica a mantener.
+     * @throws NullPointerException si {@code destino} es {@code null}.
+     */
+    public ObservadorReplicador(Indexable<T> destino) {
+        this.replica = Objects.requireNonNull(destino, "La réplica no puede ser nula");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void actualizar(Observable<T> observable, int indice) {
+        actualizarRango(observable, indice, indice + 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void actualizarRango(Observable<T> observable, int desde, int hasta) {
+        int fin = Math.min(hasta, Math.min(observable.largo(), replica.largo()));
+        for (int indice = Math.max(desde, 0); indice < fin; indice++) {
+            replica.modificar(indice, observable.obtener(indice));
+        }
+    }
+}
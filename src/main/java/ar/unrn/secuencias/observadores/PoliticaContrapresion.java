@@ -0,0 +1,29 @@
+package ar.unrn.secuencias.observadores;
+
+/**
+ * Qué hace una {@link SecuenciaObservableAsincrona} cuando su cola de
+ * notificaciones está llena.
+ */
+public enum PoliticaContrapresion {
+
+    /**
+     * El hilo que modifica la secuencia espera a que haya lugar en la cola.
+     * No se pierde ninguna notificación, a costa de frenar al escritor.
+     */
+    BLOQUEAR,
+
+    /**
+     * La notificación se descarta y se contabiliza en
+     * {@link SecuenciaObservableAsincrona#descartadas()}. El escritor nunca
+     * espera, pero los observadores pueden perderse cambios.
+     */
+    DESCARTAR,
+
+    /**
+     * La notificación se combina con las demás que no entraron en un único
+     * rango que las abarca a todas. El escritor nunca espera y ningún cambio
+     * se pierde, aunque los observadores pueden recibir índices que no
+     * cambiaron.
+     */
+    COALESCER
+}
@@ -0,0 +1,179 @@
+package ar.unrn.secuencias.observadores;
+
+import ar.unrn.secuencias.decoradores.SecuenciaDecorable;
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.interfaces.Observable;
+import ar.unrn.secuencias.interfaces.Observador;
+
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Decorador que notifica a sus observadores cada cambio en el contenido
+ * (patrón Observador).
+ * <p>
+ * Las notificaciones son <strong>sincrónicas</strong>: se entregan en el hilo
+ * que hizo el cambio, antes de que la operación retorne, y en el orden en que
+ * se registraron los observadores. {@link #modificar(int, Object)} y
+ * {@link #agregar(Object)} notifican el índice escrito; {@link #remover(int)}
+ * notifica como rango las posiciones que se desplazaron, que queda vacío si se
+ * removió el último elemento. Las operaciones por rango y
+ * {@link #agregarTodos(Iterable)} notifican una sola vez, el rango completo.
+ * </p>
+ * <p>
+ * Registrar un observador {@code null} lanza {@link NullPointerException};
+ * registrar uno ya registrado no tiene efecto.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ * @see SecuenciaObservableAsincrona
+ */
+public class SecuenciaObservable<T> extends SecuenciaDecorable<T>
+        implements Observable<T> {
+
+    /**
+     * Observadores registrados; admite recorrerse desde otro hilo.
+     */
+    private final CopyOnWriteArrayList<Observador<T>> observadores =
+            new CopyOnWriteArrayList<>();
+
+    /**
+     * Crea el decorador sobre la secuencia indicada, sin observadores.
+     *
+     * @param secuencia la secuencia a decorar.
+     */
+    public SecuenciaObservable(Indexable<T> secuencia) {
+        super(secuencia);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException si {@code observador} es {@code null}.
+     */
+    @Override
+    public void addObserver(Observador<T> observador) {
+        observadores.addIfAbsent(Objects.requireNonNull(observador,
+                "El observador no puede ser nulo"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeObserver(Observador<T> observador) {
+        observadores.remove(observador);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        super.modificar(indice, valor);
+        notificarObservadores(indice);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void agregar(T valor) {
+        super.agregar(valor);
+        notificarObservadores(largo() - 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T remover(int indice) {
+        T removido = super.remover(indice);
+        notificarRango(indice, largo());
+        return removido;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificarRango(int desde, T[] valores) {
+        super.modificarRango(desde, valores);
+        notificarRango(desde, desde + valores.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rellenar(int desde, int hasta, T valor) {
+        super.rellenar(desde, hasta, valor);
+        notificarRango(desde, hasta);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void copiarDesde(Indexable<? extends T> origen, int desdeOrigen, int desde,
+                            int cantidad) {
+        super.copiarDesde(origen, desdeOrigen, desde, cantidad);
+        notificarRango(desde, desde + cantidad);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void agregarTodos(Iterable<? extends T> valores) {
+        int anterior = largo();
+        super.agregarTodos(valores);
+        notificarRango(anterior, largo());
+    }
+
+    /**
+     * Entrega la notificación a todos los observadores, en el hilo actual.
+     *
+     * @param indice el índice del elemento que ha cambiado.
+     */
+    @Override
+    public void notificarObservadores(int indice) {
+        for (Observador<T> observador : observadores) {
+            observador.actualizar(this, indice);
+        }
+    }
+
+    /**
+     * Notifica un cambio en el rango {@code [desde, hasta)}; no hace nada si
+     * el rango está vacío.
+     *
+     * @param desde el primer índice que ha cambiado, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     */
+    public void notificarRango(int desde, int hasta) {
+        if (desde < hasta) {
+            despachar(desde, hasta);
+        }
+    }
+
+    /**
+     * Entrega un rango no vacío a todos los observadores, en el hilo actual.
+     *
+     * @param desde el primer índice que ha cambiado, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     */
+    protected final void despachar(int desde, int hasta) {
+        for (Observador<T> observador : observadores) {
+            observador.actualizarRango(this, desde, hasta);
+        }
+    }
+
+    /**
+     * Retorna la cantidad de observadores registrados.
+     *
+     * @return la cantidad de observadores.
+     */
+    public int cantidadObservadores() {
+        return observadores.size();
+    }
+}
@@ -0,0 +1,503 @@
+package ar.unrn.secuencias.observadores;
+
+import ar.unrn.secuencias.excepciones.SecuenciaCerradaException;
+import ar.unrn.secuencias.interfaces.Indexable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Secuencia observable que entrega las notificaciones en segundo plano.
+ * <p>
+ * Cada cambio se encola como un rango de índices en una cola acotada, y un
+ * despachador que corre en un hilo virtual la vacía de a lotes: une los rangos
+ * superpuestos o contiguos de cada lote y entrega cada rango resultante con
+ * {@link ar.unrn.secuencias.interfaces.Observador#actualizarRango}. Así, el
+ * hilo que modifica la secuencia no espera a los observadores lentos, y una
+ * carga masiva sobre índices consecutivos llega como pocos rangos.
+ * </p>
+ * <p>
+ * Cuando la cola está llena se aplica la {@link PoliticaContrapresion}
+ * elegida. {@link #flush()} espera a que se entreguen todas las notificaciones
+ * encoladas antes de la llamada, para quien necesite que los observadores
+ * estén al día.
+ * </p>
+ * <p>
+ * Las notificaciones indican <em>qué</em> índices cambiaron, no sus valores:
+ * los observadores leen el estado al momento de la entrega, que puede ser
+ * posterior a otros cambios. Como lo hacen desde otro hilo, la secuencia
+ * decorada debe admitir lecturas concurrentes con las escrituras (por ejemplo,
+ * un {@code ArregloConcurrente}), o el escritor debe llamar a
+ * {@link #flush()} antes de seguir modificándola.
+ * </p>
+ * <p>
+ * Si un observador lanza una excepción, el despachador la retiene, sigue con
+ * el resto de las notificaciones y la relanza en el siguiente
+ * {@link #flush()}. Una vez cerrada con {@link #close()}, modificar la
+ * secuencia a través del decorador lanza {@link SecuenciaCerradaException}.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class SecuenciaObservableAsincrona<T> extends SecuenciaObservable<T>
+        implements AutoCloseable {
+
+    /**
+     * Capacidad por omisión de la cola de notificaciones.
+     */
+    public static final int CAPACIDAD_POR_OMISION = 1024;
+
+    /**
+     * Marca que indica al despachador que debe terminar.
+     */
+    private static final Rango FIN = new Rango(-1, -1);
+
+    /**
+     * Marca que despierta al despachador para que atienda el rango desbordado.
+     */
+    private static final Rango DESPERTAR = new Rango(0, 0);
+
+    /**
+     * Notificaciones pendientes de entrega.
+     */
+    private final BlockingQueue<Rango> cola;
+
+    /**
+     * Capacidad de la cola, usada también como tamaño máximo de lote.
+     */
+    private final int capacidad;
+
+    /**
+     * Política ante la cola llena.
+     */
+    private final PoliticaContrapresion politica;
+
+    /**
+     * Ejecutor de hilos virtuales donde corre el despachador.
+     */
+    private final ExecutorService ejecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Protege {@link #desbordado}, {@link #despachadas} y {@link #falla}, y es
+     * el monitor donde espera {@link #flush()}.
+     */
+    private final Object monitor = new Object();
+
+    /**
+     * Cantidad de notificaciones recibidas. Se cuentan antes de encolarlas,
+     * para que un {@link #flush()} posterior siempre las espere.
+     */
+    private final AtomicLong encoladas = new AtomicLong();
+
+    /**
+     * Cantidad de notificaciones descartadas.
+     */
+    private final AtomicLong descartadas = new AtomicLong();
+
+    /**
+     * Rango que abarca las notificaciones que no entraron en la cola, con la
+     * política {@link PoliticaContrapresion#COALESCER}.
+     */
+    private Rango desbordado;
+
+    /**
+     * Cantidad de notificaciones combinadas en {@link #desbordado}.
+     */
+    private long cantidadDesbordada;
+
+    /**
+     * Cantidad de notificaciones entregadas o descartadas.
+     */
+    private long despachadas;
+
+    /**
+     * Primera excepción lanzada por un observador desde el último flush.
+     */
+    private RuntimeException falla;
+
+    /**
+     * Indica si ya se llamó a {@link #close()}.
+     */
+    private volatile boolean cerrada;
+
+    /**
+     * Crea el decorador con la capacidad por omisión y la política
+     * {@link PoliticaContrapresion#BLOQUEAR}.
+     *
+     * @param secuencia la secuencia a decorar.
+     */
+    public SecuenciaObservableAsincrona(Indexable<T> secuencia) {
+        this(secuencia, CAPACIDAD_POR_OMISION, PoliticaContrapresion.BLOQUEAR);
+    }
+
+    /**
+     * Crea el decorador con la capacidad y la política indicadas.
+     *
+     * @param secuencia la secuencia a decorar.
+     * @param maximo    la cantidad de notificaciones que admite la cola.
+     * @param modo      qué hacer cuando la cola está llena.
+     * @throws IllegalArgumentException si {@code maximo} es menor a 1.
+     */
+    public SecuenciaObservableAsincrona(Indexable<T> secuencia, int maximo,
+                                        PoliticaContrapresion modo) {
+        super(secuencia);
+        if (maximo < 1) {
+            throw new IllegalArgumentException(
+                    "La capacidad debe ser al menos 1: " + maximo);
+        }
+        this.capacidad = maximo;
+        this.cola = new ArrayBlockingQueue<>(maximo);
+        this.politica = Objects.requireNonNull(modo, "La política no puede ser nula");
+        ejecutor.execute(this::despachar);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws SecuenciaCerradaException si la secuencia fue cerrada.
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        verificarAbierta();
+        super.modificar(indice, valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws SecuenciaCerradaException si la secuencia fue cerrada.
+     */
+    @Override
+    public void agregar(T valor) {
+        verificarAbierta();
+        super.agregar(valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws SecuenciaCerradaException si la secuencia fue cerrada.
+     */
+    @Override
+    public T remover(int indice) {
+        verificarAbierta();
+        return super.remover(indice);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws SecuenciaCerradaException si la secuencia fue cerrada.
+     */
+    @Override
+    public void modificarRango(int desde, T[] valores) {
+        verificarAbierta();
+        super.modificarRango(desde, valores);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws SecuenciaCerradaException si la secuencia fue cerrada.
+     */
+    @Override
+    public void rellenar(int desde, int hasta, T valor) {
+        verificarAbierta();
+        super.rellenar(desde, hasta, valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws SecuenciaCerradaException si la secuencia fue cerrada.
+     */
+    @Override
+    public void copiarDesde(Indexable<? extends T> origen, int desdeOrigen, int desde,
+                            int cantidad) {
+        verificarAbierta();
+        super.copiarDesde(origen, desdeOrigen, desde, cantidad);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws SecuenciaCerradaException si la secuencia fue cerrada.
+     */
+    @Override
+    public void agregarTodos(Iterable<? extends T> valores) {
+        verificarAbierta();
+        super.agregarTodos(valores);
+    }
+
+    /**
+     * Encola la notificación para entregarla en segundo plano.
+     *
+     * @param indice el índice del elemento que ha cambiado.
+     * @throws SecuenciaCerradaException si la secuencia fue cerrada.
+     */
+    @Override
+    public void notificarObservadores(int indice) {
+        verificarAbierta();
+        encolar(new Rango(indice, indice + 1));
+    }
+
+    /**
+     * Encola la notificación del rango para entregarla en segundo plano.
+     *
+     * @param desde el primer índice que ha cambiado, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @throws SecuenciaCerradaException si la secuencia fue cerrada.
+     */
+    @Override
+    public void notificarRango(int desde, int hasta) {
+        verificarAbierta();
+        if (desde < hasta) {
+            encolar(new Rango(desde, hasta));
+        }
+    }
+
+    /**
+     * Espera a que se entreguen todas las notificaciones recibidas antes de
+     * esta llamada, salvo las descartadas.
+     *
+     * @throws InterruptedException si el hilo es interrumpido mientras espera.
+     * @throws RuntimeException     la primera excepción lanzada por un
+     *                              observador desde el último {@code flush}.
+     */
+    public void flush() throws InterruptedException {
+        long objetivo = encoladas.get();
+        synchronized (monitor) {
+            while (despachadas < objetivo) {
+                monitor.wait();
+            }
+            if (falla != null) {
+                RuntimeException lanzada = falla;
+                falla = null;
+                throw lanzada;
+            }
+        }
+    }
+
+    /**
+     * Retorna la cantidad de notificaciones descartadas por la política
+     * {@link PoliticaContrapresion#DESCARTAR}, o por interrupción del hilo
+     * escritor con {@link PoliticaContrapresion#BLOQUEAR}.
+     *
+     * @return la cantidad de notificaciones perdidas.
+     */
+    public long descartadas() {
+        return descartadas.get();
+    }
+
+    /**
+     * Retorna la política ante la cola llena.
+     *
+     * @return la política configurada.
+     */
+    public PoliticaContrapresion politica() {
+        return politica;
+    }
+
+    /**
+     * Entrega las notificaciones pendientes y detiene el despachador. No debe
+     * llamarse mientras otros hilos siguen modificando la secuencia.
+     */
+    @Override
+    public void close() {
+        if (cerrada) {
+            return;
+        }
+        cerrada = true;
+        boolean interrumpido = false;
+        while (true) {
+            try {
+                cola.put(FIN);
+                break;
+            } catch (InterruptedException e) {
+                interrumpido = true;
+            }
+        }
+        ejecutor.shutdown();
+        while (true) {
+            try {
+                if (ejecutor.awaitTermination(1, TimeUnit.SECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrumpido = true;
+            }
+        }
+        if (interrumpido) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Verifica que la secuencia no haya sido cerrada.
+     *
+     * @throws SecuenciaCerradaException si fue cerrada.
+     */
+    private void verificarAbierta() {
+        if (cerrada) {
+            throw new SecuenciaCerradaException(
+                    "La secuencia observable asincrónica fue cerrada.");
+        }
+    }
+
+    /**
+     * Aplica la política de contrapresión para encolar un rango.
+     * <p>
+     * La notificación se cuenta antes de encolarla: si se contara después,
+     * con dos escritores el {@code flush} de uno podría tomar su objetivo
+     * cuando el otro ya encoló pero todavía no contó, y volver sin esperar
+     * su propia notificación.
+     * </p>
+     *
+     * @param rango el rango que ha cambiado.
+     */
+    private void encolar(Rango rango) {
+        encoladas.incrementAndGet();
+        switch (politica) {
+            case BLOQUEAR -> {
+                try {
+                    cola.put(rango);
+                } catch (InterruptedException e) {
+                    descartar();
+                    Thread.currentThread().interrupt();
+                }
+            }
+            case DESCARTAR -> {
+                if (!cola.offer(rango)) {
+                    descartar();
+                }
+            }
+            case COALESCER -> {
+                if (!cola.offer(rango)) {
+                    synchronized (monitor) {
+                        desbordado = desbordado == null ? rango : desbordado.union(rango);
+                        cantidadDesbordada++;
+                    }
+                    cola.offer(DESPERTAR);
+                }
+            }
+            default -> throw new IllegalStateException(
+                    "Política desconocida: " + politica);
+        }
+    }
+
+    /**
+     * Registra una notificación ya contada que no se va a entregar. Cuenta
+     * como despachada para que {@link #flush()} no la espere.
+     */
+    private void descartar() {
+        descartadas.incrementAndGet();
+        synchronized (monitor) {
+            despachadas++;
+            monitor.notifyAll();
+        }
+    }
+
+    /**
+     * Ciclo del despachador: toma lotes de la cola, los combina y los entrega
+     * hasta encontrar la marca de fin.
+     */
+    private void despachar() {
+        List<Rango> lote = new ArrayList<>();
+        boolean terminar = false;
+        while (!terminar) {
+            try {
+                lote.add(cola.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            cola.drainTo(lote, capacidad);
+            List<Rango> rangos = new ArrayList<>(lote.size() + 1);
+            long cantidad = 0;
+            for (Rango rango : lote) {
+                if (rango == FIN) {
+                    terminar = true;
+                } else if (rango != DESPERTAR) {
+                    rangos.add(rango);
+                    cantidad++;
+                }
+            }
+            lote.clear();
+            synchronized (monitor) {
+                if (desbordado != null) {
+                    rangos.add(desbordado);
+                    cantidad = cantidad + cantidadDesbordada;
+                    desbordado = null;
+                    cantidadDesbordada = 0;
+                }
+            }
+            for (Rango rango : combinar(rangos)) {
+                try {
+                    despachar(rango.desde(), rango.hasta());
+                } catch (RuntimeException e) {
+                    synchronized (monitor) {
+                        if (falla == null) {
+                            falla = e;
+                        }
+                    }
+                }
+            }
+            synchronized (monitor) {
+                despachadas = despachadas + cantidad;
+                monitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Une los rangos superpuestos o contiguos.
+     *
+     * @param rangos los rangos de un lote, en cualquier orden.
+     * @return los rangos resultantes, disjuntos y ordenados.
+     */
+    private static List<Rango> combinar(List<Rango> rangos) {
+        rangos.sort(Comparator.comparingInt(Rango::desde));
+        List<Rango> combinados = new ArrayList<>();
+        Rango actual = null;
+        for (Rango rango : rangos) {
+            if (actual != null && rango.desde() <= actual.hasta()) {
+                actual = actual.union(rango);
+            } else {
+                if (actual != null) {
+                    combinados.add(actual);
+                }
+                actual = rango;
+            }
+        }
+        if (actual != null) {
+            combinados.add(actual);
+        }
+        return combinados;
+    }
+
+    /**
+     * Rango de índices {@code [desde, hasta)} que ha cambiado.
+     *
+     * @param desde el primer índice, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     */
+    private record Rango(int desde, int hasta) {
+
+        /**
+         * Retorna el menor rango que contiene a ambos.
+         *
+         * @param otro el otro rango.
+         * @return la unión, o su cápsula si no se tocan.
+         */
+        Rango union(Rango otro) {
+            return new Rango(Math.min(desde, otro.desde), Math.max(hasta, otro.hasta));
+        }
+    }
+}
@@ -0,0 +1,451 @@
+package ar.unrn.secuencias.persistentes;
+
+import ar.unrn.secuencias.excepciones.ArchivoInvalidoException;
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.excepciones.SecuenciaCerradaException;
+import ar.unrn.secuencias.interfaces.Expandable;
+import ar.unrn.secuencias.nativos.Codificador;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Secuencia expandible de registros de ancho fijo que vive en un archivo
+ * mapeado a memoria, de modo que su contenido sobrevive entre ejecuciones.
+ * <p>
+ * El archivo comienza con una cabecera de {@value #CABECERA} bytes:
+ * </p>
+ * <ul>
+ *   <li>{@code 0}: número mágico, para reconocer el formato.</li>
+ *   <li>{@code 4}: versión del formato.</li>
+ *   <li>{@code 8}: ancho en bytes de cada registro.</li>
+ *   <li>{@code 16}: {@link #largo()} de la secuencia.</li>
+ * </ul>
+ * <p>
+ * A continuación se ubican los registros, codificados por un
+ * {@link Codificador}. Reabrir un archivo existente con {@link #abrir(Path,
+ * Codificador)} solo lee la cabecera y mapea el archivo: no se copia ni se
+ * recorre su contenido.
+ * </p>
+ * <p>
+ * <b>Recuperación ante fallos:</b> el largo de la cabecera se actualiza
+ * después de escribir el registro agregado, por lo que si el proceso termina
+ * abruptamente, al reabrir nunca se observan registros a medio escribir. Las
+ * páginas mapeadas llegan al disco cuando el sistema operativo lo decide;
+ * {@link #sincronizar()} las fuerza, primero los registros y luego la
+ * cabecera. Las modificaciones y remociones sobre registros existentes no son
+ * atómicas frente a una caída del sistema operativo.
+ * </p>
+ * <p>
+ * Al agotarse el espacio mapeado, el archivo crece de a bloques de registros
+ * y se vuelve a mapear. No se admiten elementos {@code null} y la clase no es
+ * segura para uso concurrente.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class ArregloMapeado<T> implements Expandable<T>, AutoCloseable {
+
+    /**
+     * Tamaño en bytes de la cabecera del archivo.
+     */
+    public static final int CABECERA = 32;
+
+    /**
+     * Cantidad de registros en la que crece el archivo por omisión.
+     */
+    public static final int BLOQUE_POR_OMISION = 4096;
+
+    /**
+     * Número mágico del formato, "SECU" en ASCII.
+     */
+    private static final int MAGIA = 0x53454355;
+
+    /**
+     * Versión actual del formato del archivo.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Posición de la versión en la cabecera.
+     */
+    private static final long POSICION_VERSION = 4;
+
+    /**
+     * Posición del ancho de registro en la cabecera.
+     */
+    private static final long POSICION_ANCHO = 8;
+
+    /**
+     * Posición del largo en la cabecera.
+     */
+    private static final long POSICION_LARGO = 16;
+
+    /**
+     * Canal del archivo, abierto mientras la secuencia lo esté.
+     */
+    private final FileChannel canal;
+
+    /**
+     * Traduce entre elementos y bytes.
+     */
+    private final Codificador<T> codificador;
+
+    /**
+     * Ancho en bytes de cada registro.
+     */
+    private final long ancho;
+
+    /**
+     * Cantidad de registros que se agregan al archivo cada vez que crece.
+     */
+    private final int bloque;
+
+    /**
+     * Dueño del mapeo actual; al cerrarlo se desmapea el archivo.
+     */
+    private Arena arena;
+
+    /**
+     * Vista en memoria del archivo completo, cabecera incluida.
+     */
+    private MemorySegment segmento;
+
+    /**
+     * Cantidad de registros que entran en el mapeo actual.
+     */
+    private int capacidad;
+
+    /**
+     * Cantidad de registros almacenados.
+     */
+    private int cantidad;
+
+    /**
+     * Indica si el archivo ya fue cerrado.
+     */
+    private boolean cerrado;
+
+    /**
+     * Construye la secuencia sobre un canal ya abierto.
+     *
+     * @param archivo     el canal del archivo.
+     * @param tipo        el codificador de los registros.
+     * @param crecimiento la cantidad de registros en la que crece el archivo.
+     */
+    private ArregloMapeado(FileChannel archivo, Codificador<T> tipo, int crecimiento) {
+        this.canal = archivo;
+        this.codificador = tipo;
+        this.ancho = tipo.ancho();
+        this.bloque = crecimiento;
+    }
+
+    /**
+     * Abre la secuencia almacenada en el archivo, creándolo si no existe o
+     * está vacío. El archivo crece de a {@value #BLOQUE_POR_OMISION} registros.
+     *
+     * @param archivo el archivo que respalda la secuencia.
+     * @param tipo    el codificador de los registros.
+     * @param <T>     el tipo de los elementos contenidos.
+     * @return la secuencia abierta, con el largo registrado en el archivo.
+     * @throws ArchivoInvalidoException si el archivo existe pero no tiene el
+     *                                  formato esperado, el ancho no coincide
+     *                                  o el largo registrado no entra en él.
+     * @throws UncheckedIOException     si ocurre un error de entrada/salida.
+     */
+    public static <T> ArregloMapeado<T> abrir(Path archivo, Codificador<T> tipo) {
+        return abrir(archivo, tipo, BLOQUE_POR_OMISION);
+    }
+
+    /**
+     * Abre la secuencia almacenada en el archivo, creándolo si no existe o
+     * está vacío.
+     *
+     * @param archivo     el archivo que respalda la secuencia.
+     * @param tipo        el codificador de los registros.
+     * @param crecimiento la cantidad de registros en la que crece el archivo,
+     *                    mayor a cero.
+     * @param <T>         el tipo de los elementos contenidos.
+     * @return la secuencia abierta, con el largo registrado en el archivo.
+     * @throws ArchivoInvalidoException si el archivo existe pero no tiene el
+     *                                  formato esperado, el ancho no coincide
+     *                                  o el largo registrado no entra en él.
+     * @throws UncheckedIOException     si ocurre un error de entrada/salida.
+     */
+    public static <T> ArregloMapeado<T> abrir(Path archivo, Codificador<T> tipo,
+                                              int crecimiento) {
+        if (crecimiento <= 0) {
+            throw new IndiceFueraDeRangoException(crecimiento, 1);
+        }
+        try {
+            FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ArregloMapeado<T> secuencia = new ArregloMapeado<>(canal, tipo, crecimiento);
+            try {
+                secuencia.inicializar(canal.size());
+            } catch (IOException | RuntimeException e) {
+                canal.close();
+                throw e;
+            }
+            return secuencia;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir " + archivo, e);
+        }
+    }
+
+    /**
+     * Mapea el archivo y escribe o valida la cabecera.
+     *
+     * @param tamano el tamaño actual del archivo en bytes.
+     * @throws IOException si falla el mapeo.
+     */
+    private void inicializar(long tamano) throws IOException {
+        if (tamano == 0) {
+            mapear(bloque);
+            segmento.set(ValueLayout.JAVA_INT, 0, MAGIA);
+            segmento.set(ValueLayout.JAVA_INT, POSICION_VERSION, VERSION);
+            segmento.set(ValueLayout.JAVA_LONG, POSICION_ANCHO, ancho);
+            segmento.set(ValueLayout.JAVA_LONG, POSICION_LARGO, 0L);
+            return;
+        }
+        if (tamano < CABECERA) {
+            throw new ArchivoInvalidoException("El archivo es menor que la cabecera");
+        }
+        mapear((int) ((tamano - CABECERA) / ancho));
+        if (segmento.get(ValueLayout.JAVA_INT, 0) != MAGIA
+                || segmento.get(ValueLayout.JAVA_INT, POSICION_VERSION) != VERSION) {
+            arena.close();
+            throw new ArchivoInvalidoException("El archivo no es una secuencia mapeada");
+        }
+        long registrado = segmento.get(ValueLayout.JAVA_LONG, POSICION_ANCHO);
+        if (registrado != ancho) {
+            arena.close();
+            throw new ArchivoInvalidoException(String.format(
+                    "El archivo usa registros de %d bytes, el codificador de %d",
+                    registrado, ancho));
+        }
+        long largo = segmento.get(ValueLayout.JAVA_LONG, POSICION_LARGO);
+        if (largo < 0 || largo > capacidad) {
+            arena.close();
+            throw new ArchivoInvalidoException(String.format(
+                    "El archivo registra %d elementos pero tiene lugar para %d",
+                    largo, capacidad));
+        }
+        cantidad = (int) largo;
+    }
+
+    /**
+     * Mapea el archivo con espacio para la cantidad de registros indicada,
+     * extendiéndolo si hace falta, y libera el mapeo anterior.
+     *
+     * @param registros la cantidad de registros que debe abarcar el mapeo.
+     * @throws IOException si falla el mapeo.
+     */
+    private void mapear(int registros) throws IOException {
+        Arena nueva = Arena.ofShared();
+        MemorySegment mapeo = canal.map(FileChannel.MapMode.READ_WRITE, 0,
+                CABECERA + registros * ancho, nueva);
+        if (arena != null) {
+            arena.close();
+        }
+        arena = nueva;
+        segmento = mapeo;
+        capacidad = registros;
+    }
+
+    /**
+     * Registra el largo actual en la cabecera.
+     */
+    private void guardarLargo() {
+        segmento.set(ValueLayout.JAVA_LONG, POSICION_LARGO, cantidad);
+    }
+
+    /**
+     * Retorna el desplazamiento en el archivo del registro indicado.
+     *
+     * @param indice el índice del registro.
+     * @return la posición en bytes del inicio del registro.
+     */
+    private long posicion(int indice) {
+        return CABECERA + indice * ancho;
+    }
+
+    /**
+     * Verifica que el archivo no haya sido cerrado.
+     *
+     * @throws SecuenciaCerradaException si ya se invocó {@link #close()}.
+     */
+    private void verificarAbierto() {
+        if (cerrado) {
+            throw new SecuenciaCerradaException();
+        }
+    }
+
+    /**
+     * Verifica que el índice corresponda a un registro almacenado.
+     *
+     * @param indice el índice a verificar.
+     * @throws IndiceFueraDeRangoException si está fuera de {@code [0, largo() - 1]}.
+     */
+    private void verificarIndice(int indice) {
+        if (indice < 0 || indice >= cantidad) {
+            throw new IndiceFueraDeRangoException(indice, cantidad);
+        }
+    }
+
+    /**
+     * Verifica que el valor pueda ser codificado.
+     *
+     * @param valor el valor a verificar.
+     * @throws ElementoNuloException si es {@code null}.
+     */
+    private static void verificarNoNulo(Object valor) {
+        if (valor == null) {
+            throw new ElementoNuloException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoNuloException     si {@code valor} es {@code null}.
+     * @throws SecuenciaCerradaException si el archivo fue cerrado.
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        verificarAbierto();
+        verificarIndice(indice);
+        verificarNoNulo(valor);
+        codificador.escribir(segmento, posicion(indice), valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws SecuenciaCerradaException si el archivo fue cerrado.
+     */
+    @Override
+    public T obtener(int indice) {
+        verificarAbierto();
+        verificarIndice(indice);
+        return codificador.leer(segmento, posicion(indice));
+    }
+
+    @Override
+    public int largo() {
+        return cantidad;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Si el mapeo actual está lleno, el archivo se extiende en un bloque de
+     * registros y se vuelve a mapear antes de escribir.
+     * </p>
+     *
+     * @throws ElementoNuloException     si {@code valor} es {@code null}.
+     * @throws SecuenciaCerradaException si el archivo fue cerrado.
+     * @throws UncheckedIOException      si no se pudo extender el archivo.
+     */
+    @Override
+    public void agregar(T valor) {
+        verificarAbierto();
+        verificarNoNulo(valor);
+        if (cantidad == capacidad) {
+            try {
+                mapear(capacidad + bloque);
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo extender el archivo", e);
+            }
+        }
+        codificador.escribir(segmento, posicion(cantidad), valor);
+        cantidad++;
+        guardarLargo();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * El espacio liberado no se devuelve al sistema de archivos.
+     * </p>
+     *
+     * @throws SecuenciaCerradaException si el archivo fue cerrado.
+     */
+    @Override
+    public T remover(int indice) {
+        verificarAbierto();
+        verificarIndice(indice);
+        T removido = codificador.leer(segmento, posicion(indice));
+        long siguientes = cantidad - indice - 1L;
+        MemorySegment.copy(segmento, posicion(indice + 1),
+                segmento, posicion(indice), siguientes * ancho);
+        cantidad--;
+        guardarLargo();
+        return removido;
+    }
+
+    /**
+     * Retorna la cantidad de registros que entran en el archivo sin
+     * necesidad de extenderlo.
+     *
+     * @return la capacidad del mapeo actual.
+     */
+    public int capacidad() {
+        return capacidad;
+    }
+
+    /**
+     * Fuerza la escritura a disco de los registros y luego de la cabecera.
+     * Al retornar, el contenido actual sobrevive a una caída del sistema.
+     *
+     * @throws SecuenciaCerradaException si el archivo fue cerrado.
+     */
+    public void sincronizar() {
+        verificarAbierto();
+        segmento.asSlice(CABECERA).force();
+        segmento.asSlice(0, CABECERA).force();
+    }
+
+    /**
+     * Sincroniza el contenido, desmapea y cierra el archivo. Invocarlo más de
+     * una vez no tiene efecto adicional.
+     *
+     * @throws UncheckedIOException si falla el cierre del archivo.
+     */
+    @Override
+    public void close() {
+        if (cerrado) {
+            return;
+        }
+        sincronizar();
+        cerrado = true;
+        arena.close();
+        try {
+            canal.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo cerrar el archivo", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (cerrado) {
+            return "ArregloMapeado=(cerrado)";
+        }
+        StringBuilder texto = new StringBuilder("ArregloMapeado={");
+        for (int i = 0; i < cantidad; i++) {
+            if (i > 0) {
+                texto.append(',');
+            }
+            texto.append(obtener(i));
+        }
+        return texto.append("}:").append(cantidad).toString();
+    }
+}
@@ -0,0 +1,362 @@
+package ar.unrn.secuencias.primitivos;
+
+import ar.unrn.secuencias.excepciones.ComparadorNuloException;
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.excepciones.EstructuraVaciaException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.interfaces.Buscable;
+import ar.unrn.secuencias.interfaces.IndexableDouble;
+import ar.unrn.secuencias.interfaces.Ordenable;
+import ar.unrn.secuencias.interfaces.Visitable;
+import ar.unrn.secuencias.interfaces.Visitor;
+import ar.unrn.secuencias.interfaces.VisitorCombinable;
+import ar.unrn.secuencias.visitantes.VisitaParalela;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+
+/**
+ * Arreglo de tamaño fijo de valores {@code double}, respaldado por un {@code double[]}.
+ * <p>
+ * Implementa {@link IndexableDouble}, por lo que el acceso mediante
+ * {@link #obtenerDouble(int)} y {@link #modificarDouble(int, double)} no crea objetos.
+ * Además cumple los contratos genéricos de {@link Buscable}, {@link Ordenable} y
+ * {@link Visitable} sobre {@code Double}, ofreciendo variantes primitivas
+ * ({@link #indiceDeDouble(double)}, {@link #contieneDouble(double)}, etc.) para cuando el
+ * tipo es conocido.
+ * </p>
+ * <p>
+ * Las búsquedas primitivas y las reducciones ({@link #sumar()},
+ * {@link #minimo()}, {@link #maximo()}) usan el {@link Nucleo} de
+ * {@link Nucleos#actual()}, vectorial cuando la plataforma lo permite.
+ * </p>
+ * <p>
+ * Las búsquedas comparan con la semántica de {@link Double#equals(Object)},
+ * por lo que es posible encontrar {@code NaN}. No admite elementos
+ * {@code null}: tanto modificar como buscar un {@code null} lanza
+ * {@link ElementoNuloException}.
+ * </p>
+ */
+public final class ArregloDouble implements IndexableDouble, Buscable<Double>,
+        Ordenable<Double>, Visitable<Double>, Iterable<Double> {
+
+    /**
+     * Almacenamiento de los valores.
+     */
+    private final double[] valores;
+
+    /**
+     * Crea un arreglo del largo indicado, con todos sus valores en cero.
+     *
+     * @param largo la cantidad de posiciones del arreglo, no negativa.
+     * @throws IndiceFueraDeRangoException si el largo es negativo.
+     */
+    public ArregloDouble(int largo) {
+        if (largo < 0) {
+            throw new IndiceFueraDeRangoException(largo, 0);
+        }
+        this.valores = new double[largo];
+    }
+
+    /**
+     * Constructor interno que adopta el arreglo recibido sin copiarlo.
+     *
+     * @param propios el arreglo que pasa a ser el almacenamiento.
+     */
+    private ArregloDouble(double[] propios) {
+        this.valores = propios;
+    }
+
+    /**
+     * Crea un arreglo con una copia de los valores indicados.
+     *
+     * @param contenido los valores iniciales.
+     * @return un nuevo arreglo con el mismo contenido.
+     */
+    public static ArregloDouble de(double... contenido) {
+        return new ArregloDouble(contenido.clone());
+    }
+
+    /**
+     * Verifica que el índice esté dentro del rango válido.
+     *
+     * @param indice el índice a verificar.
+     * @throws IndiceFueraDeRangoException si está fuera de {@code [0, largo() - 1]}.
+     */
+    private void verificarIndice(int indice) {
+        if (indice < 0 || indice >= valores.length) {
+            throw new IndiceFueraDeRangoException(indice, valores.length);
+        }
+    }
+
+    /**
+     * Verifica que el elemento a buscar no sea {@code null}.
+     *
+     * @param elemento el elemento a verificar.
+     * @throws ElementoNuloException si es {@code null}.
+     */
+    private static void verificarNoNulo(Double elemento) {
+        if (elemento == null) {
+            throw new ElementoNuloException();
+        }
+    }
+
+    @Override
+    public double obtenerDouble(int indice) {
+        verificarIndice(indice);
+        return valores[indice];
+    }
+
+    @Override
+    public void modificarDouble(int indice, double valor) {
+        verificarIndice(indice);
+        valores[indice] = valor;
+    }
+
+    @Override
+    public int largo() {
+        return valores.length;
+    }
+
+    /**
+     * Compara dos valores con la misma semántica que {@link Double#equals(Object)}:
+     * {@code NaN} es igual a sí mismo y {@code 0.0} es distinto de {@code -0.0}.
+     *
+     * @param uno  el primer valor.
+     * @param otro el segundo valor.
+     * @return {@code true} si ambos valores tienen la misma representación.
+     */
+    private static boolean iguales(double uno, double otro) {
+        return Double.doubleToLongBits(uno) == Double.doubleToLongBits(otro);
+    }
+
+    /**
+     * Indica si el valor está presente en el arreglo.
+     *
+     * @param valor el valor a buscar.
+     * @return {@code true} si al menos una posición contiene el valor.
+     */
+    public boolean contieneDouble(double valor) {
+        return indiceDeDouble(valor) >= 0;
+    }
+
+    /**
+     * Retorna la primera posición que contiene el valor.
+     *
+     * @param valor el valor a buscar.
+     * @return el índice más bajo que contiene el valor, o -1 si no está.
+     */
+    public int indiceDeDouble(double valor) {
+        return Nucleos.actual().indiceDe(valores, 0, valores.length, valor);
+    }
+
+    /**
+     * Retorna la última posición que contiene el valor.
+     *
+     * @param valor el valor a buscar.
+     * @return el índice más alto que contiene el valor, o -1 si no está.
+     */
+    public int ultimoIndiceDeDouble(double valor) {
+        for (int i = valores.length - 1; i >= 0; i--) {
+            if (iguales(valores[i], valor)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Cuenta las posiciones que contienen el valor.
+     * La igualdad es la de {@link Double#equals}.
+     *
+     * @param valor el valor a contar.
+     * @return la cantidad de apariciones.
+     */
+    public int contarDouble(double valor) {
+        return Nucleos.actual().contar(valores, 0, valores.length, valor);
+    }
+
+    /**
+     * Suma todos los valores.
+     * El resultado puede diferir en los últimos bits del de una suma
+     * secuencial, según la implementación de {@link Nucleos#actual()}.
+     *
+     * @return la suma, o 0 si el arreglo está vacío.
+     */
+    public double sumar() {
+        return Nucleos.actual().sumar(valores, 0, valores.length);
+    }
+
+    /**
+     * Retorna el menor de los valores.
+     *
+     * @return el mínimo.
+     * @throws EstructuraVaciaException si el arreglo está vacío.
+     */
+    public double minimo() {
+        return Nucleos.actual().minimo(valores, 0, valores.length);
+    }
+
+    /**
+     * Retorna el mayor de los valores.
+     *
+     * @return el máximo.
+     * @throws EstructuraVaciaException si el arreglo está vacío.
+     */
+    public double maximo() {
+        return Nucleos.actual().maximo(valores, 0, valores.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoNuloException si {@code elemento} es {@code null}.
+     */
+    @Override
+    public boolean contiene(Double elemento) {
+        verificarNoNulo(elemento);
+        return contieneDouble(elemento);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoNuloException si {@code elemento} es {@code null}.
+     */
+    @Override
+    public int indiceDe(Double elemento) {
+        verificarNoNulo(elemento);
+        return indiceDeDouble(elemento);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoNuloException si {@code elemento} es {@code null}.
+     */
+    @Override
+    public int ultimoIndiceDe(Double elemento) {
+        verificarNoNulo(elemento);
+        return ultimoIndiceDeDouble(elemento);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Ordena directamente el {@code double[]} interno, sin encapsular valores.
+     * </p>
+     */
+    @Override
+    public void ordenar() {
+        Arrays.sort(valores);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Como el comparador opera sobre {@code Double}, los valores se
+     * encapsulan temporalmente. El ordenamiento es estable.
+     * </p>
+     *
+     * @throws ComparadorNuloException si {@code comparador} es {@code null}.
+     */
+    @Override
+    public void ordenar(Comparator<? super Double> comparador) {
+        if (comparador == null) {
+            throw new ComparadorNuloException("El comparador no puede ser nulo.");
+        }
+        Double[] encapsulados = new Double[valores.length];
+        for (int i = 0; i < valores.length; i++) {
+            encapsulados[i] = valores[i];
+        }
+        Arrays.sort(encapsulados, comparador);
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] = encapsulados[i];
+        }
+    }
+
+    @Override
+    public void visitar(Visitor<Double> visitor) {
+        for (double valor : valores) {
+            visitor.visita(valor);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Divide el recorrido con {@link VisitaParalela}.
+     * </p>
+     */
+    @Override
+    public <V extends VisitorCombinable<Double, V>> void visitarEnParalelo(V visitor) {
+        VisitaParalela.recorrer(this, visitor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Recorre directamente el {@code double[]}, con {@link Arrays#spliterator}.
+     * </p>
+     */
+    @Override
+    public Spliterator.OfDouble spliteratorDouble() {
+        return Arrays.spliterator(valores);
+    }
+
+    /**
+     * Retorna una copia del contenido como arreglo primitivo.
+     *
+     * @return un nuevo {@code double[]} con los valores en orden.
+     */
+    public double[] comoArreglo() {
+        return valores.clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * El iterador retornado es un {@link PrimitiveIterator.OfDouble}, por lo que
+     * {@code nextDouble()} permite recorrer sin encapsular.
+     * </p>
+     */
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new PrimitiveIterator.OfDouble() {
+            /**
+             * Posición del próximo valor a retornar.
+             */
+            private int actual;
+
+            @Override
+            public boolean hasNext() {
+                return actual < valores.length;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (actual >= valores.length) {
+                    throw new NoSuchElementException();
+                }
+                double valor = valores[actual];
+                actual++;
+                return valor;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder("ArregloDouble={");
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                texto.append(',');
+            }
+            texto.append(valores[i]);
+        }
+        return texto.append("}:").append(valores.length).toString();
+    }
+}
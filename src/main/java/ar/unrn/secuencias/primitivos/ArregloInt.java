@@ -0,0 +1,346 @@
+package ar.unrn.secuencias.primitivos;
+
+import ar.unrn.secuencias.excepciones.ComparadorNuloException;
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.excepciones.EstructuraVaciaException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.interfaces.Buscable;
+import ar.unrn.secuencias.interfaces.IndexableInt;
+import ar.unrn.secuencias.interfaces.Ordenable;
+import ar.unrn.secuencias.interfaces.Visitable;
+import ar.unrn.secuencias.interfaces.Visitor;
+import ar.unrn.secuencias.interfaces.VisitorCombinable;
+import ar.unrn.secuencias.visitantes.VisitaParalela;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+
+/**
+ * Arreglo de tamaño fijo de valores {@code int}, respaldado por un {@code int[]}.
+ * <p>
+ * Implementa {@link IndexableInt}, por lo que el acceso mediante
+ * {@link #obtenerInt(int)} y {@link #modificarInt(int, int)} no crea objetos.
+ * Además cumple los contratos genéricos de {@link Buscable}, {@link Ordenable} y
+ * {@link Visitable} sobre {@code Integer}, ofreciendo variantes primitivas
+ * ({@link #indiceDeInt(int)}, {@link #contieneInt(int)}, etc.) para cuando el
+ * tipo es conocido.
+ * </p>
+ * <p>
+ * Las búsquedas primitivas y las reducciones ({@link #sumar()},
+ * {@link #minimo()}, {@link #maximo()}) usan el {@link Nucleo} de
+ * {@link Nucleos#actual()}, vectorial cuando la plataforma lo permite.
+ * </p>
+ * <p>
+ * No admite elementos {@code null}: tanto modificar como buscar un
+ * {@code null} lanza {@link ElementoNuloException}.
+ * </p>
+ */
+public final class ArregloInt implements IndexableInt, Buscable<Integer>,
+        Ordenable<Integer>, Visitable<Integer>, Iterable<Integer> {
+
+    /**
+     * Almacenamiento de los valores.
+     */
+    private final int[] valores;
+
+    /**
+     * Crea un arreglo del largo indicado, con todos sus valores en cero.
+     *
+     * @param largo la cantidad de posiciones del arreglo, no negativa.
+     * @throws IndiceFueraDeRangoException si el largo es negativo.
+     */
+    public ArregloInt(int largo) {
+        if (largo < 0) {
+            throw new IndiceFueraDeRangoException(largo, 0);
+        }
+        this.valores = new int[largo];
+    }
+
+    /**
+     * Constructor interno que adopta el arreglo recibido sin copiarlo.
+     *
+     * @param propios el arreglo que pasa a ser el almacenamiento.
+     */
+    private ArregloInt(int[] propios) {
+        this.valores = propios;
+    }
+
+    /**
+     * Crea un arreglo con una copia de los valores indicados.
+     *
+     * @param contenido los valores iniciales.
+     * @return un nuevo arreglo con el mismo contenido.
+     */
+    public static ArregloInt de(int... contenido) {
+        return new ArregloInt(contenido.clone());
+    }
+
+    /**
+     * Verifica que el índice esté dentro del rango válido.
+     *
+     * @param indice el índice a verificar.
+     * @throws IndiceFueraDeRangoException si está fuera de {@code [0, largo() - 1]}.
+     */
+    private void verificarIndice(int indice) {
+        if (indice < 0 || indice >= valores.length) {
+            throw new IndiceFueraDeRangoException(indice, valores.length);
+        }
+    }
+
+    /**
+     * Verifica que el elemento a buscar no sea {@code null}.
+     *
+     * @param elemento el elemento a verificar.
+     * @throws ElementoNuloException si es {@code null}.
+     */
+    private static void verificarNoNulo(Integer elemento) {
+        if (elemento == null) {
+            throw new ElementoNuloException();
+        }
+    }
+
+    @Override
+    public int obtenerInt(int indice) {
+        verificarIndice(indice);
+        return valores[indice];
+    }
+
+    @Override
+    public void modificarInt(int indice, int valor) {
+        verificarIndice(indice);
+        valores[indice] = valor;
+    }
+
+    @Override
+    public int largo() {
+        return valores.length;
+    }
+
+    /**
+     * Indica si el valor está presente en el arreglo.
+     *
+     * @param valor el valor a buscar.
+     * @return {@code true} si al menos una posición contiene el valor.
+     */
+    public boolean contieneInt(int valor) {
+        return indiceDeInt(valor) >= 0;
+    }
+
+    /**
+     * Retorna la primera posición que contiene el valor.
+     *
+     * @param valor el valor a buscar.
+     * @return el índice más bajo que contiene el valor, o -1 si no está.
+     */
+    public int indiceDeInt(int valor) {
+        return Nucleos.actual().indiceDe(valores, 0, valores.length, valor);
+    }
+
+    /**
+     * Retorna la última posición que contiene el valor.
+     *
+     * @param valor el valor a buscar.
+     * @return el índice más alto que contiene el valor, o -1 si no está.
+     */
+    public int ultimoIndiceDeInt(int valor) {
+        for (int i = valores.length - 1; i >= 0; i--) {
+            if (valores[i] == valor) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Cuenta las posiciones que contienen el valor.
+     *
+     * @param valor el valor a contar.
+     * @return la cantidad de apariciones.
+     */
+    public int contarInt(int valor) {
+        return Nucleos.actual().contar(valores, 0, valores.length, valor);
+    }
+
+    /**
+     * Suma todos los valores.
+     * La suma desborda como la suma de {@code int}.
+     *
+     * @return la suma, o 0 si el arreglo está vacío.
+     */
+    public int sumar() {
+        return Nucleos.actual().sumar(valores, 0, valores.length);
+    }
+
+    /**
+     * Retorna el menor de los valores.
+     *
+     * @return el mínimo.
+     * @throws EstructuraVaciaException si el arreglo está vacío.
+     */
+    public int minimo() {
+        return Nucleos.actual().minimo(valores, 0, valores.length);
+    }
+
+    /**
+     * Retorna el mayor de los valores.
+     *
+     * @return el máximo.
+     * @throws EstructuraVaciaException si el arreglo está vacío.
+     */
+    public int maximo() {
+        return Nucleos.actual().maximo(valores, 0, valores.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoNuloException si {@code elemento} es {@code null}.
+     */
+    @Override
+    public boolean contiene(Integer elemento) {
+        verificarNoNulo(elemento);
+        return contieneInt(elemento);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoNuloException si {@code elemento} es {@code null}.
+     */
+    @Override
+    public int indiceDe(Integer elemento) {
+        verificarNoNulo(elemento);
+        return indiceDeInt(elemento);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoNuloException si {@code elemento} es {@code null}.
+     */
+    @Override
+    public int ultimoIndiceDe(Integer elemento) {
+        verificarNoNulo(elemento);
+        return ultimoIndiceDeInt(elemento);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Ordena directamente el {@code int[]} interno, sin encapsular valores.
+     * </p>
+     */
+    @Override
+    public void ordenar() {
+        Arrays.sort(valores);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Como el comparador opera sobre {@code Integer}, los valores se
+     * encapsulan temporalmente. El ordenamiento es estable.
+     * </p>
+     *
+     * @throws ComparadorNuloException si {@code comparador} es {@code null}.
+     */
+    @Override
+    public void ordenar(Comparator<? super Integer> comparador) {
+        if (comparador == null) {
+            throw new ComparadorNuloException("El comparador no puede ser nulo.");
+        }
+        Integer[] encapsulados = new Integer[valores.length];
+        for (int i = 0; i < valores.length; i++) {
+            encapsulados[i] = valores[i];
+        }
+        Arrays.sort(encapsulados, comparador);
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] = encapsulados[i];
+        }
+    }
+
+    @Override
+    public void visitar(Visitor<Integer> visitor) {
+        for (int valor : valores) {
+            visitor.visita(valor);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Divide el recorrido con {@link VisitaParalela}.
+     * </p>
+     */
+    @Override
+    public <V extends VisitorCombinable<Integer, V>> void visitarEnParalelo(V visitor) {
+        VisitaParalela.recorrer(this, visitor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Recorre directamente el {@code int[]}, con {@link Arrays#spliterator}.
+     * </p>
+     */
+    @Override
+    public Spliterator.OfInt spliteratorInt() {
+        return Arrays.spliterator(valores);
+    }
+
+    /**
+     * Retorna una copia del contenido como arreglo primitivo.
+     *
+     * @return un nuevo {@code int[]} con los valores en orden.
+     */
+    public int[] comoArreglo() {
+        return valores.clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * El iterador retornado es un {@link PrimitiveIterator.OfInt}, por lo que
+     * {@code nextInt()} permite recorrer sin encapsular.
+     * </p>
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            /**
+             * Posición del próximo valor a retornar.
+             */
+            private int actual;
+
+            @Override
+            public boolean hasNext() {
+                return actual < valores.length;
+            }
+
+            @Override
+            public int nextInt() {
+                if (actual >= valores.length) {
+                    throw new NoSuchElementException();
+                }
+                int valor = valores[actual];
+                actual++;
+                return valor;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder("ArregloInt={");
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                texto.append(',');
+            }
+            texto.append(valores[i]);
+        }
+        return texto.append("}:").append(valores.length).toString();
+    }
+}
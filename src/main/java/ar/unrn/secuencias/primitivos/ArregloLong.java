@@ -0,0 +1,346 @@
+package ar.unrn.secuencias.primitivos;
+
+import ar.unrn.secuencias.excepciones.ComparadorNuloException;
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.excepciones.EstructuraVaciaException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.interfaces.Buscable;
+import ar.unrn.secuencias.interfaces.IndexableLong;
+import ar.unrn.secuencias.interfaces.Ordenable;
+import ar.unrn.secuencias.interfaces.Visitable;
+import ar.unrn.secuencias.interfaces.Visitor;
+import ar.unrn.secuencias.interfaces.VisitorCombinable;
+import ar.unrn.secuencias.visitantes.VisitaParalela;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+
+/**
+ * Arreglo de tamaño fijo de valores {@code long}, respaldado por un {@code long[]}.
+ * <p>
+ * Implementa {@link IndexableLong}, por lo que el acceso mediante
+ * {@link #obtenerLong(int)} y {@link #modificarLong(int, long)} no crea objetos.
+ * Además cumple los contratos genéricos de {@link Buscable}, {@link Ordenable} y
+ * {@link Visitable} sobre {@code Long}, ofreciendo variantes primitivas
+ * ({@link #indiceDeLong(long)}, {@link #contieneLong(long)}, etc.) para cuando el
+ * tipo es conocido.
+ * </p>
+ * <p>
+ * Las búsquedas primitivas y las reducciones ({@link #sumar()},
+ * {@link #minimo()}, {@link #maximo()}) usan el {@link Nucleo} de
+ * {@link Nucleos#actual()}, vectorial cuando la plataforma lo permite.
+ * </p>
+ * <p>
+ * No admite elementos {@code null}: tanto modificar como buscar un
+ * {@code null} lanza {@link ElementoNuloException}.
+ * </p>
+ */
+public final class ArregloLong implements IndexableLong, Buscable<Long>,
+        Ordenable<Long>, Visitable<Long>, Iterable<Long> {
+
+    /**
+     * Almacenamiento de los valores.
+     */
+    private final long[] valores;
+
+    /**
+     * Crea un arreglo del largo indicado, con todos sus valores en cero.
+     *
+     * @param largo la cantidad de posiciones del arreglo, no negativa.
+     * @throws IndiceFueraDeRangoException si el largo es negativo.
+     */
+    public ArregloLong(int largo) {
+        if (largo < 0) {
+            throw new IndiceFueraDeRangoException(largo, 0);
+        }
+        this.valores = new long[largo];
+    }
+
+    /**
+     * Constructor interno que adopta el arreglo recibido sin copiarlo.
+     *
+     * @param propios el arreglo que pasa a ser el almacenamiento.
+     */
+    private ArregloLong(long[] propios) {
+        this.valores = propios;
+    }
+
+    /**
+     * Crea un arreglo con una copia de los valores indicados.
+     *
+     * @param contenido los valores iniciales.
+     * @return un nuevo arreglo con el mismo contenido.
+     */
+    public static ArregloLong de(long... contenido) {
+        return new ArregloLong(contenido.clone());
+    }
+
+    /**
+     * Verifica que el índice esté dentro del rango válido.
+     *
+     * @param indice el índice a verificar.
+     * @throws IndiceFueraDeRangoException si está fuera de {@code [0, largo() - 1]}.
+     */
+    private void verificarIndice(int indice) {
+        if (indice < 0 || indice >= valores.length) {
+            throw new IndiceFueraDeRangoException(indice, valores.length);
+        }
+    }
+
+    /**
+     * Verifica que el elemento a buscar no sea {@code null}.
+     *
+     * @param elemento el elemento a verificar.
+     * @throws ElementoNuloException si es {@code null}.
+     */
+    private static void verificarNoNulo(Long elemento) {
+        if (elemento == null) {
+            throw new ElementoNuloException();
+        }
+    }
+
+    @Override
+    public long obtenerLong(int indice) {
+        verificarIndice(indice);
+        return valores[indice];
+    }
+
+    @Override
+    public void modificarLong(int indice, long valor) {
+        verificarIndice(indice);
+        valores[indice] = valor;
+    }
+
+    @Override
+    public int largo() {
+        return valores.length;
+    }
+
+    /**
+     * Indica si el valor está presente en el arreglo.
+     *
+     * @param valor el valor a buscar.
+     * @return {@code true} si al menos una posición contiene el valor.
+     */
+    public boolean contieneLong(long valor) {
+        return indiceDeLong(valor) >= 0;
+    }
+
+    /**
+     * Retorna la primera posición que contiene el valor.
+     *
+     * @param valor el valor a buscar.
+     * @return el índice más bajo que contiene el valor, o -1 si no está.
+     */
+    public int indiceDeLong(long valor) {
+        return Nucleos.actual().indiceDe(valores, 0, valores.length, valor);
+    }
+
+    /**
+     * Retorna la última posición que contiene el valor.
+     *
+     * @param valor el valor a buscar.
+     * @return el índice más alto que contiene el valor, o -1 si no está.
+     */
+    public int ultimoIndiceDeLong(long valor) {
+        for (int i = valores.length - 1; i >= 0; i--) {
+            if (valores[i] == valor) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Cuenta las posiciones que contienen el valor.
+     *
+     * @param valor el valor a contar.
+     * @return la cantidad de apariciones.
+     */
+    public int contarLong(long valor) {
+        return Nucleos.actual().contar(valores, 0, valores.length, valor);
+    }
+
+    /**
+     * Suma todos los valores.
+     * La suma desborda como la suma de {@code long}.
+     *
+     * @return la suma, o 0 si el arreglo está vacío.
+     */
+    public long sumar() {
+        return Nucleos.actual().sumar(valores, 0, valores.length);
+    }
+
+    /**
+     * Retorna el menor de los valores.
+     *
+     * @return el mínimo.
+     * @throws EstructuraVaciaException si el arreglo está vacío.
+     */
+    public long minimo() {
+        return Nucleos.actual().minimo(valores, 0, valores.length);
+    }
+
+    /**
+     * Retorna el mayor de los valores.
+     *
+     * @return el máximo.
+     * @throws EstructuraVaciaException si el arreglo está vacío.
+     */
+    public long maximo() {
+        return Nucleos.actual().maximo(valores, 0, valores.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoNuloException si {@code elemento} es {@code null}.
+     */
+    @Override
+    public boolean contiene(Long elemento) {
+        verificarNoNulo(elemento);
+        return contieneLong(elemento);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoNuloException si {@code elemento} es {@code null}.
+     */
+    @Override
+    public int indiceDe(Long elemento) {
+        verificarNoNulo(elemento);
+        return indiceDeLong(elemento);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ElementoNuloException si {@code elemento} es {@code null}.
+     */
+    @Override
+    public int ultimoIndiceDe(Long elemento) {
+        verificarNoNulo(elemento);
+        return ultimoIndiceDeLong(elemento);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Ordena directamente el {@code long[]} interno, sin encapsular valores.
+     * </p>
+     */
+    @Override
+    public void ordenar() {
+        Arrays.sort(valores);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Como el comparador opera sobre {@code Long}, los valores se
+     * encapsulan temporalmente. El ordenamiento es estable.
+     * </p>
+     *
+     * @throws ComparadorNuloException si {@code comparador} es {@code null}.
+     */
+    @Override
+    public void ordenar(Comparator<? super Long> comparador) {
+        if (comparador == null) {
+            throw new ComparadorNuloException("El comparador no puede ser nulo.");
+        }
+        Long[] encapsulados = new Long[valores.length];
+        for (int i = 0; i < valores.length; i++) {
+            encapsulados[i] = valores[i];
+        }
+        Arrays.sort(encapsulados, comparador);
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] = encapsulados[i];
+        }
+    }
+
+    @Override
+    public void visitar(Visitor<Long> visitor) {
+        for (long valor : valores) {
+            visitor.visita(valor);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Divide el recorrido con {@link VisitaParalela}.
+     * </p>
+     */
+    @Override
+    public <V extends VisitorCombinable<Long, V>> void visitarEnParalelo(V visitor) {
+        VisitaParalela.recorrer(this, visitor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Recorre directamente el {@code long[]}, con {@link Arrays#spliterator}.
+     * </p>
+     */
+    @Override
+    public Spliterator.OfLong spliteratorLong() {
+        return Arrays.spliterator(valores);
+    }
+
+    /**
+     * Retorna una copia del contenido como arreglo primitivo.
+     *
+     * @return un nuevo {@code long[]} con los valores en orden.
+     */
+    public long[] comoArreglo() {
+        return valores.clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * El iterador retornado es un {@link PrimitiveIterator.OfLong}, por lo que
+     * {@code nextLong()} permite recorrer sin encapsular.
+     * </p>
+     */
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            /**
+             * Posición del próximo valor a retornar.
+             */
+            private int actual;
+
+            @Override
+            public boolean hasNext() {
+                return actual < valores.length;
+            }
+
+            @Override
+            public long nextLong() {
+                if (actual >= valores.length) {
+                    throw new NoSuchElementException();
+                }
+                long valor = valores[actual];
+                actual++;
+                return valor;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder("ArregloLong={");
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                texto.append(',');
+            }
+            texto.append(valores[i]);
+        }
+        return texto.append("}:").append(valores.length).toString();
+    }
+}
@@ -0,0 +1,191 @@
+package ar.unrn.secuencias.primitivos;
+
+import ar.unrn.secuencias.excepciones.EstructuraVaciaException;
+
+/**
+ * Operaciones de recorrido y reducción sobre rangos de arreglos primitivos.
+ * <p>
+ * Todas las operaciones trabajan sobre el rango {@code [desde, hasta)} y no
+ * verifican sus límites más allá de lo que hace la máquina virtual. Hay una
+ * implementación escalar y otra que usa instrucciones SIMD a través de la API
+ * de vectores; ver {@link Nucleos}.
+ * </p>
+ * <p>
+ * Semántica común a las implementaciones:
+ * </p>
+ * <ul>
+ *     <li>Las sumas de {@code int} y {@code long} desbordan como la suma de
+ *     Java. Las de {@code double} pueden diferir en los últimos bits entre
+ *     implementaciones, porque el orden en que se acumulan no es el mismo.</li>
+ *     <li>El mínimo y el máximo de {@code double} siguen a {@link Math#min} y
+ *     {@link Math#max}: un {@code NaN} en el rango es el resultado, y
+ *     {@code -0.0} es menor que {@code 0.0}.</li>
+ *     <li>La igualdad de {@code double} en {@code contar} e {@code indiceDe} es
+ *     la de {@link Double#equals}: {@code NaN} es igual a sí mismo y
+ *     {@code -0.0} es distinto de {@code 0.0}.</li>
+ * </ul>
+ */
+public interface Nucleo {
+
+    /**
+     * Suma los valores del rango.
+     *
+     * @param datos los valores.
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @return la suma, o 0 si el rango está vacío.
+     */
+    int sumar(int[] datos, int desde, int hasta);
+
+    /**
+     * Suma los valores del rango.
+     *
+     * @param datos los valores.
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @return la suma, o 0 si el rango está vacío.
+     */
+    long sumar(long[] datos, int desde, int hasta);
+
+    /**
+     * Suma los valores del rango.
+     *
+     * @param datos los valores.
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @return la suma, o 0 si el rango está vacío.
+     */
+    double sumar(double[] datos, int desde, int hasta);
+
+    /**
+     * Retorna el menor valor del rango.
+     *
+     * @param datos los valores.
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @return el mínimo.
+     * @throws EstructuraVaciaException si el rango está vacío.
+     */
+    int minimo(int[] datos, int desde, int hasta);
+
+    /**
+     * Retorna el menor valor del rango.
+     *
+     * @param datos los valores.
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @return el mínimo.
+     * @throws EstructuraVaciaException si el rango está vacío.
+     */
+    long minimo(long[] datos, int desde, int hasta);
+
+    /**
+     * Retorna el menor valor del rango.
+     *
+     * @param datos los valores.
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @return el mínimo.
+     * @throws EstructuraVaciaException si el rango está vacío.
+     */
+    double minimo(double[] datos, int desde, int hasta);
+
+    /**
+     * Retorna el mayor valor del rango.
+     *
+     * @param datos los valores.
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @return el máximo.
+     * @throws EstructuraVaciaException si el rango está vacío.
+     */
+    int maximo(int[] datos, int desde, int hasta);
+
+    /**
+     * Retorna el mayor valor del rango.
+     *
+     * @param datos los valores.
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @return el máximo.
+     * @throws EstructuraVaciaException si el rango está vacío.
+     */
+    long maximo(long[] datos, int desde, int hasta);
+
+    /**
+     * Retorna el mayor valor del rango.
+     *
+     * @param datos los valores.
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @return el máximo.
+     * @throws EstructuraVaciaException si el rango está vacío.
+     */
+    double maximo(double[] datos, int desde, int hasta);
+
+    /**
+     * Cuenta las posiciones del rango que contienen el valor.
+     *
+     * @param datos los valores.
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @param valor el valor a contar.
+     * @return la cantidad de apariciones.
+     */
+    int contar(int[] datos, int desde, int hasta, int valor);
+
+    /**
+     * Cuenta las posiciones del rango que contienen el valor.
+     *
+     * @param datos los valores.
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @param valor el valor a contar.
+     * @return la cantidad de apariciones.
+     */
+    int contar(long[] datos, int desde, int hasta, long valor);
+
+    /**
+     * Cuenta las posiciones del rango que contienen el valor.
+     *
+     * @param datos los valores.
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @param valor el valor a contar.
+     * @return la cantidad de apariciones.
+     */
+    int contar(double[] datos, int desde, int hasta, double valor);
+
+    /**
+     * Retorna la primera posición del rango que contiene el valor.
+     *
+     * @param datos los valores.
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @param valor el valor a buscar.
+     * @return el índice en {@code datos}, o -1 si no está en el rango.
+     */
+    int indiceDe(int[] datos, int desde, int hasta, int valor);
+
+    /**
+     * Retorna la primera posición del rango que contiene el valor.
+     *
+     * @param datos los valores.
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @param valor el valor a buscar.
+     * @return el índice en {@code datos}, o -1 si no está en el rango.
+     */
+    int indiceDe(long[] datos, int desde, int hasta, long valor);
+
+    /**
+     * Retorna la primera posición del rango que contiene el valor.
+     *
+     * @param datos los valores.
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @param valor el valor a buscar.
+     * @return el índice en {@code datos}, o -1 si no está en el rango.
+     */
+    int indiceDe(double[] datos, int desde, int hasta, double valor);
+}
@@ -0,0 +1,179 @@
+package ar.unrn.secuencias.primitivos;
+
+import ar.unrn.secuencias.excepciones.EstructuraVaciaException;
+
+/**
+ * Implementación de {@link Nucleo} que recorre los valores de a uno.
+ * <p>
+ * Es la referencia de comportamiento y la alternativa cuando la API de
+ * vectores no está disponible.
+ * </p>
+ */
+final class NucleoEscalar implements Nucleo {
+
+    /**
+     * Verifica que el rango tenga al menos un elemento.
+     *
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     * @throws EstructuraVaciaException si el rango está vacío.
+     */
+    static void verificarNoVacio(int desde, int hasta) {
+        if (hasta <= desde) {
+            throw new EstructuraVaciaException(
+                    "No hay mínimo ni máximo de un rango vacío.");
+        }
+    }
+
+    @Override
+    public int sumar(int[] datos, int desde, int hasta) {
+        int suma = 0;
+        for (int i = desde; i < hasta; i++) {
+            suma = suma + datos[i];
+        }
+        return suma;
+    }
+
+    @Override
+    public long sumar(long[] datos, int desde, int hasta) {
+        long suma = 0;
+        for (int i = desde; i < hasta; i++) {
+            suma = suma + datos[i];
+        }
+        return suma;
+    }
+
+    @Override
+    public double sumar(double[] datos, int desde, int hasta) {
+        double suma = 0;
+        for (int i = desde; i < hasta; i++) {
+            suma = suma + datos[i];
+        }
+        return suma;
+    }
+
+    @Override
+    public int minimo(int[] datos, int desde, int hasta) {
+        verificarNoVacio(desde, hasta);
+        int minimo = datos[desde];
+        for (int i = desde + 1; i < hasta; i++) {
+            minimo = Math.min(minimo, datos[i]);
+        }
+        return minimo;
+    }
+
+    @Override
+    public long minimo(long[] datos, int desde, int hasta) {
+        verificarNoVacio(desde, hasta);
+        long minimo = datos[desde];
+        for (int i = desde + 1; i < hasta; i++) {
+            minimo = Math.min(minimo, datos[i]);
+        }
+        return minimo;
+    }
+
+    @Override
+    public double minimo(double[] datos, int desde, int hasta) {
+        verificarNoVacio(desde, hasta);
+        double minimo = datos[desde];
+        for (int i = desde + 1; i < hasta; i++) {
+            minimo = Math.min(minimo, datos[i]);
+        }
+        return minimo;
+    }
+
+    @Override
+    public int maximo(int[] datos, int desde, int hasta) {
+        verificarNoVacio(desde, hasta);
+        int maximo = datos[desde];
+        for (int i = desde + 1; i < hasta; i++) {
+            maximo = Math.max(maximo, datos[i]);
+        }
+        return maximo;
+    }
+
+    @Override
+    public long maximo(long[] datos, int desde, int hasta) {
+        verificarNoVacio(desde, hasta);
+        long maximo = datos[desde];
+        for (int i = desde + 1; i < hasta; i++) {
+            maximo = Math.max(maximo, datos[i]);
+        }
+        return maximo;
+    }
+
+    @Override
+    public double maximo(double[] datos, int desde, int hasta) {
+        verificarNoVacio(desde, hasta);
+        double maximo = datos[desde];
+        for (int i = desde + 1; i < hasta; i++) {
+            maximo = Math.max(maximo, datos[i]);
+        }
+        return maximo;
+    }
+
+    @Override
+    public int contar(int[] datos, int desde, int hasta, int valor) {
+        int cuenta = 0;
+        for (int i = desde; i < hasta; i++) {
+            if (datos[i] == valor) {
+                cuenta++;
+            }
+        }
+        return cuenta;
+    }
+
+    @Override
+    public int contar(long[] datos, int desde, int hasta, long valor) {
+        int cuenta = 0;
+        for (int i = desde; i < hasta; i++) {
+            if (datos[i] == valor) {
+                cuenta++;
+            }
+        }
+        return cuenta;
+    }
+
+    @Override
+    public int contar(double[] datos, int desde, int hasta, double valor) {
+        long bits = Double.doubleToLongBits(valor);
+        int cuenta = 0;
+        for (int i = desde; i < hasta; i++) {
+            if (Double.doubleToLongBits(datos[i]) == bits) {
+                cuenta++;
+            }
+        }
+        return cuenta;
+    }
+
+    @Override
+    public int indiceDe(int[] datos, int desde, int hasta, int valor) {
+        for (int i = desde; i < hasta; i++) {
+            if (datos[i] == valor) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indiceDe(long[] datos, int desde, int hasta, long valor) {
+        for (int i = desde; i < hasta; i++) {
+            if (datos[i] == valor) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indiceDe(double[] datos, int desde, int hasta, double valor) {
+        long bits = Double.doubleToLongBits(valor);
+        for (int i = desde; i < hasta; i++) {
+            if (Double.doubleToLongBits(datos[i]) == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,270 @@
+package ar.unrn.secuencias.primitivos;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementación de {@link Nucleo} sobre la API de vectores
+ * ({@code jdk.incubator.vector}).
+ * <p>
+ * Procesa de a tantos valores como entran en un registro SIMD de la
+ * plataforma ({@code SPECIES_PREFERRED}) y resuelve el resto del rango de
+ * forma escalar. Solo puede cargarse si el módulo incubador está presente;
+ * {@link Nucleos} se encarga de verificarlo.
+ * </p>
+ */
+final class NucleoVectorial implements Nucleo {
+
+    /**
+     * Forma de los vectores de {@code int}.
+     */
+    private static final VectorSpecies<Integer> ENTEROS = IntVector.SPECIES_PREFERRED;
+
+    /**
+     * Forma de los vectores de {@code long}.
+     */
+    private static final VectorSpecies<Long> LARGOS = LongVector.SPECIES_PREFERRED;
+
+    /**
+     * Forma de los vectores de {@code double}.
+     */
+    private static final VectorSpecies<Double> DOBLES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Resuelve los restos de cada rango y los casos que no se vectorizan.
+     */
+    private final NucleoEscalar escalar = new NucleoEscalar();
+
+    @Override
+    public int sumar(int[] datos, int desde, int hasta) {
+        IntVector acumulado = IntVector.zero(ENTEROS);
+        int i = desde;
+        int limite = desde + ENTEROS.loopBound(hasta - desde);
+        for (; i < limite; i = i + ENTEROS.length()) {
+            acumulado = acumulado.add(IntVector.fromArray(ENTEROS, datos, i));
+        }
+        return acumulado.reduceLanes(VectorOperators.ADD)
+                + escalar.sumar(datos, i, hasta);
+    }
+
+    @Override
+    public long sumar(long[] datos, int desde, int hasta) {
+        LongVector acumulado = LongVector.zero(LARGOS);
+        int i = desde;
+        int limite = desde + LARGOS.loopBound(hasta - desde);
+        for (; i < limite; i = i + LARGOS.length()) {
+            acumulado = acumulado.add(LongVector.fromArray(LARGOS, datos, i));
+        }
+        return acumulado.reduceLanes(VectorOperators.ADD)
+                + escalar.sumar(datos, i, hasta);
+    }
+
+    @Override
+    public double sumar(double[] datos, int desde, int hasta) {
+        DoubleVector acumulado = DoubleVector.zero(DOBLES);
+        int i = desde;
+        int limite = desde + DOBLES.loopBound(hasta - desde);
+        for (; i < limite; i = i + DOBLES.length()) {
+            acumulado = acumulado.add(DoubleVector.fromArray(DOBLES, datos, i));
+        }
+        return acumulado.reduceLanes(VectorOperators.ADD)
+                + escalar.sumar(datos, i, hasta);
+    }
+
+    @Override
+    public int minimo(int[] datos, int desde, int hasta) {
+        NucleoEscalar.verificarNoVacio(desde, hasta);
+        IntVector acumulado = IntVector.broadcast(ENTEROS, datos[desde]);
+        int i = desde;
+        int limite = desde + ENTEROS.loopBound(hasta - desde);
+        for (; i < limite; i = i + ENTEROS.length()) {
+            acumulado = acumulado.min(IntVector.fromArray(ENTEROS, datos, i));
+        }
+        int minimo = acumulado.reduceLanes(VectorOperators.MIN);
+        return i < hasta ? Math.min(minimo, escalar.minimo(datos, i, hasta)) : minimo;
+    }
+
+    @Override
+    public long minimo(long[] datos, int desde, int hasta) {
+        NucleoEscalar.verificarNoVacio(desde, hasta);
+        LongVector acumulado = LongVector.broadcast(LARGOS, datos[desde]);
+        int i = desde;
+        int limite = desde + LARGOS.loopBound(hasta - desde);
+        for (; i < limite; i = i + LARGOS.length()) {
+            acumulado = acumulado.min(LongVector.fromArray(LARGOS, datos, i));
+        }
+        long minimo = acumulado.reduceLanes(VectorOperators.MIN);
+        return i < hasta ? Math.min(minimo, escalar.minimo(datos, i, hasta)) : minimo;
+    }
+
+    @Override
+    public double minimo(double[] datos, int desde, int hasta) {
+        NucleoEscalar.verificarNoVacio(desde, hasta);
+        DoubleVector acumulado = DoubleVector.broadcast(DOBLES, datos[desde]);
+        int i = desde;
+        int limite = desde + DOBLES.loopBound(hasta - desde);
+        for (; i < limite; i = i + DOBLES.length()) {
+            acumulado = acumulado.min(DoubleVector.fromArray(DOBLES, datos, i));
+        }
+        double minimo = acumulado.reduceLanes(VectorOperators.MIN);
+        return i < hasta ? Math.min(minimo, escalar.minimo(datos, i, hasta)) : minimo;
+    }
+
+    @Override
+    public int maximo(int[] datos, int desde, int hasta) {
+        NucleoEscalar.verificarNoVacio(desde, hasta);
+        IntVector acumulado = IntVector.broadcast(ENTEROS, datos[desde]);
+        int i = desde;
+        int limite = desde + ENTEROS.loopBound(hasta - desde);
+        for (; i < limite; i = i + ENTEROS.length()) {
+            acumulado = acumulado.max(IntVector.fromArray(ENTEROS, datos, i));
+        }
+        int maximo = acumulado.reduceLanes(VectorOperators.MAX);
+        return i < hasta ? Math.max(maximo, escalar.maximo(datos, i, hasta)) : maximo;
+    }
+
+    @Override
+    public long maximo(long[] datos, int desde, int hasta) {
+        NucleoEscalar.verificarNoVacio(desde, hasta);
+        LongVector acumulado = LongVector.broadcast(LARGOS, datos[desde]);
+        int i = desde;
+        int limite = desde + LARGOS.loopBound(hasta - desde);
+        for (; i < limite; i = i + LARGOS.length()) {
+            acumulado = acumulado.max(LongVector.fromArray(LARGOS, datos, i));
+        }
+        long maximo = acumulado.reduceLanes(VectorOperators.MAX);
+        return i < hasta ? Math.max(maximo, escalar.maximo(datos, i, hasta)) : maximo;
+    }
+
+    @Override
+    public double maximo(double[] datos, int desde, int hasta) {
+        NucleoEscalar.verificarNoVacio(desde, hasta);
+        DoubleVector acumulado = DoubleVector.broadcast(DOBLES, datos[desde]);
+        int i = desde;
+        int limite = desde + DOBLES.loopBound(hasta - desde);
+        for (; i < limite; i = i + DOBLES.length()) {
+            acumulado = acumulado.max(DoubleVector.fromArray(DOBLES, datos, i));
+        }
+        double maximo = acumulado.reduceLanes(VectorOperators.MAX);
+        return i < hasta ? Math.max(maximo, escalar.maximo(datos, i, hasta)) : maximo;
+    }
+
+    @Override
+    public int contar(int[] datos, int desde, int hasta, int valor) {
+        IntVector buscado = IntVector.broadcast(ENTEROS, valor);
+        int cuenta = 0;
+        int i = desde;
+        int limite = desde + ENTEROS.loopBound(hasta - desde);
+        for (; i < limite; i = i + ENTEROS.length()) {
+            cuenta = cuenta
+                    + IntVector.fromArray(ENTEROS, datos, i).eq(buscado).trueCount();
+        }
+        return cuenta + escalar.contar(datos, i, hasta, valor);
+    }
+
+    @Override
+    public int contar(long[] datos, int desde, int hasta, long valor) {
+        LongVector buscado = LongVector.broadcast(LARGOS, valor);
+        int cuenta = 0;
+        int i = desde;
+        int limite = desde + LARGOS.loopBound(hasta - desde);
+        for (; i < limite; i = i + LARGOS.length()) {
+            cuenta = cuenta
+                    + LongVector.fromArray(LARGOS, datos, i).eq(buscado).trueCount();
+        }
+        return cuenta + escalar.contar(datos, i, hasta, valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Para {@code NaN} y los ceros, donde la comparación de {@code double}
+     * difiere de {@link Double#equals}, se usa la implementación escalar.
+     * </p>
+     */
+    @Override
+    public int contar(double[] datos, int desde, int hasta, double valor) {
+        if (!comparableDirecto(valor)) {
+            return escalar.contar(datos, desde, hasta, valor);
+        }
+        DoubleVector buscado = DoubleVector.broadcast(DOBLES, valor);
+        int cuenta = 0;
+        int i = desde;
+        int limite = desde + DOBLES.loopBound(hasta - desde);
+        for (; i < limite; i = i + DOBLES.length()) {
+            cuenta = cuenta
+                    + DoubleVector.fromArray(DOBLES, datos, i).eq(buscado).trueCount();
+        }
+        return cuenta + escalar.contar(datos, i, hasta, valor);
+    }
+
+    @Override
+    public int indiceDe(int[] datos, int desde, int hasta, int valor) {
+        IntVector buscado = IntVector.broadcast(ENTEROS, valor);
+        int i = desde;
+        int limite = desde + ENTEROS.loopBound(hasta - desde);
+        for (; i < limite; i = i + ENTEROS.length()) {
+            VectorMask<Integer> iguales =
+                    IntVector.fromArray(ENTEROS, datos, i).eq(buscado);
+            if (iguales.anyTrue()) {
+                return i + iguales.firstTrue();
+            }
+        }
+        return escalar.indiceDe(datos, i, hasta, valor);
+    }
+
+    @Override
+    public int indiceDe(long[] datos, int desde, int hasta, long valor) {
+        LongVector buscado = LongVector.broadcast(LARGOS, valor);
+        int i = desde;
+        int limite = desde + LARGOS.loopBound(hasta - desde);
+        for (; i < limite; i = i + LARGOS.length()) {
+            VectorMask<Long> iguales =
+                    LongVector.fromArray(LARGOS, datos, i).eq(buscado);
+            if (iguales.anyTrue()) {
+                return i + iguales.firstTrue();
+            }
+        }
+        return escalar.indiceDe(datos, i, hasta, valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Para {@code NaN} y los ceros, donde la comparación de {@code double}
+     * difiere de {@link Double#equals}, se usa la implementación escalar.
+     * </p>
+     */
+    @Override
+    public int indiceDe(double[] datos, int desde, int hasta, double valor) {
+        if (!comparableDirecto(valor)) {
+            return escalar.indiceDe(datos, desde, hasta, valor);
+        }
+        DoubleVector buscado = DoubleVector.broadcast(DOBLES, valor);
+        int i = desde;
+        int limite = desde + DOBLES.loopBound(hasta - desde);
+        for (; i < limite; i = i + DOBLES.length()) {
+            VectorMask<Double> iguales =
+                    DoubleVector.fromArray(DOBLES, datos, i).eq(buscado);
+            if (iguales.anyTrue()) {
+                return i + iguales.firstTrue();
+            }
+        }
+        return escalar.indiceDe(datos, i, hasta, valor);
+    }
+
+    /**
+     * Indica si para el valor la comparación {@code ==} coincide con
+     * {@link Double#equals}, lo que no ocurre con {@code NaN} ni con los ceros.
+     *
+     * @param valor el valor buscado.
+     * @return {@code true} si puede compararse con {@code ==}.
+     */
+    private static boolean comparableDirecto(double valor) {
+        return valor != 0 && !Double.isNaN(valor);
+    }
+}
@@ -0,0 +1,102 @@
+package ar.unrn.secuencias.primitivos;
+
+/**
+ * Acceso a las implementaciones de {@link Nucleo}.
+ * <p>
+ * La implementación vectorial requiere que la máquina virtual se inicie con
+ * {@code --add-modules jdk.incubator.vector}, como lo hace el build. Sin el
+ * módulo, {@link #actual()} es la implementación escalar. La propiedad de
+ * sistema {@value #PROPIEDAD} en {@code false} fuerza la escalar aunque el
+ * módulo esté presente.
+ * </p>
+ */
+public final class Nucleos {
+
+    /**
+     * Propiedad de sistema que deshabilita la implementación vectorial.
+     */
+    public static final String PROPIEDAD = "ar.unrn.secuencias.vectorial";
+
+    /**
+     * Nombre del módulo de la API de vectores.
+     */
+    private static final String MODULO = "jdk.incubator.vector";
+
+    /**
+     * Implementación escalar, siempre disponible.
+     */
+    private static final Nucleo ESCALAR = new NucleoEscalar();
+
+    /**
+     * Implementación elegida al cargar la clase.
+     */
+    private static final Nucleo ACTUAL = vectorialDisponible()
+            && Boolean.parseBoolean(System.getProperty(PROPIEDAD, "true"))
+            ? Vectorial.INSTANCIA : ESCALAR;
+
+    /**
+     * No se instancia, solo agrupa funciones.
+     */
+    private Nucleos() {
+    }
+
+    /**
+     * Retorna la implementación que usan las secuencias primitivas.
+     *
+     * @return la implementación vectorial si está disponible y habilitada, la
+     * escalar en otro caso.
+     */
+    public static Nucleo actual() {
+        return ACTUAL;
+    }
+
+    /**
+     * Retorna la implementación escalar.
+     *
+     * @return la implementación que recorre los valores de a uno.
+     */
+    public static Nucleo escalar() {
+        return ESCALAR;
+    }
+
+    /**
+     * Retorna la implementación vectorial.
+     *
+     * @return la implementación sobre la API de vectores.
+     * @throws UnsupportedOperationException si el módulo no está presente.
+     */
+    public static Nucleo vectorial() {
+        if (!vectorialDisponible()) {
+            throw new UnsupportedOperationException(
+                    "La máquina virtual no se inició con --add-modules " + MODULO);
+        }
+        return Vectorial.INSTANCIA;
+    }
+
+    /**
+     * Indica si el módulo de la API de vectores está presente.
+     *
+     * @return {@code true} si la implementación vectorial puede usarse.
+     */
+    public static boolean vectorialDisponible() {
+        return ModuleLayer.boot().findModule(MODULO).isPresent();
+    }
+
+    /**
+     * Difiere la carga de la implementación vectorial hasta que se la pide,
+     * ya que sus dependencias solo existen con el módulo presente.
+     */
+    private static final class Vectorial {
+
+        /**
+         * La única instancia.
+         */
+        private static final Nucleo INSTANCIA = new NucleoVectorial();
+
+        /**
+         * No se instancia, solo contiene la instancia.
+         */
+        private Vectorial() {
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package ar.unrn.secuencias.validadores;
+
+import ar.unrn.secuencias.interfaces.Validador;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Validador compuesto por una cadena de validadores (patrón Cadena de
+ * Responsabilidad).
+ * <p>
+ * Un valor es válido si todos los eslabones lo aceptan; se evalúan en orden y
+ * el primero que lo rechaza corta la cadena, por lo que conviene poner primero
+ * los más baratos o los que más rechazan, como {@link ValidadorNoNulo}.
+ * </p>
+ * <p>
+ * Para lotes, {@link #invalidos(List)} evalúa todos los valores de una vez y
+ * {@link #validarLote(List, int)} informa todas las posiciones rechazadas en
+ * una única excepción. Dos opciones, que retornan una cadena nueva:
+ * </p>
+ * <ul>
+ *     <li>{@link #paralela(int)}: los lotes de al menos el umbral indicado se
+ *     evalúan en paralelo. Los eslabones deben poder usarse desde varios
+ *     hilos.</li>
+ *     <li>{@link #conCache(int)}: recuerda el resultado de cada valor, hasta la
+ *     cantidad indicada. Solo es correcto si los valores son inmutables, con
+ *     {@code equals} y {@code hashCode} coherentes, y si los eslabones no
+ *     tienen estado: para un mismo valor, siempre el mismo resultado.</li>
+ * </ul>
+ * <p>
+ * La cadena {@linkplain #conEstado() tiene estado} si alguno de sus eslabones
+ * lo tiene, como {@link ValidadorUnicidad}; en ese caso les reenvía
+ * {@link #registrar(Object)} y {@link #olvidar(Object)}, evalúa los lotes en
+ * secuencia y no admite caché.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos a validar.
+ */
+public final class CadenaValidadores<T> implements Validador<T> {
+
+    /**
+     * Umbral de paralelismo sugerido, en cantidad de valores por lote.
+     */
+    public static final int UMBRAL_PARALELO_POR_OMISION = 8192;
+
+    /**
+     * Eslabones, en orden de evaluación.
+     */
+    private final Validador<? super T>[] eslabones;
+
+    /**
+     * Tamaño de lote a partir del cual se evalúa en paralelo.
+     */
+    private final int umbral;
+
+    /**
+     * Resultados recordados por valor, o {@code null} si no se recuerdan.
+     */
+    private final Map<Object, Boolean> resultados;
+
+    /**
+     * Cantidad máxima de resultados recordados.
+     */
+    private final int maximo;
+
+    /**
+     * Crea una cadena secuencial y sin caché con los validadores indicados.
+     *
+     * @param validadores los eslabones, en orden de evaluación.
+     * @throws NullPointerException si algún validador es {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public CadenaValidadores(List<? extends Validador<? super T>> validadores) {
+        this((Validador<? super T>[]) validadores.toArray(new Validador<?>[0]),
+                Integer.MAX_VALUE, 0);
+    }
+
+    /**
+     * Crea una cadena con los eslabones y las opciones indicadas.
+     *
+     * @param validadores los eslabones.
+     * @param desde       el tamaño de lote a partir del cual se paraleliza.
+     * @param recordados  la cantidad máxima de resultados recordados, o 0 para
+     *                    no recordar.
+     * @throws IllegalStateException si se pide caché y algún eslabón tiene
+     *                               estado.
+     */
+    private CadenaValidadores(Validador<? super T>[] validadores, int desde,
+                              int recordados) {
+        for (Validador<? super T> validador : validadores) {
+            Objects.requireNonNull(validador, "El validador no puede ser nulo");
+            if (recordados > 0 && validador.conEstado()) {
+                throw new IllegalStateException(
+                        "No se pueden recordar resultados de un validador con estado.");
+            }
+        }
+        this.eslabones = validadores;
+        this.umbral = desde;
+        this.maximo = recordados;
+        this.resultados = recordados > 0 ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * Crea una cadena secuencial y sin caché con los validadores indicados.
+     *
+     * @param validadores los eslabones, en orden de evaluación.
+     * @param <T>         el tipo de los elementos a validar.
+     * @return la cadena.
+     */
+    @SafeVarargs
+    public static <T> CadenaValidadores<T> de(Validador<? super T>... validadores) {
+        List<Validador<? super T>> lista = new ArrayList<>(validadores.length);
+        for (Validador<? super T> validador : validadores) {
+            lista.add(validador);
+        }
+        return new CadenaValidadores<>(lista);
+    }
+
+    /**
+     * Retorna una cadena con un eslabón más al final y las mismas opciones,
+     * con la caché vacía.
+     *
+     * @param siguiente el validador a agregar.
+     * @return la cadena nueva.
+     */
+    public CadenaValidadores<T> luego(Validador<? super T> siguiente) {
+        Validador<? super T>[] nuevos = Arrays.copyOf(eslabones, eslabones.length + 1);
+        nuevos[eslabones.length] = siguiente;
+        return new CadenaValidadores<>(nuevos, umbral, maximo);
+    }
+
+    /**
+     * Retorna una cadena igual que evalúa en paralelo los lotes de al menos
+     * el tamaño indicado.
+     *
+     * @param desde el tamaño mínimo de lote a paralelizar, al menos 1.
+     * @return la cadena nueva.
+     * @throws IllegalArgumentException si {@code desde} es menor a 1.
+     */
+    public CadenaValidadores<T> paralela(int desde) {
+        if (desde < 1) {
+            throw new IllegalArgumentException("El umbral debe ser al menos 1: " + desde);
+        }
+        return new CadenaValidadores<>(eslabones, desde, maximo);
+    }
+
+    /**
+     * Retorna una cadena igual que recuerda hasta la cantidad indicada de
+     * resultados por valor.
+     *
+     * @param recordados la cantidad máxima de resultados, al menos 1.
+     * @return la cadena nueva.
+     * @throws IllegalArgumentException si {@code recordados} es menor a 1.
+     * @throws IllegalStateException    si algún eslabón tiene estado.
+     */
+    public CadenaValidadores<T> conCache(int recordados) {
+        if (recordados < 1) {
+            throw new IllegalArgumentException(
+                    "El tamaño de la caché debe ser al menos 1: " + recordados);
+        }
+        return new CadenaValidadores<>(eslabones, umbral, recordados);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code true} si algún eslabón tiene estado.
+     */
+    @Override
+    public boolean conEstado() {
+        for (Validador<? super T> eslabon : eslabones) {
+            if (eslabon.conEstado()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Se reenvía a todos los eslabones.
+     * </p>
+     */
+    @Override
+    public void registrar(T valor) {
+        for (Validador<? super T> eslabon : eslabones) {
+            eslabon.registrar(valor);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Se reenvía a todos los eslabones.
+     * </p>
+     */
+    @Override
+    public void olvidar(T valor) {
+        for (Validador<? super T> eslabon : eslabones) {
+            eslabon.olvidar(valor);
+        }
+    }
+
+    /**
+     * Retorna la cantidad de eslabones.
+     *
+     * @return la cantidad de validadores de la cadena.
+     */
+    public int eslabones() {
+        return eslabones.length;
+    }
+
+    /**
+     * Retorna la cantidad de resultados recordados.
+     *
+     * @return el tamaño actual de la caché, o 0 si no tiene.
+     */
+    public int recordados() {
+        return resultados == null ? 0 : resultados.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Los valores {@code null} nunca se recuerdan.
+     * </p>
+     */
+    @Override
+    public boolean esValido(T aValidar) {
+        if (resultados == null || aValidar == null) {
+            return evaluar(aValidar);
+        }
+        Boolean previo = resultados.get(aValidar);
+        if (previo != null) {
+            return previo;
+        }
+        boolean valido = evaluar(aValidar);
+        if (resultados.size() < maximo) {
+            resultados.putIfAbsent(aValidar, valido);
+        }
+        return valido;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Los lotes de al menos el umbral de {@link #paralela(int)} se evalúan en
+     * paralelo, salvo que la cadena tenga estado; el resultado es el mismo
+     * que en secuencia.
+     * </p>
+     */
+    @Override
+    public int[] invalidos(List<? extends T> valores) {
+        if (valores.size() < umbral || conEstado()) {
+            return Validador.super.invalidos(valores);
+        }
+        List<? extends T> lote = valores instanceof RandomAccess
+                ? valores : new ArrayList<>(valores);
+        return IntStream.range(0, lote.size())
+                .parallel()
+                .filter(i -> !esValido(lote.get(i)))
+                .toArray();
+    }
+
+    /**
+     * Evalúa los eslabones en orden, hasta el primero que rechaza el valor.
+     *
+     * @param aValidar el valor a evaluar.
+     * @return {@code true} si todos los eslabones lo aceptan.
+     */
+    private boolean evaluar(T aValidar) {
+        for (Validador<? super T> eslabon : eslabones) {
+            if (!eslabon.esValido(aValidar)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
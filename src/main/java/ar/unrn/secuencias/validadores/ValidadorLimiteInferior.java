@@ -0,0 +1,47 @@
+package ar.unrn.secuencias.validadores;
+
+import ar.unrn.secuencias.interfaces.Validador;
+
+/**
+ * Validador que rechaza los enteros por debajo de un límite.
+ * <p>
+ * El límite mismo es válido. Los valores {@code null} se rechazan, ya que no
+ * pueden compararse con el límite.
+ * </p>
+ */
+public final class ValidadorLimiteInferior implements Validador<Integer> {
+
+    /**
+     * Menor valor aceptado.
+     */
+    private final int limite;
+
+    /**
+     * Crea el validador con el límite indicado.
+     *
+     * @param minimo el menor valor aceptado.
+     */
+    public ValidadorLimiteInferior(int minimo) {
+        this.limite = minimo;
+    }
+
+    /**
+     * Retorna el menor valor aceptado.
+     *
+     * @return el límite inferior.
+     */
+    public int limite() {
+        return limite;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code true} si {@code aValidar} no es {@code null} y no es
+     * menor al límite.
+     */
+    @Override
+    public boolean esValido(Integer aValidar) {
+        return aValidar != null && aValidar >= limite;
+    }
+}
@@ -0,0 +1,21 @@
+package ar.unrn.secuencias.validadores;
+
+import ar.unrn.secuencias.interfaces.Validador;
+
+/**
+ * Validador que rechaza los valores {@code null} y acepta cualquier otro.
+ *
+ * @param <T> el tipo de los elementos a validar.
+ */
+public final class ValidadorNoNulo<T> implements Validador<T> {
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code true} si {@code aValidar} no es {@code null}.
+     */
+    @Override
+    public boolean esValido(T aValidar) {
+        return aValidar != null;
+    }
+}
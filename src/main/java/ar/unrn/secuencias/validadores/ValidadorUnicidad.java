@@ -0,0 +1,475 @@
+package ar.unrn.secuencias.validadores;
+
+import ar.unrn.secuencias.interfaces.Validador;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Validador que rechaza los valores que ya están en la secuencia validada.
+ * <p>
+ * En vez de recorrer la secuencia, mantiene un índice propio de los valores
+ * escritos, que los decoradores actualizan con {@link #registrar(Object)} y
+ * {@link #olvidar(Object)}. Cada consulta es O(1) esperado:
+ * </p>
+ * <ul>
+ *     <li>Un filtro de Bloom por bloques responde primero: los bits de cada
+ *     valor están en una misma palabra de 64 bits, de modo que descartar un
+ *     valor nuevo cuesta un único acceso a memoria.</li>
+ *     <li>Si el filtro no lo descarta, se confirma en un conjunto de
+ *     direccionamiento abierto con sondeo lineal, que guarda junto a cada
+ *     valor su hash para comparar con {@code equals} solo si coinciden.</li>
+ * </ul>
+ * <p>
+ * El filtro no admite borrar bits: los valores olvidados siguen marcados
+ * hasta que el filtro se reconstruye, al crecer la tabla o cuando los
+ * olvidados superan un cuarto de la capacidad. El costo se amortiza en las
+ * operaciones.
+ * </p>
+ * <p>
+ * {@code null} se trata como un valor más: se admite uno solo. Los valores
+ * deben tener {@code equals} y {@code hashCode} coherentes y no cambiar
+ * mientras están registrados. Un valor registrado dos veces se guarda una
+ * vez, por lo que la secuencia no debería contener repetidos al decorarla.
+ * No es seguro para usar desde varios hilos.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos a validar.
+ */
+public final class ValidadorUnicidad<T> implements Validador<T> {
+
+    /**
+     * Capacidad mínima de la tabla, potencia de dos.
+     */
+    private static final int CAPACIDAD_MINIMA = 16;
+
+    /**
+     * Máxima capacidad de la tabla, potencia de dos.
+     */
+    private static final int CAPACIDAD_MAXIMA = 1 << 30;
+
+    /**
+     * Posiciones de la tabla por cada palabra del filtro, como potencia de
+     * dos: 16 posiciones, es decir, 8 bits por valor con la tabla llena.
+     */
+    private static final int POSICIONES_POR_PALABRA = 4;
+
+    /**
+     * Bits que ocupa cada sonda del filtro dentro de su palabra.
+     */
+    private static final int BITS_SONDA = 6;
+
+    /**
+     * Máscara para extraer una sonda.
+     */
+    private static final long MASCARA_SONDA = Long.SIZE - 1;
+
+    /**
+     * Primera constante de mezcla de {@code fmix32}, de MurmurHash3.
+     */
+    private static final int MEZCLA_1 = 0x85ebca6b;
+
+    /**
+     * Segunda constante de mezcla de {@code fmix32}, de MurmurHash3.
+     */
+    private static final int MEZCLA_2 = 0xc2b2ae35;
+
+    /**
+     * Primer desplazamiento de {@code fmix32}.
+     */
+    private static final int DESPLAZAMIENTO_1 = 16;
+
+    /**
+     * Segundo desplazamiento de {@code fmix32}.
+     */
+    private static final int DESPLAZAMIENTO_2 = 13;
+
+    /**
+     * Constante de Fibonacci de 64 bits, para derivar el hash del filtro.
+     */
+    private static final long FIBONACCI = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Bytes estimados de una referencia, con punteros comprimidos.
+     */
+    private static final int REFERENCIA = 4;
+
+    /**
+     * Bytes estimados del encabezado de un arreglo.
+     */
+    private static final int ENCABEZADO_ARREGLO = 16;
+
+    /**
+     * Valores registrados; {@code null} indica una posición libre.
+     */
+    private Object[] valores;
+
+    /**
+     * Hash mezclado de cada valor, en la misma posición.
+     */
+    private int[] huellas;
+
+    /**
+     * Filtro de Bloom por bloques.
+     */
+    private long[] filtro;
+
+    /**
+     * Cantidad de valores no nulos registrados.
+     */
+    private int cantidad;
+
+    /**
+     * Si {@code null} está registrado.
+     */
+    private boolean conNulo;
+
+    /**
+     * Valores olvidados desde la última reconstrucción del filtro.
+     */
+    private int olvidados;
+
+    /**
+     * Consultas descartadas por el filtro, sin acceder a la tabla.
+     */
+    private long descartes;
+
+    /**
+     * Crea el validador sin valores registrados.
+     */
+    public ValidadorUnicidad() {
+        this(0);
+    }
+
+    /**
+     * Crea el validador con espacio para la cantidad indicada de valores sin
+     * crecer.
+     *
+     * @param esperados la cantidad de valores esperados, no negativa.
+     * @throws IllegalArgumentException si {@code esperados} es negativo.
+     */
+    public ValidadorUnicidad(int esperados) {
+        if (esperados < 0) {
+            throw new IllegalArgumentException(
+                    "La cantidad esperada no puede ser negativa: " + esperados);
+        }
+        inicializar(capacidadPara(esperados));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code true} si {@code aValidar} no está registrado.
+     */
+    @Override
+    public boolean esValido(T aValidar) {
+        return !contiene(aValidar);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return siempre {@code true}.
+     */
+    @Override
+    public boolean conEstado() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException si ya hay 2<sup>29</sup> valores.
+     */
+    @Override
+    public void registrar(T valor) {
+        if (valor == null) {
+            conNulo = true;
+            return;
+        }
+        int huella = mezclar(valor.hashCode());
+        if (buscar(valor, huella) >= 0) {
+            return;
+        }
+        if ((cantidad + 1) * 2 > valores.length) {
+            if (valores.length == CAPACIDAD_MAXIMA) {
+                throw new IllegalStateException(
+                        "Se alcanzó la cantidad máxima de valores: " + cantidad);
+            }
+            redimensionar(valores.length * 2);
+        }
+        int mascara = valores.length - 1;
+        int posicion = huella & mascara;
+        while (valores[posicion] != null) {
+            posicion = (posicion + 1) & mascara;
+        }
+        valores[posicion] = valor;
+        huellas[posicion] = huella;
+        marcar(huella);
+        cantidad++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void olvidar(T valor) {
+        if (valor == null) {
+            conNulo = false;
+            return;
+        }
+        int huella = mezclar(valor.hashCode());
+        int posicion = buscar(valor, huella);
+        if (posicion < 0) {
+            return;
+        }
+        quitar(posicion);
+        cantidad--;
+        olvidados++;
+        if (olvidados > valores.length >>> 2) {
+            reconstruirFiltro();
+        }
+    }
+
+    /**
+     * Indica si el valor está registrado.
+     *
+     * @param valor el valor a buscar.
+     * @return {@code true} si está registrado.
+     */
+    public boolean contiene(Object valor) {
+        if (valor == null) {
+            return conNulo;
+        }
+        int huella = mezclar(valor.hashCode());
+        if (!posible(huella)) {
+            descartes++;
+            return false;
+        }
+        return buscar(valor, huella) >= 0;
+    }
+
+    /**
+     * Retorna la cantidad de valores registrados.
+     *
+     * @return los valores registrados, incluido {@code null} si lo está.
+     */
+    public int cantidad() {
+        return conNulo ? cantidad + 1 : cantidad;
+    }
+
+    /**
+     * Olvida todos los valores registrados, conservando la capacidad.
+     */
+    public void vaciar() {
+        inicializar(valores.length);
+        conNulo = false;
+    }
+
+    /**
+     * Retorna la cantidad de consultas que el filtro descartó sin acceder a
+     * la tabla.
+     *
+     * @return las consultas resueltas solo por el filtro.
+     */
+    public long descartesDelFiltro() {
+        return descartes;
+    }
+
+    /**
+     * Estima los bytes que ocupan la tabla y el filtro, sin contar los valores
+     * mismos.
+     * <p>
+     * Supone punteros comprimidos; es una estimación, no una medición. Con la
+     * tabla entre un cuarto y la mitad de llena, ronda entre 17 y 34 bytes
+     * por valor.
+     * </p>
+     *
+     * @return los bytes estimados.
+     */
+    public long bytesOcupados() {
+        return ENCABEZADO_ARREGLO + (long) REFERENCIA * valores.length
+                + ENCABEZADO_ARREGLO + (long) Integer.BYTES * huellas.length
+                + ENCABEZADO_ARREGLO + (long) Long.BYTES * filtro.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ":" + cantidad();
+    }
+
+    /**
+     * Crea una tabla y un filtro vacíos de la capacidad indicada.
+     *
+     * @param capacidad la cantidad de posiciones, potencia de dos.
+     */
+    private void inicializar(int capacidad) {
+        valores = new Object[capacidad];
+        huellas = new int[capacidad];
+        filtro = new long[capacidad >>> POSICIONES_POR_PALABRA];
+        cantidad = 0;
+        olvidados = 0;
+    }
+
+    /**
+     * Calcula la capacidad necesaria para la cantidad de valores, con la tabla
+     * a lo sumo a la mitad.
+     *
+     * @param esperados la cantidad de valores.
+     * @return la capacidad, potencia de dos.
+     */
+    private static int capacidadPara(int esperados) {
+        if (esperados >= CAPACIDAD_MAXIMA / 2) {
+            return CAPACIDAD_MAXIMA;
+        }
+        int necesaria = Math.max(CAPACIDAD_MINIMA, esperados * 2);
+        return Integer.highestOneBit(necesaria - 1) << 1;
+    }
+
+    /**
+     * Mezcla los bits de un hash, para que los valores con hashes parecidos
+     * queden dispersos en la tabla.
+     *
+     * @param hash el hash original.
+     * @return el hash mezclado.
+     */
+    private static int mezclar(int hash) {
+        int h = hash ^ (hash >>> DESPLAZAMIENTO_1);
+        h = h * MEZCLA_1;
+        h = h ^ (h >>> DESPLAZAMIENTO_2);
+        h = h * MEZCLA_2;
+        return h ^ (h >>> DESPLAZAMIENTO_1);
+    }
+
+    /**
+     * Calcula la palabra del filtro que corresponde a una huella.
+     *
+     * @param bloque el hash del filtro, derivado de la huella.
+     * @return la posición de la palabra.
+     */
+    private int palabra(long bloque) {
+        return (int) (bloque >>> Integer.SIZE) & (filtro.length - 1);
+    }
+
+    /**
+     * Calcula los tres bits que marcan una huella dentro de su palabra.
+     *
+     * @param bloque el hash del filtro, derivado de la huella.
+     * @return la máscara con los bits de la huella.
+     */
+    private static long bits(long bloque) {
+        return 1L << (bloque & MASCARA_SONDA)
+                | 1L << ((bloque >>> BITS_SONDA) & MASCARA_SONDA)
+                | 1L << ((bloque >>> (BITS_SONDA * 2)) & MASCARA_SONDA);
+    }
+
+    /**
+     * Marca la huella en el filtro.
+     *
+     * @param huella el hash mezclado del valor.
+     */
+    private void marcar(int huella) {
+        long bloque = huella * FIBONACCI;
+        int indice = palabra(bloque);
+        filtro[indice] = filtro[indice] | bits(bloque);
+    }
+
+    /**
+     * Consulta el filtro.
+     *
+     * @param huella el hash mezclado del valor.
+     * @return {@code false} si el valor seguro no está registrado.
+     */
+    private boolean posible(int huella) {
+        long bloque = huella * FIBONACCI;
+        long marcas = bits(bloque);
+        return (filtro[palabra(bloque)] & marcas) == marcas;
+    }
+
+    /**
+     * Busca el valor en la tabla.
+     *
+     * @param valor  el valor a buscar, no nulo.
+     * @param huella su hash mezclado.
+     * @return la posición del valor, o -1 si no está.
+     */
+    private int buscar(Object valor, int huella) {
+        int mascara = valores.length - 1;
+        int posicion = huella & mascara;
+        Object actual = valores[posicion];
+        while (actual != null) {
+            if (huellas[posicion] == huella && Objects.equals(actual, valor)) {
+                return posicion;
+            }
+            posicion = (posicion + 1) & mascara;
+            actual = valores[posicion];
+        }
+        return -1;
+    }
+
+    /**
+     * Libera una posición y desplaza hacia atrás los valores siguientes del
+     * mismo grupo, para que las búsquedas no se corten en el hueco.
+     *
+     * @param libre la posición a liberar.
+     */
+    private void quitar(int libre) {
+        int mascara = valores.length - 1;
+        int hueco = libre;
+        int posicion = (hueco + 1) & mascara;
+        while (valores[posicion] != null) {
+            int ideal = huellas[posicion] & mascara;
+            if (((posicion - ideal) & mascara) >= ((posicion - hueco) & mascara)) {
+                valores[hueco] = valores[posicion];
+                huellas[hueco] = huellas[posicion];
+                hueco = posicion;
+            }
+            posicion = (posicion + 1) & mascara;
+        }
+        valores[hueco] = null;
+        huellas[hueco] = 0;
+    }
+
+    /**
+     * Traslada los valores a una tabla de la capacidad indicada y reconstruye
+     * el filtro.
+     *
+     * @param capacidad la nueva capacidad, potencia de dos.
+     */
+    private void redimensionar(int capacidad) {
+        Object[] anteriores = valores;
+        int[] huellasAnteriores = huellas;
+        int registrados = cantidad;
+        inicializar(capacidad);
+        int mascara = capacidad - 1;
+        for (int i = 0; i < anteriores.length; i++) {
+            if (anteriores[i] != null) {
+                int posicion = huellasAnteriores[i] & mascara;
+                while (valores[posicion] != null) {
+                    posicion = (posicion + 1) & mascara;
+                }
+                valores[posicion] = anteriores[i];
+                huellas[posicion] = huellasAnteriores[i];
+                marcar(huellasAnteriores[i]);
+            }
+        }
+        cantidad = registrados;
+    }
+
+    /**
+     * Reconstruye el filtro con los valores registrados, descartando las
+     * marcas de los olvidados.
+     */
+    private void reconstruirFiltro() {
+        Arrays.fill(filtro, 0L);
+        for (int i = 0; i < valores.length; i++) {
+            if (valores[i] != null) {
+                marcar(huellas[i]);
+            }
+        }
+        olvidados = 0;
+    }
+}
@@ -0,0 +1,134 @@
+package ar.unrn.secuencias.visitantes;
+
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.interfaces.VisitorCombinable;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Recorrido paralelo de una secuencia con un {@link VisitorCombinable}, sobre
+ * un {@link ForkJoinPool}.
+ * <p>
+ * El recorrido se divide con {@link Indexable#spliteratorPorIndice()}, por lo
+ * que respeta la forma en que cada secuencia prefiere repartirse: por rangos
+ * de índices, o por lotes leídos en orden desde un único hilo. La parte
+ * izquierda sigue con el visitante recibido y la derecha con uno nuevo de
+ * {@link VisitorCombinable#crear()}; al terminar ambas, el izquierdo combina
+ * al derecho. Así el visitante original termina con el resultado completo y
+ * las combinaciones respetan el orden de los elementos.
+ * </p>
+ * <p>
+ * Las partes de hasta el umbral se recorren de forma secuencial, ya que por
+ * debajo de cierto tamaño el costo de crear tareas supera la ganancia. La
+ * secuencia no debería modificarse durante el recorrido.
+ * </p>
+ */
+public final class VisitaParalela {
+
+    /**
+     * Umbral secuencial por omisión.
+     */
+    public static final int UMBRAL_POR_OMISION = 4096;
+
+    /**
+     * No se instancia: solo ofrece métodos estáticos.
+     */
+    private VisitaParalela() {
+    }
+
+    /**
+     * Recorre la secuencia con el umbral por omisión, sobre el grupo común.
+     *
+     * @param secuencia la secuencia a recorrer.
+     * @param visitor   el visitante que acumula el resultado.
+     * @param <T>       el tipo de los elementos.
+     * @param <V>       el tipo concreto del visitante.
+     */
+    public static <T, V extends VisitorCombinable<T, V>> void recorrer(
+            Indexable<? extends T> secuencia, V visitor) {
+        recorrer(secuencia, visitor, UMBRAL_POR_OMISION, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Recorre la secuencia con el umbral y el grupo de hilos indicados.
+     *
+     * @param secuencia la secuencia a recorrer.
+     * @param visitor   el visitante que acumula el resultado.
+     * @param corte     la cantidad de elementos hasta la cual se recorre de
+     *                  forma secuencial; al menos 1.
+     * @param hilos     el grupo donde ejecutar las tareas.
+     * @param <T>       el tipo de los elementos.
+     * @param <V>       el tipo concreto del visitante.
+     * @throws IllegalArgumentException si {@code corte} es menor a 1.
+     */
+    public static <T, V extends VisitorCombinable<T, V>> void recorrer(
+            Indexable<? extends T> secuencia, V visitor, int corte, ForkJoinPool hilos) {
+        if (corte < 1) {
+            throw new IllegalArgumentException("El umbral debe ser al menos 1: " + corte);
+        }
+        Objects.requireNonNull(visitor, "El visitante no puede ser nulo");
+        Spliterator<? extends T> elementos = secuencia.spliteratorPorIndice();
+        if (elementos.estimateSize() <= corte) {
+            elementos.forEachRemaining(visitor::visita);
+            return;
+        }
+        hilos.invoke(new Parte<>(elementos, visitor, corte));
+    }
+
+    /**
+     * Visita una parte de la secuencia, dividiéndola mientras supere el umbral.
+     *
+     * @param <T> el tipo de los elementos.
+     * @param <V> el tipo concreto del visitante.
+     */
+    private static final class Parte<T, V extends VisitorCombinable<T, V>>
+            extends RecursiveAction {
+
+        /**
+         * Los elementos de esta parte.
+         */
+        private final Spliterator<? extends T> elementos;
+
+        /**
+         * Visitante que acumula el resultado de la parte.
+         */
+        private final V visitor;
+
+        /**
+         * Tamaño hasta el cual se recorre de forma secuencial.
+         */
+        private final int corte;
+
+        /**
+         * Crea la tarea para la parte indicada.
+         *
+         * @param recorridos los elementos de la parte.
+         * @param acumulador el visitante de la parte.
+         * @param umbral     el tamaño hasta el cual se recorre en secuencia.
+         */
+        Parte(Spliterator<? extends T> recorridos, V acumulador, int umbral) {
+            this.elementos = recorridos;
+            this.visitor = acumulador;
+            this.corte = umbral;
+        }
+
+        @Override
+        protected void compute() {
+            Spliterator<? extends T> prefijo = elementos.estimateSize() > corte
+                    ? elementos.trySplit() : null;
+            if (prefijo == null) {
+                elementos.forEachRemaining(visitor::visita);
+                return;
+            }
+            V derecho = visitor.crear();
+            Parte<T, V> derecha = new Parte<>(elementos, derecho, corte);
+            derecha.fork();
+            new Parte<>(prefijo, visitor, corte).compute();
+            derecha.join();
+            visitor.combinar(derecho);
+        }
+    }
+}
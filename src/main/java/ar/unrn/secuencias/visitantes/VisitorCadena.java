@@ -0,0 +1,111 @@
+package ar.unrn.secuencias.visitantes;
+
+import ar.unrn.secuencias.interfaces.VisitorCombinable;
+
+/**
+ * Visitante que construye un texto con los elementos visitados.
+ * <p>
+ * El texto comienza con una cabecera, seguida del {@code toString} de cada
+ * elemento ({@code "null"} para los nulos) separados por el separador
+ * indicado; por ejemplo, con cabecera {@code "valores: "} y separador
+ * {@code ", "}, {@code "valores: 1, 2, 3"}. Al combinar, los textos parciales
+ * se concatenan en orden, por lo que el resultado es el mismo que el de un
+ * recorrido secuencial.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos visitados.
+ */
+public final class VisitorCadena<T> implements VisitorCombinable<T, VisitorCadena<T>> {
+
+    /**
+     * Texto al comienzo del resultado.
+     */
+    private final String cabecera;
+
+    /**
+     * Texto entre elementos consecutivos.
+     */
+    private final String separador;
+
+    /**
+     * Elementos visitados, ya separados, sin la cabecera.
+     */
+    private final StringBuilder texto = new StringBuilder();
+
+    /**
+     * Si se visitó al menos un elemento.
+     */
+    private boolean conElementos;
+
+    /**
+     * Crea el visitante sin cabecera.
+     *
+     * @param entre el texto entre elementos consecutivos.
+     */
+    public VisitorCadena(String entre) {
+        this("", entre);
+    }
+
+    /**
+     * Crea el visitante con la cabecera y el separador indicados.
+     *
+     * @param inicio el texto al comienzo del resultado.
+     * @param entre  el texto entre elementos consecutivos.
+     */
+    public VisitorCadena(String inicio, String entre) {
+        this.cabecera = inicio;
+        this.separador = entre;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void visita(T elemento) {
+        if (conElementos) {
+            texto.append(separador);
+        }
+        texto.append(elemento);
+        conElementos = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VisitorCadena<T> crear() {
+        return new VisitorCadena<>(cabecera, separador);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void combinar(VisitorCadena<T> siguiente) {
+        if (!siguiente.conElementos) {
+            return;
+        }
+        if (conElementos) {
+            texto.append(separador);
+        }
+        texto.append(siguiente.texto);
+        conElementos = true;
+    }
+
+    /**
+     * Retorna el texto construido.
+     *
+     * @return la cabecera seguida de los elementos visitados.
+     */
+    public String resultado() {
+        return cabecera + texto;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return resultado();
+    }
+}
@@ -0,0 +1,55 @@
+package ar.unrn.secuencias.visitantes;
+
+import ar.unrn.secuencias.interfaces.VisitorCombinable;
+
+/**
+ * Visitante que suma los números {@code Integer} visitados.
+ * <p>
+ * La suma se acumula en un {@code long}, por lo que no desborda con
+ * secuencias de hasta 2<sup>32</sup> elementos. Los {@code null} se ignoran.
+ * Como la suma es asociativa y conmutativa, el resultado no depende de cómo
+ * se divida el recorrido.
+ * </p>
+ */
+public final class VisitorSuma implements VisitorCombinable<Integer, VisitorSuma> {
+
+    /**
+     * Suma de los valores visitados.
+     */
+    private long suma;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void visita(Integer elemento) {
+        if (elemento != null) {
+            suma = suma + elemento;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VisitorSuma crear() {
+        return new VisitorSuma();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void combinar(VisitorSuma siguiente) {
+        suma = suma + siguiente.suma;
+    }
+
+    /**
+     * Retorna la suma de los valores visitados.
+     *
+     * @return la suma, o 0 si no se visitó ninguno.
+     */
+    public long suma() {
+        return suma;
+    }
+}
@@ -0,0 +1,289 @@
+package ar.unrn.secuencias.vistas;
+
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.excepciones.ModificacionConcurrenteException;
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.interfaces.Subdivisible;
+import ar.unrn.secuencias.interfaces.Versionable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+/**
+ * Vista de una porción contigua de otra secuencia, sin copiar sus elementos.
+ * <p>
+ * La vista es una ventana de desplazamiento y largo fijos sobre la secuencia de
+ * origen: las lecturas y escrituras se traducen a la posición correspondiente
+ * del origen, por lo que los cambios hechos por cualquiera de los dos son
+ * visibles en el otro. Crearla es O(1), sin importar el largo de la porción.
+ * </p>
+ * <p>
+ * Las sub-vistas de una vista no se encadenan: se crean directamente sobre el
+ * origen, con el desplazamiento acumulado, de modo que el acceso cuesta lo
+ * mismo a cualquier nivel de anidamiento.
+ * </p>
+ * <p>
+ * Si el origen es {@link Versionable}, la vista recuerda su versión al crearse
+ * y cada operación la verifica: tras una modificación estructural del origen
+ * (agregar o remover elementos), la vista queda inválida y lanza
+ * {@link ModificacionConcurrenteException}. Sobre otros orígenes no hay
+ * detección, por lo que conviene usarla solo sobre secuencias de largo fijo.
+ * La verificación es de mejor esfuerzo y no reemplaza la sincronización entre
+ * hilos.
+ * </p>
+ *
+ * @param <T> el tipo de los elementos contenidos.
+ */
+public final class VistaSecuencia<T> implements Subdivisible<T>, Iterable<T> {
+
+    /**
+     * Secuencia de origen, que nunca es otra vista.
+     */
+    private final Indexable<T> origen;
+
+    /**
+     * Posición del origen donde comienza la vista.
+     */
+    private final int desplazamiento;
+
+    /**
+     * Cantidad de elementos de la vista.
+     */
+    private final int largo;
+
+    /**
+     * Versión del origen al crear la vista.
+     */
+    private final int version;
+
+    /**
+     * Crea la vista del rango {@code [desde, hasta)} de la secuencia indicada.
+     * Si la secuencia es otra vista, la nueva se crea sobre su origen.
+     *
+     * @param secuencia la secuencia de origen.
+     * @param desde     el inicio del rango, inclusivo.
+     * @param hasta     el fin del rango, exclusivo.
+     * @throws IndiceFueraDeRangoException      si el rango excede la secuencia.
+     * @throws ModificacionConcurrenteException si {@code secuencia} es una vista
+     *                                          que ya no es válida.
+     */
+    public VistaSecuencia(Indexable<T> secuencia, int desde, int hasta) {
+        Indexable.verificarRango(desde, hasta, secuencia.largo());
+        if (secuencia instanceof VistaSecuencia<T> vista) {
+            vista.verificarVersion();
+            this.origen = vista.origen;
+            this.desplazamiento = vista.desplazamiento + desde;
+            this.version = vista.version;
+        } else {
+            this.origen = secuencia;
+            this.desplazamiento = desde;
+            this.version = versionDe(secuencia);
+        }
+        this.largo = hasta - desde;
+    }
+
+    /**
+     * Retorna la versión estructural de la secuencia, o 0 si no la lleva.
+     *
+     * @param secuencia la secuencia a consultar.
+     * @return su versión.
+     */
+    private static int versionDe(Indexable<?> secuencia) {
+        if (secuencia instanceof Versionable<?> versionable) {
+            return versionable.version();
+        }
+        return 0;
+    }
+
+    /**
+     * Verifica que el origen no haya sido modificado estructuralmente.
+     *
+     * @throws ModificacionConcurrenteException si lo fue.
+     */
+    private void verificarVersion() {
+        if (versionDe(origen) != version) {
+            throw new ModificacionConcurrenteException(
+                    "El origen de la vista fue modificado estructuralmente.");
+        }
+    }
+
+    /**
+     * Verifica la versión y que el índice esté dentro de la vista.
+     *
+     * @param indice el índice a verificar.
+     * @throws IndiceFueraDeRangoException      si está fuera de
+     *                                          {@code [0, largo() - 1]}.
+     * @throws ModificacionConcurrenteException si el origen fue modificado
+     *                                          estructuralmente.
+     */
+    private void verificarIndice(int indice) {
+        verificarVersion();
+        if (indice < 0 || indice >= largo) {
+            throw new IndiceFueraDeRangoException(indice, largo);
+        }
+    }
+
+    /**
+     * Verifica la versión y que el rango esté dentro de la vista.
+     *
+     * @param desde el inicio del rango, inclusivo.
+     * @param hasta el fin del rango, exclusivo.
+     */
+    private void verificarRango(int desde, int hasta) {
+        verificarVersion();
+        Indexable.verificarRango(desde, hasta, largo);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ModificacionConcurrenteException si el origen fue modificado
+     *                                          estructuralmente.
+     */
+    @Override
+    public void modificar(int indice, T valor) {
+        verificarIndice(indice);
+        origen.modificar(desplazamiento + indice, valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ModificacionConcurrenteException si el origen fue modificado
+     *                                          estructuralmente.
+     */
+    @Override
+    public T obtener(int indice) {
+        verificarIndice(indice);
+        return origen.obtener(desplazamiento + indice);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int largo() {
+        return largo;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void modificarRango(int desde, T[] valores) {
+        verificarRango(desde, desde + valores.length);
+        origen.modificarRango(desplazamiento + desde, valores);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rellenar(int desde, int hasta, T valor) {
+        verificarRango(desde, hasta);
+        origen.rellenar(desplazamiento + desde, desplazamiento + hasta, valor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Si la fuente es una vista del mismo origen, la copia se hace dentro del
+     * origen, que resuelve los solapamientos.
+     * </p>
+     */
+    @Override
+    public void copiarDesde(Indexable<? extends T> fuente, int desdeFuente, int desde,
+                            int cantidad) {
+        verificarRango(desde, desde + cantidad);
+        if (fuente instanceof VistaSecuencia<? extends T> vista
+                && vista.origen == origen) {
+            vista.verificarRango(desdeFuente, desdeFuente + cantidad);
+            origen.copiarDesde(origen, vista.desplazamiento + desdeFuente,
+                    desplazamiento + desde, cantidad);
+        } else {
+            Indexable.verificarRango(desdeFuente, desdeFuente + cantidad, fuente.largo());
+            origen.copiarDesde(fuente, desdeFuente, desplazamiento + desde, cantidad);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * La sub-vista se crea directamente sobre el origen de esta vista.
+     * </p>
+     */
+    @Override
+    public VistaSecuencia<T> subSecuencia(int indiceDesde, int indiceHasta) {
+        return new VistaSecuencia<>(this, indiceDesde, indiceHasta);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Responde lo mismo que el origen: sobre una lista desenrollada, por
+     * ejemplo, la vista se recorre en orden desde un único hilo.
+     * </p>
+     */
+    @Override
+    public boolean admiteDivisionPorIndice() {
+        return origen.admiteDivisionPorIndice();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Retorna {@link #spliteratorPorIndice()}.
+     * </p>
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return spliteratorPorIndice();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * El iterador verifica la versión del origen en cada paso.
+     * </p>
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            /**
+             * Posición del próximo elemento a retornar.
+             */
+            private int actual;
+
+            @Override
+            public boolean hasNext() {
+                return actual < largo;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T elemento = obtener(actual);
+                actual++;
+                return elemento;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder(getClass().getSimpleName()).append("={");
+        for (int i = 0; i < largo(); i++) {
+            if (i > 0) {
+                texto.append(',');
+            }
+            texto.append(obtener(i));
+        }
+        return texto.append("}:").append(largo()).toString();
+    }
+}
@@ -0,0 +1,83 @@
+package ar.unrn.secuencias;
+
+import ar.unrn.secuencias.estrategias.OrdenadorMezclaParalelo;
+import ar.unrn.secuencias.excepciones.ComparadorNuloException;
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+@DisplayName("Arreglo ordenable con estrategia intercambiable")
+class ArregloOrdenableTest {
+
+    /**
+     * Par clave-posición para verificar la estabilidad.
+     */
+    private record Par(int clave, int posicion) implements Comparable<Par> {
+        @Override
+        public int compareTo(Par otro) {
+            return Integer.compare(clave, otro.clave);
+        }
+    }
+
+    private static Integer[] aleatorios(int cantidad, long semilla) {
+        Random aleatorio = new Random(semilla);
+        Integer[] valores = new Integer[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            valores[i] = aleatorio.nextInt(1000);
+        }
+        return valores;
+    }
+
+    @Test
+    @DisplayName("El ordenamiento paralelo coincide con Arrays.sort")
+    void testParaleloCoincide() {
+        Integer[] valores = aleatorios(100_000, 7);
+        ArregloOrdenable<Integer> arreglo = new ArregloOrdenable<>(valores);
+        arreglo.cambiarEstrategia(new OrdenadorMezclaParalelo<>(64));
+        arreglo.ordenar();
+        Arrays.sort(valores);
+        for (int i = 0; i < valores.length; i++) {
+            Assertions.assertEquals(valores[i], arreglo.obtener(i));
+        }
+    }
+
+    @Test
+    @DisplayName("El ordenamiento paralelo es estable")
+    void testEstable() {
+        Random aleatorio = new Random(3);
+        Par[] pares = new Par[50_000];
+        for (int i = 0; i < pares.length; i++) {
+            pares[i] = new Par(aleatorio.nextInt(10), i);
+        }
+        ArregloOrdenable<Par> arreglo = new ArregloOrdenable<>(pares);
+        arreglo.cambiarEstrategia(new OrdenadorMezclaParalelo<>(16));
+        arreglo.ordenar(Comparator.reverseOrder());
+        for (int i = 1; i < pares.length; i++) {
+            Par anterior = arreglo.obtener(i - 1);
+            Par actual = arreglo.obtener(i);
+            Assertions.assertTrue(anterior.clave() > actual.clave()
+                    || anterior.clave() == actual.clave()
+                    && anterior.posicion() < actual.posicion());
+        }
+    }
+
+    @Test
+    @DisplayName("Rechaza comparadores y elementos nulos sin modificar el arreglo")
+    void testNulos() {
+        ArregloOrdenable<Integer> arreglo =
+                new ArregloOrdenable<>(new Integer[]{3, null, 1});
+        Assertions.assertThrows(ComparadorNuloException.class,
+                () -> arreglo.ordenar(null));
+        Assertions.assertThrows(ElementoNuloException.class, arreglo::ordenar);
+        Assertions.assertThrows(ElementoNuloException.class,
+                () -> arreglo.ordenar(Comparator.naturalOrder()));
+        Assertions.assertEquals("ArregloOrdenable={3,null,1}:3", arreglo.toString());
+        arreglo.ordenar(Comparator.nullsFirst(Comparator.naturalOrder()));
+        Assertions.assertEquals("ArregloOrdenable={null,1,3}:3", arreglo.toString());
+    }
+}
@@ -0,0 +1,170 @@
+package ar.unrn.secuencias;
+
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.excepciones.ModificacionConcurrenteException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+@DisplayName("Lista desenrollada")
+class ListaDesenrolladaTest {
+
+    @Test
+    @DisplayName("Agrega, inserta y remueve manteniendo el orden")
+    void testOperacionesBasicas() {
+        ListaDesenrollada<Integer> lista = new ListaDesenrollada<>(4);
+        for (int i = 0; i < 6; i++) {
+            lista.agregar(i);
+        }
+        Assertions.assertEquals(2, lista.nodos());
+        lista.insertar(0, -1);
+        lista.insertar(3, 9);
+        Assertions.assertEquals("ListaDesenrollada={-1,0,1,9,2,3,4,5}:8",
+                lista.toString());
+        Assertions.assertEquals(9, lista.remover(3));
+        Assertions.assertEquals(-1, lista.remover(0));
+        Assertions.assertEquals("ListaDesenrollada={0,1,2,3,4,5}:6", lista.toString());
+    }
+
+    @Test
+    @DisplayName("Se comporta como un ArrayList ante operaciones al azar")
+    void testOperacionesAlAzar() {
+        ListaDesenrollada<Integer> lista = new ListaDesenrollada<>(4);
+        List<Integer> esperada = new ArrayList<>();
+        Random azar = new Random(17);
+        for (int paso = 0; paso < 5000; paso++) {
+            int operacion = azar.nextInt(4);
+            if (operacion == 0 || esperada.isEmpty()) {
+                int indice = azar.nextInt(esperada.size() + 1);
+                lista.insertar(indice, paso);
+                esperada.add(indice, paso);
+            } else if (operacion == 1) {
+                int indice = azar.nextInt(esperada.size());
+                Assertions.assertEquals(esperada.remove(indice), lista.remover(indice));
+            } else if (operacion == 2) {
+                int indice = azar.nextInt(esperada.size());
+                lista.modificar(indice, -paso);
+                esperada.set(indice, -paso);
+            } else {
+                lista.agregar(paso);
+                esperada.add(paso);
+            }
+            Assertions.assertEquals(esperada.size(), lista.largo());
+        }
+        for (int i = 0; i < esperada.size(); i++) {
+            Assertions.assertEquals(esperada.get(i), lista.obtener(i));
+        }
+        for (int i = esperada.size() - 1; i >= 0; i--) {
+            Assertions.assertEquals(esperada.get(i), lista.obtener(i));
+        }
+        List<Integer> recorrida = new ArrayList<>();
+        lista.forEach(recorrida::add);
+        Assertions.assertEquals(esperada, recorrida);
+    }
+
+    @Test
+    @DisplayName("Remover une nodos poco ocupados")
+    void testUnionDeNodos() {
+        ListaDesenrollada<Integer> lista = new ListaDesenrollada<>(8);
+        for (int i = 0; i < 64; i++) {
+            lista.agregar(i);
+        }
+        Assertions.assertEquals(8, lista.nodos());
+        while (lista.largo() > 4) {
+            lista.remover(lista.largo() / 2);
+        }
+        Assertions.assertTrue(lista.nodos() <= 2);
+        lista.remover(0);
+        lista.remover(0);
+        lista.remover(0);
+        lista.remover(0);
+        Assertions.assertEquals(0, lista.largo());
+        Assertions.assertEquals(1, lista.nodos());
+        Assertions.assertEquals("ListaDesenrollada={}:0", lista.toString());
+    }
+
+    @Test
+    @DisplayName("Informa la memoria estimada por elemento")
+    void testBytesPorElemento() {
+        ListaDesenrollada<Integer> lista = new ListaDesenrollada<>();
+        Assertions.assertEquals(0, lista.bytesPorElemento());
+        for (int i = 0; i < 6400; i++) {
+            lista.agregar(i);
+        }
+        Assertions.assertEquals(100, lista.nodos());
+        Assertions.assertEquals((32 + 272) / 64.0, lista.bytesPorElemento(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Índices inválidos y capacidades inválidas")
+    void testErrores() {
+        ListaDesenrollada<String> lista = new ListaDesenrollada<>();
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> lista.obtener(0));
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> lista.insertar(1, "a"));
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> lista.remover(-1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ListaDesenrollada<>(1));
+    }
+
+    @Test
+    @DisplayName("Los iteradores y las vistas detectan modificaciones estructurales")
+    void testModificacionConcurrente() {
+        ListaDesenrollada<String> lista = new ListaDesenrollada<>();
+        lista.agregar("a");
+        lista.agregar("b");
+        Iterator<String> iterador = lista.iterator();
+        var vista = lista.subSecuencia(0, 2);
+        Assertions.assertEquals("a", iterador.next());
+        lista.modificar(1, "c");
+        Assertions.assertEquals("c", vista.obtener(1));
+        lista.insertar(1, "d");
+        Assertions.assertThrows(ModificacionConcurrenteException.class, iterador::next);
+        Assertions.assertThrows(ModificacionConcurrenteException.class,
+                () -> vista.obtener(0));
+    }
+
+    @Test
+    @DisplayName("Varios hilos pueden leer a la vez sin pisarse el cursor")
+    void testLecturasConcurrentes() throws InterruptedException {
+        ListaDesenrollada<Integer> lista = new ListaDesenrollada<>(8);
+        int largo = 20_000;
+        for (int i = 0; i < largo; i++) {
+            lista.agregar(i);
+        }
+        int hilos = 4;
+        long[] sumas = new long[hilos];
+        Thread[] lectores = new Thread[hilos];
+        for (int h = 0; h < hilos; h++) {
+            int propio = h;
+            lectores[h] = new Thread(() -> {
+                Random aleatorio = new Random(propio);
+                long suma = 0;
+                for (int i = 0; i < largo; i++) {
+                    int indice = propio % 2 == 0 ? i : aleatorio.nextInt(largo);
+                    int valor = lista.obtener(indice);
+                    if (valor != indice) {
+                        return;
+                    }
+                    suma = suma + valor;
+                }
+                sumas[propio] = suma;
+            });
+            lectores[h].start();
+        }
+        for (Thread lector : lectores) {
+            lector.join();
+        }
+        Assertions.assertEquals((long) largo * (largo - 1) / 2, sumas[0]);
+        Assertions.assertEquals(sumas[0], sumas[2]);
+        Assertions.assertTrue(sumas[1] > 0);
+        Assertions.assertTrue(sumas[3] > 0);
+    }
+}
@@ -0,0 +1,83 @@
+package ar.unrn.secuencias;
+
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.primitivos.ArregloInt;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+@DisplayName("Operaciones por rango")
+class OperacionesPorRangoTest {
+
+    @Test
+    @DisplayName("ArregloBase modifica, rellena y copia rangos")
+    void testArregloBase() {
+        ArregloBase<Integer> arreglo = new ArregloBase<>(new Integer[]{0, 1, 2, 3, 4, 5});
+        arreglo.modificarRango(1, new Integer[]{10, 11});
+        Assertions.assertEquals("ArregloBase={0,10,11,3,4,5}:6", arreglo.toString());
+        arreglo.rellenar(4, 6, 9);
+        Assertions.assertEquals("ArregloBase={0,10,11,3,9,9}:6", arreglo.toString());
+        arreglo.copiarDesde(arreglo, 0, 2, 4);
+        Assertions.assertEquals("ArregloBase={0,10,0,10,11,3}:6", arreglo.toString());
+        arreglo.copiarDesde(new ArregloDinamico<>(new Integer[]{7, 8}), 0, 0, 2);
+        Assertions.assertEquals("ArregloBase={7,8,0,10,11,3}:6", arreglo.toString());
+    }
+
+    @Test
+    @DisplayName("Un rango inválido no modifica nada")
+    void testRangoInvalido() {
+        ArregloBase<Integer> arreglo = new ArregloBase<>(new Integer[]{0, 1, 2});
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> arreglo.modificarRango(2, new Integer[]{5, 6}));
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> arreglo.rellenar(-1, 2, 5));
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> arreglo.rellenar(2, 1, 5));
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> arreglo.copiarDesde(arreglo, 1, 0, 3));
+        Assertions.assertEquals("ArregloBase={0,1,2}:3", arreglo.toString());
+    }
+
+    @Test
+    @DisplayName("ArregloDinamico agrega colecciones y a sí mismo de una vez")
+    void testArregloDinamico() {
+        ArregloDinamico<String> arreglo = new ArregloDinamico<>(2);
+        arreglo.agregarTodos(List.of("a", "b", "c"));
+        Assertions.assertEquals(3, arreglo.largo());
+        arreglo.agregarTodos(arreglo);
+        Assertions.assertEquals("ArregloDinamico={a,b,c,a,b,c}:6", arreglo.toString());
+        arreglo.agregarTodos(() -> List.of("d").iterator());
+        arreglo.copiarDesde(arreglo, 3, 0, 4);
+        arreglo.rellenar(6, 7, "z");
+        Assertions.assertEquals("ArregloDinamico={a,b,c,d,b,c,z}:7", arreglo.toString());
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> arreglo.modificarRango(6, new String[]{"x", "y"}));
+    }
+
+    @Test
+    @DisplayName("Las implementaciones por omisión respetan los solapamientos")
+    void testPorOmision() {
+        Indexable<Integer> arreglo = ArregloInt.de(0, 1, 2, 3, 4);
+        arreglo.copiarDesde(arreglo, 0, 1, 4);
+        Assertions.assertEquals(List.of(0, 0, 1, 2, 3), contenido(arreglo));
+        arreglo.copiarDesde(arreglo, 2, 0, 3);
+        Assertions.assertEquals(List.of(1, 2, 3, 2, 3), contenido(arreglo));
+        arreglo.modificarRango(3, new Integer[]{8, 9});
+        arreglo.rellenar(0, 2, 7);
+        Assertions.assertEquals(List.of(7, 7, 3, 8, 9), contenido(arreglo));
+    }
+
+    /**
+     * Retorna el contenido de la secuencia como lista.
+     */
+    private static List<Integer> contenido(Indexable<Integer> arreglo) {
+        Integer[] valores = new Integer[arreglo.largo()];
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] = arreglo.obtener(i);
+        }
+        return List.of(valores);
+    }
+}
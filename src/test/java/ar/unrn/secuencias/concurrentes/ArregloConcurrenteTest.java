@@ -0,0 +1,183 @@
+package ar.unrn.secuencias.concurrentes;
+
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@DisplayName("Arreglo concurrente con cerrojos por franja")
+class ArregloConcurrenteTest {
+
+    private static final int HILOS = 8;
+
+    /**
+     * Ejecuta las tareas en hilos distintos, largándolas a la vez, y propaga
+     * la primera falla.
+     */
+    private static void enParalelo(List<Runnable> tareas) throws Exception {
+        ExecutorService hilos = Executors.newFixedThreadPool(tareas.size());
+        try {
+            CountDownLatch largada = new CountDownLatch(1);
+            List<Future<?>> resultados = new ArrayList<>();
+            for (Runnable tarea : tareas) {
+                resultados.add(hilos.submit(() -> {
+                    largada.await();
+                    tarea.run();
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> resultado : resultados) {
+                resultado.get();
+            }
+        } finally {
+            hilos.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Operaciones básicas en un solo hilo")
+    void testSecuencial() {
+        ArregloConcurrente<String> arreglo = new ArregloConcurrente<>(1);
+        arreglo.agregar("a");
+        arreglo.agregar(null);
+        arreglo.agregar("c");
+        arreglo.modificar(1, "b");
+        Assertions.assertEquals(3, arreglo.largo());
+        Assertions.assertEquals("b", arreglo.obtener(1));
+        Assertions.assertEquals("a", arreglo.remover(0));
+        Assertions.assertEquals("ArregloConcurrente={b,c}:2", arreglo.toString());
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> arreglo.obtener(2));
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> arreglo.modificar(-1, "x"));
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("Los agregados concurrentes no se pierden ni se duplican")
+    void testAgregadosConcurrentes() throws Exception {
+        ArregloConcurrente<Integer> arreglo = new ArregloConcurrente<>(1);
+        int porHilo = 20_000;
+        List<Runnable> tareas = new ArrayList<>();
+        for (int h = 0; h < HILOS; h++) {
+            int base = h * porHilo;
+            tareas.add(() -> {
+                for (int i = 0; i < porHilo; i++) {
+                    arreglo.agregar(base + i);
+                }
+            });
+        }
+        enParalelo(tareas);
+        Assertions.assertEquals(HILOS * porHilo, arreglo.largo());
+        boolean[] vistos = new boolean[HILOS * porHilo];
+        for (Object valor : arreglo.comoArreglo()) {
+            int numero = (Integer) valor;
+            Assertions.assertFalse(vistos[numero]);
+            vistos[numero] = true;
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("Las escrituras en índices propios sobreviven al crecimiento")
+    void testEscrituraDuranteCrecimiento() throws Exception {
+        ArregloConcurrente<Integer> arreglo = new ArregloConcurrente<>(HILOS);
+        for (int i = 0; i < HILOS; i++) {
+            arreglo.agregar(0);
+        }
+        int rondas = 50_000;
+        List<Runnable> tareas = new ArrayList<>();
+        for (int h = 0; h < HILOS; h++) {
+            int indice = h;
+            tareas.add(() -> {
+                for (int ronda = 1; ronda <= rondas; ronda++) {
+                    arreglo.modificar(indice, ronda);
+                    Assertions.assertEquals(ronda, arreglo.obtener(indice));
+                }
+            });
+        }
+        tareas.add(() -> {
+            for (int i = 0; i < rondas; i++) {
+                arreglo.agregar(-1);
+            }
+        });
+        enParalelo(tareas);
+        for (int h = 0; h < HILOS; h++) {
+            Assertions.assertEquals(rondas, arreglo.obtener(h));
+        }
+        Assertions.assertEquals(HILOS + rondas, arreglo.largo());
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("Un lector nunca ve una posición publicada sin su valor")
+    void testPublicacion() throws Exception {
+        ArregloConcurrente<Integer> arreglo = new ArregloConcurrente<>(1);
+        int total = 200_000;
+        AtomicBoolean terminado = new AtomicBoolean();
+        List<Runnable> tareas = new ArrayList<>();
+        tareas.add(() -> {
+            for (int i = 0; i < total; i++) {
+                arreglo.agregar(i);
+            }
+            terminado.set(true);
+        });
+        for (int h = 0; h < HILOS - 1; h++) {
+            tareas.add(() -> {
+                while (!terminado.get()) {
+                    int largo = arreglo.largo();
+                    if (largo > 0) {
+                        int indice = largo - 1;
+                        Assertions.assertEquals(indice, arreglo.obtener(indice));
+                        Assertions.assertEquals(0, arreglo.obtener(0));
+                    }
+                }
+            });
+        }
+        enParalelo(tareas);
+        Assertions.assertEquals(total, arreglo.largo());
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("Remover mientras otros leen mantiene el contenido coherente")
+    void testRemoverConLectores() throws Exception {
+        ArregloConcurrente<Integer> arreglo = new ArregloConcurrente<>();
+        int total = 20_000;
+        for (int i = 0; i < total; i++) {
+            arreglo.agregar(i);
+        }
+        AtomicBoolean terminado = new AtomicBoolean();
+        List<Runnable> tareas = new ArrayList<>();
+        tareas.add(() -> {
+            for (int i = 0; i < total / 2; i++) {
+                arreglo.remover(0);
+            }
+            terminado.set(true);
+        });
+        for (int h = 0; h < HILOS - 1; h++) {
+            tareas.add(() -> {
+                while (!terminado.get()) {
+                    Object[] copia = arreglo.comoArreglo();
+                    for (int i = 1; i < copia.length; i++) {
+                        Assertions.assertEquals((Integer) copia[i - 1] + 1, copia[i]);
+                    }
+                    Assertions.assertEquals(total - 1, copia[copia.length - 1]);
+                }
+            });
+        }
+        enParalelo(tareas);
+        Assertions.assertEquals(total / 2, arreglo.largo());
+        Assertions.assertEquals(total / 2, arreglo.obtener(0));
+    }
+}
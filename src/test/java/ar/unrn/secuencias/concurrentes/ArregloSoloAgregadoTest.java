@@ -0,0 +1,113 @@
+package ar.unrn.secuencias.concurrentes;
+
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.excepciones.SecuenciaNoModificableException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("Secuencia concurrente de solo agregado")
+class ArregloSoloAgregadoTest {
+
+    private static final int PRODUCTORES = 6;
+
+    private static final int LECTORES = 2;
+
+    @Test
+    @DisplayName("Los elementos quedan en orden a través de los segmentos")
+    void testSecuencial() {
+        ArregloSoloAgregado<Integer> arreglo = new ArregloSoloAgregado<>();
+        for (int i = 0; i < 1000; i++) {
+            arreglo.agregar(i);
+        }
+        Assertions.assertEquals(1000, arreglo.largo());
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertEquals(i, arreglo.obtener(i));
+        }
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> arreglo.obtener(1000));
+    }
+
+    @Test
+    @DisplayName("No admite nulos, ni modificar, ni remover")
+    void testSoloAgregado() {
+        ArregloSoloAgregado<String> arreglo = new ArregloSoloAgregado<>();
+        arreglo.agregar("a");
+        Assertions.assertThrows(ElementoNuloException.class, () -> arreglo.agregar(null));
+        Assertions.assertThrows(SecuenciaNoModificableException.class,
+                () -> arreglo.modificar(0, "b"));
+        Assertions.assertThrows(SecuenciaNoModificableException.class,
+                () -> arreglo.remover(0));
+        Assertions.assertEquals("ArregloSoloAgregado={a}:1", arreglo.toString());
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("Con productores concurrentes, solo se leen posiciones escritas")
+    void testProductoresYLectores() throws Exception {
+        ArregloSoloAgregado<Integer> arreglo = new ArregloSoloAgregado<>();
+        int porProductor = 50_000;
+        AtomicInteger activos = new AtomicInteger(PRODUCTORES);
+        ExecutorService hilos = Executors.newFixedThreadPool(PRODUCTORES + LECTORES);
+        try {
+            CountDownLatch largada = new CountDownLatch(1);
+            List<Future<?>> tareas = new ArrayList<>();
+            for (int p = 0; p < PRODUCTORES; p++) {
+                int base = p * porProductor;
+                tareas.add(hilos.submit(() -> {
+                    largada.await();
+                    for (int i = 0; i < porProductor; i++) {
+                        arreglo.agregar(base + i);
+                    }
+                    activos.decrementAndGet();
+                    return null;
+                }));
+            }
+            for (int l = 0; l < LECTORES; l++) {
+                tareas.add(hilos.submit(() -> {
+                    largada.await();
+                    int anterior = 0;
+                    while (activos.get() > 0) {
+                        int largo = arreglo.largo();
+                        Assertions.assertTrue(largo >= anterior);
+                        for (int i = anterior; i < largo; i++) {
+                            Assertions.assertNotNull(arreglo.obtener(i));
+                        }
+                        anterior = largo;
+                    }
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+        } finally {
+            hilos.shutdownNow();
+        }
+        int total = PRODUCTORES * porProductor;
+        Assertions.assertEquals(total, arreglo.largo());
+        boolean[] vistos = new boolean[total];
+        int[] ultimoDeProductor = new int[PRODUCTORES];
+        Arrays.fill(ultimoDeProductor, -1);
+        for (int i = 0; i < total; i++) {
+            int valor = arreglo.obtener(i);
+            Assertions.assertFalse(vistos[valor]);
+            vistos[valor] = true;
+            int productor = valor / porProductor;
+            Assertions.assertTrue(valor > ultimoDeProductor[productor]);
+            ultimoDeProductor[productor] = valor;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package ar.unrn.secuencias.decoradores;
+
+import ar.unrn.secuencias.ArregloBase;
+import ar.unrn.secuencias.ArregloDinamico;
+import ar.unrn.secuencias.ArregloOrdenable;
+import ar.unrn.secuencias.excepciones.ElementoInvalidoException;
+import ar.unrn.secuencias.excepciones.SecuenciaNoModificableException;
+import ar.unrn.secuencias.interfaces.Observable;
+import ar.unrn.secuencias.interfaces.Observador;
+import ar.unrn.secuencias.observadores.SecuenciaObservable;
+import ar.unrn.secuencias.validadores.ValidadorLimiteInferior;
+import ar.unrn.secuencias.validadores.ValidadorNoNulo;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("Decoradores con operaciones por rango")
+class DecoradoresPorRangoTest {
+
+    @Test
+    @DisplayName("La validación indica todos los valores inválidos y no escribe nada")
+    void testValidada() {
+        SecuenciaValidada<Integer> secuencia = new SecuenciaValidada<>(
+                new ArregloDinamico<>(new Integer[]{5, 6, 7}),
+                new ValidadorLimiteInferior(5));
+        ElementoInvalidoException error = Assertions.assertThrows(
+                ElementoInvalidoException.class,
+                () -> secuencia.modificarRango(0, new Integer[]{8, 4, 3}));
+        Assertions.assertEquals("Los elementos en las posiciones [1, 2] no son válidos.",
+                error.getMessage());
+        Assertions.assertArrayEquals(new int[]{1, 2}, error.indicesInvalidos());
+        Assertions.assertThrows(ElementoInvalidoException.class,
+                () -> secuencia.agregarTodos(List.of(9, 10, 2)));
+        Assertions.assertThrows(ElementoInvalidoException.class,
+                () -> secuencia.agregar(null));
+        Assertions.assertEquals(
+                "SecuenciaValidada[ArregloDinamico={5,6,7}:3]", secuencia.toString());
+        secuencia.agregarTodos(List.of(9, 10));
+        secuencia.rellenar(0, 2, 5);
+        Assertions.assertEquals("SecuenciaValidada[ArregloDinamico={5,5,7,9,10}:5]",
+                secuencia.toString());
+
+        SecuenciaValidada<String> textos = new SecuenciaValidada<>(
+                new ArregloBase<>(new String[]{"a", null}), new ValidadorNoNulo<>());
+        Assertions.assertThrows(ElementoInvalidoException.class,
+                () -> textos.copiarDesde(textos, 0, 0, 2));
+        textos.copiarDesde(textos, 0, 1, 1);
+        Assertions.assertEquals("a", textos.obtener(1));
+    }
+
+    @Test
+    @DisplayName("Solo lectura rechaza también las operaciones por rango")
+    void testSoloLectura() {
+        ArregloBase<Integer> arreglo = new ArregloBase<>(new Integer[]{1, 2});
+        SecuenciaSoloLectura<Integer> secuencia = new SecuenciaSoloLectura<>(arreglo);
+        Assertions.assertEquals(2, secuencia.obtener(1));
+        Assertions.assertThrows(SecuenciaNoModificableException.class,
+                () -> secuencia.modificar(0, 3));
+        Assertions.assertThrows(SecuenciaNoModificableException.class,
+                () -> secuencia.rellenar(0, 2, 3));
+        Assertions.assertThrows(SecuenciaNoModificableException.class,
+                () -> secuencia.agregarTodos(List.of(3)));
+        Assertions.assertThrows(SecuenciaNoModificableException.class,
+                () -> secuencia.copiarDesde(arreglo, 0, 0, 1));
+        arreglo.modificar(0, 9);
+        Assertions.assertEquals(9, secuencia.obtener(0));
+    }
+
+    @Test
+    @DisplayName("El registro imprime una línea por operación, no por elemento")
+    void testRegistrada() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream salida = new PrintStream(bytes, true, StandardCharsets.UTF_8);
+        SecuenciaRegistrada<String> secuencia = new SecuenciaRegistrada<>(
+                new ArregloDinamico<>(new String[]{"a", "b"}), salida);
+        secuencia.modificar(0, "c");
+        secuencia.agregarTodos(List.of("d", "e", "f"));
+        secuencia.rellenar(1, 4, "x");
+        secuencia.remover(0);
+        String esperado = String.join(System.lineSeparator(), "modificar[0]: a -> c",
+                "agregarTodos[2, 5)", "rellenar[1, 4): x", "remover[0]: c", "");
+        Assertions.assertEquals(esperado, bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Cada operación por rango genera una única notificación")
+    void testObservableUnaNotificacion() {
+        SecuenciaObservable<Integer> secuencia = new SecuenciaObservable<>(
+                new ArregloDinamico<>(new Integer[]{0, 0, 0, 0}));
+        List<String> rangos = new ArrayList<>();
+        secuencia.addObserver(new Observador<>() {
+            @Override
+            public void actualizar(Observable<Integer> observable, int indice) {
+                rangos.add(String.valueOf(indice));
+            }
+
+            @Override
+            public void actualizarRango(Observable<Integer> observable, int desde,
+                                        int hasta) {
+                rangos.add(desde + ".." + hasta);
+            }
+        });
+        secuencia.modificarRango(1, new Integer[]{1, 2, 3});
+        secuencia.rellenar(0, 2, 5);
+        secuencia.copiarDesde(secuencia, 0, 2, 2);
+        secuencia.agregarTodos(List.of(7, 8));
+        Assertions.assertEquals(List.of("1..4", "0..2", "2..4", "4..6"), rangos);
+    }
+
+    @Test
+    @DisplayName("Los decoradores de búsqueda se mantienen al día")
+    void testBusquedas() {
+        SecuenciaIndexada<String> indexada = new SecuenciaIndexada<>(
+                new ArregloBase<>(new String[]{"a", "b", "c"}));
+        Assertions.assertEquals(1, indexada.indiceDe("b"));
+        indexada.rellenar(0, 2, "c");
+        Assertions.assertEquals(-1, indexada.indiceDe("b"));
+        Assertions.assertEquals(0, indexada.indiceDe("c"));
+
+        SecuenciaBusquedaBinaria<Integer> binaria = new SecuenciaBusquedaBinaria<>(
+                new ArregloOrdenable<>(new Integer[]{4, 1, 3, 2, 5}));
+        binaria.ordenar();
+        binaria.modificarRango(1, new Integer[]{2, 2});
+        Assertions.assertTrue(binaria.estaOrdenada());
+        binaria.rellenar(3, 5, 1);
+        Assertions.assertFalse(binaria.estaOrdenada());
+        Assertions.assertEquals(4, binaria.ultimoIndiceDe(1));
+    }
+}
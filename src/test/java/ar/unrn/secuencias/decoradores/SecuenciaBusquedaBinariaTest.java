@@ -0,0 +1,69 @@
+package ar.unrn.secuencias.decoradores;
+
+import ar.unrn.secuencias.ArregloOrdenable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+
+@DisplayName("Secuencia con búsqueda binaria mientras está ordenada")
+class SecuenciaBusquedaBinariaTest {
+
+    /**
+     * Persona comparada solo por edad, para tener equivalentes distintos.
+     */
+    private record Persona(String nombre, int edad) implements Comparable<Persona> {
+        @Override
+        public int compareTo(Persona otra) {
+            return Integer.compare(edad, otra.edad);
+        }
+    }
+
+    @Test
+    @DisplayName("Ordenar habilita la búsqueda binaria con el mismo resultado")
+    void testBusquedaOrdenada() {
+        SecuenciaBusquedaBinaria<Integer> secuencia = new SecuenciaBusquedaBinaria<>(
+                new ArregloOrdenable<>(new Integer[] {5, 3, 3, 9, 1, 3}));
+        Assertions.assertFalse(secuencia.estaOrdenada());
+        Assertions.assertEquals(1, secuencia.indiceDe(3));
+        secuencia.ordenar();
+        Assertions.assertTrue(secuencia.estaOrdenada());
+        Assertions.assertEquals(1, secuencia.indiceDe(3));
+        Assertions.assertEquals(3, secuencia.ultimoIndiceDe(3));
+        Assertions.assertEquals(5, secuencia.indiceDe(9));
+        Assertions.assertEquals(-1, secuencia.indiceDe(4));
+        Assertions.assertFalse(secuencia.contiene(10));
+        Assertions.assertFalse(secuencia.contiene(0));
+    }
+
+    @Test
+    @DisplayName("Entre equivalentes según el criterio se elige por equals")
+    void testEquivalentes() {
+        Persona ana = new Persona("Ana", 30);
+        Persona beto = new Persona("Beto", 30);
+        Persona carla = new Persona("Carla", 20);
+        SecuenciaBusquedaBinaria<Persona> secuencia = new SecuenciaBusquedaBinaria<>(
+                new ArregloOrdenable<>(new Persona[] {beto, ana, carla, beto}));
+        secuencia.ordenar(Comparator.reverseOrder());
+        Assertions.assertTrue(secuencia.estaOrdenada());
+        Assertions.assertEquals(1, secuencia.indiceDe(ana));
+        Assertions.assertEquals(0, secuencia.indiceDe(beto));
+        Assertions.assertEquals(2, secuencia.ultimoIndiceDe(beto));
+        Assertions.assertEquals(-1, secuencia.indiceDe(new Persona("Dani", 30)));
+    }
+
+    @Test
+    @DisplayName("Una modificación fuera de orden vuelve a la búsqueda lineal")
+    void testModificacionDesordena() {
+        SecuenciaBusquedaBinaria<Integer> secuencia = new SecuenciaBusquedaBinaria<>(
+                new ArregloOrdenable<>(new Integer[] {1, 2, 3, 4}));
+        secuencia.ordenar();
+        secuencia.modificar(1, 2);
+        Assertions.assertTrue(secuencia.estaOrdenada());
+        secuencia.modificar(0, 8);
+        Assertions.assertFalse(secuencia.estaOrdenada());
+        Assertions.assertEquals(0, secuencia.indiceDe(8));
+        Assertions.assertEquals(3, secuencia.indiceDe(4));
+    }
+}
@@ -0,0 +1,159 @@
+package ar.unrn.secuencias.decoradores;
+
+import ar.unrn.secuencias.ArregloDinamico;
+import ar.unrn.secuencias.concurrentes.ArregloConcurrente;
+import ar.unrn.secuencias.excepciones.SecuenciaCerradaException;
+import ar.unrn.secuencias.excepciones.SecuenciaNoModificableException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.StreamSupport;
+
+@DisplayName("Secuencia con copia en escritura por bloques")
+class SecuenciaCopiaEnEscrituraTest {
+
+    /**
+     * Crea una secuencia con los valores de 0 a {@code cantidad - 1}.
+     *
+     * @param cantidad la cantidad de elementos.
+     * @return la secuencia decorada, con bloques de 4 posiciones.
+     */
+    private static SecuenciaCopiaEnEscritura<Integer> secuencia(int cantidad) {
+        ArregloDinamico<Integer> arreglo = new ArregloDinamico<>();
+        for (int i = 0; i < cantidad; i++) {
+            arreglo.agregar(i);
+        }
+        return new SecuenciaCopiaEnEscritura<>(arreglo, 4);
+    }
+
+    @Test
+    @DisplayName("La instantánea no ve las escrituras posteriores")
+    void testInstantaneaEstable() {
+        SecuenciaCopiaEnEscritura<Integer> secuencia = secuencia(10);
+        try (var instantanea = secuencia.instantanea()) {
+            secuencia.modificar(0, 100);
+            secuencia.rellenar(4, 6, -1);
+            secuencia.remover(8);
+            secuencia.agregar(50);
+            secuencia.agregar(51);
+            Assertions.assertEquals("Instantanea={0,1,2,3,4,5,6,7,8,9}:10",
+                    instantanea.toString());
+            Assertions.assertEquals(11, secuencia.largo());
+            Assertions.assertEquals(3, instantanea.bloquesCopiados());
+            Assertions.assertThrows(SecuenciaNoModificableException.class,
+                    () -> instantanea.modificar(0, 1));
+        }
+        Assertions.assertEquals(1, secuencia.instantaneasTomadas());
+        Assertions.assertEquals(3, secuencia.bloquesCopiados());
+    }
+
+    @Test
+    @DisplayName("Cada bloque se copia una vez por época y se comparte")
+    void testCopiasCompartidas() {
+        SecuenciaCopiaEnEscritura<Integer> secuencia = secuencia(8);
+        var primera = secuencia.instantanea();
+        var segunda = secuencia.instantanea();
+        secuencia.modificar(1, 10);
+        secuencia.modificar(2, 20);
+        Assertions.assertEquals(1, secuencia.bloquesCopiados());
+        Assertions.assertEquals(2, secuencia.versionBloque(0));
+        Assertions.assertEquals(0, secuencia.versionBloque(1));
+        var tercera = secuencia.instantanea();
+        secuencia.modificar(1, 30);
+        Assertions.assertEquals(2, secuencia.bloquesCopiados());
+        Assertions.assertEquals(1, primera.obtener(1));
+        Assertions.assertEquals(1, segunda.obtener(1));
+        Assertions.assertEquals(10, tercera.obtener(1));
+        Assertions.assertEquals(30, secuencia.obtener(1));
+        primera.close();
+        segunda.close();
+        tercera.close();
+        secuencia.modificar(5, 0);
+        Assertions.assertEquals(2, secuencia.bloquesCopiados());
+        Assertions.assertThrows(SecuenciaCerradaException.class,
+                () -> primera.obtener(0));
+    }
+
+    @Test
+    @DisplayName("Visitar e iterar recorren una instantánea")
+    void testRecorridos() {
+        SecuenciaCopiaEnEscritura<Integer> secuencia = secuencia(6);
+        List<Integer> visitados = new ArrayList<>();
+        secuencia.visitar(elemento -> {
+            visitados.add(elemento);
+            if (elemento == 0) {
+                secuencia.rellenar(0, 6, -1);
+            }
+        });
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4, 5), visitados);
+        List<Integer> iterados = new ArrayList<>();
+        for (Integer elemento : secuencia) {
+            iterados.add(elemento);
+            if (iterados.size() == 1) {
+                secuencia.remover(0);
+            }
+        }
+        Assertions.assertEquals(List.of(-1, -1, -1, -1, -1, -1), iterados);
+        Assertions.assertEquals(5, secuencia.largo());
+    }
+
+    @Test
+    @DisplayName("Los recorridos terminados no dejan instantáneas que copiar")
+    void testRecorridosCerrados() {
+        SecuenciaCopiaEnEscritura<Integer> secuencia = secuencia(64);
+        long suma = 0;
+        for (int vuelta = 0; vuelta < 1000; vuelta++) {
+            for (Integer elemento : secuencia) {
+                suma = suma + elemento;
+            }
+        }
+        Assertions.assertEquals(2_016_000L, suma);
+        secuencia.modificar(0, 1000);
+        Assertions.assertEquals(0, secuencia.bloquesCopiados());
+
+        Spliterator<Integer> anterior = secuencia.spliteratorPorIndice();
+        secuencia.modificar(1, 1001);
+        Assertions.assertEquals(1, secuencia.bloquesCopiados());
+        Assertions.assertEquals(3016, StreamSupport.stream(anterior, true)
+                .mapToInt(Integer::intValue).sum());
+        Assertions.assertEquals(4016, secuencia.parallelStream()
+                .mapToInt(Integer::intValue).sum());
+        secuencia.rellenar(0, 64, 0);
+        Assertions.assertEquals(1, secuencia.bloquesCopiados());
+    }
+
+    @Test
+    @DisplayName("Los lectores ven estados consistentes mientras otro hilo escribe")
+    void testLectoresConcurrentes() throws InterruptedException {
+        ArregloConcurrente<Integer> arreglo = new ArregloConcurrente<>();
+        for (int i = 0; i < 1000; i++) {
+            arreglo.agregar(0);
+        }
+        SecuenciaCopiaEnEscritura<Integer> secuencia =
+                new SecuenciaCopiaEnEscritura<>(arreglo);
+        AtomicBoolean terminado = new AtomicBoolean();
+        Thread escritor = Thread.ofPlatform().start(() -> {
+            for (int ronda = 1; ronda <= 2000; ronda++) {
+                secuencia.rellenar(0, secuencia.largo(), ronda);
+            }
+            terminado.set(true);
+        });
+        int lecturas = 0;
+        while (!terminado.get() || lecturas == 0) {
+            try (var instantanea = secuencia.instantanea()) {
+                int primero = instantanea.obtener(0);
+                for (Integer elemento : instantanea) {
+                    Assertions.assertEquals(primero, elemento);
+                }
+            }
+            lecturas++;
+        }
+        escritor.join();
+        Assertions.assertEquals(lecturas, secuencia.instantaneasTomadas());
+    }
+}
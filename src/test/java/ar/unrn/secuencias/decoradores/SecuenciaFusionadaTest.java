@@ -0,0 +1,226 @@
+package ar.unrn.secuencias.decoradores;
+
+import ar.unrn.secuencias.ArregloBase;
+import ar.unrn.secuencias.ArregloDinamico;
+import ar.unrn.secuencias.excepciones.ElementoInvalidoException;
+import ar.unrn.secuencias.excepciones.SecuenciaNoModificableException;
+import ar.unrn.secuencias.interfaces.Expandable;
+import ar.unrn.secuencias.interfaces.Indexable;
+import ar.unrn.secuencias.interfaces.Observable;
+import ar.unrn.secuencias.validadores.ValidadorLimiteInferior;
+import ar.unrn.secuencias.validadores.ValidadorNoNulo;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("Pila de decoradores fusionada")
+class SecuenciaFusionadaTest {
+
+    /**
+     * Aplica la misma serie de operaciones, válidas e inválidas, a una
+     * secuencia.
+     *
+     * @param secuencia la secuencia a modificar.
+     */
+    private static void operar(Expandable<Integer> secuencia) {
+        secuencia.agregarTodos(List.of(1, 2, 3, 4));
+        secuencia.modificar(0, 10);
+        secuencia.agregar(5);
+        secuencia.rellenar(1, 3, 7);
+        secuencia.modificarRango(3, new Integer[]{8, 9});
+        secuencia.copiarDesde(secuencia, 0, 3, 2);
+        secuencia.remover(2);
+        Assertions.assertThrows(ElementoInvalidoException.class,
+                () -> secuencia.modificar(0, -1));
+        Assertions.assertThrows(ElementoInvalidoException.class,
+                () -> secuencia.agregar(null));
+        Assertions.assertThrows(ElementoInvalidoException.class,
+                () -> secuencia.agregarTodos(List.of(1, -2)));
+    }
+
+    /**
+     * Describe la pila de uno de los casos de equivalencia.
+     *
+     * @param caso   el caso: la pila completa, validada sobre solo lectura, o
+     *               con dos capas observables.
+     * @param salida la salida de las capas registradas.
+     * @return la descripción de la pila.
+     */
+    private static SecuenciaFusionada.Descripcion<Integer> describir(int caso,
+                                                                     PrintStream salida) {
+        if (caso == 1) {
+            return SecuenciaFusionada.sobre(new ArregloDinamico<>(new Integer[]{1, 2}))
+                    .validada(new ValidadorNoNulo<>())
+                    .soloLectura()
+                    .validada(new ValidadorLimiteInferior(0))
+                    .observable();
+        }
+        if (caso == 2) {
+            return SecuenciaFusionada.sobre(new ArregloDinamico<Integer>())
+                    .validada(new ValidadorNoNulo<>())
+                    .registrada(salida)
+                    .observable()
+                    .validada(new ValidadorLimiteInferior(0))
+                    .registrada(salida)
+                    .observable();
+        }
+        return SecuenciaFusionada.sobre(new ArregloDinamico<Integer>())
+                .validada(new ValidadorNoNulo<>())
+                .validada(new ValidadorLimiteInferior(0))
+                .registrada(salida)
+                .visitable()
+                .observable();
+    }
+
+    /**
+     * Intenta escrituras válidas e inválidas sobre una secuencia de solo
+     * lectura y anota qué excepción lanzó cada una.
+     *
+     * @param secuencia la secuencia a modificar.
+     * @return los nombres de las excepciones, en orden.
+     */
+    private static String intentar(Expandable<Integer> secuencia) {
+        List<Runnable> escrituras = List.of(
+                () -> secuencia.modificar(0, -1),
+                () -> secuencia.modificar(0, 5),
+                () -> secuencia.agregar(-3),
+                () -> secuencia.agregar(null),
+                () -> secuencia.rellenar(0, 2, -1),
+                () -> secuencia.modificarRango(0, new Integer[]{4, 5}),
+                () -> secuencia.agregarTodos(List.of(1, -2)),
+                () -> secuencia.remover(0));
+        StringBuilder excepciones = new StringBuilder();
+        for (Runnable escritura : escrituras) {
+            try {
+                escritura.run();
+                excepciones.append("ninguna ");
+            } catch (RuntimeException e) {
+                excepciones.append(e.getClass().getSimpleName()).append(' ');
+            }
+        }
+        return excepciones.toString();
+    }
+
+    @Test
+    @DisplayName("Equivale a la pila de decoradores descrita")
+    void testEquivalencia() {
+        for (int caso = 0; caso < 3; caso++) {
+            List<String> registros = new ArrayList<>();
+            List<String> notificaciones = new ArrayList<>();
+            for (int forma = 0; forma < 2; forma++) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                PrintStream salida = new PrintStream(bytes, true, StandardCharsets.UTF_8);
+                SecuenciaFusionada.Descripcion<Integer> descripcion =
+                        describir(caso, salida);
+                Indexable<Integer> secuencia = forma == 0
+                        ? descripcion.apilar() : descripcion.fusionar();
+                StringBuilder avisos = new StringBuilder();
+                capaObservable(secuencia).addObserver((observable, indice) -> {
+                    avisos.append(indice).append(' ');
+                    salida.println("aviso " + indice);
+                });
+                String resultado = "";
+                if (caso == 1) {
+                    resultado = intentar((Expandable<Integer>) secuencia);
+                } else {
+                    operar((Expandable<Integer>) secuencia);
+                }
+                registros.add(bytes.toString(StandardCharsets.UTF_8) + resultado
+                        + secuencia.largo());
+                notificaciones.add(avisos.toString());
+            }
+            Assertions.assertEquals(registros.get(0), registros.get(1));
+            Assertions.assertEquals(notificaciones.get(0), notificaciones.get(1));
+            if (caso == 1) {
+                Assertions.assertTrue(registros.get(1).startsWith(
+                        "ElementoInvalidoException SecuenciaNoModificableException"));
+            } else {
+                Assertions.assertTrue(registros.get(1).startsWith("agregarTodos[0, 4)"));
+            }
+        }
+    }
+
+    /**
+     * Busca la capa observable de una pila, bajando por las capas externas.
+     *
+     * @param secuencia la pila o la secuencia fusionada.
+     * @return la primera capa observable.
+     */
+    private static Observable<Integer> capaObservable(Indexable<Integer> secuencia) {
+        Indexable<Integer> capa = secuencia;
+        while (!(capa instanceof Observable)) {
+            capa = ((SecuenciaDecorable<Integer>) capa).decorada();
+        }
+        return (Observable<Integer>) capa;
+    }
+
+    @Test
+    @DisplayName("Registra y notifica en el orden de las capas, como la pila")
+    void testOrdenDeCapas() {
+        for (int orden = 0; orden < 3; orden++) {
+            List<String> lineas = new ArrayList<>();
+            for (int forma = 0; forma < 2; forma++) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                PrintStream salida = new PrintStream(bytes, true, StandardCharsets.UTF_8);
+                SecuenciaFusionada.Descripcion<Integer> descripcion =
+                        SecuenciaFusionada.sobre(new ArregloDinamico<Integer>());
+                if (orden == 0) {
+                    descripcion.registrada(salida).observable();
+                } else if (orden == 1) {
+                    descripcion.observable().registrada(salida);
+                } else {
+                    descripcion.registrada(salida).observable().registrada(salida);
+                }
+                Indexable<Integer> secuencia = forma == 0
+                        ? descripcion.apilar() : descripcion.fusionar();
+                capaObservable(secuencia).addObserver(
+                        (observable, indice) -> salida.println("aviso " + indice));
+                ((Expandable<Integer>) secuencia).agregar(3);
+                secuencia.modificar(0, 4);
+                lineas.add(bytes.toString(StandardCharsets.UTF_8));
+            }
+            Assertions.assertEquals(lineas.get(0), lineas.get(1));
+            Assertions.assertEquals(orden == 1, lineas.get(1).startsWith("aviso 0"));
+        }
+    }
+
+    @Test
+    @DisplayName("La capa de solo lectura rechaza toda escritura")
+    void testSoloLectura() {
+        ArregloBase<String> arreglo = new ArregloBase<>(new String[]{"a", "b"});
+        SecuenciaFusionada<String> secuencia = SecuenciaFusionada.sobre(arreglo)
+                .visitable()
+                .soloLectura()
+                .fusionar();
+        Assertions.assertThrows(SecuenciaNoModificableException.class,
+                () -> secuencia.modificar(0, "c"));
+        Assertions.assertThrows(SecuenciaNoModificableException.class,
+                () -> secuencia.rellenar(0, 2, "c"));
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> secuencia.addObserver((observable, indice) -> { }));
+        StringBuilder visitados = new StringBuilder();
+        secuencia.visitar(visitados::append);
+        Assertions.assertEquals("ab", visitados.toString());
+        Assertions.assertEquals("SecuenciaFusionada[ArregloBase={a,b}:2]",
+                secuencia.toString());
+    }
+
+    @Test
+    @DisplayName("Sin capas, delega directamente en la base")
+    void testSinCapas() {
+        ArregloDinamico<Integer> arreglo = new ArregloDinamico<>();
+        SecuenciaFusionada<Integer> secuencia =
+                SecuenciaFusionada.sobre(arreglo).fusionar();
+        secuencia.agregar(1);
+        secuencia.agregar(null);
+        Assertions.assertEquals(2, arreglo.largo());
+        Assertions.assertEquals(arreglo.version(), secuencia.version());
+        Assertions.assertSame(arreglo, SecuenciaFusionada.sobre(arreglo).apilar());
+    }
+}
@@ -0,0 +1,113 @@
+package ar.unrn.secuencias.decoradores;
+
+import ar.unrn.secuencias.ArregloBase;
+import ar.unrn.secuencias.ArregloDinamico;
+import ar.unrn.secuencias.excepciones.SecuenciaNoModificableException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+@DisplayName("Secuencia con índice hash para las búsquedas")
+class SecuenciaIndexadaTest {
+
+    @Test
+    @DisplayName("Las búsquedas reflejan el contenido inicial")
+    void testContenidoInicial() {
+        SecuenciaIndexada<String> secuencia = new SecuenciaIndexada<>(
+                new ArregloDinamico<>(new String[] {"a", "b", null, "a"}));
+        Assertions.assertTrue(secuencia.contiene("a"));
+        Assertions.assertEquals(0, secuencia.indiceDe("a"));
+        Assertions.assertEquals(3, secuencia.ultimoIndiceDe("a"));
+        Assertions.assertEquals(2, secuencia.indiceDe(null));
+        Assertions.assertFalse(secuencia.contiene("z"));
+        Assertions.assertEquals(-1, secuencia.ultimoIndiceDe("z"));
+    }
+
+    @Test
+    @DisplayName("El índice se mantiene al modificar, agregar y remover")
+    void testCoincideConBusquedaLineal() {
+        Random aleatorio = new Random(9);
+        SecuenciaIndexada<Integer> secuencia = new SecuenciaIndexada<>(
+                new ArregloDinamico<>());
+        List<Integer> esperado = new ArrayList<>();
+        for (int paso = 0; paso < 5000; paso++) {
+            int operacion = aleatorio.nextInt(10);
+            Integer valor = aleatorio.nextInt(50);
+            if (operacion < 5 || esperado.isEmpty()) {
+                secuencia.agregar(valor);
+                esperado.add(valor);
+            } else if (operacion < 8) {
+                int indice = aleatorio.nextInt(esperado.size());
+                secuencia.modificar(indice, valor);
+                esperado.set(indice, valor);
+            } else {
+                int indice = operacion == 8 ? esperado.size() - 1
+                        : aleatorio.nextInt(esperado.size());
+                Assertions.assertEquals(esperado.remove(indice),
+                        secuencia.remover(indice));
+            }
+            Integer buscado = aleatorio.nextInt(50);
+            Assertions.assertEquals(esperado.contains(buscado),
+                    secuencia.contiene(buscado));
+            Assertions.assertEquals(esperado.indexOf(buscado),
+                    secuencia.indiceDe(buscado));
+            Assertions.assertEquals(esperado.lastIndexOf(buscado),
+                    secuencia.ultimoIndiceDe(buscado));
+        }
+    }
+
+    @Test
+    @DisplayName("Remover en cualquier posición intercalado con búsquedas y rangos")
+    void testRemoverIntercalado() {
+        Random aleatorio = new Random(13);
+        SecuenciaIndexada<Integer> secuencia = new SecuenciaIndexada<>(
+                new ArregloDinamico<>());
+        List<Integer> esperado = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            secuencia.agregar(i % 700);
+            esperado.add(i % 700);
+        }
+        for (int paso = 0; paso < 6000; paso++) {
+            int operacion = aleatorio.nextInt(10);
+            if (operacion < 5 && !esperado.isEmpty()) {
+                int indice = aleatorio.nextInt(esperado.size());
+                Assertions.assertEquals(esperado.remove(indice),
+                        secuencia.remover(indice));
+            } else if (operacion < 8) {
+                Integer valor = aleatorio.nextInt(700);
+                secuencia.agregar(valor);
+                esperado.add(valor);
+            } else if (esperado.size() > 10) {
+                int desde = aleatorio.nextInt(esperado.size() - 10);
+                Integer valor = aleatorio.nextInt(700);
+                secuencia.rellenar(desde, desde + 10, valor);
+                for (int i = desde; i < desde + 10; i++) {
+                    esperado.set(i, valor);
+                }
+            }
+            Integer buscado = aleatorio.nextInt(700);
+            Assertions.assertEquals(esperado.indexOf(buscado),
+                    secuencia.indiceDe(buscado));
+            Assertions.assertEquals(esperado.lastIndexOf(buscado),
+                    secuencia.ultimoIndiceDe(buscado));
+        }
+    }
+
+    @Test
+    @DisplayName("Sobre una secuencia de tamaño fijo no se puede agregar ni remover")
+    void testDecoradaNoExpandible() {
+        SecuenciaIndexada<Integer> secuencia = new SecuenciaIndexada<>(
+                new ArregloBase<>(new Integer[] {1, 2}));
+        Assertions.assertThrows(SecuenciaNoModificableException.class,
+                () -> secuencia.agregar(3));
+        Assertions.assertThrows(SecuenciaNoModificableException.class,
+                () -> secuencia.remover(0));
+        secuencia.modificar(0, 2);
+        Assertions.assertEquals(0, secuencia.indiceDe(2));
+        Assertions.assertFalse(secuencia.contiene(1));
+    }
+}
@@ -0,0 +1,106 @@
+package ar.unrn.secuencias.decoradores;
+
+import ar.unrn.secuencias.ArregloBase;
+import ar.unrn.secuencias.ArregloDinamico;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.excepciones.ModificacionConcurrenteException;
+import ar.unrn.secuencias.primitivos.ArregloInt;
+import ar.unrn.secuencias.validadores.ValidadorUnicidad;
+import ar.unrn.secuencias.vistas.VistaSecuencia;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("Secuencia invertible por sentido lógico")
+class SecuenciaInvertibleTest {
+
+    @Test
+    @DisplayName("Invertir no mueve los elementos hasta materializar")
+    void testInvertirYMaterializar() {
+        ArregloBase<Integer> arreglo = new ArregloBase<>(new Integer[]{1, 2, 3, 4});
+        SecuenciaInvertible<Integer> secuencia = new SecuenciaInvertible<>(arreglo);
+        secuencia.invertir();
+        Assertions.assertEquals("SecuenciaInvertible={4,3,2,1}:4", secuencia.toString());
+        Assertions.assertEquals("ArregloBase={1,2,3,4}:4", arreglo.toString());
+        secuencia.modificar(0, 40);
+        Assertions.assertEquals(40, arreglo.obtener(3));
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> secuencia.obtener(4));
+        secuencia.materializar();
+        Assertions.assertFalse(secuencia.estaInvertida());
+        Assertions.assertEquals("ArregloBase={40,3,2,1}:4", arreglo.toString());
+        secuencia.invertir();
+        secuencia.invertir();
+        Assertions.assertEquals("SecuenciaInvertible={40,3,2,1}:4", secuencia.toString());
+    }
+
+    @Test
+    @DisplayName("Materializar no repite valores a mitad de camino")
+    void testMaterializarSobreUnicos() {
+        ArregloDinamico<Integer> arreglo = new ArregloDinamico<>(new Integer[]{1, 2, 3});
+        SecuenciaInvertible<Integer> secuencia = new SecuenciaInvertible<>(
+                new SecuenciaValidada<>(arreglo, new ValidadorUnicidad<>()));
+        secuencia.invertir();
+        secuencia.agregar(4);
+        Assertions.assertFalse(secuencia.estaInvertida());
+        Assertions.assertEquals("ArregloDinamico={3,2,1,4}:4", arreglo.toString());
+    }
+
+    @Test
+    @DisplayName("Las operaciones por rango y la iteración respetan el sentido")
+    void testRangosEIteracion() {
+        ArregloDinamico<String> arreglo =
+                new ArregloDinamico<>(new String[]{"a", "b", "c", "d", "e"});
+        SecuenciaInvertible<String> secuencia = new SecuenciaInvertible<>(arreglo);
+        secuencia.invertir();
+        secuencia.modificarRango(0, new String[]{"x", "y"});
+        Assertions.assertEquals("ArregloDinamico={a,b,c,y,x}:5", arreglo.toString());
+        secuencia.rellenar(3, 5, "z");
+        Assertions.assertEquals("ArregloDinamico={z,z,c,y,x}:5", arreglo.toString());
+        secuencia.copiarDesde(secuencia, 0, 1, 3);
+        Assertions.assertEquals("SecuenciaInvertible={x,x,y,c,z}:5",
+                secuencia.toString());
+        List<String> recorridos = new ArrayList<>();
+        for (String valor : secuencia) {
+            recorridos.add(valor);
+        }
+        Assertions.assertEquals(List.of("x", "x", "y", "c", "z"), recorridos);
+        Assertions.assertEquals("z", secuencia.remover(4));
+        secuencia.agregar("w");
+        Assertions.assertFalse(secuencia.estaInvertida());
+        Assertions.assertEquals("ArregloDinamico={x,x,y,c,w}:5", arreglo.toString());
+    }
+
+    @Test
+    @DisplayName("Las búsquedas intercambian primera y última aparición")
+    void testBusquedas() {
+        SecuenciaInvertible<Integer> secuencia =
+                new SecuenciaInvertible<>(ArregloInt.de(7, 1, 7, 2));
+        SecuenciaInvertible<Integer> lineal = new SecuenciaInvertible<>(
+                new ArregloBase<>(new Integer[]{7, 1, 7, 2}));
+        for (SecuenciaInvertible<Integer> s : List.of(secuencia, lineal)) {
+            s.invertir();
+            Assertions.assertEquals(1, s.indiceDe(7));
+            Assertions.assertEquals(3, s.ultimoIndiceDe(7));
+            Assertions.assertEquals(0, s.indiceDe(2));
+            Assertions.assertEquals(-1, s.indiceDe(5));
+            Assertions.assertFalse(s.contiene(5));
+        }
+    }
+
+    @Test
+    @DisplayName("Las sub-secuencias usan posiciones lógicas")
+    void testSubSecuencia() {
+        SecuenciaInvertible<Integer> secuencia = new SecuenciaInvertible<>(
+                new ArregloBase<>(new Integer[]{1, 2, 3, 4, 5}));
+        secuencia.invertir();
+        VistaSecuencia<Integer> vista = secuencia.subSecuencia(1, 3);
+        Assertions.assertEquals("VistaSecuencia={4,3}:2", vista.toString());
+        secuencia.invertir();
+        Assertions.assertThrows(ModificacionConcurrenteException.class,
+                () -> vista.obtener(0));
+    }
+}
@@ -0,0 +1,51 @@
+package ar.unrn.secuencias.dispensables;
+
+import ar.unrn.secuencias.excepciones.CapacidadExcedidaException;
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.excepciones.EstructuraVaciaException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Colas sobre búfer circular")
+class ColaCircularTest {
+
+    @Test
+    @DisplayName("Respeta el orden FIFO al dar la vuelta y al crecer")
+    void testOrdenYCrecimiento() {
+        ColaCircular<Integer> cola = new ColaCircular<>(3, true);
+        Assertions.assertEquals(4, cola.capacidad());
+        for (int i = 0; i < 3; i++) {
+            cola.agregar(i);
+        }
+        Assertions.assertEquals(0, cola.remover());
+        Assertions.assertEquals(1, cola.remover());
+        for (int i = 3; i < 8; i++) {
+            cola.agregar(i);
+        }
+        Assertions.assertEquals(8, cola.capacidad());
+        Assertions.assertEquals("ColaCircular={2,3,4,5,6,7}:6", cola.toString());
+        for (int i = 2; i < 8; i++) {
+            Assertions.assertEquals(i, cola.proximo());
+            Assertions.assertEquals(i, cola.remover());
+        }
+        Assertions.assertTrue(cola.estaVacia());
+    }
+
+    @Test
+    @DisplayName("Vacía, llena o con nulos, lanza las excepciones documentadas")
+    void testExcepciones() {
+        ColaCircular<String> cola = new ColaCircular<>(2, false);
+        Assertions.assertThrows(EstructuraVaciaException.class, cola::remover);
+        Assertions.assertThrows(EstructuraVaciaException.class, cola::proximo);
+        Assertions.assertThrows(ElementoNuloException.class, () -> cola.agregar(null));
+        cola.agregar("a");
+        cola.agregar("b");
+        Assertions.assertThrows(CapacidadExcedidaException.class,
+                () -> cola.agregar("c"));
+        Assertions.assertEquals(2, cola.largo());
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> new ColaCircular<>(0, true));
+    }
+}
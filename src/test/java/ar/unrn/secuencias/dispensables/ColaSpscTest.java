@@ -0,0 +1,83 @@
+package ar.unrn.secuencias.dispensables;
+
+import ar.unrn.secuencias.excepciones.CapacidadExcedidaException;
+import ar.unrn.secuencias.excepciones.EstructuraVaciaException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+@DisplayName("Cola de un productor y un consumidor")
+class ColaSpscTest {
+
+    @Test
+    @DisplayName("La cola SPSC se comporta como una cola de capacidad fija")
+    void testSpscSecuencial() {
+        ColaSpsc<Integer> cola = new ColaSpsc<>(3);
+        Assertions.assertEquals(4, cola.capacidad());
+        Assertions.assertNull(cola.sondear());
+        Assertions.assertThrows(EstructuraVaciaException.class, cola::remover);
+        Assertions.assertThrows(EstructuraVaciaException.class, cola::proximo);
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertTrue(cola.ofrecer(i));
+        }
+        Assertions.assertFalse(cola.ofrecer(4));
+        Assertions.assertThrows(CapacidadExcedidaException.class, () -> cola.agregar(4));
+        Assertions.assertEquals(0, cola.proximo());
+        Assertions.assertEquals(0, cola.remover());
+        cola.agregar(4);
+        Assertions.assertEquals(4, cola.largo());
+        for (int i = 1; i < 5; i++) {
+            Assertions.assertEquals(i, cola.remover());
+        }
+        Assertions.assertTrue(cola.estaVacia());
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("Un productor y un consumidor concurrentes no pierden ni reordenan")
+    void testSpscConcurrente() throws Exception {
+        int total = 2_000_000;
+        ColaSpsc<Integer> cola = new ColaSpsc<>(1024);
+        AtomicReference<Throwable> falla = new AtomicReference<>();
+        Thread productor = new Thread(() -> {
+            for (int i = 0; i < total; i++) {
+                while (!cola.ofrecer(i)) {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+        Thread consumidor = new Thread(() -> {
+            try {
+                for (int i = 0; i < total; i++) {
+                    Integer valor = cola.sondear();
+                    while (valor == null) {
+                        Thread.onSpinWait();
+                        valor = cola.sondear();
+                    }
+                    Assertions.assertEquals(i, valor);
+                }
+            } catch (Throwable e) {
+                falla.set(e);
+            }
+        });
+        productor.start();
+        consumidor.start();
+        productor.join();
+        consumidor.join();
+        Assertions.assertNull(falla.get());
+        Assertions.assertTrue(cola.estaVacia());
+    }
+
+    @Test
+    @DisplayName("Rechaza capacidades fuera de rango")
+    void testCapacidadInvalida() {
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> new ColaSpsc<Integer>(0));
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> new ColaSpsc<Integer>(ColaCircular.CAPACIDAD_MAXIMA + 1));
+    }
+}
@@ -0,0 +1,86 @@
+package ar.unrn.secuencias.dispensables;
+
+import ar.unrn.secuencias.excepciones.ComparadorNuloException;
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.excepciones.EstructuraVaciaException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+@DisplayName("Montículo de prioridad")
+class MonticuloDispensableTest {
+
+    private static final long SEMILLA = 42;
+
+    @Test
+    @DisplayName("Remueve en orden de prioridad con distintas aridades")
+    void testOrdenDePrioridad() {
+        Random azar = new Random(SEMILLA);
+        Integer[] valores = new Integer[5000];
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] = azar.nextInt(1000);
+        }
+        Integer[] ordenados = valores.clone();
+        Arrays.sort(ordenados);
+        for (int aridad = 2; aridad <= 8; aridad++) {
+            MonticuloDispensable<Integer> monticulo =
+                    new MonticuloDispensable<>(aridad, Comparator.naturalOrder());
+            for (Integer valor : valores) {
+                monticulo.agregar(valor);
+            }
+            Assertions.assertEquals(valores.length, monticulo.largo());
+            for (Integer esperado : ordenados) {
+                Assertions.assertEquals(esperado, monticulo.proximo());
+                Assertions.assertEquals(esperado, monticulo.remover());
+            }
+            Assertions.assertTrue(monticulo.estaVacia());
+        }
+    }
+
+    @Test
+    @DisplayName("Construido desde una colección y drenado por lotes")
+    void testConstruccionYDrenado() {
+        List<String> palabras = List.of("pera", "uva", "kiwi", "banana", "higo", "lima");
+        Comparator<String> criterio = Comparator.comparing(String::length);
+        MonticuloDispensable<String> monticulo = new MonticuloDispensable<>(palabras, 3,
+                criterio.thenComparing(Comparator.reverseOrder()));
+        List<String> drenadas = new ArrayList<>();
+        Assertions.assertEquals(4, monticulo.drenar(4, drenadas::add));
+        Assertions.assertEquals(List.of("uva", "pera", "lima", "kiwi"), drenadas);
+        Assertions.assertEquals(2, monticulo.drenar(10, drenadas::add));
+        Assertions.assertEquals("banana", drenadas.get(5));
+        Assertions.assertEquals(0, monticulo.drenar(3, drenadas::add));
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> monticulo.drenar(-1, drenadas::add));
+    }
+
+    @Test
+    @DisplayName("Lanza las excepciones documentadas")
+    void testExcepciones() {
+        MonticuloDispensable<Integer> monticulo =
+                new MonticuloDispensable<>(Comparator.reverseOrder());
+        Assertions.assertThrows(EstructuraVaciaException.class, monticulo::remover);
+        Assertions.assertThrows(EstructuraVaciaException.class, monticulo::proximo);
+        Assertions.assertThrows(ElementoNuloException.class,
+                () -> monticulo.agregar(null));
+        Assertions.assertThrows(ComparadorNuloException.class,
+                () -> new MonticuloDispensable<Integer>(null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new MonticuloDispensable<Integer>(1, Comparator.naturalOrder()));
+        Assertions.assertThrows(ElementoNuloException.class,
+                () -> new MonticuloDispensable<>(Arrays.asList(1, null),
+                        Comparator.<Integer>naturalOrder()));
+        monticulo.agregar(1);
+        monticulo.agregar(3);
+        monticulo.agregar(2);
+        Assertions.assertEquals(3, monticulo.remover());
+        Assertions.assertEquals(2, monticulo.largo());
+    }
+}
@@ -0,0 +1,220 @@
+package ar.unrn.secuencias.estrategias;
+
+import ar.unrn.secuencias.ArregloOrdenable;
+import ar.unrn.secuencias.primitivos.ArregloDouble;
+import ar.unrn.secuencias.primitivos.ArregloInt;
+import ar.unrn.secuencias.primitivos.ArregloLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+@DisplayName("Estrategias de ordenamiento primitivas y selección adaptativa")
+class OrdenadorAdaptativoTest {
+
+    /**
+     * Par clave-posición para verificar la estabilidad.
+     */
+    private record Par(int clave, int posicion) implements Comparable<Par> {
+        @Override
+        public int compareTo(Par otro) {
+            return Integer.compare(clave, otro.clave);
+        }
+    }
+
+    private static <T extends Comparable<T>> List<Ordenador<T>> estrategias() {
+        return List.of(new OrdenadorRadix<>(), new OrdenadorDoblePivote<>(),
+                new OrdenadorRachas<>(), new OrdenadorAdaptativo<>());
+    }
+
+    private static <T extends Comparable<T>> void verificar(
+            T[] valores, Comparator<? super T> criterio) {
+        for (Ordenador<T> estrategia : OrdenadorAdaptativoTest.<T>estrategias()) {
+            ArregloOrdenable<T> arreglo = new ArregloOrdenable<>(valores);
+            arreglo.cambiarEstrategia(estrategia);
+            T[] esperado = valores.clone();
+            if (criterio == null) {
+                arreglo.ordenar();
+                Arrays.sort(esperado);
+            } else {
+                arreglo.ordenar(criterio);
+                Arrays.sort(esperado, criterio);
+            }
+            for (int i = 0; i < esperado.length; i++) {
+                Assertions.assertEquals(esperado[i], arreglo.obtener(i),
+                        estrategia.getClass().getSimpleName() + " en " + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Todas las estrategias coinciden con Arrays.sort en enteros")
+    void testEnterosEncapsulados() {
+        Random aleatorio = new Random(11);
+        Integer[] valores = new Integer[5000];
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] = aleatorio.nextInt();
+        }
+        valores[0] = Integer.MIN_VALUE;
+        valores[1] = Integer.MAX_VALUE;
+        verificar(valores, null);
+        verificar(valores, Comparator.reverseOrder());
+    }
+
+    @Test
+    @DisplayName("Todas las estrategias coinciden con Arrays.sort en largos y dobles")
+    void testLargosYDobles() {
+        Random aleatorio = new Random(5);
+        Long[] largos = new Long[3000];
+        Double[] dobles = new Double[3000];
+        for (int i = 0; i < largos.length; i++) {
+            largos[i] = aleatorio.nextLong() >> aleatorio.nextInt(64);
+            dobles[i] = aleatorio.nextGaussian() * 1e6;
+        }
+        dobles[0] = -0.0;
+        dobles[1] = 0.0;
+        dobles[2] = Double.NaN;
+        dobles[3] = Double.NEGATIVE_INFINITY;
+        dobles[4] = Double.MIN_VALUE;
+        verificar(largos, null);
+        verificar(dobles, null);
+    }
+
+    @Test
+    @DisplayName("Todas las estrategias son estables con objetos arbitrarios")
+    void testEstables() {
+        Random aleatorio = new Random(3);
+        Par[] pares = new Par[4000];
+        for (int i = 0; i < pares.length; i++) {
+            pares[i] = new Par(aleatorio.nextInt(20), i);
+        }
+        for (Ordenador<Par> estrategia : OrdenadorAdaptativoTest.<Par>estrategias()) {
+            ArregloOrdenable<Par> arreglo = new ArregloOrdenable<>(pares);
+            arreglo.cambiarEstrategia(estrategia);
+            arreglo.ordenar(Comparator.reverseOrder());
+            for (int i = 1; i < pares.length; i++) {
+                Par anterior = arreglo.obtener(i - 1);
+                Par actual = arreglo.obtener(i);
+                Assertions.assertTrue(anterior.clave() > actual.clave()
+                        || anterior.clave() == actual.clave()
+                        && anterior.posicion() < actual.posicion());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Todas las estrategias conservan las instancias encapsuladas")
+    void testIdentidad() {
+        Integer[] enteros = new Integer[3000];
+        Double[] dobles = new Double[enteros.length];
+        for (int i = 0; i < enteros.length; i++) {
+            enteros[i] = Integer.valueOf(1000 + (i * 7) % 50);
+            dobles[i] = Double.valueOf((i * 3) % 20 - 10);
+        }
+        verificarInstancias(enteros);
+        verificarInstancias(dobles);
+    }
+
+    /**
+     * Verifica que cada estrategia deje las mismas instancias que un
+     * ordenamiento estable.
+     *
+     * @param valores los valores a ordenar, con repetidos en instancias
+     *                distintas.
+     * @param <T>     el tipo de los valores.
+     */
+    private static <T extends Comparable<T>> void verificarInstancias(T[] valores) {
+        T[] esperado = valores.clone();
+        Arrays.sort(esperado);
+        for (Ordenador<T> estrategia : OrdenadorAdaptativoTest.<T>estrategias()) {
+            ArregloOrdenable<T> arreglo = new ArregloOrdenable<>(valores);
+            arreglo.cambiarEstrategia(estrategia);
+            arreglo.ordenar();
+            for (int i = 0; i < esperado.length; i++) {
+                Assertions.assertSame(esperado[i], arreglo.obtener(i),
+                        estrategia.getClass().getSimpleName() + " en " + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Las rachas ordenadas, invertidas y repetidas se resuelven bien")
+    void testEntradasEstructuradas() {
+        Integer[] ascendente = new Integer[2000];
+        Integer[] descendente = new Integer[2000];
+        Integer[] repetidos = new Integer[2000];
+        for (int i = 0; i < ascendente.length; i++) {
+            ascendente[i] = i;
+            descendente[i] = -i;
+            repetidos[i] = i % 3;
+        }
+        verificar(ascendente, null);
+        verificar(descendente, null);
+        verificar(repetidos, null);
+        verificar(new Integer[0], null);
+        verificar(new Integer[] {4}, null);
+    }
+
+    @Test
+    @DisplayName("Las secuencias primitivas se ordenan sin cambiar el resultado")
+    void testPrimitivos() {
+        Random aleatorio = new Random(17);
+        int[] enteros = aleatorio.ints(1000).toArray();
+        long[] largos = aleatorio.longs(100).toArray();
+        double[] dobles = aleatorio.doubles(1000).map(d -> d - 0.5).toArray();
+        dobles[0] = Double.NaN;
+        dobles[1] = -0.0;
+        dobles[2] = 0.0;
+        List<Ordenador<Integer>> estrategiasInteger = estrategias();
+        for (Ordenador<Integer> estrategia : estrategiasInteger) {
+            ArregloInt arreglo = ArregloInt.de(enteros);
+            estrategia.ordenar(arreglo);
+            int[] esperado = enteros.clone();
+            Arrays.sort(esperado);
+            Assertions.assertArrayEquals(esperado, arreglo.comoArreglo());
+        }
+        List<Ordenador<Long>> estrategiasLong = estrategias();
+        for (Ordenador<Long> estrategia : estrategiasLong) {
+            ArregloLong arreglo = ArregloLong.de(largos);
+            estrategia.ordenar(arreglo);
+            long[] esperado = largos.clone();
+            Arrays.sort(esperado);
+            Assertions.assertArrayEquals(esperado, arreglo.comoArreglo());
+        }
+        List<Ordenador<Double>> estrategiasDouble = estrategias();
+        for (Ordenador<Double> estrategia : estrategiasDouble) {
+            ArregloDouble arreglo = ArregloDouble.de(dobles);
+            estrategia.ordenar(arreglo);
+            double[] esperado = dobles.clone();
+            Arrays.sort(esperado);
+            Assertions.assertArrayEquals(esperado, arreglo.comoArreglo());
+        }
+    }
+
+    @Test
+    @DisplayName("La selección adaptativa depende del tipo, el tamaño y el orden previo")
+    void testEleccion() {
+        OrdenadorAdaptativo<Integer> adaptativo = new OrdenadorAdaptativo<>();
+        Assertions.assertNull(adaptativo.ultimaEleccion());
+
+        adaptativo.ordenar(ArregloInt.de(new int[OrdenadorAdaptativo.MINIMO_RADIX]));
+        Assertions.assertInstanceOf(OrdenadorRadix.class, adaptativo.ultimaEleccion());
+        adaptativo.ordenar(ArregloInt.de(3, 1, 2));
+        Assertions.assertInstanceOf(OrdenadorDoblePivote.class,
+                adaptativo.ultimaEleccion());
+
+        Random aleatorio = new Random(1);
+        Integer[] valores = new Integer[1000];
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] = aleatorio.nextInt();
+        }
+        adaptativo.ordenar(new ArregloOrdenable<>(valores));
+        Assertions.assertInstanceOf(OrdenadorRadix.class, adaptativo.ultimaEleccion());
+        adaptativo.ordenar(new ArregloOrdenable<>(valores), Comparator.reverseOrder());
+        Assertions.assertInstanceOf(OrdenadorRachas.class, adaptativo.ultimaEleccion());
+    }
+}
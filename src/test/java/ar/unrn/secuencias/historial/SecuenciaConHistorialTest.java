@@ -0,0 +1,194 @@
+package ar.unrn.secuencias.historial;
+
+import ar.unrn.secuencias.ArregloBase;
+import ar.unrn.secuencias.ArregloDinamico;
+import ar.unrn.secuencias.decoradores.SecuenciaValidada;
+import ar.unrn.secuencias.excepciones.EstructuraVaciaException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.nativos.ArregloNativo;
+import ar.unrn.secuencias.nativos.Codificadores;
+import ar.unrn.secuencias.validadores.ValidadorUnicidad;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+@DisplayName("Secuencia con historial de deltas e instantáneas")
+class SecuenciaConHistorialTest {
+
+    /**
+     * Copia el contenido de la secuencia.
+     *
+     * @param secuencia la secuencia a copiar.
+     * @return sus elementos, en orden.
+     */
+    private static List<Integer> contenido(SecuenciaConHistorial<Integer> secuencia) {
+        List<Integer> copia = new ArrayList<>();
+        for (int i = 0; i < secuencia.largo(); i++) {
+            copia.add(secuencia.obtener(i));
+        }
+        return copia;
+    }
+
+    @Test
+    @DisplayName("Deshace y rehace cada tipo de operación")
+    void testDeshacerYRehacer() {
+        SecuenciaConHistorial<Integer> secuencia =
+                new SecuenciaConHistorial<>(new ArregloDinamico<>(), 0.5, 1000);
+        secuencia.agregarTodos(List.of(1, 2, 3, 4));
+        secuencia.modificar(0, 10);
+        secuencia.remover(1);
+        secuencia.rellenar(1, 3, 0);
+        secuencia.agregar(5);
+        Assertions.assertEquals(List.of(10, 0, 0, 5), contenido(secuencia));
+        Assertions.assertEquals(5, secuencia.revision());
+        secuencia.deshacer();
+        Assertions.assertEquals(List.of(10, 0, 0), contenido(secuencia));
+        secuencia.deshacer();
+        Assertions.assertEquals(List.of(10, 3, 4), contenido(secuencia));
+        secuencia.deshacer();
+        Assertions.assertEquals(List.of(10, 2, 3, 4), contenido(secuencia));
+        secuencia.irA(0);
+        Assertions.assertEquals(List.of(), contenido(secuencia));
+        Assertions.assertThrows(EstructuraVaciaException.class, secuencia::deshacer);
+        secuencia.rehacer();
+        Assertions.assertEquals(List.of(1, 2, 3, 4), contenido(secuencia));
+        secuencia.irA(5);
+        Assertions.assertEquals(List.of(10, 0, 0, 5), contenido(secuencia));
+        Assertions.assertFalse(secuencia.puedeRehacer());
+    }
+
+    @Test
+    @DisplayName("Vuelve a cualquier revisión tras operaciones al azar")
+    void testRevisionesAlAzar() {
+        SecuenciaConHistorial<Integer> secuencia =
+                new SecuenciaConHistorial<>(new ArregloDinamico<>(), 0.25, 1 << 20);
+        List<List<Integer>> esperados = new ArrayList<>();
+        esperados.add(contenido(secuencia));
+        Random azar = new Random(20);
+        for (int paso = 0; paso < 500; paso++) {
+            int largo = secuencia.largo();
+            int operacion = azar.nextInt(4);
+            if (largo == 0 || operacion == 0) {
+                secuencia.agregar(paso);
+            } else if (operacion == 1) {
+                secuencia.remover(azar.nextInt(largo));
+            } else if (operacion == 2) {
+                secuencia.modificar(azar.nextInt(largo), -paso);
+            } else {
+                int desde = azar.nextInt(largo);
+                secuencia.rellenar(desde, largo, paso);
+            }
+            esperados.add(contenido(secuencia));
+        }
+        for (int i = 0; i < 200; i++) {
+            int revision = azar.nextInt(esperados.size());
+            secuencia.irA(revision);
+            Assertions.assertEquals(esperados.get(revision), contenido(secuencia));
+        }
+    }
+
+    @Test
+    @DisplayName("Los mementos se invalidan al descartar sus revisiones")
+    void testMementos() {
+        SecuenciaConHistorial<Integer> secuencia =
+                new SecuenciaConHistorial<>(new ArregloBase<>(new Integer[]{0, 0, 0}));
+        SecuenciaConHistorial.Memento inicial = secuencia.guardar();
+        secuencia.modificar(0, 1);
+        secuencia.modificar(1, 2);
+        SecuenciaConHistorial.Memento intermedio = secuencia.guardar();
+        secuencia.restaurar(inicial);
+        Assertions.assertEquals(List.of(0, 0, 0), contenido(secuencia));
+        secuencia.restaurar(intermedio);
+        Assertions.assertEquals(List.of(1, 2, 0), contenido(secuencia));
+        secuencia.deshacer();
+        secuencia.modificar(2, 3);
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> secuencia.restaurar(intermedio));
+        secuencia.restaurar(inicial);
+        Assertions.assertEquals(List.of(0, 0, 0), contenido(secuencia));
+        SecuenciaConHistorial<Integer> otra =
+                new SecuenciaConHistorial<>(new ArregloDinamico<>());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> otra.restaurar(inicial));
+    }
+
+    @Test
+    @DisplayName("El límite de memoria descarta las revisiones más antiguas")
+    void testLimite() {
+        SecuenciaConHistorial<Integer> secuencia =
+                new SecuenciaConHistorial<>(new ArregloDinamico<>(), 1.0, 200);
+        for (int i = 0; i < 1000; i++) {
+            secuencia.agregar(i % 7);
+            secuencia.modificar(secuencia.largo() / 2, i);
+            if (secuencia.largo() > 20) {
+                secuencia.remover(0);
+            }
+        }
+        Assertions.assertTrue(secuencia.ocupacion() <= 200);
+        Assertions.assertTrue(secuencia.revisionMinima() > 0);
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> secuencia.irA(0));
+        int minima = secuencia.revisionMinima();
+        List<Integer> actual = contenido(secuencia);
+        secuencia.irA(minima);
+        secuencia.irA(secuencia.revisionMaxima());
+        Assertions.assertEquals(actual, contenido(secuencia));
+    }
+
+    @Test
+    @DisplayName("Las ediciones chicas no ocupan más memoria en secuencias largas")
+    void testOcupacionIndependienteDelLargo() {
+        int ediciones = 400;
+        for (int largo : new int[] {1000, 200_000}) {
+            SecuenciaConHistorial<Integer> secuencia = new SecuenciaConHistorial<>(
+                    new ArregloDinamico<>(new Integer[largo]), 1.0, Integer.MAX_VALUE);
+            int inicial = secuencia.ocupacion();
+            Assertions.assertEquals(largo + 1, inicial);
+            for (int i = 0; i < ediciones; i++) {
+                secuencia.modificar(i * 2, i);
+            }
+            Assertions.assertEquals(ediciones * 2, secuencia.ocupacion() - inicial);
+            secuencia.irA(0);
+            Assertions.assertNull(secuencia.obtener(0));
+            secuencia.irA(ediciones);
+            Assertions.assertEquals(ediciones - 1,
+                    secuencia.obtener((ediciones - 1) * 2));
+        }
+    }
+
+    /**
+     * Remueve, deshace y vuelve a una instantánea más larga que el contenido.
+     *
+     * @param secuencia una secuencia vacía, con una instantánea por revisión.
+     */
+    private static void removerYVolver(SecuenciaConHistorial<Integer> secuencia) {
+        List<Integer> valores = List.of(1, 2, 3, 4, 5, 6, 7, 8);
+        secuencia.agregarTodos(valores);
+        secuencia.remover(2);
+        secuencia.deshacer();
+        Assertions.assertEquals(valores, contenido(secuencia));
+        for (int i = 0; i < 5; i++) {
+            secuencia.remover(0);
+        }
+        Assertions.assertEquals(List.of(6, 7, 8), contenido(secuencia));
+        secuencia.irA(1);
+        Assertions.assertEquals(valores, contenido(secuencia));
+        secuencia.irA(secuencia.revisionMaxima());
+        Assertions.assertEquals(List.of(6, 7, 8), contenido(secuencia));
+    }
+
+    @Test
+    @DisplayName("Deshace sin escribir nulos de relleno ni repetir valores")
+    void testSinRelleno() {
+        try (ArregloNativo<Integer> nativo =
+                     new ArregloNativo<>(Codificadores.ENTERO, 16)) {
+            removerYVolver(new SecuenciaConHistorial<>(nativo, 0.01, 1000));
+        }
+        removerYVolver(new SecuenciaConHistorial<>(new SecuenciaValidada<>(
+                new ArregloDinamico<>(), new ValidadorUnicidad<>()), 0.01, 1000));
+    }
+}
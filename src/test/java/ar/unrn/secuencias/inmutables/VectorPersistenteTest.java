@@ -0,0 +1,114 @@
+package ar.unrn.secuencias.inmutables;
+
+import ar.unrn.secuencias.excepciones.EstructuraVaciaException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.excepciones.SecuenciaCerradaException;
+import ar.unrn.secuencias.excepciones.SecuenciaNoModificableException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("Vector persistente")
+class VectorPersistenteTest {
+
+    /**
+     * Cantidad suficiente para que el árbol tenga tres niveles.
+     */
+    private static final int GRANDE = 40_000;
+
+    @Test
+    @DisplayName("Agregar y modificar no cambian las versiones anteriores")
+    void testVersionesAnteriores() {
+        VectorPersistente<String> vacio = VectorPersistente.vacio();
+        VectorPersistente<String> uno = vacio.agregado("a");
+        VectorPersistente<String> dos = uno.agregado("b");
+        VectorPersistente<String> cambiado = dos.con(0, "c");
+        Assertions.assertEquals("VectorPersistente={}:0", vacio.toString());
+        Assertions.assertEquals("VectorPersistente={a}:1", uno.toString());
+        Assertions.assertEquals("VectorPersistente={a,b}:2", dos.toString());
+        Assertions.assertEquals("VectorPersistente={c,b}:2", cambiado.toString());
+        Assertions.assertEquals("VectorPersistente={c}:1",
+                cambiado.sinUltimo().toString());
+    }
+
+    @Test
+    @DisplayName("Crece y decrece a través de varios niveles del árbol")
+    void testVariosNiveles() {
+        List<VectorPersistente<Integer>> versiones = new ArrayList<>();
+        VectorPersistente<Integer> vector = VectorPersistente.vacio();
+        for (int i = 0; i < GRANDE; i++) {
+            versiones.add(vector);
+            vector = vector.agregado(i);
+        }
+        Assertions.assertEquals(GRANDE, vector.largo());
+        for (int i = 0; i < GRANDE; i++) {
+            Assertions.assertEquals(i, vector.obtener(i));
+        }
+        VectorPersistente<Integer> cambiado = vector;
+        for (int i = 0; i < GRANDE; i = i + 97) {
+            cambiado = cambiado.con(i, -i);
+        }
+        for (int i = 0; i < GRANDE; i++) {
+            Assertions.assertEquals(i % 97 == 0 ? -i : i, cambiado.obtener(i));
+            Assertions.assertEquals(i, vector.obtener(i));
+        }
+        for (int i = GRANDE; i > 0; i--) {
+            Assertions.assertEquals(i, vector.largo());
+            Assertions.assertEquals(i - 1, vector.obtener(i - 1));
+            vector = vector.sinUltimo();
+        }
+        Assertions.assertThrows(EstructuraVaciaException.class, vector::sinUltimo);
+        for (int i = 0; i < GRANDE; i = i + 1009) {
+            Assertions.assertEquals(i, versiones.get(i).largo());
+        }
+        int recorridos = 0;
+        for (Integer elemento : versiones.get(GRANDE - 1)) {
+            Assertions.assertEquals(recorridos, elemento);
+            recorridos++;
+        }
+        Assertions.assertEquals(GRANDE - 1, recorridos);
+    }
+
+    @Test
+    @DisplayName("El transitorio construye en lote sin afectar al origen")
+    void testTransitorio() {
+        VectorPersistente<Integer> origen = VectorPersistente.de(1, 2, 3);
+        VectorPersistente.Transitorio<Integer> transitorio = origen.transitorio();
+        for (int i = 0; i < GRANDE; i++) {
+            transitorio.agregar(i);
+        }
+        transitorio.modificar(0, 7);
+        transitorio.modificar(GRANDE / 2, -1);
+        Assertions.assertEquals(2, transitorio.remover(1));
+        for (int i = 0; i < GRANDE - 100; i++) {
+            transitorio.remover(transitorio.largo() - 1);
+        }
+        VectorPersistente<Integer> resultado = transitorio.persistente();
+        Assertions.assertEquals("VectorPersistente={1,2,3}:3", origen.toString());
+        Assertions.assertEquals(102, resultado.largo());
+        Assertions.assertEquals(7, resultado.obtener(0));
+        Assertions.assertEquals(3, resultado.obtener(1));
+        Assertions.assertEquals(99, resultado.obtener(101));
+        Assertions.assertThrows(SecuenciaCerradaException.class,
+                () -> transitorio.agregar(1));
+        Assertions.assertEquals(103, resultado.agregado(0).largo());
+    }
+
+    @Test
+    @DisplayName("Las operaciones que modifican en el lugar fallan")
+    void testInmutable() {
+        VectorPersistente<String> vector = VectorPersistente.desde(List.of("a", "b"));
+        Assertions.assertThrows(SecuenciaNoModificableException.class,
+                () -> vector.modificar(0, "c"));
+        Assertions.assertThrows(SecuenciaNoModificableException.class,
+                () -> vector.rellenar(0, 2, "c"));
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> vector.con(2, "c"));
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> vector.obtener(-1));
+        Assertions.assertEquals("VectorPersistente={a,b}:2", vector.toString());
+    }
+}
@@ -0,0 +1,131 @@
+package ar.unrn.secuencias.interfaces;
+
+import ar.unrn.secuencias.ArregloBase;
+import ar.unrn.secuencias.ArregloDinamico;
+import ar.unrn.secuencias.ListaDesenrollada;
+import ar.unrn.secuencias.decoradores.SecuenciaSoloLectura;
+import ar.unrn.secuencias.primitivos.ArregloDouble;
+import ar.unrn.secuencias.primitivos.ArregloInt;
+import ar.unrn.secuencias.primitivos.ArregloLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+@DisplayName("Spliterator y flujos por índice")
+class SpliteratorIndexableTest {
+
+    /**
+     * Crea un arreglo con los valores de 0 a {@code largo - 1}.
+     *
+     * @param largo la cantidad de valores.
+     * @return el arreglo.
+     */
+    private static ArregloBase<Integer> consecutivos(int largo) {
+        ArregloBase<Integer> arreglo = new ArregloBase<>(largo);
+        for (int i = 0; i < largo; i++) {
+            arreglo.modificar(i, i);
+        }
+        return arreglo;
+    }
+
+    @Test
+    @DisplayName("Se divide en mitades de tamaño exacto")
+    void testDivision() {
+        Spliterator<Integer> completo = new SpliteratorIndexable<>(consecutivos(11));
+        Assertions.assertTrue(completo.hasCharacteristics(
+                Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Spliterator<Integer> prefijo = completo.trySplit();
+        Assertions.assertEquals(5, prefijo.estimateSize());
+        Assertions.assertEquals(6, completo.estimateSize());
+        Assertions.assertTrue(prefijo.tryAdvance(
+                valor -> Assertions.assertEquals(0, valor)));
+        Assertions.assertEquals(4, prefijo.getExactSizeIfKnown());
+        StringBuilder resto = new StringBuilder();
+        prefijo.forEachRemaining(resto::append);
+        completo.forEachRemaining(resto::append);
+        Assertions.assertEquals("12345678910", resto.toString());
+        Assertions.assertFalse(completo.tryAdvance(resto::append));
+
+        Spliterator<Integer> uno = new SpliteratorIndexable<>(consecutivos(1));
+        Assertions.assertNull(uno.trySplit());
+    }
+
+    @Test
+    @DisplayName("Los flujos paralelos dan el mismo resultado en el mismo orden")
+    void testFlujos() {
+        ArregloBase<Integer> arreglo = consecutivos(10_000);
+        Assertions.assertEquals(49_995_000L,
+                arreglo.parallelStream().mapToLong(Integer::longValue).sum());
+        List<Integer> secuencial = arreglo.stream().collect(Collectors.toList());
+        Assertions.assertEquals(secuencial,
+                arreglo.parallelStream().collect(Collectors.toList()));
+        Assertions.assertTrue(arreglo.spliterator().hasCharacteristics(
+                Spliterator.SUBSIZED));
+
+        ArregloDinamico<String> textos = new ArregloDinamico<>(
+                new String[]{"a", "b", "c"});
+        Assertions.assertEquals("abc",
+                textos.parallelStream().collect(Collectors.joining()));
+
+        ListaDesenrollada<Integer> lista = new ListaDesenrollada<>();
+        for (int i = 0; i < 5_000; i++) {
+            lista.agregar(i);
+        }
+        Assertions.assertEquals(5_000, lista.spliterator().getExactSizeIfKnown());
+        Assertions.assertEquals(12_497_500L,
+                lista.parallelStream().mapToLong(Integer::longValue).sum());
+    }
+
+    @Test
+    @DisplayName("Las vistas y los decoradores se dividen como su fuente")
+    void testSegunFuente() {
+        ListaDesenrollada<Integer> lista = new ListaDesenrollada<>();
+        for (int i = 0; i < 20_000; i++) {
+            lista.agregar(i);
+        }
+        Indexable<Integer> vista = lista.subSecuencia(100, 19_100);
+        Assertions.assertFalse(lista.admiteDivisionPorIndice());
+        Assertions.assertFalse(vista.admiteDivisionPorIndice());
+        Spliterator<Integer> porLotes = vista.spliteratorPorIndice();
+        Assertions.assertFalse(porLotes instanceof SpliteratorIndexable);
+        Assertions.assertEquals(19_000, porLotes.getExactSizeIfKnown());
+        for (int vuelta = 0; vuelta < 20; vuelta++) {
+            Assertions.assertEquals(182_390_500L,
+                    vista.parallelStream().mapToLong(Integer::longValue).sum());
+        }
+        Assertions.assertEquals(vista.stream().collect(Collectors.toList()),
+                vista.parallelStream().collect(Collectors.toList()));
+
+        Indexable<Integer> decorada = new SecuenciaSoloLectura<>(lista);
+        Assertions.assertFalse(
+                decorada.spliteratorPorIndice() instanceof SpliteratorIndexable);
+        Assertions.assertEquals(199_990_000L,
+                decorada.parallelStream().mapToLong(Integer::longValue).sum());
+
+        ArregloBase<Integer> arreglo = consecutivos(100);
+        Assertions.assertTrue(arreglo.subSecuencia(10, 20).spliteratorPorIndice()
+                instanceof SpliteratorIndexable);
+        Assertions.assertTrue(new SecuenciaSoloLectura<>(arreglo).spliteratorPorIndice()
+                instanceof SpliteratorIndexable);
+    }
+
+    @Test
+    @DisplayName("Las variantes primitivas no encapsulan los valores")
+    void testPrimitivos() {
+        ArregloInt enteros = ArregloInt.de(5, -2, 9, 1);
+        Assertions.assertEquals(13, enteros.parallelStreamInt().sum());
+        Assertions.assertArrayEquals(new int[]{5, -2, 9, 1},
+                enteros.streamInt().toArray());
+        Assertions.assertEquals(13, enteros.stream().mapToInt(Integer::intValue).sum());
+        Spliterator.OfInt porIndice = new SpliteratorIndexable.DeInt(enteros);
+        Assertions.assertTrue(porIndice.hasCharacteristics(Spliterator.NONNULL));
+        Assertions.assertEquals(2, porIndice.trySplit().estimateSize());
+
+        Assertions.assertEquals(6L, ArregloLong.de(1, 2, 3).parallelStreamLong().sum());
+        Assertions.assertEquals(2.5, ArregloDouble.de(1.0, 1.5).streamDouble().sum());
+    }
+}
@@ -0,0 +1,55 @@
+package ar.unrn.secuencias.nativos;
+
+import ar.unrn.secuencias.excepciones.CapacidadExcedidaException;
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.excepciones.SecuenciaCerradaException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Arreglo fuera del heap")
+class ArregloNativoTest {
+
+    @Test
+    @DisplayName("Agrega, modifica y remueve desplazando los siguientes")
+    void testOperaciones() {
+        try (ArregloNativo<Long> arreglo = new ArregloNativo<>(Codificadores.LARGO, 4)) {
+            arreglo.agregar(10L);
+            arreglo.agregar(20L);
+            arreglo.agregar(30L);
+            arreglo.modificar(0, 5L);
+            Assertions.assertEquals(20L, arreglo.remover(1));
+            Assertions.assertEquals(2, arreglo.largo());
+            Assertions.assertEquals("ArregloNativo={5,30}:2", arreglo.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Respeta las excepciones documentadas")
+    void testExcepciones() {
+        try (ArregloNativo<Integer> arreglo =
+                     new ArregloNativo<>(Codificadores.ENTERO, 1)) {
+            Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                    () -> arreglo.obtener(0));
+            Assertions.assertThrows(ElementoNuloException.class,
+                    () -> arreglo.agregar(null));
+            arreglo.agregar(1);
+            Assertions.assertThrows(CapacidadExcedidaException.class,
+                    () -> arreglo.agregar(2));
+            Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                    () -> arreglo.remover(1));
+        }
+    }
+
+    @Test
+    @DisplayName("No puede usarse luego de cerrado")
+    void testCerrado() {
+        ArregloNativo<Double> arreglo = new ArregloNativo<>(Codificadores.DOBLE, 2);
+        arreglo.agregar(1.5);
+        arreglo.close();
+        arreglo.close();
+        Assertions.assertThrows(SecuenciaCerradaException.class,
+                () -> arreglo.obtener(0));
+    }
+}
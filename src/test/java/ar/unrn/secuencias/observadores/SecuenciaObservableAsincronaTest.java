@@ -0,0 +1,210 @@
+package ar.unrn.secuencias.observadores;
+
+import ar.unrn.secuencias.ArregloBase;
+import ar.unrn.secuencias.concurrentes.ArregloConcurrente;
+import ar.unrn.secuencias.excepciones.SecuenciaCerradaException;
+import ar.unrn.secuencias.interfaces.Observable;
+import ar.unrn.secuencias.interfaces.Observador;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("Secuencia observable asincrónica")
+class SecuenciaObservableAsincronaTest {
+
+    private static final int LARGO = 2000;
+
+    @Test
+    @Timeout(30)
+    @DisplayName("Después de flush, la réplica refleja todos los cambios")
+    void testFlushConsistente() throws Exception {
+        ArregloConcurrente<Integer> arreglo = new ArregloConcurrente<>();
+        for (int i = 0; i < LARGO; i++) {
+            arreglo.agregar(0);
+        }
+        ArregloBase<Integer> replica = new ArregloBase<>(LARGO);
+        try (SecuenciaObservableAsincrona<Integer> secuencia =
+                     new SecuenciaObservableAsincrona<>(arreglo, 16,
+                             PoliticaContrapresion.BLOQUEAR)) {
+            secuencia.addObserver(new ObservadorReplicador<>(replica));
+            for (int vuelta = 1; vuelta <= 3; vuelta++) {
+                for (int i = 0; i < LARGO; i++) {
+                    secuencia.modificar(i, i * vuelta);
+                }
+            }
+            secuencia.flush();
+            for (int i = 0; i < LARGO; i++) {
+                Assertions.assertEquals(i * 3, replica.obtener(i));
+            }
+            Assertions.assertEquals(0, secuencia.descartadas());
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("Los rangos contiguos de un lote llegan combinados")
+    void testCoalescenciaPorLote() throws Exception {
+        CountDownLatch bloqueo = new CountDownLatch(1);
+        AtomicInteger rangos = new AtomicInteger();
+        AtomicInteger indices = new AtomicInteger();
+        try (SecuenciaObservableAsincrona<Integer> secuencia =
+                     new SecuenciaObservableAsincrona<>(new ArregloBase<>(LARGO),
+                             2 * LARGO, PoliticaContrapresion.BLOQUEAR)) {
+            secuencia.addObserver(observadorLento(bloqueo, rangos, indices));
+            secuencia.notificarObservadores(LARGO - 1);
+            for (int i = 0; i < LARGO - 1; i++) {
+                secuencia.modificar(i, i);
+            }
+            bloqueo.countDown();
+            secuencia.flush();
+        }
+        Assertions.assertTrue(rangos.get() <= 3, "rangos entregados: " + rangos.get());
+        Assertions.assertEquals(LARGO, indices.get());
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("DESCARTAR pierde notificaciones y las cuenta")
+    void testDescartar() throws Exception {
+        CountDownLatch bloqueo = new CountDownLatch(1);
+        AtomicInteger rangos = new AtomicInteger();
+        AtomicInteger indices = new AtomicInteger();
+        try (SecuenciaObservableAsincrona<Integer> secuencia =
+                     new SecuenciaObservableAsincrona<>(new ArregloBase<>(100), 4,
+                             PoliticaContrapresion.DESCARTAR)) {
+            secuencia.addObserver(observadorLento(bloqueo, rangos, indices));
+            for (int i = 0; i < 100; i++) {
+                secuencia.modificar(i, i);
+            }
+            bloqueo.countDown();
+            secuencia.flush();
+            Assertions.assertTrue(secuencia.descartadas() > 0);
+            Assertions.assertEquals(100, indices.get() + secuencia.descartadas());
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("COALESCER no pierde índices aunque la cola se llene")
+    void testCoalescer() throws Exception {
+        CountDownLatch bloqueo = new CountDownLatch(1);
+        AtomicInteger rangos = new AtomicInteger();
+        AtomicInteger indices = new AtomicInteger();
+        ArregloBase<Integer> replica = new ArregloBase<>(100);
+        try (SecuenciaObservableAsincrona<Integer> secuencia =
+                     new SecuenciaObservableAsincrona<>(new ArregloBase<>(100), 2,
+                             PoliticaContrapresion.COALESCER)) {
+            secuencia.addObserver(observadorLento(bloqueo, rangos, indices));
+            secuencia.addObserver(new ObservadorReplicador<>(replica));
+            for (int i = 99; i >= 0; i--) {
+                secuencia.modificar(i, -i);
+            }
+            bloqueo.countDown();
+            secuencia.flush();
+            Assertions.assertEquals(0, secuencia.descartadas());
+        }
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(-i, replica.obtener(i));
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("flush relanza la falla de un observador y close impide cambios")
+    void testFallaYCierre() throws Exception {
+        SecuenciaObservableAsincrona<Integer> secuencia =
+                new SecuenciaObservableAsincrona<>(new ArregloBase<>(3));
+        secuencia.addObserver(new Observador<>() {
+            @Override
+            public void actualizar(Observable<Integer> observable, int indice) {
+                throw new IllegalStateException("falla " + indice);
+            }
+        });
+        secuencia.modificar(1, 1);
+        IllegalStateException falla =
+                Assertions.assertThrows(IllegalStateException.class, secuencia::flush);
+        Assertions.assertEquals("falla 1", falla.getMessage());
+        secuencia.flush();
+        secuencia.close();
+        secuencia.close();
+        Assertions.assertThrows(SecuenciaCerradaException.class,
+                () -> secuencia.modificar(0, 1));
+        Assertions.assertThrows(SecuenciaCerradaException.class,
+                () -> secuencia.notificarObservadores(0));
+        Assertions.assertThrows(SecuenciaCerradaException.class,
+                () -> secuencia.notificarRango(0, 2));
+        secuencia.flush();
+        Assertions.assertEquals(1, secuencia.obtener(1));
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("Con dos escritores, flush espera la notificación propia")
+    void testFlushConDosEscritores() throws Exception {
+        ArregloConcurrente<Integer> arreglo = new ArregloConcurrente<>();
+        arreglo.agregar(0);
+        arreglo.agregar(0);
+        ArregloConcurrente<Integer> replica = new ArregloConcurrente<>();
+        replica.agregar(0);
+        replica.agregar(0);
+        AtomicInteger errores = new AtomicInteger();
+        try (SecuenciaObservableAsincrona<Integer> secuencia =
+                     new SecuenciaObservableAsincrona<>(arreglo, 4,
+                             PoliticaContrapresion.BLOQUEAR)) {
+            secuencia.addObserver(new ObservadorReplicador<>(replica));
+            Thread[] escritores = new Thread[2];
+            for (int e = 0; e < escritores.length; e++) {
+                int indice = e;
+                escritores[e] = new Thread(() -> {
+                    try {
+                        for (int valor = 1; valor <= LARGO; valor++) {
+                            secuencia.modificar(indice, valor);
+                            secuencia.flush();
+                            if (replica.obtener(indice) != valor) {
+                                errores.incrementAndGet();
+                            }
+                        }
+                    } catch (InterruptedException ex) {
+                        errores.incrementAndGet();
+                    }
+                });
+                escritores[e].start();
+            }
+            for (Thread escritor : escritores) {
+                escritor.join();
+            }
+        }
+        Assertions.assertEquals(0, errores.get());
+    }
+
+    /**
+     * Observador que espera al cerrojo en su primera notificación y luego
+     * cuenta los rangos e índices recibidos.
+     */
+    private static Observador<Integer> observadorLento(CountDownLatch bloqueo,
+                                                       AtomicInteger rangos,
+                                                       AtomicInteger indices) {
+        return new Observador<>() {
+            @Override
+            public void actualizar(Observable<Integer> observable, int indice) {
+                actualizarRango(observable, indice, indice + 1);
+            }
+
+            @Override
+            public void actualizarRango(Observable<Integer> observable, int desde,
+                                        int hasta) {
+                try {
+                    bloqueo.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                rangos.incrementAndGet();
+                indices.addAndGet(hasta - desde);
+            }
+        };
+    }
+}
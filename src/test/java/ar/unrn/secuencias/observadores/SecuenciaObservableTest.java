@@ -0,0 +1,74 @@
+package ar.unrn.secuencias.observadores;
+
+import ar.unrn.secuencias.ArregloBase;
+import ar.unrn.secuencias.ArregloDinamico;
+import ar.unrn.secuencias.interfaces.Observable;
+import ar.unrn.secuencias.interfaces.Observador;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("Secuencia observable sincrónica")
+class SecuenciaObservableTest {
+
+    @Test
+    @DisplayName("Cada cambio se notifica en el mismo hilo, antes de retornar")
+    void testNotificacionesSincronicas() {
+        SecuenciaObservable<String> secuencia = new SecuenciaObservable<>(
+                new ArregloDinamico<>(new String[]{"a", "b", "c"}));
+        List<String> recibidas = new ArrayList<>();
+        Observador<String> observador = new Observador<>() {
+            @Override
+            public void actualizar(Observable<String> observable, int indice) {
+                recibidas.add(indice + "=" + observable.obtener(indice));
+            }
+        };
+        secuencia.addObserver(observador);
+        secuencia.addObserver(observador);
+        Assertions.assertEquals(1, secuencia.cantidadObservadores());
+        secuencia.modificar(1, "x");
+        secuencia.agregar("d");
+        secuencia.remover(0);
+        Assertions.assertEquals(List.of("1=x", "3=d", "0=x", "1=c", "2=d"), recibidas);
+        secuencia.removeObserver(observador);
+        secuencia.modificar(0, "y");
+        Assertions.assertEquals(5, recibidas.size());
+        Assertions.assertThrows(NullPointerException.class,
+                () -> secuencia.addObserver(null));
+    }
+
+    @Test
+    @DisplayName("El replicador mantiene una copia idéntica")
+    void testReplicador() {
+        SecuenciaObservable<Integer> secuencia =
+                new SecuenciaObservable<>(new ArregloBase<>(5));
+        ArregloBase<Integer> replica = new ArregloBase<>(5);
+        secuencia.addObserver(new ObservadorReplicador<>(replica));
+        for (int i = 0; i < 5; i++) {
+            secuencia.modificar(i, i * i);
+        }
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(secuencia.obtener(i), replica.obtener(i));
+        }
+    }
+
+    @Test
+    @DisplayName("El observador de consola imprime índice y valor")
+    void testConsola() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream salida = new PrintStream(bytes, true, StandardCharsets.UTF_8);
+        SecuenciaObservable<String> secuencia =
+                new SecuenciaObservable<>(new ArregloBase<>(new String[]{"a", "b", "c"}));
+        secuencia.addObserver(new ObservadorConsola<>(salida));
+        secuencia.modificar(2, "z");
+        secuencia.notificarRango(0, 2);
+        String esperado = String.join(System.lineSeparator(), "2: z", "0: a", "1: b", "");
+        Assertions.assertEquals(esperado, bytes.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,107 @@
+package ar.unrn.secuencias.persistentes;
+
+import ar.unrn.secuencias.excepciones.ArchivoInvalidoException;
+import ar.unrn.secuencias.nativos.Codificadores;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+@DisplayName("Arreglo mapeado a archivo")
+class ArregloMapeadoTest {
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    @DisplayName("El contenido sobrevive al cierre y la reapertura")
+    void testReapertura() {
+        Path archivo = directorio.resolve("enteros.sec");
+        try (ArregloMapeado<Integer> arreglo =
+                     ArregloMapeado.abrir(archivo, Codificadores.ENTERO, 2)) {
+            for (int i = 0; i < 5; i++) {
+                arreglo.agregar(i * 10);
+            }
+            arreglo.remover(0);
+            arreglo.modificar(0, 99);
+        }
+        try (ArregloMapeado<Integer> arreglo =
+                     ArregloMapeado.abrir(archivo, Codificadores.ENTERO, 2)) {
+            Assertions.assertEquals(4, arreglo.largo());
+            Assertions.assertEquals("ArregloMapeado={99,20,30,40}:4", arreglo.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Crece de a bloques al agregar")
+    void testCrecimiento() {
+        Path archivo = directorio.resolve("largos.sec");
+        try (ArregloMapeado<Long> arreglo =
+                     ArregloMapeado.abrir(archivo, Codificadores.LARGO, 3)) {
+            Assertions.assertEquals(3, arreglo.capacidad());
+            for (long i = 0; i < 4; i++) {
+                arreglo.agregar(i);
+            }
+            Assertions.assertEquals(6, arreglo.capacidad());
+            Assertions.assertEquals(3L, arreglo.obtener(3));
+        }
+    }
+
+    @Test
+    @DisplayName("Rechaza archivos ajenos o de otro ancho")
+    void testArchivoInvalido() throws IOException {
+        Path ajeno = directorio.resolve("ajeno.sec");
+        Files.write(ajeno, new byte[64]);
+        Assertions.assertThrows(ArchivoInvalidoException.class,
+                () -> ArregloMapeado.abrir(ajeno, Codificadores.ENTERO));
+        Path archivo = directorio.resolve("dobles.sec");
+        ArregloMapeado.abrir(archivo, Codificadores.DOBLE).close();
+        Assertions.assertThrows(ArchivoInvalidoException.class,
+                () -> ArregloMapeado.abrir(archivo, Codificadores.ENTERO));
+    }
+
+    /**
+     * Sobrescribe el largo registrado en la cabecera del archivo.
+     *
+     * @param archivo el archivo de una secuencia mapeada.
+     * @param largo   el largo a registrar.
+     * @throws IOException si falla la escritura.
+     */
+    private static void corromperLargo(Path archivo, long largo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.WRITE)) {
+            ByteBuffer valor = ByteBuffer.allocate(Long.BYTES)
+                    .order(ByteOrder.nativeOrder()).putLong(0, largo);
+            canal.write(valor, 16);
+        }
+    }
+
+    @Test
+    @DisplayName("Rechaza cabeceras con un largo negativo o mayor que el archivo")
+    void testLargoCorrupto() throws IOException {
+        Path archivo = directorio.resolve("corrupto.sec");
+        try (ArregloMapeado<Integer> arreglo =
+                     ArregloMapeado.abrir(archivo, Codificadores.ENTERO, 4)) {
+            arreglo.agregar(7);
+        }
+        corromperLargo(archivo, 5);
+        Assertions.assertThrows(ArchivoInvalidoException.class,
+                () -> ArregloMapeado.abrir(archivo, Codificadores.ENTERO, 4));
+        corromperLargo(archivo, -1);
+        Assertions.assertThrows(ArchivoInvalidoException.class,
+                () -> ArregloMapeado.abrir(archivo, Codificadores.ENTERO, 4));
+        corromperLargo(archivo, 4);
+        try (ArregloMapeado<Integer> arreglo =
+                     ArregloMapeado.abrir(archivo, Codificadores.ENTERO, 4)) {
+            Assertions.assertEquals(4, arreglo.largo());
+            Assertions.assertEquals(7, arreglo.obtener(0));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package ar.unrn.secuencias.primitivos;
+
+import ar.unrn.secuencias.excepciones.ComparadorNuloException;
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.interfaces.Indexable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+
+@DisplayName("Arreglo de int")
+class ArregloIntTest {
+
+    @Test
+    @DisplayName("El acceso primitivo y el genérico ven los mismos valores")
+    void testAccesoPrimitivoYGenerico() {
+        ArregloInt arreglo = new ArregloInt(3);
+        arreglo.modificarInt(0, 7);
+        Indexable<Integer> generico = arreglo;
+        generico.modificar(1, 9);
+        Assertions.assertEquals(7, generico.obtener(0));
+        Assertions.assertEquals(9, arreglo.obtenerInt(1));
+        Assertions.assertEquals(0, arreglo.obtenerInt(2));
+        Assertions.assertEquals("ArregloInt={7,9,0}:3", arreglo.toString());
+    }
+
+    @Test
+    @DisplayName("Los índices fuera de rango y los nulos son rechazados")
+    void testRechazos() {
+        ArregloInt arreglo = ArregloInt.de(1, 2);
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> arreglo.obtenerInt(2));
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> arreglo.modificarInt(-1, 0));
+        Assertions.assertThrows(ElementoNuloException.class,
+                () -> arreglo.modificar(0, null));
+        Assertions.assertThrows(ElementoNuloException.class,
+                () -> arreglo.indiceDe(null));
+    }
+
+    @Test
+    @DisplayName("Búsquedas por primera y última ocurrencia")
+    void testBusquedas() {
+        ArregloInt arreglo = ArregloInt.de(4, 5, 4, 6);
+        Assertions.assertEquals(0, arreglo.indiceDe(4));
+        Assertions.assertEquals(2, arreglo.ultimoIndiceDe(4));
+        Assertions.assertEquals(-1, arreglo.indiceDeInt(8));
+        Assertions.assertTrue(arreglo.contiene(6));
+    }
+
+    @Test
+    @DisplayName("Ordena por orden natural y con comparador")
+    void testOrdenar() {
+        ArregloInt arreglo = ArregloInt.de(3, -1, 2);
+        arreglo.ordenar();
+        Assertions.assertArrayEquals(new int[]{-1, 2, 3}, arreglo.comoArreglo());
+        arreglo.ordenar(Comparator.reverseOrder());
+        Assertions.assertArrayEquals(new int[]{3, 2, -1}, arreglo.comoArreglo());
+        Assertions.assertThrows(ComparadorNuloException.class,
+                () -> arreglo.ordenar(null));
+    }
+
+    @Test
+    @DisplayName("El visitante recibe todos los valores en orden")
+    void testVisitar() {
+        ArregloInt arreglo = ArregloInt.de(1, 2, 3);
+        StringBuilder visto = new StringBuilder();
+        arreglo.visitar(visto::append);
+        Assertions.assertEquals("123", visto.toString());
+    }
+}
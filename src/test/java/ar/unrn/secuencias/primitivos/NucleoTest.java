@@ -0,0 +1,101 @@
+package ar.unrn.secuencias.primitivos;
+
+import ar.unrn.secuencias.excepciones.EstructuraVaciaException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+@DisplayName("Núcleos escalar y vectorial de recorrido y reducción")
+class NucleoTest {
+
+    private final Nucleo escalar = Nucleos.escalar();
+
+    private final Nucleo vectorial = Nucleos.vectorial();
+
+    @Test
+    @DisplayName("El módulo de vectores está disponible en los tests")
+    void testDisponible() {
+        Assertions.assertTrue(Nucleos.vectorialDisponible());
+        Assertions.assertSame(vectorial, Nucleos.actual());
+    }
+
+    @Test
+    @DisplayName("Ambos núcleos coinciden en int y long para todo largo y rango")
+    void testEnterosYLargos() {
+        Random aleatorio = new Random(23);
+        for (int largo = 0; largo < 70; largo++) {
+            int[] enteros = aleatorio.ints(largo, -5, 5).toArray();
+            long[] largos = aleatorio.longs(largo, -5, 5).toArray();
+            int desde = largo / 4;
+            for (int hasta = desde; hasta <= largo; hasta++) {
+                Assertions.assertEquals(escalar.sumar(enteros, desde, hasta),
+                        vectorial.sumar(enteros, desde, hasta));
+                Assertions.assertEquals(escalar.sumar(largos, desde, hasta),
+                        vectorial.sumar(largos, desde, hasta));
+                Assertions.assertEquals(escalar.contar(enteros, desde, hasta, 2),
+                        vectorial.contar(enteros, desde, hasta, 2));
+                Assertions.assertEquals(escalar.contar(largos, desde, hasta, -3L),
+                        vectorial.contar(largos, desde, hasta, -3L));
+                Assertions.assertEquals(escalar.indiceDe(enteros, desde, hasta, 4),
+                        vectorial.indiceDe(enteros, desde, hasta, 4));
+                Assertions.assertEquals(escalar.indiceDe(largos, desde, hasta, 0L),
+                        vectorial.indiceDe(largos, desde, hasta, 0L));
+                if (hasta > desde) {
+                    Assertions.assertEquals(escalar.minimo(enteros, desde, hasta),
+                            vectorial.minimo(enteros, desde, hasta));
+                    Assertions.assertEquals(escalar.maximo(largos, desde, hasta),
+                            vectorial.maximo(largos, desde, hasta));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Los double respetan NaN, los ceros con signo y la igualdad de equals")
+    void testDobles() {
+        double[] datos = new double[41];
+        for (int i = 0; i < datos.length; i++) {
+            datos[i] = i % 7 - 3.5;
+        }
+        datos[30] = -0.0;
+        datos[33] = 0.0;
+        for (Nucleo nucleo : new Nucleo[] {escalar, vectorial}) {
+            Assertions.assertEquals(30, nucleo.indiceDe(datos, 0, datos.length, -0.0));
+            Assertions.assertEquals(33, nucleo.indiceDe(datos, 0, datos.length, 0.0));
+            Assertions.assertEquals(-1,
+                    nucleo.indiceDe(datos, 0, datos.length, Double.NaN));
+            Assertions.assertEquals(5, nucleo.contar(datos, 0, datos.length, 2.5));
+            Assertions.assertEquals(-3.5, nucleo.minimo(datos, 0, datos.length));
+            Assertions.assertEquals(2.5, nucleo.maximo(datos, 0, datos.length));
+            double[] ceros = new double[17];
+            ceros[9] = -0.0;
+            Assertions.assertEquals(-0.0, nucleo.minimo(ceros, 0, ceros.length));
+            Assertions.assertEquals(0.0, nucleo.maximo(ceros, 0, ceros.length));
+        }
+        datos[40] = Double.NaN;
+        for (Nucleo nucleo : new Nucleo[] {escalar, vectorial}) {
+            Assertions.assertEquals(40,
+                    nucleo.indiceDe(datos, 0, datos.length, Double.NaN));
+            Assertions.assertEquals(1, nucleo.contar(datos, 0, datos.length, Double.NaN));
+            Assertions.assertTrue(Double.isNaN(nucleo.maximo(datos, 0, datos.length)));
+            Assertions.assertTrue(Double.isNaN(nucleo.sumar(datos, 0, datos.length)));
+        }
+    }
+
+    @Test
+    @DisplayName("Los arreglos primitivos exponen las reducciones")
+    void testArreglos() {
+        ArregloInt enteros = ArregloInt.de(3, Integer.MAX_VALUE, 1, 3);
+        Assertions.assertEquals(Integer.MAX_VALUE + 7, enteros.sumar());
+        Assertions.assertEquals(1, enteros.minimo());
+        Assertions.assertEquals(Integer.MAX_VALUE, enteros.maximo());
+        Assertions.assertEquals(2, enteros.contarInt(3));
+        Assertions.assertEquals(2, enteros.indiceDeInt(1));
+        Assertions.assertEquals(1.5, ArregloDouble.de(0.5, 1.0).sumar());
+        Assertions.assertEquals(-2L, ArregloLong.de(4L, -2L).minimo());
+        Assertions.assertThrows(EstructuraVaciaException.class,
+                () -> new ArregloLong(0).maximo());
+    }
+}
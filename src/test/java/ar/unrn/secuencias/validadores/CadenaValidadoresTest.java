@@ -0,0 +1,109 @@
+package ar.unrn.secuencias.validadores;
+
+import ar.unrn.secuencias.excepciones.ElementoInvalidoException;
+import ar.unrn.secuencias.excepciones.ElementoNuloException;
+import ar.unrn.secuencias.interfaces.Validador;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("Cadena de validadores")
+class CadenaValidadoresTest {
+
+    /**
+     * Crea un validador que acepta todo y cuenta sus evaluaciones.
+     *
+     * @param contador el contador a incrementar.
+     * @return el validador.
+     */
+    private static Validador<Integer> contando(AtomicInteger contador) {
+        return valor -> {
+            contador.incrementAndGet();
+            return true;
+        };
+    }
+
+    @Test
+    @DisplayName("Corta en el primer eslabón que rechaza el valor")
+    void testCortocircuito() {
+        AtomicInteger evaluados = new AtomicInteger();
+        CadenaValidadores<Integer> cadena = CadenaValidadores
+                .<Integer>de(new ValidadorNoNulo<>(), new ValidadorLimiteInferior(5))
+                .luego(contando(evaluados));
+        Assertions.assertEquals(3, cadena.eslabones());
+        Assertions.assertTrue(cadena.esValido(7));
+        Assertions.assertFalse(cadena.esValido(3));
+        Assertions.assertFalse(cadena.esValido(null));
+        Assertions.assertEquals(1, evaluados.get());
+    }
+
+    @Test
+    @DisplayName("Un lote informa todas las posiciones inválidas en una excepción")
+    void testValidarLote() {
+        CadenaValidadores<Integer> cadena = CadenaValidadores.de(
+                new ValidadorNoNulo<>(), new ValidadorLimiteInferior(5));
+        List<Integer> valores = Arrays.asList(8, 4, null, 9, 1);
+        Assertions.assertArrayEquals(new int[]{1, 2, 4}, cadena.invalidos(valores));
+        ElementoInvalidoException error = Assertions.assertThrows(
+                ElementoInvalidoException.class, () -> cadena.validarLote(valores, 10));
+        Assertions.assertFalse(error instanceof ElementoNuloException);
+        Assertions.assertArrayEquals(new int[]{11, 12, 14}, error.indicesInvalidos());
+        Assertions.assertEquals(
+                "Los elementos en las posiciones [11, 12, 14] no son válidos.",
+                error.getMessage());
+
+        ElementoInvalidoException uno = Assertions.assertThrows(
+                ElementoInvalidoException.class,
+                () -> cadena.validarLote(List.of(6, 2), 0));
+        Assertions.assertEquals("El elemento 2 en la posición 1 no es válido.",
+                uno.getMessage());
+        cadena.validarLote(List.of(5, 6), 0);
+    }
+
+    @Test
+    @DisplayName("Si solo fallan nulos se lanza ElementoNuloException")
+    void testSoloNulos() {
+        CadenaValidadores<String> cadena = CadenaValidadores.de(new ValidadorNoNulo<>());
+        ElementoNuloException error = Assertions.assertThrows(ElementoNuloException.class,
+                () -> cadena.validarLote(Arrays.asList("a", null, null), 0));
+        Assertions.assertArrayEquals(new int[]{1, 2}, error.indicesInvalidos());
+    }
+
+    @Test
+    @DisplayName("La evaluación en paralelo da el mismo resultado que en secuencia")
+    void testParalela() {
+        CadenaValidadores<Integer> secuencial = CadenaValidadores.de(
+                new ValidadorLimiteInferior(500));
+        CadenaValidadores<Integer> paralela = secuencial.paralela(1);
+        List<Integer> valores = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            valores.add((i * 7919) % 1000);
+        }
+        Assertions.assertArrayEquals(secuencial.invalidos(valores),
+                paralela.invalidos(valores));
+        Assertions.assertArrayEquals(secuencial.invalidos(valores),
+                paralela.invalidos(new LinkedList<>(valores)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> secuencial.paralela(0));
+    }
+
+    @Test
+    @DisplayName("La caché evita reevaluar valores ya vistos, hasta su capacidad")
+    void testCache() {
+        AtomicInteger evaluados = new AtomicInteger();
+        CadenaValidadores<Integer> cadena = CadenaValidadores.de(contando(evaluados))
+                .conCache(2);
+        cadena.validarLote(List.of(1, 2, 1, 2, 3, 3), 0);
+        Assertions.assertEquals(4, evaluados.get());
+        Assertions.assertEquals(2, cadena.recordados());
+        Assertions.assertTrue(cadena.esValido(null));
+        Assertions.assertEquals(2, cadena.recordados());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> cadena.conCache(0));
+    }
+}
@@ -0,0 +1,107 @@
+package ar.unrn.secuencias.validadores;
+
+import ar.unrn.secuencias.ArregloBase;
+import ar.unrn.secuencias.ArregloDinamico;
+import ar.unrn.secuencias.decoradores.SecuenciaFusionada;
+import ar.unrn.secuencias.decoradores.SecuenciaValidada;
+import ar.unrn.secuencias.excepciones.ElementoInvalidoException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+@DisplayName("Validador de unicidad")
+class ValidadorUnicidadTest {
+
+    @Test
+    @DisplayName("Registra, olvida y crece manteniendo las búsquedas")
+    void testRegistrarYOlvidar() {
+        ValidadorUnicidad<Integer> unicos = new ValidadorUnicidad<>();
+        long inicial = unicos.bytesOcupados();
+        for (int i = 0; i < 10_000; i++) {
+            unicos.registrar(i * 31);
+        }
+        Assertions.assertEquals(10_000, unicos.cantidad());
+        Assertions.assertTrue(unicos.bytesOcupados() > inicial);
+        Assertions.assertFalse(unicos.esValido(310));
+        Assertions.assertTrue(unicos.esValido(311));
+        for (int i = 0; i < 10_000; i = i + 2) {
+            unicos.olvidar(i * 31);
+        }
+        Assertions.assertEquals(5_000, unicos.cantidad());
+        for (int i = 0; i < 10_000; i++) {
+            Assertions.assertEquals(i % 2 == 0, unicos.esValido(i * 31));
+        }
+        unicos.registrar(null);
+        Assertions.assertFalse(unicos.esValido(null));
+        Assertions.assertEquals(5_001, unicos.cantidad());
+        unicos.vaciar();
+        Assertions.assertEquals(0, unicos.cantidad());
+        Assertions.assertTrue(unicos.esValido(31));
+    }
+
+    @Test
+    @DisplayName("El filtro descarta la mayoría de los valores ausentes")
+    void testFiltro() {
+        ValidadorUnicidad<Integer> unicos = new ValidadorUnicidad<>(1_000);
+        for (int i = 0; i < 1_000; i++) {
+            unicos.registrar(i);
+        }
+        for (int i = 1_000; i < 11_000; i++) {
+            Assertions.assertTrue(unicos.esValido(i));
+        }
+        Assertions.assertTrue(unicos.descartesDelFiltro() > 9_000);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ValidadorUnicidad<>(-1));
+    }
+
+    @Test
+    @DisplayName("Decorando una secuencia, sigue sus altas, bajas y modificaciones")
+    void testDecorador() {
+        ArregloDinamico<String> base = new ArregloDinamico<>(new String[]{"a", "b"});
+        ValidadorUnicidad<String> unicos = new ValidadorUnicidad<>();
+        SecuenciaValidada<String> secuencia = new SecuenciaValidada<>(base, unicos);
+        Assertions.assertEquals(2, unicos.cantidad());
+        Assertions.assertThrows(ElementoInvalidoException.class,
+                () -> secuencia.agregar("a"));
+        secuencia.agregar("c");
+        secuencia.modificar(0, "a");
+        secuencia.modificar(0, "d");
+        Assertions.assertTrue(unicos.esValido("a"));
+        Assertions.assertEquals("b", secuencia.remover(1));
+        secuencia.agregar("b");
+
+        ElementoInvalidoException error = Assertions.assertThrows(
+                ElementoInvalidoException.class,
+                () -> secuencia.agregarTodos(List.of("e", "f", "e", "d")));
+        Assertions.assertArrayEquals(new int[]{5, 6}, error.indicesInvalidos());
+        Assertions.assertTrue(unicos.esValido("e"));
+        Assertions.assertThrows(ElementoInvalidoException.class,
+                () -> secuencia.rellenar(0, 2, "x"));
+        Assertions.assertThrows(ElementoInvalidoException.class,
+                () -> secuencia.modificarRango(0, new String[]{"c", "b"}));
+        Assertions.assertFalse(unicos.esValido("d"));
+        secuencia.modificarRango(0, new String[]{"c", "d"});
+        Assertions.assertEquals("SecuenciaValidada[ArregloDinamico={c,d,b}:3]",
+                secuencia.toString());
+        Assertions.assertEquals(3, unicos.cantidad());
+    }
+
+    @Test
+    @DisplayName("No admite caché ni fusión, que no lo mantendrían al día")
+    void testRestricciones() {
+        ValidadorUnicidad<Integer> unicos = new ValidadorUnicidad<>();
+        CadenaValidadores<Integer> cadena = CadenaValidadores.<Integer>de(
+                new ValidadorNoNulo<>()).luego(unicos);
+        Assertions.assertTrue(cadena.conEstado());
+        Assertions.assertThrows(IllegalStateException.class, () -> cadena.conCache(8));
+        Assertions.assertArrayEquals(new int[]{2, 3},
+                cadena.paralela(1).invalidos(Arrays.asList(1, 2, 1, null)));
+        Assertions.assertEquals(0, unicos.cantidad());
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> SecuenciaFusionada.sobre(new ArregloBase<>(new Integer[]{1}))
+                        .validada(unicos).fusionar());
+    }
+}
@@ -0,0 +1,89 @@
+package ar.unrn.secuencias.visitantes;
+
+import ar.unrn.secuencias.ArregloBase;
+import ar.unrn.secuencias.ListaDesenrollada;
+import ar.unrn.secuencias.decoradores.SecuenciaVisitable;
+import ar.unrn.secuencias.primitivos.ArregloInt;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+@DisplayName("Recorrido paralelo con visitantes combinables")
+class VisitaParalelaTest {
+
+    /**
+     * Crea un arreglo con los valores de 0 a {@code largo - 1}.
+     *
+     * @param largo la cantidad de valores.
+     * @return el arreglo.
+     */
+    private static ArregloBase<Integer> consecutivos(int largo) {
+        ArregloBase<Integer> arreglo = new ArregloBase<>(largo);
+        for (int i = 0; i < largo; i++) {
+            arreglo.modificar(i, i);
+        }
+        return arreglo;
+    }
+
+    @Test
+    @DisplayName("La suma en paralelo coincide con la secuencial")
+    void testSuma() {
+        SecuenciaVisitable<Integer> secuencia = new SecuenciaVisitable<>(
+                consecutivos(100_000));
+        VisitorSuma secuencial = new VisitorSuma();
+        secuencia.visitar(secuencial);
+        VisitorSuma paralela = new VisitorSuma();
+        secuencia.visitarEnParalelo(paralela);
+        Assertions.assertEquals(4_999_950_000L, secuencial.suma());
+        Assertions.assertEquals(secuencial.suma(), paralela.suma());
+
+        ArregloInt primitivos = ArregloInt.de(3, -1, 4);
+        VisitorSuma suma = new VisitorSuma();
+        primitivos.visitarEnParalelo(suma);
+        Assertions.assertEquals(6, suma.suma());
+    }
+
+    @Test
+    @DisplayName("La cadena en paralelo conserva el orden de los elementos")
+    void testCadena() {
+        ArregloBase<Integer> arreglo = consecutivos(1_000);
+        VisitorCadena<Integer> secuencial = new VisitorCadena<>("v: ", ",");
+        new SecuenciaVisitable<>(arreglo).visitar(secuencial);
+        VisitorCadena<Integer> paralela = new VisitorCadena<>("v: ", ",");
+        VisitaParalela.recorrer(arreglo, paralela, 1, ForkJoinPool.commonPool());
+        Assertions.assertEquals(secuencial.resultado(), paralela.resultado());
+        Assertions.assertTrue(paralela.resultado().startsWith("v: 0,1,2,"));
+
+        VisitorCadena<String> vacia = new VisitorCadena<>("-");
+        new SecuenciaVisitable<>(new ArregloBase<String>(0)).visitarEnParalelo(vacia);
+        Assertions.assertEquals("", vacia.resultado());
+        VisitorCadena<String> nulos = new VisitorCadena<>("[", "|");
+        new SecuenciaVisitable<>(new ArregloBase<>(new String[]{"a", null}))
+                .visitar(nulos);
+        Assertions.assertEquals("[a|null", nulos.toString());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> VisitaParalela.recorrer(arreglo, paralela, 0,
+                        ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    @DisplayName("Una lista desenrollada se reparte por lotes leídos en orden")
+    void testListaDesenrollada() {
+        ListaDesenrollada<Integer> lista = new ListaDesenrollada<>();
+        for (int i = 0; i < 50_000; i++) {
+            lista.agregar(i);
+        }
+        for (int vuelta = 0; vuelta < 20; vuelta++) {
+            VisitorSuma suma = new VisitorSuma();
+            new SecuenciaVisitable<>(lista).visitarEnParalelo(suma);
+            Assertions.assertEquals(1_249_975_000L, suma.suma());
+        }
+        VisitorCadena<Integer> secuencial = new VisitorCadena<>(",");
+        new SecuenciaVisitable<>(lista).visitar(secuencial);
+        VisitorCadena<Integer> paralela = new VisitorCadena<>(",");
+        VisitaParalela.recorrer(lista, paralela, 1, ForkJoinPool.commonPool());
+        Assertions.assertEquals(secuencial.resultado(), paralela.resultado());
+    }
+}
@@ -0,0 +1,101 @@
+package ar.unrn.secuencias.vistas;
+
+import ar.unrn.secuencias.ArregloBase;
+import ar.unrn.secuencias.ArregloDinamico;
+import ar.unrn.secuencias.excepciones.IndiceFueraDeRangoException;
+import ar.unrn.secuencias.excepciones.ModificacionConcurrenteException;
+import ar.unrn.secuencias.observadores.SecuenciaObservable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("Vistas de sub-secuencias")
+class VistaSecuenciaTest {
+
+    @Test
+    @DisplayName("La vista lee y escribe sobre el arreglo de origen")
+    void testLecturaYEscritura() {
+        ArregloBase<Integer> arreglo = new ArregloBase<>(new Integer[]{0, 1, 2, 3, 4, 5});
+        VistaSecuencia<Integer> vista = arreglo.subSecuencia(2, 5);
+        Assertions.assertEquals("VistaSecuencia={2,3,4}:3", vista.toString());
+        vista.modificar(0, 20);
+        arreglo.modificar(4, 40);
+        Assertions.assertEquals(20, arreglo.obtener(2));
+        Assertions.assertEquals(40, vista.obtener(2));
+        vista.rellenar(1, 3, 7);
+        Assertions.assertEquals("ArregloBase={0,1,20,7,7,5}:6", arreglo.toString());
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> vista.obtener(3));
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> vista.obtener(-1));
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> arreglo.subSecuencia(4, 7));
+        Assertions.assertEquals(0, arreglo.subSecuencia(3, 3).largo());
+    }
+
+    @Test
+    @DisplayName("Las vistas anidadas se crean sobre el origen")
+    void testAnidadas() {
+        ArregloBase<Integer> arreglo =
+                new ArregloBase<>(new Integer[]{0, 1, 2, 3, 4, 5, 6, 7});
+        VistaSecuencia<Integer> vista = arreglo.subSecuencia(1, 7);
+        VistaSecuencia<Integer> anidada = vista.subSecuencia(2, 5).subSecuencia(1, 3);
+        Assertions.assertEquals("VistaSecuencia={4,5}:2", anidada.toString());
+        Assertions.assertThrows(IndiceFueraDeRangoException.class,
+                () -> vista.subSecuencia(2, 7));
+        List<Integer> recorridos = new ArrayList<>();
+        for (Integer valor : anidada) {
+            recorridos.add(valor);
+        }
+        Assertions.assertEquals(List.of(4, 5), recorridos);
+    }
+
+    @Test
+    @DisplayName("Copiar entre vistas solapadas del mismo origen")
+    void testCopiaSolapada() {
+        ArregloBase<Integer> arreglo = new ArregloBase<>(new Integer[]{0, 1, 2, 3, 4, 5});
+        VistaSecuencia<Integer> izquierda = arreglo.subSecuencia(0, 4);
+        VistaSecuencia<Integer> derecha = arreglo.subSecuencia(1, 6);
+        derecha.copiarDesde(izquierda, 0, 0, 4);
+        Assertions.assertEquals("ArregloBase={0,0,1,2,3,5}:6", arreglo.toString());
+        izquierda.copiarDesde(izquierda, 1, 0, 3);
+        Assertions.assertEquals("ArregloBase={0,1,2,2,3,5}:6", arreglo.toString());
+    }
+
+    @Test
+    @DisplayName("Una modificación estructural invalida las vistas")
+    void testFallaRapida() {
+        ArregloDinamico<String> arreglo =
+                new ArregloDinamico<>(new String[]{"a", "b", "c"});
+        VistaSecuencia<String> vista = arreglo.subSecuencia(0, 2);
+        VistaSecuencia<String> anidada = vista.subSecuencia(1, 2);
+        arreglo.modificar(0, "z");
+        Assertions.assertEquals("z", vista.obtener(0));
+        arreglo.agregar("d");
+        Assertions.assertThrows(ModificacionConcurrenteException.class,
+                () -> vista.obtener(0));
+        Assertions.assertThrows(ModificacionConcurrenteException.class,
+                () -> anidada.modificar(0, "x"));
+        Assertions.assertThrows(ModificacionConcurrenteException.class,
+                () -> vista.subSecuencia(0, 1));
+        Assertions.assertEquals("c", arreglo.subSecuencia(2, 4).obtener(0));
+    }
+
+    @Test
+    @DisplayName("Sobre un decorador, la vista pasa por él")
+    void testSobreDecorador() {
+        SecuenciaObservable<Integer> secuencia = new SecuenciaObservable<>(
+                new ArregloDinamico<>(new Integer[]{0, 1, 2, 3}));
+        List<Integer> notificados = new ArrayList<>();
+        secuencia.addObserver((observable, indice) -> notificados.add(indice));
+        VistaSecuencia<Integer> vista = new VistaSecuencia<>(secuencia, 1, 3);
+        vista.modificar(1, 9);
+        Assertions.assertEquals(List.of(2), notificados);
+        secuencia.remover(0);
+        Assertions.assertThrows(ModificacionConcurrenteException.class,
+                () -> vista.obtener(0));
+    }
+}